@@ -0,0 +1,161 @@
+package com.github.souzafcharles.api.benchmark;
+
+import com.github.souzafcharles.api.FakeStoreApiApplication;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Closed-loop load test of the servlet stack in platform-thread and
+ * virtual-thread mode. The application is started once per mode with the
+ * bundled seed, then for each client count every client, on its own virtual
+ * thread, sends paged product, cart and user reads back to back. Throughput,
+ * p50 and p99 latency and errors are printed per mode and client count.
+ * Both modes get the same connection limits and JDBC pool, so only the
+ * request threads differ. Client and server share the JVM.
+ * <p>
+ * {@code mvn -Pbenchmark test-compile exec:java@load-benchmark [-Dexec.args="100,1000,10000 PT20S"]}
+ */
+public final class LoadBenchmark {
+
+    private static final String[] PATHS = {"/products?page=0&size=20", "/carts?page=0&size=20", "/users?page=0&size=10"};
+
+    private LoadBenchmark() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        int[] clientCounts = args.length > 0
+                ? Arrays.stream(args[0].split(",")).mapToInt(Integer::parseInt).toArray()
+                : new int[] {100, 1000, 10000};
+        Duration duration = args.length > 1 ? Duration.parse(args[1]) : Duration.ofSeconds(20);
+
+        List<Result> results = new ArrayList<>();
+        for (Mode mode : Mode.values()) {
+            try (ConfigurableApplicationContext app = start(mode)) {
+                int port = ((WebServerApplicationContext) app).getWebServer().getPort();
+                List<URI> targets = Arrays.stream(PATHS).map(path -> URI.create("http://localhost:" + port + path)).toList();
+                awaitReady(URI.create("http://localhost:" + port + "/actuator/health/readiness"));
+                for (int clients : clientCounts) {
+                    run(mode, targets, clients, duration.dividedBy(4));
+                    results.add(run(mode, targets, clients, duration));
+                }
+            }
+        }
+
+        System.out.printf("%n%-9s %8s %10s %8s %12s %9s %9s%n",
+                "mode", "clients", "requests", "errors", "req/s", "p50 ms", "p99 ms");
+        results.forEach(result -> System.out.printf("%-9s %8d %10d %8d %12.1f %9.2f %9.2f%n",
+                result.mode().name().toLowerCase(), result.clients(), result.requests(), result.errors(),
+                result.throughput(), result.p50Millis(), result.p99Millis()));
+    }
+
+    private static ConfigurableApplicationContext start(Mode mode) {
+        SpringApplicationBuilder builder = new SpringApplicationBuilder(FakeStoreApiApplication.class)
+                .properties("server.port=0",
+                        "server.tomcat.max-connections=20000",
+                        "server.tomcat.accept-count=1000",
+                        "spring.datasource.hikari.maximum-pool-size=20",
+                        "store.fakestore.cache.enabled=false",
+                        "logging.level.root=WARN");
+        if (mode == Mode.VIRTUAL) builder.profiles("virtual-threads");
+        return builder.run();
+    }
+
+    private static void awaitReady(URI readiness) throws IOException, InterruptedException {
+        try (HttpClient client = HttpClient.newHttpClient()) {
+            for (int attempt = 0; attempt < 600; attempt++) {
+                HttpResponse<Void> response = client.send(HttpRequest.newBuilder(readiness).build(),
+                        HttpResponse.BodyHandlers.discarding());
+                if (response.statusCode() == 200) return;
+                Thread.sleep(100);
+            }
+        }
+        throw new IllegalStateException("Application did not become ready: " + readiness);
+    }
+
+    private static Result run(Mode mode, List<URI> targets, int clients, Duration duration) throws InterruptedException {
+        AtomicLong errors = new AtomicLong();
+        Latencies[] latencies = new Latencies[clients];
+        long deadline = System.nanoTime() + duration.toNanos();
+
+        try (HttpClient http = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(30))
+                .build();
+             ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < clients; i++) {
+                Latencies own = latencies[i] = new Latencies();
+                executor.execute(() -> {
+                    while (System.nanoTime() < deadline) {
+                        URI target = targets.get(ThreadLocalRandom.current().nextInt(targets.size()));
+                        long start = System.nanoTime();
+                        try {
+                            HttpResponse<Void> response = http.send(HttpRequest.newBuilder(target)
+                                    .timeout(Duration.ofSeconds(30)).build(), HttpResponse.BodyHandlers.discarding());
+                            if (response.statusCode() >= 400) errors.incrementAndGet();
+                        } catch (IOException e) {
+                            errors.incrementAndGet();
+                        } catch (InterruptedException e) {
+                            Thread.currentThread().interrupt();
+                            return;
+                        }
+                        own.add(System.nanoTime() - start);
+                    }
+                });
+            }
+        }
+
+        long[] all = Latencies.merge(latencies);
+        Arrays.sort(all);
+        double seconds = duration.toNanos() / 1e9;
+        return new Result(mode, clients, all.length, errors.get(), all.length / seconds,
+                percentileMillis(all, 0.50), percentileMillis(all, 0.99));
+    }
+
+    private static double percentileMillis(long[] sorted, double percentile) {
+        if (sorted.length == 0) return Double.NaN;
+        int index = (int) Math.ceil(percentile * sorted.length) - 1;
+        return sorted[Math.max(0, index)] / (double) TimeUnit.MILLISECONDS.toNanos(1);
+    }
+
+    private enum Mode { PLATFORM, VIRTUAL }
+
+    private record Result(Mode mode, int clients, long requests, long errors, double throughput,
+                          double p50Millis, double p99Millis) { }
+
+    /** Growable per-client latency buffer, so recording needs no synchronisation. */
+    private static final class Latencies {
+        private long[] values = new long[256];
+        private int size;
+
+        void add(long nanos) {
+            if (size == values.length) values = Arrays.copyOf(values, size * 2);
+            values[size++] = nanos;
+        }
+
+        static long[] merge(Latencies[] all) {
+            long[] merged = new long[Arrays.stream(all).mapToInt(latencies -> latencies.size).sum()];
+            int at = 0;
+            for (Latencies latencies : all) {
+                System.arraycopy(latencies.values, 0, merged, at, latencies.size);
+                at += latencies.size;
+            }
+            return merged;
+        }
+    }
+}
@@ -0,0 +1,91 @@
+package com.github.souzafcharles.api.benchmark;
+
+import com.github.souzafcharles.api.endpoint.product.controller.ProductController;
+import com.github.souzafcharles.api.endpoint.product.model.dto.ProductResponseDTO;
+import com.github.souzafcharles.api.utils.SelfLinkTemplate;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.web.PagedResourcesAssembler;
+import org.springframework.hateoas.EntityModel;
+import org.springframework.hateoas.PagedModel;
+import org.springframework.hateoas.server.mvc.WebMvcLinkBuilder;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of assembling one {@code GET /products} page: self links built per
+ * element with {@code linkTo(methodOn(...))}, as the controllers used to, against
+ * the {@link SelfLinkTemplate} they use now. Runs inside a bound mock request,
+ * so both paths resolve the same absolute base URI.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PageAssemblyBenchmark {
+
+    private static final SelfLinkTemplate SELF_LINK =
+            SelfLinkTemplate.of(id -> WebMvcLinkBuilder.methodOn(ProductController.class).getById(id));
+
+    @Param({"20", "200", "2000"})
+    private int pageSize;
+
+    private Page<ProductResponseDTO> page;
+    private PagedResourcesAssembler<ProductResponseDTO> assembler;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/products");
+        request.setServerName("api.example.com");
+        request.setServerPort(443);
+        request.setScheme("https");
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request));
+
+        List<ProductResponseDTO> products = new ArrayList<>(pageSize);
+        for (int i = 0; i < pageSize; i++) {
+            products.add(new ProductResponseDTO(UUID.randomUUID().toString(), "Product " + i, 9.99 + i,
+                    "Description " + i, "category-" + (i % 8), "https://img.example.com/" + i + ".png"));
+        }
+        page = new PageImpl<>(products, PageRequest.of(0, pageSize), pageSize * 10L);
+        assembler = new PagedResourcesAssembler<>(null, null);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        RequestContextHolder.resetRequestAttributes();
+    }
+
+    @Benchmark
+    public PagedModel<EntityModel<ProductResponseDTO>> linkToPerElement() {
+        return assembler.toModel(page, product -> EntityModel.of(product,
+                WebMvcLinkBuilder.linkTo(WebMvcLinkBuilder.methodOn(ProductController.class)
+                        .getById(product.id())).withSelfRel()));
+    }
+
+    @Benchmark
+    public PagedModel<EntityModel<ProductResponseDTO>> selfLinkTemplate() {
+        return assembler.toModel(page, SELF_LINK.forPage(ProductResponseDTO::id));
+    }
+}
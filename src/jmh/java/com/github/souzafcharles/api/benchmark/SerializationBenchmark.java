@@ -0,0 +1,103 @@
+package com.github.souzafcharles.api.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.protobuf.ProtobufMapper;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.github.souzafcharles.api.endpoint.cart.model.dto.CartResponseDTO;
+import com.github.souzafcharles.api.endpoint.cartproduct.model.dto.CartProductResponseDTO;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Encoding and decoding cost of one cart per response format, with the
+ * encoded size reported as the {@code payloadBytes} counter. Mappers are set
+ * up as {@code ContentNegotiationConfig} does: CBOR and Smile copy the JSON
+ * mapper, protobuf uses a schema derived from the DTO.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SerializationBenchmark {
+
+    @Param({"json", "cbor", "smile", "protobuf"})
+    private String format;
+
+    @Param({"3", "50"})
+    private int lines;
+
+    private CartResponseDTO cart;
+    private ObjectWriter writer;
+    private ObjectReader reader;
+    private byte[] encoded;
+
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class Payload {
+        public long payloadBytes;
+    }
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        List<CartProductResponseDTO> products = new ArrayList<>(lines);
+        for (int i = 0; i < lines; i++) {
+            products.add(new CartProductResponseDTO(UUID.randomUUID().toString(), "Product title " + i,
+                    9.99 + i, 1 + i % 5));
+        }
+        cart = new CartResponseDTO(UUID.randomUUID().toString(), UUID.randomUUID().toString(), products);
+
+        ObjectMapper json = new ObjectMapper();
+        switch (format) {
+            case "json" -> use(json);
+            case "cbor" -> use(json.copyWith(new CBORFactory()));
+            case "smile" -> use(json.copyWith(new SmileFactory()));
+            case "protobuf" -> {
+                ProtobufMapper protobuf = new ProtobufMapper();
+                var schema = protobuf.generateSchemaFor(CartResponseDTO.class);
+                writer = protobuf.writer(schema);
+                reader = protobuf.readerFor(CartResponseDTO.class).with(schema);
+            }
+            default -> throw new IllegalArgumentException(format);
+        }
+        encoded = writer.writeValueAsBytes(cart);
+    }
+
+    private void use(ObjectMapper mapper) {
+        writer = mapper.writer();
+        reader = mapper.readerFor(CartResponseDTO.class);
+    }
+
+    @Benchmark
+    public byte[] serialize(Payload payload) throws IOException {
+        byte[] bytes = writer.writeValueAsBytes(cart);
+        payload.payloadBytes = bytes.length;
+        return bytes;
+    }
+
+    @Benchmark
+    public CartResponseDTO deserialize() throws IOException {
+        return reader.readValue(encoded);
+    }
+}
@@ -2,8 +2,11 @@ package com.github.souzafcharles.api;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.autoconfigure.r2dbc.R2dbcAutoConfiguration;
 
-@SpringBootApplication
+// A ConnectionFactory bean would make the JDBC DataSource back off; the reactive
+// read API creates its own pool instead (see ReactiveDatabase).
+@SpringBootApplication(exclude = R2dbcAutoConfiguration.class)
 public class FakeStoreApiApplication {
 
 	public static void main(String[] args) {
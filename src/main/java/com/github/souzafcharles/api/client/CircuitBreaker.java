@@ -0,0 +1,108 @@
+package com.github.souzafcharles.api.client;
+
+import com.github.souzafcharles.api.exceptions.custom.UpstreamUnavailableException;
+import com.github.souzafcharles.api.utils.Messages;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.SignalType;
+
+import java.time.Duration;
+import java.util.function.LongSupplier;
+
+/**
+ * Consecutive-failure circuit breaker for one upstream. After
+ * {@code failureThreshold} failed calls in a row it opens and rejects calls
+ * with {@link UpstreamUnavailableException} without touching the network.
+ * Once {@code openDuration} has passed a single trial call is let through:
+ * success closes the circuit, failure opens it again. A cancelled call counts
+ * as a failure, since callers cancel on their own deadline.
+ */
+public class CircuitBreaker {
+
+    public enum State { CLOSED, OPEN, HALF_OPEN }
+
+    private static final Logger log = LoggerFactory.getLogger(CircuitBreaker.class);
+
+    private final String name;
+    private final int failureThreshold;
+    private final long openNanos;
+    private final LongSupplier nanoClock;
+
+    private State state = State.CLOSED;
+    private int consecutiveFailures;
+    private long openedAt;
+    private boolean trialInFlight;
+
+    public CircuitBreaker(String name, int failureThreshold, Duration openDuration, LongSupplier nanoClock) {
+        this.name = name;
+        this.failureThreshold = failureThreshold;
+        this.openNanos = openDuration.toNanos();
+        this.nanoClock = nanoClock;
+    }
+
+    public <T> Mono<T> protect(Mono<T> call) {
+        return Mono.defer(() -> {
+            if (!tryAcquire()) return Mono.error(new UpstreamUnavailableException(name));
+            return call
+                    .doOnSuccess(value -> onSuccess())
+                    .doOnError(error -> onFailure())
+                    .doFinally(signal -> {
+                        if (signal == SignalType.CANCEL) onFailure();
+                    });
+        });
+    }
+
+    public <T> Flux<T> protect(Flux<T> call) {
+        return Flux.defer(() -> {
+            if (!tryAcquire()) return Flux.error(new UpstreamUnavailableException(name));
+            return call
+                    .doOnComplete(this::onSuccess)
+                    .doOnError(error -> onFailure())
+                    .doFinally(signal -> {
+                        if (signal == SignalType.CANCEL) onFailure();
+                    });
+        });
+    }
+
+    public synchronized State state() {
+        return state;
+    }
+
+    synchronized boolean tryAcquire() {
+        switch (state) {
+            case CLOSED:
+                return true;
+            case OPEN:
+                if (nanoClock.getAsLong() - openedAt < openNanos) return false;
+                transition(State.HALF_OPEN);
+                trialInFlight = true;
+                return true;
+            default:
+                if (trialInFlight) return false;
+                trialInFlight = true;
+                return true;
+        }
+    }
+
+    synchronized void onSuccess() {
+        consecutiveFailures = 0;
+        trialInFlight = false;
+        if (state != State.CLOSED) transition(State.CLOSED);
+    }
+
+    synchronized void onFailure() {
+        trialInFlight = false;
+        consecutiveFailures++;
+        if (state == State.HALF_OPEN || (state == State.CLOSED && consecutiveFailures >= failureThreshold)) {
+            openedAt = nanoClock.getAsLong();
+            transition(State.OPEN);
+        }
+    }
+
+    private void transition(State next) {
+        log.warn(Messages.CIRCUIT_STATE_CHANGED, name, state, next, consecutiveFailures);
+        state = next;
+    }
+}
@@ -3,37 +3,127 @@ package com.github.souzafcharles.api.client;
 import com.github.souzafcharles.api.endpoint.cart.model.dto.CartResponseDTO;
 import com.github.souzafcharles.api.endpoint.product.model.dto.ProductResponseDTO;
 import com.github.souzafcharles.api.endpoint.user.model.dto.UserResponseDTO;
+import com.github.souzafcharles.api.utils.Messages;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Component;
 import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientRequestException;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
+import reactor.util.retry.Retry;
+import reactor.util.retry.RetryBackoffSpec;
 
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Reads the Fake Store API through the pooled, time-limited and HTTP-cached
+ * {@code webClient} from {@code WebClientConfig}. Every call is an idempotent
+ * GET, so connection failures, timeouts, 5xx and 429 responses are retried
+ * with jittered exponential backoff; other errors surface at once. Each call, retries
+ * included, counts as one outcome for the {@link CircuitBreaker}. Retries and
+ * the circuit state are published as {@code store.fakestore.retries} and
+ * {@code store.fakestore.circuit.state} (0 closed, 1 open, 2 half-open).
+ * <p>
+ * The {@code stream*} variants decode the top-level JSON array element by
+ * element and honour backpressure, so a consumer persisting in chunks never
+ * holds the whole payload. They are only retried while nothing has been
+ * emitted yet; a failure mid-stream surfaces to the caller.
+ */
 @Component
 public class FakeStoreClient {
 
+    private static final Logger log = LoggerFactory.getLogger(FakeStoreClient.class);
+
+    private static final String UPSTREAM = "fakestore";
+
     private final WebClient webClient;
+    private final CircuitBreaker circuitBreaker;
+    private final RetryBackoffSpec retry;
 
-    public FakeStoreClient(WebClient webClient) {
+    public FakeStoreClient(WebClient webClient,
+                           MeterRegistry meterRegistry,
+                           @Value("${store.fakestore.max-retries:3}") int maxRetries,
+                           @Value("${store.fakestore.retry-backoff:PT0.2S}") Duration retryBackoff,
+                           @Value("${store.fakestore.max-retry-backoff:PT2S}") Duration maxRetryBackoff,
+                           @Value("${store.fakestore.circuit.failure-threshold:5}") int failureThreshold,
+                           @Value("${store.fakestore.circuit.open-duration:PT30S}") Duration openDuration) {
         this.webClient = webClient;
+        this.circuitBreaker = new CircuitBreaker(UPSTREAM, failureThreshold, openDuration, System::nanoTime);
+
+        Counter retries = Counter.builder("store.fakestore.retries").register(meterRegistry);
+        Gauge.builder("store.fakestore.circuit.state", circuitBreaker, breaker -> breaker.state().ordinal())
+                .register(meterRegistry);
+        this.retry = Retry.backoff(maxRetries, retryBackoff)
+                .maxBackoff(maxRetryBackoff)
+                .jitter(0.5)
+                .filter(FakeStoreClient::isTransient)
+                .doBeforeRetry(signal -> {
+                    retries.increment();
+                    log.warn(Messages.UPSTREAM_RETRYING, UPSTREAM, signal.totalRetries() + 1, signal.failure().toString());
+                })
+                .onRetryExhaustedThrow((spec, signal) -> signal.failure());
     }
 
     public Mono<ProductResponseDTO[]> getAllProducts() {
-        return webClient.get()
-                .uri("https://fakestoreapi.com/products")
-                .retrieve()
-                .bodyToMono(ProductResponseDTO[].class);
+        return get("/products", ProductResponseDTO[].class);
     }
 
     public Mono<CartResponseDTO[]> getAllCarts() {
-        return webClient.get()
-                .uri("https://fakestoreapi.com/carts")
-                .retrieve()
-                .bodyToMono(CartResponseDTO[].class);
+        return get("/carts", CartResponseDTO[].class);
     }
 
     public Mono<UserResponseDTO[]> getAllUsers() {
-        return webClient.get()
-                .uri("https://fakestoreapi.com/users")
-                .retrieve()
-                .bodyToMono(UserResponseDTO[].class);
+        return get("/users", UserResponseDTO[].class);
+    }
+
+    public Flux<ProductResponseDTO> streamProducts() {
+        return stream("/products", ProductResponseDTO.class);
+    }
+
+    public Flux<CartResponseDTO> streamCarts() {
+        return stream("/carts", CartResponseDTO.class);
+    }
+
+    public Flux<UserResponseDTO> streamUsers() {
+        return stream("/users", UserResponseDTO.class);
+    }
+
+    public CircuitBreaker.State circuitState() {
+        return circuitBreaker.state();
+    }
+
+    private <T> Mono<T> get(String path, Class<T> type) {
+        return circuitBreaker.protect(Mono.defer(() -> webClient.get()
+                        .uri(path)
+                        .retrieve()
+                        .bodyToMono(type))
+                .retryWhen(retry));
+    }
+
+    private <T> Flux<T> stream(String path, Class<T> type) {
+        return circuitBreaker.protect(Flux.defer(() -> {
+            AtomicBoolean emitted = new AtomicBoolean();
+            return Flux.defer(() -> webClient.get()
+                            .uri(path)
+                            .retrieve()
+                            .bodyToFlux(type))
+                    .doOnNext(item -> emitted.set(true))
+                    .retryWhen(retry.filter(error -> !emitted.get() && isTransient(error)));
+        }));
+    }
+
+    private static boolean isTransient(Throwable error) {
+        if (error instanceof WebClientRequestException) return true;
+        return error instanceof WebClientResponseException response
+                && (response.getStatusCode().is5xxServerError()
+                || response.getStatusCode().value() == HttpStatus.TOO_MANY_REQUESTS.value());
     }
 }
@@ -0,0 +1,44 @@
+package com.github.souzafcharles.api.client.cache;
+
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.ResponseCookie;
+import org.springframework.http.client.reactive.ClientHttpResponse;
+import org.springframework.util.LinkedMultiValueMap;
+import org.springframework.util.MultiValueMap;
+import reactor.core.publisher.Flux;
+
+/** A response served by {@link CachingClientHttpConnector} without a live connection behind it. */
+class CachedClientHttpResponse implements ClientHttpResponse {
+
+    private final HttpStatusCode status;
+    private final HttpHeaders headers;
+    private final Flux<DataBuffer> body;
+
+    CachedClientHttpResponse(HttpStatusCode status, HttpHeaders headers, Flux<DataBuffer> body) {
+        this.status = status;
+        this.headers = HttpHeaders.readOnlyHttpHeaders(headers);
+        this.body = body;
+    }
+
+    @Override
+    public HttpStatusCode getStatusCode() {
+        return status;
+    }
+
+    @Override
+    public HttpHeaders getHeaders() {
+        return headers;
+    }
+
+    @Override
+    public Flux<DataBuffer> getBody() {
+        return body;
+    }
+
+    @Override
+    public MultiValueMap<String, ResponseCookie> getCookies() {
+        return new LinkedMultiValueMap<>();
+    }
+}
@@ -0,0 +1,158 @@
+package com.github.souzafcharles.api.client.cache;
+
+import com.github.souzafcharles.api.utils.Messages;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.client.reactive.ClientHttpConnector;
+import org.springframework.http.client.reactive.ClientHttpRequest;
+import org.springframework.http.client.reactive.ClientHttpResponse;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.net.URI;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Function;
+
+/**
+ * Client-side HTTP cache in front of another connector, so the
+ * {@code WebClient} on top (codecs, retries, filters) is unaware of it. GET
+ * responses are kept in an {@link HttpDiskCache}: a fresh entry is served
+ * without a request, a stale one is revalidated with {@code If-None-Match} /
+ * {@code If-Modified-Since} and served from disk on {@code 304}, and one still
+ * within its {@code stale-while-revalidate} window is served at once while
+ * it is revalidated in the background.
+ * <p>
+ * Concurrent GETs for the same URI share one in-flight exchange; its outcome
+ * is replayed to each of them from disk (or, for responses that are not
+ * stored, such as errors, from memory). Requests to one URI are assumed to
+ * carry the same headers, which holds for {@code FakeStoreClient}. Other
+ * methods pass straight through. Results are counted under
+ * {@code store.fakestore.cache}, tagged {@code hit}, {@code stale},
+ * {@code revalidated}, {@code stored}, {@code uncached} or {@code coalesced}.
+ */
+public class CachingClientHttpConnector implements ClientHttpConnector {
+
+    private static final Logger log = LoggerFactory.getLogger(CachingClientHttpConnector.class);
+
+    private static final int READ_BUFFER_SIZE = 8192;
+
+    private final ClientHttpConnector delegate;
+    private final HttpDiskCache cache;
+    private final MeterRegistry meterRegistry;
+    private final Map<URI, Mono<Replay>> inFlight = new ConcurrentHashMap<>();
+
+    public CachingClientHttpConnector(ClientHttpConnector delegate, HttpDiskCache cache, MeterRegistry meterRegistry) {
+        this.delegate = delegate;
+        this.cache = cache;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public Mono<ClientHttpResponse> connect(HttpMethod method, URI uri,
+                                            Function<? super ClientHttpRequest, Mono<Void>> requestCallback) {
+        if (method != HttpMethod.GET) return delegate.connect(method, uri, requestCallback);
+
+        return Mono.fromCallable(() -> cache.lookup(uri))
+                .subscribeOn(Schedulers.boundedElastic())
+                .flatMap(entry -> serve(uri, requestCallback, entry))
+                .switchIfEmpty(Mono.defer(() -> exchange(uri, requestCallback, null)))
+                .map(Replay::toResponse);
+    }
+
+    private Mono<Replay> serve(URI uri, Function<? super ClientHttpRequest, Mono<Void>> requestCallback,
+                               HttpDiskCache.Entry entry) {
+        return switch (cache.freshness(entry)) {
+            case FRESH -> {
+                record("hit");
+                yield Mono.just(Replay.of(entry));
+            }
+            case STALE_WHILE_REVALIDATE -> {
+                record("stale");
+                exchange(uri, requestCallback, entry).subscribe(
+                        replay -> { },
+                        error -> log.warn(Messages.HTTP_CACHE_REVALIDATION_FAILED, uri, error.toString()));
+                yield Mono.just(Replay.of(entry));
+            }
+            case STALE -> exchange(uri, requestCallback, entry);
+        };
+    }
+
+    /** Joins the in-flight exchange for {@code uri}, or starts one. */
+    private Mono<Replay> exchange(URI uri, Function<? super ClientHttpRequest, Mono<Void>> requestCallback,
+                                  HttpDiskCache.Entry entry) {
+        AtomicBoolean started = new AtomicBoolean();
+        Mono<Replay> call = inFlight.computeIfAbsent(uri, key -> {
+            started.set(true);
+            // Removed before the outcome is delivered, so a caller's next request starts a new exchange.
+            return send(uri, requestCallback, entry)
+                    .doOnTerminate(() -> inFlight.remove(key))
+                    .cache();
+        });
+        if (!started.get()) record("coalesced");
+        return call;
+    }
+
+    private Mono<Replay> send(URI uri, Function<? super ClientHttpRequest, Mono<Void>> requestCallback,
+                              HttpDiskCache.Entry entry) {
+        return delegate.connect(HttpMethod.GET, uri, request -> {
+                    if (entry != null) entry.addConditionalHeaders(request.getHeaders());
+                    return requestCallback.apply(request);
+                })
+                .flatMap(response -> {
+                    int status = response.getStatusCode().value();
+                    if (status == HttpStatus.NOT_MODIFIED.value() && entry != null) {
+                        record("revalidated");
+                        return response.getBody().map(DataBufferUtils::release)
+                                .then(Mono.fromCallable(() -> cache.revalidated(entry, response.getHeaders()))
+                                        .subscribeOn(Schedulers.boundedElastic()))
+                                .map(Replay::of);
+                    }
+                    if (status == HttpStatus.OK.value() && cache.isStorable(response.getHeaders())) {
+                        record("stored");
+                        return cache.store(uri, response.getHeaders(), response.getBody()).map(Replay::of);
+                    }
+                    record("uncached");
+                    return DataBufferUtils.join(response.getBody())
+                            .map(buffer -> {
+                                byte[] bytes = new byte[buffer.readableByteCount()];
+                                buffer.read(bytes);
+                                DataBufferUtils.release(buffer);
+                                return bytes;
+                            })
+                            .defaultIfEmpty(new byte[0])
+                            .map(bytes -> new Replay(response.getStatusCode(), response.getHeaders(), null, bytes));
+                });
+    }
+
+    private void record(String result) {
+        Counter.builder("store.fakestore.cache").tag("result", result).register(meterRegistry).increment();
+    }
+
+    /** One exchange's outcome, turned into a fresh response for every request that shares it. */
+    private record Replay(HttpStatusCode status, HttpHeaders headers, Path file, byte[] bytes) {
+
+        static Replay of(HttpDiskCache.Entry entry) {
+            return new Replay(HttpStatus.OK, entry.headers(), entry.body(), null);
+        }
+
+        ClientHttpResponse toResponse() {
+            Flux<DataBuffer> body = file != null
+                    ? DataBufferUtils.read(file, DefaultDataBufferFactory.sharedInstance, READ_BUFFER_SIZE)
+                    : Flux.just(DefaultDataBufferFactory.sharedInstance.wrap(bytes));
+            return new CachedClientHttpResponse(status, headers, body);
+        }
+    }
+}
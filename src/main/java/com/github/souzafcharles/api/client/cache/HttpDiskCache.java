@@ -0,0 +1,214 @@
+package com.github.souzafcharles.api.client.cache;
+
+import com.github.souzafcharles.api.utils.Messages;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.http.HttpHeaders;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Properties;
+
+/**
+ * On-disk store of GET response bodies for {@link CachingClientHttpConnector}.
+ * Each URI maps to a {@code <sha256>.body} file and a {@code <sha256>.meta}
+ * properties file with its validators ({@code ETag}, {@code Last-Modified}),
+ * content type, storage time and freshness lifetimes. Both are written to a
+ * temporary file and moved into place, so readers never see a partial entry
+ * and a body being served keeps its old contents while a newer one replaces
+ * it. Entries survive restarts; there is no eviction, as the upstream only
+ * serves a handful of collections.
+ * <p>
+ * Freshness follows the response's {@code Cache-Control} ({@code max-age},
+ * {@code stale-while-revalidate}, {@code no-cache}, {@code no-store}) and
+ * falls back to the configured defaults when a directive is absent.
+ */
+public class HttpDiskCache {
+
+    public enum Freshness { FRESH, STALE_WHILE_REVALIDATE, STALE }
+
+    private static final Logger log = LoggerFactory.getLogger(HttpDiskCache.class);
+
+    private static final List<String> STORED_HEADERS = List.of(
+            HttpHeaders.CONTENT_TYPE, HttpHeaders.ETAG, HttpHeaders.LAST_MODIFIED, HttpHeaders.CACHE_CONTROL);
+
+    private final Path directory;
+    private final Duration defaultMaxAge;
+    private final Duration defaultStaleWhileRevalidate;
+    private final Clock clock;
+
+    public HttpDiskCache(Path directory, Duration defaultMaxAge, Duration defaultStaleWhileRevalidate, Clock clock) {
+        try {
+            this.directory = Files.createDirectories(directory);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        this.defaultMaxAge = defaultMaxAge;
+        this.defaultStaleWhileRevalidate = defaultStaleWhileRevalidate;
+        this.clock = clock;
+    }
+
+    /** The stored entry for {@code uri}, or {@code null}. Blocking. */
+    public Entry lookup(URI uri) {
+        String key = key(uri);
+        Path body = directory.resolve(key + ".body");
+        Properties meta = new Properties();
+        try (InputStream in = Files.newInputStream(directory.resolve(key + ".meta"))) {
+            meta.load(in);
+            if (!Files.exists(body)) return null;
+            HttpHeaders headers = new HttpHeaders();
+            for (String name : STORED_HEADERS) {
+                String value = meta.getProperty("header." + name);
+                if (value != null) headers.set(name, value);
+            }
+            headers.setContentLength(Files.size(body));
+            return new Entry(body, headers,
+                    Instant.ofEpochMilli(Long.parseLong(meta.getProperty("storedAt"))),
+                    Duration.parse(meta.getProperty("maxAge")),
+                    Duration.parse(meta.getProperty("staleWhileRevalidate")));
+        } catch (NoSuchFileException e) {
+            return null;
+        } catch (IOException | RuntimeException e) {
+            log.warn(Messages.HTTP_CACHE_ENTRY_UNREADABLE, uri, e.toString());
+            return null;
+        }
+    }
+
+    public Freshness freshness(Entry entry) {
+        Instant now = clock.instant();
+        Instant expires = entry.storedAt().plus(entry.maxAge());
+        if (now.isBefore(expires)) return Freshness.FRESH;
+        if (now.isBefore(expires.plus(entry.staleWhileRevalidate()))) return Freshness.STALE_WHILE_REVALIDATE;
+        return Freshness.STALE;
+    }
+
+    public boolean isStorable(HttpHeaders headers) {
+        return !directives(headers).contains("no-store");
+    }
+
+    /** Streams {@code body} to disk, then records the entry; the body is never held in memory. */
+    public Mono<Entry> store(URI uri, HttpHeaders headers, Flux<DataBuffer> body) {
+        String key = key(uri);
+        return Mono.fromCallable(() -> Files.createTempFile(directory, key, ".tmp"))
+                .subscribeOn(Schedulers.boundedElastic())
+                .flatMap(temp -> DataBufferUtils.write(body, temp, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)
+                        .then(Mono.fromCallable(() -> {
+                            Path target = directory.resolve(key + ".body");
+                            Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+                            return writeMeta(key, target, headers);
+                        }).subscribeOn(Schedulers.boundedElastic()))
+                        .doOnError(e -> deleteQuietly(temp))
+                        .doOnCancel(() -> deleteQuietly(temp)));
+    }
+
+    /** Records a {@code 304 Not Modified}: the body is kept, validators and lifetimes are refreshed. Blocking. */
+    public Entry revalidated(Entry entry, HttpHeaders notModified) throws IOException {
+        HttpHeaders merged = new HttpHeaders();
+        merged.putAll(entry.headers());
+        for (String name : STORED_HEADERS) {
+            if (notModified.containsKey(name)) merged.put(name, notModified.get(name));
+        }
+        String key = entry.body().getFileName().toString().replace(".body", "");
+        return writeMeta(key, entry.body(), merged);
+    }
+
+    private Entry writeMeta(String key, Path body, HttpHeaders headers) throws IOException {
+        List<String> directives = directives(headers);
+        Duration maxAge = directives.contains("no-cache") ? Duration.ZERO : seconds(directives, "max-age=", defaultMaxAge);
+        Duration staleWhileRevalidate = seconds(directives, "stale-while-revalidate=", defaultStaleWhileRevalidate);
+        Instant storedAt = clock.instant();
+
+        Properties meta = new Properties();
+        meta.setProperty("storedAt", Long.toString(storedAt.toEpochMilli()));
+        meta.setProperty("maxAge", maxAge.toString());
+        meta.setProperty("staleWhileRevalidate", staleWhileRevalidate.toString());
+        HttpHeaders stored = new HttpHeaders();
+        for (String name : STORED_HEADERS) {
+            String value = headers.getFirst(name);
+            if (value == null) continue;
+            meta.setProperty("header." + name, value);
+            stored.set(name, value);
+        }
+        stored.setContentLength(Files.size(body));
+
+        Path temp = Files.createTempFile(directory, key, ".tmp");
+        try (OutputStream out = Files.newOutputStream(temp)) {
+            meta.store(out, null);
+        }
+        Files.move(temp, directory.resolve(key + ".meta"), StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        return new Entry(body, stored, storedAt, maxAge, staleWhileRevalidate);
+    }
+
+    private static List<String> directives(HttpHeaders headers) {
+        return headers.getOrEmpty(HttpHeaders.CACHE_CONTROL).stream()
+                .flatMap(value -> List.of(value.split(",")).stream())
+                .map(directive -> directive.trim().toLowerCase())
+                .toList();
+    }
+
+    private static Duration seconds(List<String> directives, String prefix, Duration fallback) {
+        for (String directive : directives) {
+            if (!directive.startsWith(prefix)) continue;
+            try {
+                return Duration.ofSeconds(Long.parseLong(directive.substring(prefix.length())));
+            } catch (NumberFormatException e) {
+                return fallback;
+            }
+        }
+        return fallback;
+    }
+
+    private static String key(URI uri) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(uri.toString().getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static void deleteQuietly(Path file) {
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            // A stray temporary file is harmless; the entry itself was never replaced.
+        }
+    }
+
+    /** A stored response; {@link #headers()} carries the validators sent on revalidation. */
+    public record Entry(
+            Path body,
+            HttpHeaders headers,
+            Instant storedAt,
+            Duration maxAge,
+            Duration staleWhileRevalidate
+    ) {
+        public void addConditionalHeaders(HttpHeaders request) {
+            String etag = headers.getETag();
+            if (etag != null) request.setIfNoneMatch(etag);
+            String lastModified = headers.getFirst(HttpHeaders.LAST_MODIFIED);
+            if (lastModified != null) request.set(HttpHeaders.IF_MODIFIED_SINCE, lastModified);
+        }
+    }
+}
@@ -0,0 +1,52 @@
+package com.github.souzafcharles.api.config;
+
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.protobuf.ProtobufMapper;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.github.souzafcharles.api.endpoint.cart.model.dto.CartResponseDTO;
+import com.github.souzafcharles.api.endpoint.product.model.dto.ProductResponseDTO;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import java.util.List;
+
+/**
+ * Binary alternatives to JSON, chosen through the {@code Accept} and
+ * {@code Content-Type} headers. CBOR and Smile are available on every endpoint
+ * and use copies of the application's {@link ObjectMapper}, so they carry the
+ * same modules and settings as JSON. Protobuf covers the single product and
+ * cart reads, with a schema derived from each DTO. All three are added after
+ * the JSON converters, so a request without a specific {@code Accept} still
+ * gets JSON.
+ */
+@Configuration
+public class ContentNegotiationConfig implements WebMvcConfigurer {
+
+    public static final String APPLICATION_SMILE_VALUE = "application/x-jackson-smile";
+    public static final MediaType APPLICATION_SMILE = MediaType.parseMediaType(APPLICATION_SMILE_VALUE);
+
+    private final ObjectMapper objectMapper;
+    private final JacksonProtobufHttpMessageConverter protobufConverter;
+
+    public ContentNegotiationConfig(ObjectMapper objectMapper) throws JsonMappingException {
+        this.objectMapper = objectMapper;
+        this.protobufConverter = new JacksonProtobufHttpMessageConverter(new ProtobufMapper(),
+                ProductResponseDTO.class, CartResponseDTO.class);
+    }
+
+    @Override
+    public void extendMessageConverters(List<HttpMessageConverter<?>> converters) {
+        // Spring registers its own when the formats are on the classpath, built from a default mapper.
+        converters.removeIf(converter -> converter instanceof MappingJackson2CborHttpMessageConverter
+                || converter instanceof MappingJackson2SmileHttpMessageConverter);
+        converters.add(new MappingJackson2CborHttpMessageConverter(objectMapper.copyWith(new CBORFactory())));
+        converters.add(new MappingJackson2SmileHttpMessageConverter(objectMapper.copyWith(new SmileFactory())));
+        converters.add(protobufConverter);
+    }
+}
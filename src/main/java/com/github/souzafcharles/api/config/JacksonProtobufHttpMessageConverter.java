@@ -0,0 +1,58 @@
+package com.github.souzafcharles.api.config;
+
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.dataformat.protobuf.ProtobufMapper;
+import com.fasterxml.jackson.dataformat.protobuf.schema.ProtobufSchema;
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.AbstractHttpMessageConverter;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Writes the registered DTO types as protobuf messages, without generated
+ * classes: each type's schema is derived from its Jackson properties once, at
+ * construction, with field numbers following declaration order, so clients
+ * decode with the same derivation (or its {@code .proto} output).
+ * Write-only; request bodies are not read as protobuf.
+ */
+public class JacksonProtobufHttpMessageConverter extends AbstractHttpMessageConverter<Object> {
+
+    public static final String APPLICATION_PROTOBUF_VALUE = "application/x-protobuf";
+    public static final MediaType APPLICATION_PROTOBUF = MediaType.parseMediaType(APPLICATION_PROTOBUF_VALUE);
+
+    private final Map<Class<?>, ObjectWriter> writers = new HashMap<>();
+
+    public JacksonProtobufHttpMessageConverter(ProtobufMapper mapper, Class<?>... types) throws JsonMappingException {
+        super(APPLICATION_PROTOBUF, MediaType.parseMediaType("application/protobuf"));
+        for (Class<?> type : types) {
+            ProtobufSchema schema = mapper.generateSchemaFor(type);
+            writers.put(type, mapper.writer(schema));
+        }
+    }
+
+    @Override
+    protected boolean supports(Class<?> clazz) {
+        return writers.containsKey(clazz);
+    }
+
+    @Override
+    protected boolean canRead(MediaType mediaType) {
+        return false;
+    }
+
+    @Override
+    protected Object readInternal(Class<?> clazz, HttpInputMessage inputMessage) {
+        throw new HttpMessageNotReadableException(APPLICATION_PROTOBUF_VALUE, inputMessage);
+    }
+
+    @Override
+    protected void writeInternal(Object value, HttpOutputMessage outputMessage) throws IOException {
+        writers.get(value.getClass()).writeValue(outputMessage.getBody(), value);
+    }
+}
@@ -0,0 +1,109 @@
+package com.github.souzafcharles.api.config;
+
+import com.github.souzafcharles.api.utils.Messages;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordingStream;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Reports virtual threads that stay pinned to their carrier, which on JDK 21
+ * happens when they block inside a {@code synchronized} section or a native
+ * frame, through the JFR {@code jdk.VirtualThreadPinned} event. Each pin at or
+ * above {@code store.threads.pinning-monitor.threshold} is timed under
+ * {@code store.threads.virtual.pinned}, tagged with the first application
+ * frame on its stack (or the top frame when there is none). The first pin at
+ * each site is also logged with its stack. Off unless
+ * {@code store.threads.pinning-monitor.enabled}, which the
+ * {@code virtual-threads} profile sets.
+ */
+@Component
+public class VirtualThreadPinningMonitor {
+
+    static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+    static final int MAX_SITES = 64;
+    static final String OTHER_SITE = "other";
+
+    private static final Logger log = LoggerFactory.getLogger(VirtualThreadPinningMonitor.class);
+    private static final String APPLICATION_PACKAGE = "com.github.souzafcharles.api.";
+    private static final int LOGGED_FRAMES = 12;
+
+    private final MeterRegistry meterRegistry;
+    private final Set<String> sites = ConcurrentHashMap.newKeySet();
+    private final RecordingStream stream;
+
+    public VirtualThreadPinningMonitor(MeterRegistry meterRegistry,
+                                       @Value("${store.threads.pinning-monitor.enabled:false}") boolean enabled,
+                                       @Value("${store.threads.pinning-monitor.threshold:PT0.02S}") Duration threshold) {
+        this.meterRegistry = meterRegistry;
+        this.stream = enabled ? start(threshold) : null;
+    }
+
+    private RecordingStream start(Duration threshold) {
+        try {
+            RecordingStream recording = new RecordingStream();
+            recording.enable(PINNED_EVENT).withThreshold(threshold).withStackTrace();
+            recording.onEvent(PINNED_EVENT, this::onPinned);
+            recording.startAsync();
+            log.info(Messages.VIRTUAL_THREAD_PINNING_MONITOR_STARTED, threshold.toMillis());
+            return recording;
+        } catch (RuntimeException e) {
+            // JFR can be unavailable (e.g. disabled at JVM start); the application runs without the monitor.
+            log.warn(Messages.VIRTUAL_THREAD_PINNING_MONITOR_UNAVAILABLE, e.toString());
+            return null;
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (stream != null) stream.close();
+    }
+
+    void onPinned(RecordedEvent event) {
+        List<RecordedFrame> frames = event.getStackTrace() == null ? List.of() : event.getStackTrace().getFrames();
+        record(site(frames), event.getDuration(), frames);
+    }
+
+    void record(String site, Duration duration, List<RecordedFrame> frames) {
+        // Bounds the tag's cardinality; sites past the limit share one series.
+        String tag = sites.contains(site) || sites.size() < MAX_SITES ? site : OTHER_SITE;
+        Timer.builder("store.threads.virtual.pinned").tag("site", tag).register(meterRegistry).record(duration);
+        if (sites.add(tag)) {
+            log.warn(Messages.VIRTUAL_THREAD_PINNED, duration.toMillis(), tag, describe(frames));
+        }
+    }
+
+    static String site(List<RecordedFrame> frames) {
+        RecordedFrame top = null;
+        for (RecordedFrame frame : frames) {
+            if (!frame.isJavaFrame()) continue;
+            if (top == null) top = frame;
+            if (frame.getMethod().getType().getName().startsWith(APPLICATION_PACKAGE)) return name(frame);
+        }
+        return top == null ? OTHER_SITE : name(top);
+    }
+
+    private static String name(RecordedFrame frame) {
+        String type = frame.getMethod().getType().getName();
+        return type.substring(type.lastIndexOf('.') + 1) + "." + frame.getMethod().getName();
+    }
+
+    private static String describe(List<RecordedFrame> frames) {
+        StringBuilder stack = new StringBuilder();
+        frames.stream().limit(LOGGED_FRAMES).forEach(frame -> stack.append(System.lineSeparator())
+                .append("\tat ").append(frame.getMethod().getType().getName()).append('.')
+                .append(frame.getMethod().getName()).append(':').append(frame.getLineNumber()));
+        return stack.toString();
+    }
+}
@@ -1,14 +1,79 @@
 package com.github.souzafcharles.api.config;
 
+import com.github.souzafcharles.api.client.cache.CachingClientHttpConnector;
+import com.github.souzafcharles.api.client.cache.HttpDiskCache;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.netty.channel.ChannelOption;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.reactive.ClientHttpConnector;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
 import org.springframework.web.reactive.function.client.WebClient;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.function.Function;
 
 @Configuration
 public class WebClientConfig {
 
+    /**
+     * Bounded pool for Fake Store API calls. Pool gauges are published as
+     * {@code reactor.netty.connection.provider.*}.
+     */
+    @Bean(destroyMethod = "dispose")
+    public ConnectionProvider fakeStoreConnectionProvider(
+            @Value("${store.fakestore.max-connections:16}") int maxConnections,
+            @Value("${store.fakestore.pending-acquire-timeout:PT5S}") Duration pendingAcquireTimeout,
+            @Value("${store.fakestore.max-idle-time:PT30S}") Duration maxIdleTime) {
+        return ConnectionProvider.builder("fakestore")
+                .maxConnections(maxConnections)
+                .pendingAcquireTimeout(pendingAcquireTimeout)
+                .maxIdleTime(maxIdleTime)
+                .metrics(true)
+                .build();
+    }
+
+    /**
+     * Disk store behind the client's HTTP cache. Lifetimes come from the
+     * upstream's {@code Cache-Control}; the defaults here apply when it sends
+     * none, and with a zero max-age every call is a conditional request.
+     */
+    @Bean
+    public HttpDiskCache fakeStoreHttpCache(
+            @Value("${store.fakestore.cache.directory:${java.io.tmpdir}/fakestore-http-cache}") String directory,
+            @Value("${store.fakestore.cache.max-age:PT0S}") Duration maxAge,
+            @Value("${store.fakestore.cache.stale-while-revalidate:PT0S}") Duration staleWhileRevalidate) {
+        return new HttpDiskCache(Path.of(directory), maxAge, staleWhileRevalidate, Clock.systemUTC());
+    }
+
+    /**
+     * Fake Store API client with connect and response timeouts and, unless
+     * {@code store.fakestore.cache.enabled} is off, a disk-backed HTTP cache.
+     * Latency is published as {@code reactor.netty.http.client.*}, tagged by
+     * path; cache hits never reach it.
+     */
     @Bean
-    public WebClient webClient(WebClient.Builder builder) {
-        return builder.build();
+    public WebClient webClient(WebClient.Builder builder,
+                               ConnectionProvider fakeStoreConnectionProvider,
+                               HttpDiskCache fakeStoreHttpCache,
+                               MeterRegistry meterRegistry,
+                               @Value("${store.fakestore.base-url:https://fakestoreapi.com}") String baseUrl,
+                               @Value("${store.fakestore.connect-timeout:PT2S}") Duration connectTimeout,
+                               @Value("${store.fakestore.response-timeout:PT5S}") Duration responseTimeout,
+                               @Value("${store.fakestore.cache.enabled:true}") boolean cacheEnabled) {
+        HttpClient httpClient = HttpClient.create(fakeStoreConnectionProvider)
+                .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, (int) connectTimeout.toMillis())
+                .responseTimeout(responseTimeout)
+                .metrics(true, Function.identity());
+        ClientHttpConnector connector = new ReactorClientHttpConnector(httpClient);
+        if (cacheEnabled) connector = new CachingClientHttpConnector(connector, fakeStoreHttpCache, meterRegistry);
+        return builder.baseUrl(baseUrl)
+                .clientConnector(connector)
+                .build();
     }
 }
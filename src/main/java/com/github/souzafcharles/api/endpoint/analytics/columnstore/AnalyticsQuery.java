@@ -0,0 +1,341 @@
+package com.github.souzafcharles.api.endpoint.analytics.columnstore;
+
+import com.github.souzafcharles.api.endpoint.analytics.model.dto.AnalyticsAggregateDTO;
+import com.github.souzafcharles.api.endpoint.analytics.model.dto.AnalyticsFilterDTO;
+import com.github.souzafcharles.api.endpoint.analytics.model.dto.AnalyticsOrderDTO;
+import com.github.souzafcharles.api.endpoint.analytics.model.dto.AnalyticsQueryDTO;
+import com.github.souzafcharles.api.endpoint.analytics.model.dto.AnalyticsResultDTO;
+import com.github.souzafcharles.api.exceptions.custom.InvalidQueryException;
+import com.github.souzafcharles.api.utils.IdDictionary;
+import com.github.souzafcharles.api.utils.Messages;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A query DSL request validated and bound to the dictionaries of one
+ * {@link CartLineColumnStore}. Each segment is filtered and aggregated into
+ * its own group map in parallel, the partial maps are merged, and the groups
+ * are then decoded, ordered and limited. Group keys pack the dimension codes
+ * into a single {@code long} using the dictionary sizes as mixed radices.
+ * Must be compiled and executed while the store is not being written.
+ */
+public final class AnalyticsQuery {
+
+    public static final int DEFAULT_LIMIT = 100;
+    public static final int MAX_LIMIT = 10_000;
+
+    private enum Operator { EQ, NE, IN, GT, GTE, LT, LTE }
+
+    private enum AggregateFunction { SUM, COUNT, AVG, MIN, MAX }
+
+    private record Aggregate(AggregateFunction function, Field field, String alias) { }
+
+    @FunctionalInterface
+    private interface RowPredicate {
+        boolean test(Segment segment, int row);
+    }
+
+    private final CartLineColumnStore store;
+    private final RowPredicate[] filters;
+    private final Field[] groupBy;
+    private final int[] radices;
+    private final long[] multipliers;
+    private final Aggregate[] aggregates;
+    private final Comparator<Map<String, Object>> order;
+    private final int limit;
+
+    private AnalyticsQuery(CartLineColumnStore store, RowPredicate[] filters, Field[] groupBy,
+                           Aggregate[] aggregates, Comparator<Map<String, Object>> order, int limit) {
+        this.store = store;
+        this.filters = filters;
+        this.groupBy = groupBy;
+        this.aggregates = aggregates;
+        this.order = order;
+        this.limit = limit;
+
+        this.radices = new int[groupBy.length];
+        this.multipliers = new long[groupBy.length];
+        long multiplier = 1;
+        try {
+            for (int d = groupBy.length - 1; d >= 0; d--) {
+                radices[d] = Math.max(1, groupBy[d].dictionary(store).size());
+                multipliers[d] = multiplier;
+                multiplier = Math.multiplyExact(multiplier, radices[d]);
+            }
+        } catch (ArithmeticException e) {
+            throw invalid(Messages.ANALYTICS_TOO_MANY_GROUPS);
+        }
+    }
+
+    public static AnalyticsQuery compile(AnalyticsQueryDTO dto, CartLineColumnStore store) {
+        Field[] groupBy = compileGroupBy(dto.groupBy());
+        Aggregate[] aggregates = compileAggregates(dto.aggregates(), groupBy);
+
+        List<RowPredicate> filters = new ArrayList<>();
+        if (dto.filters() != null) {
+            for (AnalyticsFilterDTO filter : dto.filters()) filters.add(compileFilter(filter, store));
+        }
+
+        int limit = dto.limit() == null ? DEFAULT_LIMIT : dto.limit();
+        if (limit < 1 || limit > MAX_LIMIT) {
+            throw invalid(Messages.ANALYTICS_LIMIT_INVALID, MAX_LIMIT, limit);
+        }
+
+        return new AnalyticsQuery(store, filters.toArray(RowPredicate[]::new), groupBy, aggregates,
+                compileOrder(dto.orderBy(), groupBy, aggregates), limit);
+    }
+
+    public AnalyticsResultDTO execute() {
+        long start = System.nanoTime();
+        Map<Long, double[]> groups = store.scan(this::scanSegment, this::merge, new HashMap<>());
+        if (groups.isEmpty() && groupBy.length == 0) groups.put(0L, newState());
+
+        long matched = groups.values().stream().mapToLong(state -> (long) state[0]).sum();
+        List<Map<String, Object>> rows = groups.entrySet().stream()
+                .map(group -> toRow(group.getKey(), group.getValue()))
+                .sorted(order)
+                .limit(limit)
+                .toList();
+
+        return new AnalyticsResultDTO(rows, matched, (long) store.liveRows(),
+                TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - start));
+    }
+
+    private Map<Long, double[]> scanSegment(Segment segment) {
+        Map<Long, double[]> groups = new HashMap<>();
+        rows:
+        for (int row = 0; row < segment.size; row++) {
+            if (!segment.isLive(row)) continue;
+            for (RowPredicate filter : filters) {
+                if (!filter.test(segment, row)) continue rows;
+            }
+
+            long key = 0;
+            for (int d = 0; d < groupBy.length; d++) {
+                key += groupBy[d].code(segment, row) * multipliers[d];
+            }
+            double[] state = groups.computeIfAbsent(key, k -> newState());
+            state[0]++;
+            for (int a = 0; a < aggregates.length; a++) {
+                Aggregate aggregate = aggregates[a];
+                switch (aggregate.function()) {
+                    case SUM, AVG -> state[a + 1] += aggregate.field().value(segment, row);
+                    case MIN -> state[a + 1] = Math.min(state[a + 1], aggregate.field().value(segment, row));
+                    case MAX -> state[a + 1] = Math.max(state[a + 1], aggregate.field().value(segment, row));
+                    case COUNT -> { }
+                }
+            }
+        }
+        return groups;
+    }
+
+    private Map<Long, double[]> merge(Map<Long, double[]> left, Map<Long, double[]> right) {
+        right.forEach((key, state) -> left.merge(key, state, (into, from) -> {
+            into[0] += from[0];
+            for (int a = 0; a < aggregates.length; a++) {
+                switch (aggregates[a].function()) {
+                    case SUM, AVG -> into[a + 1] += from[a + 1];
+                    case MIN -> into[a + 1] = Math.min(into[a + 1], from[a + 1]);
+                    case MAX -> into[a + 1] = Math.max(into[a + 1], from[a + 1]);
+                    case COUNT -> { }
+                }
+            }
+            return into;
+        }));
+        return left;
+    }
+
+    private double[] newState() {
+        double[] state = new double[aggregates.length + 1];
+        for (int a = 0; a < aggregates.length; a++) {
+            if (aggregates[a].function() == AggregateFunction.MIN) state[a + 1] = Double.POSITIVE_INFINITY;
+            if (aggregates[a].function() == AggregateFunction.MAX) state[a + 1] = Double.NEGATIVE_INFINITY;
+        }
+        return state;
+    }
+
+    private Map<String, Object> toRow(long key, double[] state) {
+        Map<String, Object> row = new LinkedHashMap<>();
+        for (int d = 0; d < groupBy.length; d++) {
+            int code = (int) (key / multipliers[d] % radices[d]);
+            row.put(groupBy[d].jsonName(), groupBy[d].dictionary(store).decode(code));
+        }
+
+        long count = (long) state[0];
+        for (int a = 0; a < aggregates.length; a++) {
+            Aggregate aggregate = aggregates[a];
+            double value = state[a + 1];
+            row.put(aggregate.alias(), switch (aggregate.function()) {
+                case COUNT -> count;
+                case AVG -> count == 0 ? null : value / count;
+                case MIN, MAX -> count == 0 ? null : measure(aggregate.field(), value);
+                case SUM -> measure(aggregate.field(), value);
+            });
+        }
+        return row;
+    }
+
+    private static Object measure(Field field, double value) {
+        return field == Field.QUANTITY ? (Object) (long) value : (Object) value;
+    }
+
+    // ----- compilation -----
+
+    private static Field[] compileGroupBy(List<String> names) {
+        if (names == null) return new Field[0];
+        Set<Field> seen = new HashSet<>();
+        Field[] groupBy = new Field[names.size()];
+        for (int i = 0; i < names.size(); i++) {
+            Field field = field(names.get(i));
+            if (!field.isDimension()) throw invalid(Messages.ANALYTICS_NOT_A_DIMENSION, field.jsonName());
+            if (!seen.add(field)) throw invalid(Messages.ANALYTICS_DUPLICATE_NAME, field.jsonName());
+            groupBy[i] = field;
+        }
+        return groupBy;
+    }
+
+    private static Aggregate[] compileAggregates(List<AnalyticsAggregateDTO> dtos, Field[] groupBy) {
+        if (dtos == null || dtos.isEmpty()) {
+            return new Aggregate[]{new Aggregate(AggregateFunction.COUNT, null, "count")};
+        }
+
+        Set<String> names = new HashSet<>();
+        for (Field field : groupBy) names.add(field.jsonName());
+
+        Aggregate[] aggregates = new Aggregate[dtos.size()];
+        for (int i = 0; i < dtos.size(); i++) {
+            AnalyticsAggregateDTO dto = dtos.get(i);
+            AggregateFunction function = parse(AggregateFunction.class, dto.fn());
+            Field field = null;
+            if (function != AggregateFunction.COUNT) {
+                field = field(dto.field());
+                if (field.isDimension()) throw invalid(Messages.ANALYTICS_NOT_A_MEASURE, field.jsonName());
+            }
+
+            String alias = dto.as();
+            if (alias == null || alias.isBlank()) {
+                String fn = function.name().toLowerCase(Locale.ROOT);
+                alias = field == null ? fn
+                        : fn + Character.toUpperCase(field.jsonName().charAt(0)) + field.jsonName().substring(1);
+            }
+            if (!names.add(alias)) throw invalid(Messages.ANALYTICS_DUPLICATE_NAME, alias);
+            aggregates[i] = new Aggregate(function, field, alias);
+        }
+        return aggregates;
+    }
+
+    private static RowPredicate compileFilter(AnalyticsFilterDTO dto, CartLineColumnStore store) {
+        Field field = field(dto.field());
+        Operator operator = parse(Operator.class, dto.op());
+
+        if (field.isDimension()) {
+            IdDictionary dictionary = field.dictionary(store);
+            return switch (operator) {
+                case EQ, NE -> {
+                    int code = dictionary.find(String.valueOf(required(dto.value(), dto)));
+                    boolean equal = operator == Operator.EQ;
+                    yield (segment, row) -> (field.code(segment, row) == code) == equal;
+                }
+                case IN -> {
+                    if (dto.values() == null || dto.values().isEmpty()) {
+                        throw invalid(Messages.ANALYTICS_FILTER_VALUE_MISSING, field.jsonName(), "in");
+                    }
+                    boolean[] accepted = new boolean[dictionary.size()];
+                    for (Object value : dto.values()) {
+                        int code = dictionary.find(String.valueOf(value));
+                        if (code != IdDictionary.ABSENT) accepted[code] = true;
+                    }
+                    yield (segment, row) -> accepted[field.code(segment, row)];
+                }
+                default -> throw invalid(Messages.ANALYTICS_OPERATOR_UNSUPPORTED,
+                        dto.op(), field.jsonName(), "eq, ne, in");
+            };
+        }
+
+        if (operator == Operator.IN) {
+            throw invalid(Messages.ANALYTICS_OPERATOR_UNSUPPORTED, dto.op(), field.jsonName(), "eq, ne, gt, gte, lt, lte");
+        }
+        double threshold = number(required(dto.value(), dto), field);
+        return switch (operator) {
+            case EQ -> (segment, row) -> field.value(segment, row) == threshold;
+            case NE -> (segment, row) -> field.value(segment, row) != threshold;
+            case GT -> (segment, row) -> field.value(segment, row) > threshold;
+            case GTE -> (segment, row) -> field.value(segment, row) >= threshold;
+            case LT -> (segment, row) -> field.value(segment, row) < threshold;
+            case LTE -> (segment, row) -> field.value(segment, row) <= threshold;
+            case IN -> throw new IllegalStateException();
+        };
+    }
+
+    private static Comparator<Map<String, Object>> compileOrder(List<AnalyticsOrderDTO> dtos, Field[] groupBy,
+                                                                Aggregate[] aggregates) {
+        List<String> columns = new ArrayList<>();
+        for (Field field : groupBy) columns.add(field.jsonName());
+        for (Aggregate aggregate : aggregates) columns.add(aggregate.alias());
+
+        Comparator<Map<String, Object>> order = (a, b) -> 0;
+        if (dtos == null || dtos.isEmpty()) {
+            for (Field field : groupBy) order = order.thenComparing(column(field.jsonName()));
+            return order;
+        }
+        for (AnalyticsOrderDTO dto : dtos) {
+            if (!columns.contains(dto.field())) {
+                throw invalid(Messages.ANALYTICS_ORDER_UNKNOWN, dto.field(), columns);
+            }
+            boolean descending = dto.direction() != null && dto.direction().equalsIgnoreCase("desc");
+            if (dto.direction() != null && !descending && !dto.direction().equalsIgnoreCase("asc")) {
+                throw invalid(Messages.ANALYTICS_UNKNOWN_KEYWORD, dto.direction(), "asc, desc");
+            }
+            Comparator<Map<String, Object>> column = column(dto.field());
+            order = order.thenComparing(descending ? column.reversed() : column);
+        }
+        return order;
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static Comparator<Map<String, Object>> column(String name) {
+        return Comparator.comparing(row -> (Comparable) row.get(name), Comparator.nullsLast(Comparator.naturalOrder()));
+    }
+
+    private static Field field(String name) {
+        return Field.fromJsonName(name).orElseThrow(() -> invalid(Messages.ANALYTICS_UNKNOWN_FIELD, name,
+                Arrays.stream(Field.values()).map(Field::jsonName).toList()));
+    }
+
+    private static <E extends Enum<E>> E parse(Class<E> type, String keyword) {
+        try {
+            return Enum.valueOf(type, String.valueOf(keyword).toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw invalid(Messages.ANALYTICS_UNKNOWN_KEYWORD, keyword,
+                    Arrays.stream(type.getEnumConstants()).map(c -> c.name().toLowerCase(Locale.ROOT)).toList());
+        }
+    }
+
+    private static Object required(Object value, AnalyticsFilterDTO dto) {
+        if (value == null) throw invalid(Messages.ANALYTICS_FILTER_VALUE_MISSING, dto.field(), dto.op());
+        return value;
+    }
+
+    private static double number(Object value, Field field) {
+        if (value instanceof Number number) return number.doubleValue();
+        try {
+            return Double.parseDouble(String.valueOf(value));
+        } catch (NumberFormatException e) {
+            throw invalid(Messages.ANALYTICS_FILTER_NOT_NUMERIC, value, field.jsonName());
+        }
+    }
+
+    private static InvalidQueryException invalid(String format, Object... args) {
+        return new InvalidQueryException(String.format(format, args));
+    }
+}
@@ -0,0 +1,84 @@
+package com.github.souzafcharles.api.endpoint.analytics.columnstore;
+
+import com.github.souzafcharles.api.endpoint.cart.event.CartLineSnapshot;
+import com.github.souzafcharles.api.endpoint.cart.event.CartSnapshot;
+import com.github.souzafcharles.api.utils.IdDictionary;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.BinaryOperator;
+import java.util.function.Function;
+
+/**
+ * Column-oriented copy of tb_cart_product: one primitive array per column,
+ * split into fixed-size {@link Segment}s that queries scan in parallel.
+ * String identifiers are dictionary-encoded. Rows of a cart are tracked so
+ * a changed cart can be tombstoned and re-appended. Not thread-safe; callers
+ * serialize writes against scans.
+ */
+public final class CartLineColumnStore {
+
+    private static final int[] NO_ROWS = new int[0];
+
+    final IdDictionary carts = new IdDictionary();
+    final IdDictionary users = new IdDictionary();
+    final IdDictionary products = new IdDictionary();
+    final IdDictionary categories = new IdDictionary();
+
+    private final List<Segment> segments = new ArrayList<>();
+    private final List<int[]> rowsByCart = new ArrayList<>();
+    private int liveRows;
+
+    public void addLine(String cartId, String userId, String productId, String category, int quantity, double unitPrice) {
+        if (segments.isEmpty() || segments.get(segments.size() - 1).isFull()) {
+            segments.add(new Segment());
+        }
+        int segmentIndex = segments.size() - 1;
+        int cartCode = carts.encode(cartId);
+        int row = segments.get(segmentIndex).append(cartCode, users.encode(userId), products.encode(productId),
+                categories.encode(category), quantity, unitPrice);
+
+        while (rowsByCart.size() <= cartCode) rowsByCart.add(NO_ROWS);
+        int[] rows = rowsByCart.get(cartCode);
+        int[] grown = Arrays.copyOf(rows, rows.length + 1);
+        grown[rows.length] = segmentIndex * Segment.CAPACITY + row;
+        rowsByCart.set(cartCode, grown);
+        liveRows++;
+    }
+
+    public void addCart(CartSnapshot cart) {
+        for (CartLineSnapshot line : cart.lines()) {
+            addLine(cart.cartId(), cart.userId(), line.productId(), line.category(), line.quantity(), line.unitPrice());
+        }
+    }
+
+    public void removeCart(String cartId) {
+        int cartCode = carts.find(cartId);
+        if (cartCode == IdDictionary.ABSENT || cartCode >= rowsByCart.size()) return;
+        for (int globalRow : rowsByCart.get(cartCode)) {
+            segments.get(globalRow / Segment.CAPACITY).deleted.set(globalRow % Segment.CAPACITY);
+        }
+        liveRows -= rowsByCart.get(cartCode).length;
+        rowsByCart.set(cartCode, NO_ROWS);
+    }
+
+    public int liveRows() {
+        return liveRows;
+    }
+
+    public int segmentCount() {
+        return segments.size();
+    }
+
+    /**
+     * Runs {@code perSegment} over every segment in parallel and folds the
+     * partial results with {@code merge}, which may mutate its left argument.
+     */
+    <T> T scan(Function<Segment, T> perSegment, BinaryOperator<T> merge, T empty) {
+        return segments.parallelStream()
+                .map(perSegment)
+                .reduce(merge)
+                .orElse(empty);
+    }
+}
@@ -0,0 +1,73 @@
+package com.github.souzafcharles.api.endpoint.analytics.columnstore;
+
+import com.github.souzafcharles.api.utils.IdDictionary;
+
+import java.util.Arrays;
+import java.util.Optional;
+
+/**
+ * Columns addressable from the query DSL. Dimensions are dictionary-encoded
+ * and can be filtered by equality and grouped on; measures are numeric and
+ * can be aggregated and compared. {@code revenue} is derived as quantity x unit price.
+ */
+public enum Field {
+
+    CART_ID("cartId", true),
+    USER_ID("userId", true),
+    PRODUCT_ID("productId", true),
+    CATEGORY("category", true),
+    QUANTITY("quantity", false),
+    UNIT_PRICE("unitPrice", false),
+    REVENUE("revenue", false);
+
+    private final String jsonName;
+    private final boolean dimension;
+
+    Field(String jsonName, boolean dimension) {
+        this.jsonName = jsonName;
+        this.dimension = dimension;
+    }
+
+    public String jsonName() {
+        return jsonName;
+    }
+
+    public boolean isDimension() {
+        return dimension;
+    }
+
+    public static Optional<Field> fromJsonName(String name) {
+        return Arrays.stream(values())
+                .filter(field -> field.jsonName.equals(name))
+                .findFirst();
+    }
+
+    int code(Segment segment, int row) {
+        return switch (this) {
+            case CART_ID -> segment.cart[row];
+            case USER_ID -> segment.user[row];
+            case PRODUCT_ID -> segment.product[row];
+            case CATEGORY -> segment.category[row];
+            default -> throw new IllegalStateException(jsonName + " is not a dimension");
+        };
+    }
+
+    double value(Segment segment, int row) {
+        return switch (this) {
+            case QUANTITY -> segment.quantity[row];
+            case UNIT_PRICE -> segment.unitPrice[row];
+            case REVENUE -> segment.quantity[row] * segment.unitPrice[row];
+            default -> throw new IllegalStateException(jsonName + " is not a measure");
+        };
+    }
+
+    IdDictionary dictionary(CartLineColumnStore store) {
+        return switch (this) {
+            case CART_ID -> store.carts;
+            case USER_ID -> store.users;
+            case PRODUCT_ID -> store.products;
+            case CATEGORY -> store.categories;
+            default -> throw new IllegalStateException(jsonName + " is not a dimension");
+        };
+    }
+}
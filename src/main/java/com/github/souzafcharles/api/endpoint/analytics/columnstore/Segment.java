@@ -0,0 +1,41 @@
+package com.github.souzafcharles.api.endpoint.analytics.columnstore;
+
+import java.util.BitSet;
+
+/**
+ * A fixed-capacity slice of the column store. Rows are only ever appended;
+ * deletes set a tombstone bit and the space is reclaimed by the next rebuild.
+ */
+final class Segment {
+
+    static final int CAPACITY = 1 << 14;
+
+    final int[] cart = new int[CAPACITY];
+    final int[] user = new int[CAPACITY];
+    final int[] product = new int[CAPACITY];
+    final int[] category = new int[CAPACITY];
+    final int[] quantity = new int[CAPACITY];
+    final double[] unitPrice = new double[CAPACITY];
+    final BitSet deleted = new BitSet(CAPACITY);
+
+    int size;
+
+    boolean isFull() {
+        return size == CAPACITY;
+    }
+
+    int append(int cartCode, int userCode, int productCode, int categoryCode, int qty, double price) {
+        int row = size++;
+        cart[row] = cartCode;
+        user[row] = userCode;
+        product[row] = productCode;
+        category[row] = categoryCode;
+        quantity[row] = qty;
+        unitPrice[row] = price;
+        return row;
+    }
+
+    boolean isLive(int row) {
+        return !deleted.get(row);
+    }
+}
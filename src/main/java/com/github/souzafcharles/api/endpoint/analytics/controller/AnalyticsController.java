@@ -0,0 +1,32 @@
+package com.github.souzafcharles.api.endpoint.analytics.controller;
+
+import com.github.souzafcharles.api.endpoint.analytics.model.dto.AnalyticsQueryDTO;
+import com.github.souzafcharles.api.endpoint.analytics.model.dto.AnalyticsResultDTO;
+import com.github.souzafcharles.api.endpoint.analytics.service.AnalyticsService;
+import com.github.souzafcharles.api.utils.Messages;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/analytics")
+@Tag(name = "Analytics API", description = Messages.ANALYTICS_TAG_DESCRIPTION)
+public class AnalyticsController {
+
+    private final AnalyticsService analyticsService;
+
+    public AnalyticsController(AnalyticsService analyticsService) {
+        this.analyticsService = analyticsService;
+    }
+
+    @PostMapping("/query")
+    @Operation(summary = Messages.ANALYTICS_QUERY_SUMMARY,
+            description = Messages.ANALYTICS_QUERY_DESCRIPTION)
+    public ResponseEntity<AnalyticsResultDTO> query(@RequestBody AnalyticsQueryDTO dto) {
+        return ResponseEntity.ok(analyticsService.query(dto));
+    }
+}
@@ -0,0 +1,9 @@
+package com.github.souzafcharles.api.endpoint.analytics.model.dto;
+
+import java.io.Serializable;
+
+public record AnalyticsAggregateDTO(
+        String fn,
+        String field,
+        String as
+) implements Serializable { }
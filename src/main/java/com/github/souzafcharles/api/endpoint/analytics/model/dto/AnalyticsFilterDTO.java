@@ -0,0 +1,11 @@
+package com.github.souzafcharles.api.endpoint.analytics.model.dto;
+
+import java.io.Serializable;
+import java.util.List;
+
+public record AnalyticsFilterDTO(
+        String field,
+        String op,
+        Object value,
+        List<Object> values
+) implements Serializable { }
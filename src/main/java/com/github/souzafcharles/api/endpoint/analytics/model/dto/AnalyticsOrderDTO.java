@@ -0,0 +1,8 @@
+package com.github.souzafcharles.api.endpoint.analytics.model.dto;
+
+import java.io.Serializable;
+
+public record AnalyticsOrderDTO(
+        String field,
+        String direction
+) implements Serializable { }
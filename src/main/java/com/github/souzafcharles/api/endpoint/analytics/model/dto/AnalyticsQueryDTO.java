@@ -0,0 +1,12 @@
+package com.github.souzafcharles.api.endpoint.analytics.model.dto;
+
+import java.io.Serializable;
+import java.util.List;
+
+public record AnalyticsQueryDTO(
+        List<AnalyticsFilterDTO> filters,
+        List<String> groupBy,
+        List<AnalyticsAggregateDTO> aggregates,
+        List<AnalyticsOrderDTO> orderBy,
+        Integer limit
+) implements Serializable { }
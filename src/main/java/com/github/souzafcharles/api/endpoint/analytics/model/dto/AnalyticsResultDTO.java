@@ -0,0 +1,12 @@
+package com.github.souzafcharles.api.endpoint.analytics.model.dto;
+
+import java.io.Serializable;
+import java.util.List;
+import java.util.Map;
+
+public record AnalyticsResultDTO(
+        List<Map<String, Object>> rows,
+        Long matchedRows,
+        Long scannedRows,
+        Long elapsedMicros
+) implements Serializable { }
@@ -0,0 +1,131 @@
+package com.github.souzafcharles.api.endpoint.analytics.service;
+
+import com.github.souzafcharles.api.endpoint.analytics.columnstore.AnalyticsQuery;
+import com.github.souzafcharles.api.endpoint.analytics.columnstore.CartLineColumnStore;
+import com.github.souzafcharles.api.endpoint.analytics.model.dto.AnalyticsQueryDTO;
+import com.github.souzafcharles.api.endpoint.analytics.model.dto.AnalyticsResultDTO;
+import com.github.souzafcharles.api.endpoint.cart.event.CartChangedEvent;
+import com.github.souzafcharles.api.endpoint.cartproduct.repository.CartProductRepository;
+import com.github.souzafcharles.api.endpoint.export.model.dto.CartLineExportDTO;
+import com.github.souzafcharles.api.initializer.SeedingFinishedEvent;
+import com.github.souzafcharles.api.utils.Messages;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.Stream;
+
+/**
+ * Answers {@link AnalyticsQueryDTO}s from a {@link CartLineColumnStore}.
+ * The store is rebuilt from tb_cart_product at startup and on a fixed delay,
+ * which also reclaims tombstoned rows, and patched from {@link CartChangedEvent}s
+ * in between, including those published when a product's price or category
+ * changes. Events arriving while a rebuild is scanning are replayed onto the
+ * new store before it is swapped in.
+ */
+@Service
+public class AnalyticsService {
+
+    private static final Logger log = LoggerFactory.getLogger(AnalyticsService.class);
+
+    private final CartProductRepository cartProductRepository;
+    private final TransactionTemplate readOnlyTransaction;
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final ReentrantLock rebuildLock = new ReentrantLock();
+
+    private CartLineColumnStore store = new CartLineColumnStore();
+    private List<CartChangedEvent> pending;
+
+    public AnalyticsService(CartProductRepository cartProductRepository, PlatformTransactionManager transactionManager) {
+        this.cartProductRepository = cartProductRepository;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+    }
+
+    public AnalyticsResultDTO query(AnalyticsQueryDTO dto) {
+        AnalyticsResultDTO result;
+        lock.readLock().lock();
+        try {
+            result = AnalyticsQuery.compile(dto, store).execute();
+        } finally {
+            lock.readLock().unlock();
+        }
+        log.debug(Messages.ANALYTICS_QUERY_EXECUTED, result.rows().size(), result.matchedRows(), result.elapsedMicros());
+        return result;
+    }
+
+    @EventListener(SeedingFinishedEvent.class)
+    @Scheduled(fixedDelayString = "${store.analytics.rebuild-interval:PT30M}",
+            initialDelayString = "${store.analytics.rebuild-interval:PT30M}")
+    public void rebuild() {
+        rebuildLock.lock();
+        try {
+            scanAndSwap();
+        } finally {
+            rebuildLock.unlock();
+        }
+    }
+
+    private void scanAndSwap() {
+        lock.writeLock().lock();
+        try {
+            pending = new ArrayList<>();
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        long start = System.nanoTime();
+        CartLineColumnStore rebuilt = new CartLineColumnStore();
+        boolean scanned = false;
+        try {
+            readOnlyTransaction.executeWithoutResult(status -> {
+                try (Stream<CartLineExportDTO> lines = cartProductRepository.streamCartLines()) {
+                    lines.forEach(line -> rebuilt.addLine(line.cartId(), line.userId(), line.productId(), line.category(),
+                            line.quantity() != null ? line.quantity() : 0,
+                            line.unitPrice() != null ? line.unitPrice() : 0.0));
+                }
+            });
+            scanned = true;
+        } finally {
+            lock.writeLock().lock();
+            try {
+                if (scanned) {
+                    pending.forEach(event -> apply(rebuilt, event));
+                    store = rebuilt;
+                }
+                pending = null;
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+        log.info(Messages.ANALYTICS_STORE_REBUILT, rebuilt.liveRows(), rebuilt.segmentCount(),
+                TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCartChanged(CartChangedEvent event) {
+        lock.writeLock().lock();
+        try {
+            apply(store, event);
+            if (pending != null) pending.add(event);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private static void apply(CartLineColumnStore target, CartChangedEvent event) {
+        target.removeCart(event.cartId());
+        if (event.after() != null) target.addCart(event.after());
+    }
+}
@@ -3,7 +3,9 @@ package com.github.souzafcharles.api.endpoint.cart.controller;
 import com.github.souzafcharles.api.endpoint.cart.model.dto.CartRequestDTO;
 import com.github.souzafcharles.api.endpoint.cart.model.dto.CartResponseDTO;
 import com.github.souzafcharles.api.endpoint.cart.service.CartService;
+import com.github.souzafcharles.api.endpoint.export.service.NdjsonStreamingService;
 import com.github.souzafcharles.api.utils.Messages;
+import com.github.souzafcharles.api.utils.SelfLinkTemplate;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
@@ -13,8 +15,10 @@ import org.springframework.hateoas.EntityModel;
 import org.springframework.hateoas.PagedModel;
 import org.springframework.hateoas.server.mvc.WebMvcLinkBuilder;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.util.List;
 
@@ -23,10 +27,15 @@ import java.util.List;
 @Tag(name = "Cart API", description = Messages.CART_TAG_DESCRIPTION)
 public class CartController {
 
+    private static final SelfLinkTemplate SELF_LINK =
+            SelfLinkTemplate.of(id -> WebMvcLinkBuilder.methodOn(CartController.class).getById(id));
+
     private final CartService cartService;
+    private final NdjsonStreamingService ndjsonStreamingService;
 
-    public CartController(CartService cartService) {
+    public CartController(CartService cartService, NdjsonStreamingService ndjsonStreamingService) {
         this.cartService = cartService;
+        this.ndjsonStreamingService = ndjsonStreamingService;
     }
 
     @GetMapping
@@ -36,11 +45,7 @@ public class CartController {
             PagedResourcesAssembler<CartResponseDTO> assembler
     ) {
         var page = cartService.getAllCarts(pageable);
-        var model = assembler.toModel(page, cart ->
-                EntityModel.of(cart, WebMvcLinkBuilder.linkTo(
-                        WebMvcLinkBuilder.methodOn(CartController.class).getById(cart.id())
-                ).withSelfRel())
-        );
+        var model = assembler.toModel(page, SELF_LINK.forPage(CartResponseDTO::id));
         return page.isEmpty()
                 ? ResponseEntity.noContent().build()
                 : ResponseEntity.ok(model);
@@ -81,12 +86,24 @@ public class CartController {
         return ResponseEntity.ok(cartService.getCartsByUserId(userId));
     }
 
+    @GetMapping(value = "/user/{userId}", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    @Operation(summary = Messages.CART_BY_USER_SUMMARY, description = Messages.CART_BY_USER_DESCRIPTION)
+    public ResponseEntity<StreamingResponseBody> streamByUserId(@PathVariable String userId) {
+        return ndjsonStreamingService.stream(CartResponseDTO.class, () -> cartService.streamCartsByUserId(userId));
+    }
+
     @GetMapping("/product/{productId}")
     @Operation(summary = Messages.CART_BY_PRODUCT_SUMMARY, description = Messages.CART_BY_PRODUCT_DESCRIPTION)
     public ResponseEntity<List<CartResponseDTO>> getByProductId(@PathVariable String productId) {
         return ResponseEntity.ok(cartService.getCartsByProductId(productId));
     }
 
+    @GetMapping(value = "/product/{productId}", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    @Operation(summary = Messages.CART_BY_PRODUCT_SUMMARY, description = Messages.CART_BY_PRODUCT_DESCRIPTION)
+    public ResponseEntity<StreamingResponseBody> streamByProductId(@PathVariable String productId) {
+        return ndjsonStreamingService.stream(CartResponseDTO.class, () -> cartService.streamCartsByProductId(productId));
+    }
+
     @GetMapping("/user/{userId}/total-products")
     @Operation(summary = Messages.CART_TOTAL_PRODUCTS_SUMMARY, description = Messages.CART_TOTAL_PRODUCTS_DESCRIPTION)
     public ResponseEntity<Long> getTotalProductsForUser(@PathVariable String userId) {
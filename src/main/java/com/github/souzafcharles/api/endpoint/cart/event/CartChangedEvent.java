@@ -0,0 +1,24 @@
+package com.github.souzafcharles.api.endpoint.cart.event;
+
+/**
+ * Published by every service write that changes the contents of a cart.
+ * {@code before} is {@code null} for a created cart and {@code after} is
+ * {@code null} for a deleted one. In-memory analytics listen to it after
+ * commit to stay in sync between full rebuilds.
+ */
+public record CartChangedEvent(
+        CartSnapshot before,
+        CartSnapshot after
+) {
+    public static CartChangedEvent created(CartSnapshot after) {
+        return new CartChangedEvent(null, after);
+    }
+
+    public static CartChangedEvent deleted(CartSnapshot before) {
+        return new CartChangedEvent(before, null);
+    }
+
+    public String cartId() {
+        return after != null ? after.cartId() : before.cartId();
+    }
+}
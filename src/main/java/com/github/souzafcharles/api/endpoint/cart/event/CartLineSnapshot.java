@@ -0,0 +1,19 @@
+package com.github.souzafcharles.api.endpoint.cart.event;
+
+import com.github.souzafcharles.api.endpoint.cartproduct.model.entity.CartProduct;
+
+public record CartLineSnapshot(
+        String productId,
+        String category,
+        int quantity,
+        double unitPrice
+) {
+    public CartLineSnapshot(CartProduct cartProduct) {
+        this(
+                cartProduct.getProduct().getId(),
+                cartProduct.getProduct().getCategory(),
+                cartProduct.getQuantity() != null ? cartProduct.getQuantity() : 0,
+                cartProduct.getProduct().getPrice() != null ? cartProduct.getProduct().getPrice() : 0.0
+        );
+    }
+}
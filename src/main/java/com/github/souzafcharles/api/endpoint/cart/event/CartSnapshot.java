@@ -0,0 +1,31 @@
+package com.github.souzafcharles.api.endpoint.cart.event;
+
+import com.github.souzafcharles.api.endpoint.cart.model.entity.Cart;
+
+import java.util.List;
+
+/**
+ * Immutable copy of a cart's contents taken inside the writing transaction,
+ * so listeners never touch lazy entity state after commit.
+ */
+public record CartSnapshot(
+        String cartId,
+        String userId,
+        List<CartLineSnapshot> lines
+) {
+    public CartSnapshot(Cart cart) {
+        this(
+                cart.getId(),
+                cart.getUser() != null ? cart.getUser().getId() : null,
+                cart.getCartProducts().stream()
+                        .map(CartLineSnapshot::new)
+                        .toList()
+        );
+    }
+
+    public CartSnapshot withoutProduct(String productId) {
+        return new CartSnapshot(cartId, userId, lines.stream()
+                .filter(line -> !line.productId().equals(productId))
+                .toList());
+    }
+}
@@ -1,27 +1,38 @@
 package com.github.souzafcharles.api.endpoint.cart.initializer;
 
 import com.github.souzafcharles.api.endpoint.cart.model.entity.Cart;
+import com.github.souzafcharles.api.endpoint.cartproduct.model.dto.CartProductResponseDTO;
 import com.github.souzafcharles.api.endpoint.cartproduct.model.entity.CartProduct;
 import com.github.souzafcharles.api.endpoint.cart.model.dto.CartResponseDTO;
 import com.github.souzafcharles.api.endpoint.cart.repository.CartRepository;
-import com.github.souzafcharles.api.client.FakeStoreClient;
-import com.github.souzafcharles.api.endpoint.product.model.entity.Product;
 import com.github.souzafcharles.api.endpoint.product.repository.ProductRepository;
-import com.github.souzafcharles.api.endpoint.user.model.entity.User;
 import com.github.souzafcharles.api.endpoint.user.repository.UserRepository;
 import com.github.souzafcharles.api.utils.Messages;
-import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManager;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
-import org.springframework.context.annotation.DependsOn;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
-import java.util.Arrays;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
 import java.util.List;
-import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
 
+/**
+ * Maps Fake Store carts onto the users and products already saved. The ids a
+ * payload refers to are checked with one {@code IN} query per
+ * {@code store.seed.cart-batch-size} ids instead of a lookup per cart and
+ * line, and entities are wired to {@code getReferenceById} proxies so nothing
+ * is loaded. Carts are persisted (not merged, which would select each one
+ * first) in transactions of the same size, which Hibernate sends as JDBC
+ * batches.
+ */
 @Component
-@DependsOn({"userDataInitializer", "productDataInitializer"})
 public class CartDataInitializer {
 
     private static final Logger log = LoggerFactory.getLogger(CartDataInitializer.class);
@@ -29,70 +40,114 @@ public class CartDataInitializer {
     private final CartRepository cartRepository;
     private final ProductRepository productRepository;
     private final UserRepository userRepository;
-    private final FakeStoreClient fakeStoreClient;
+    private final EntityManager entityManager;
+    private final TransactionTemplate transaction;
+    private final int batchSize;
 
     public CartDataInitializer(CartRepository cartRepository,
                                ProductRepository productRepository,
                                UserRepository userRepository,
-                               FakeStoreClient fakeStoreClient) {
+                               EntityManager entityManager,
+                               PlatformTransactionManager transactionManager,
+                               @Value("${store.seed.cart-batch-size:500}") int batchSize) {
         this.cartRepository = cartRepository;
         this.productRepository = productRepository;
         this.userRepository = userRepository;
-        this.fakeStoreClient = fakeStoreClient;
+        this.entityManager = entityManager;
+        this.transaction = new TransactionTemplate(transactionManager);
+        this.batchSize = batchSize;
     }
 
-    @PostConstruct
-    public void init() {
+    public boolean isInitialized() {
         if (cartRepository.count() > 0) {
             log.info(Messages.CART_ALREADY_INITIALIZED);
-            return;
+            return true;
         }
+        return false;
+    }
 
-        CartResponseDTO[] carts = fakeStoreClient.getAllCarts().block();
-        if (carts == null || carts.length == 0) {
+    /**
+     * Saves one chunk of the streamed payload; called repeatedly until the
+     * stream ends. Must run after the users and products the carts refer to
+     * are saved.
+     */
+    public int save(List<CartResponseDTO> carts) {
+        if (carts == null || carts.isEmpty()) {
             log.warn(Messages.CART_NO_RETURNED);
-            return;
+            return 0;
+        }
+
+        Set<String> userIds = new HashSet<>();
+        Set<String> productIds = new HashSet<>();
+        for (CartResponseDTO dto : carts) {
+            userIds.add(dto.userId());
+            dto.products().forEach(line -> productIds.add(line.productId()));
+        }
+        Set<String> knownUsers = existing(userIds, userRepository::findIdsByIdIn);
+        Set<String> knownProducts = existing(productIds, productRepository::findIdsByIdIn);
+
+        List<CartResponseDTO> valid = new ArrayList<>(carts.size());
+        for (CartResponseDTO dto : carts) {
+            if (!knownUsers.contains(dto.userId())) {
+                log.warn(Messages.CART_IGNORED_USER_NOT_FOUND, dto.id(), dto.userId());
+                continue;
+            }
+            List<CartProductResponseDTO> lines = dto.products().stream()
+                    .filter(line -> {
+                        if (knownProducts.contains(line.productId())) return true;
+                        log.warn(Messages.CART_PRODUCT_IGNORED, dto.id(), line.productId());
+                        return false;
+                    })
+                    .toList();
+            valid.add(lines.size() == dto.products().size() ? dto : new CartResponseDTO(dto.id(), dto.userId(), lines));
         }
 
-        List<Cart> entities = Arrays.stream(carts)
-                .map(dto -> {
-                    User user = userRepository.findById(dto.userId()).orElse(null);
-                    if (user == null) {
-                        log.warn(Messages.CART_IGNORED_USER_NOT_FOUND, dto.id(), dto.userId());
-                        return null;
-                    }
-
-                    Cart cart = new Cart();
-                    cart.setId(dto.id());
-                    cart.setUser(user);
-
-                    List<CartProduct> cartProducts = dto.products().stream()
-                            .map(p -> {
-                                Product product = productRepository.findById(p.productId()).orElse(null);
-                                if (product == null) {
-                                    log.warn(Messages.CART_PRODUCT_IGNORED, dto.id(), p.productId());
-                                    return null;
-                                }
-                                CartProduct cartProduct = new CartProduct();
-                                cartProduct.setCart(cart);
-                                cartProduct.setProduct(product);
-                                cartProduct.setQuantity(p.quantity());
-                                return cartProduct;
-                            })
-                            .filter(Objects::nonNull)
-                            .toList();
-
-                    cart.setCartProducts(cartProducts);
-                    return cart;
-                })
-                .filter(Objects::nonNull)
-                .toList();
-
-        if (!entities.isEmpty()) {
-            cartRepository.saveAll(entities);
-            log.info(Messages.CART_SAVED_SUCCESS, entities.size());
-        } else {
+        if (valid.isEmpty()) {
             log.warn(Messages.CART_NO_VALID);
+            return 0;
+        }
+
+        int batches = (valid.size() + batchSize - 1) / batchSize;
+        for (int batch = 0; batch < batches; batch++) {
+            List<CartResponseDTO> chunk = valid.subList(batch * batchSize, Math.min(valid.size(), (batch + 1) * batchSize));
+            transaction.executeWithoutResult(status -> chunk.forEach(dto -> entityManager.persist(toEntity(dto))));
+            log.debug(Messages.CART_SAVED_BATCH, batch + 1, batches, chunk.size());
+        }
+        log.debug(Messages.CART_SAVED_SUCCESS, valid.size());
+        return valid.size();
+    }
+
+    /** Deletes partially seeded carts and their lines, so the next start seeds them again. */
+    public void clear() {
+        transaction.executeWithoutResult(status -> {
+            entityManager.createQuery("DELETE FROM CartProduct").executeUpdate();
+            entityManager.createQuery("DELETE FROM Cart").executeUpdate();
+        });
+    }
+
+    private Cart toEntity(CartResponseDTO dto) {
+        Cart cart = new Cart();
+        cart.setId(dto.id());
+        cart.setUser(userRepository.getReferenceById(dto.userId()));
+
+        List<CartProduct> cartProducts = new ArrayList<>(dto.products().size());
+        for (CartProductResponseDTO line : dto.products()) {
+            CartProduct cartProduct = new CartProduct();
+            cartProduct.setCart(cart);
+            cartProduct.setProduct(productRepository.getReferenceById(line.productId()));
+            cartProduct.setQuantity(line.quantity());
+            cartProducts.add(cartProduct);
+        }
+        cart.setCartProducts(cartProducts);
+        return cart;
+    }
+
+    private Set<String> existing(Collection<String> ids, Function<Collection<String>, List<String>> lookup) {
+        List<String> pending = new ArrayList<>(ids);
+        Set<String> found = new HashSet<>(pending.size());
+        for (int from = 0; from < pending.size(); from += batchSize) {
+            found.addAll(lookup.apply(pending.subList(from, Math.min(pending.size(), from + batchSize))));
         }
+        return found;
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,16 @@
+package com.github.souzafcharles.api.endpoint.cart.model.dto;
+
+import java.io.Serializable;
+
+/**
+ * One row of a cart joined with one of its lines. The product columns are
+ * null for a cart without lines.
+ */
+public record CartLineRowDTO(
+        String cartId,
+        String userId,
+        String productId,
+        String productTitle,
+        Double productPrice,
+        Integer quantity
+) implements Serializable { }
@@ -14,7 +14,7 @@ public record CartResponseDTO(
     public CartResponseDTO(Cart cart) {
         this(
                 cart.getId(),
-                cart.getUser().getId(),
+                cart.getUser() != null ? cart.getUser().getId() : null,
                 cart.getCartProducts().stream()
                         .map(CartProductResponseDTO::new)
                         .toList()
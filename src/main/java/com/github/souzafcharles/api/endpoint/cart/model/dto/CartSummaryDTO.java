@@ -0,0 +1,22 @@
+package com.github.souzafcharles.api.endpoint.cart.model.dto;
+
+import com.github.souzafcharles.api.endpoint.cart.model.projection.CartSummaryView;
+
+import java.io.Serializable;
+import java.time.Instant;
+
+public record CartSummaryDTO(
+        String id,
+        Instant createdAt,
+        long totalItems,
+        double totalValue
+) implements Serializable {
+    public CartSummaryDTO(CartSummaryView view) {
+        this(
+                view.getId(),
+                view.getCreatedAt(),
+                view.getTotalItems(),
+                view.getTotalValue()
+        );
+    }
+}
@@ -4,6 +4,7 @@ import com.github.souzafcharles.api.endpoint.cartproduct.model.entity.CartProduc
 import com.github.souzafcharles.api.endpoint.user.model.entity.User;
 import jakarta.persistence.*;
 
+import java.time.Instant;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.UUID;
@@ -19,6 +20,9 @@ public class Cart {
     @JoinColumn(name = "user_id")
     private User user;
 
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private Instant createdAt;
+
     @OneToMany(mappedBy = "cart", cascade = CascadeType.ALL, orphanRemoval = true)
     private List<CartProduct> cartProducts = new ArrayList<>();
 
@@ -27,6 +31,9 @@ public class Cart {
         if (this.id == null) {
             this.id = UUID.randomUUID().toString();
         }
+        if (this.createdAt == null) {
+            this.createdAt = Instant.now();
+        }
     }
 
     public String getId() {
@@ -45,6 +52,14 @@ public class Cart {
         this.user = user;
     }
 
+    public Instant getCreatedAt() {
+        return createdAt;
+    }
+
+    public void setCreatedAt(Instant createdAt) {
+        this.createdAt = createdAt;
+    }
+
     public List<CartProduct> getCartProducts() {
         return cartProducts;
     }
@@ -0,0 +1,10 @@
+package com.github.souzafcharles.api.endpoint.cart.model.projection;
+
+import java.time.Instant;
+
+public interface CartSummaryView {
+    String getId();
+    Instant getCreatedAt();
+    Long getTotalItems();
+    Double getTotalValue();
+}
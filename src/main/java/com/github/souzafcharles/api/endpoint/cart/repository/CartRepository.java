@@ -1,14 +1,76 @@
 package com.github.souzafcharles.api.endpoint.cart.repository;
 
+import com.github.souzafcharles.api.endpoint.cart.model.dto.CartLineRowDTO;
 import com.github.souzafcharles.api.endpoint.cart.model.entity.Cart;
+import com.github.souzafcharles.api.endpoint.cart.model.projection.CartSummaryView;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
+import java.util.stream.Stream;
 
 @Repository
 public interface CartRepository extends JpaRepository<Cart, String> {
 
     List<Cart> findByUserId(String userId);
     List<Cart> findByCartProductsProductId(String productId);
+
+    @Query("""
+        SELECT c.id AS id,
+               c.createdAt AS createdAt,
+               COALESCE(SUM(cp.quantity), 0) AS totalItems,
+               COALESCE(SUM(cp.quantity * p.price), 0) AS totalValue
+        FROM Cart c
+        LEFT JOIN c.cartProducts cp
+        LEFT JOIN cp.product p
+        WHERE c.user.id = :userId
+        GROUP BY c.id, c.createdAt
+        ORDER BY c.createdAt DESC, c.id DESC
+    """)
+    List<CartSummaryView> findRecentSummariesByUserId(@Param("userId") String userId, Pageable pageable);
+
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT c.id, u.id FROM Cart c LEFT JOIN c.user u")
+    Stream<Object[]> streamIdsWithUserRaw();
+
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("""
+        SELECT new com.github.souzafcharles.api.endpoint.cart.model.dto.CartLineRowDTO(
+               c.id, u.id, p.id, p.title, p.price, cp.quantity)
+        FROM Cart c
+        LEFT JOIN c.user u
+        LEFT JOIN c.cartProducts cp
+        LEFT JOIN cp.product p
+        WHERE u.id = :userId
+        ORDER BY c.id
+    """)
+    Stream<CartLineRowDTO> streamLinesByUserId(@Param("userId") String userId);
+
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("""
+        SELECT new com.github.souzafcharles.api.endpoint.cart.model.dto.CartLineRowDTO(
+               c.id, u.id, p.id, p.title, p.price, cp.quantity)
+        FROM Cart c
+        LEFT JOIN c.user u
+        JOIN c.cartProducts cp
+        JOIN cp.product p
+        WHERE c.id IN (SELECT match.cart.id FROM CartProduct match WHERE match.product.id = :productId)
+        ORDER BY c.id
+    """)
+    Stream<CartLineRowDTO> streamLinesByProductId(@Param("productId") String productId);
 }
@@ -1,14 +1,19 @@
 package com.github.souzafcharles.api.endpoint.cart.service;
 
+import com.github.souzafcharles.api.endpoint.cart.event.CartChangedEvent;
+import com.github.souzafcharles.api.endpoint.cart.event.CartSnapshot;
+import com.github.souzafcharles.api.endpoint.cart.model.dto.CartLineRowDTO;
 import com.github.souzafcharles.api.endpoint.cart.model.dto.CartRequestDTO;
 import com.github.souzafcharles.api.endpoint.cart.model.dto.CartResponseDTO;
 import com.github.souzafcharles.api.endpoint.cart.model.entity.Cart;
 import com.github.souzafcharles.api.endpoint.cart.repository.CartRepository;
+import com.github.souzafcharles.api.endpoint.cartproduct.model.dto.CartProductResponseDTO;
 import com.github.souzafcharles.api.endpoint.cartproduct.model.entity.CartProduct;
 import com.github.souzafcharles.api.endpoint.product.repository.ProductRepository;
 import com.github.souzafcharles.api.endpoint.user.repository.UserRepository;
 import com.github.souzafcharles.api.exceptions.custom.DatabaseException;
 import com.github.souzafcharles.api.exceptions.custom.ResourceNotFoundException;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
@@ -16,7 +21,14 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.Iterator;
 import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 @Service
 @Transactional
@@ -25,13 +37,16 @@ public class CartService {
     private final CartRepository cartRepository;
     private final UserRepository userRepository;
     private final ProductRepository productRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     public CartService(CartRepository cartRepository,
                        UserRepository userRepository,
-                       ProductRepository productRepository) {
+                       ProductRepository productRepository,
+                       ApplicationEventPublisher eventPublisher) {
         this.cartRepository = cartRepository;
         this.userRepository = userRepository;
         this.productRepository = productRepository;
+        this.eventPublisher = eventPublisher;
     }
 
     public Page<CartResponseDTO> getAllCarts(Pageable pageable) {
@@ -58,7 +73,9 @@ public class CartService {
         cart.setUser(user);
         cart.setCartProducts(buildCartProducts(cart, dto));
 
-        return new CartResponseDTO(cartRepository.save(cart));
+        Cart saved = cartRepository.save(cart);
+        eventPublisher.publishEvent(CartChangedEvent.created(new CartSnapshot(saved)));
+        return new CartResponseDTO(saved);
     }
 
     public CartResponseDTO updateCart(String id, CartRequestDTO dto) {
@@ -68,10 +85,13 @@ public class CartService {
         var user = userRepository.findById(dto.userId())
                 .orElseThrow(() -> ResourceNotFoundException.forUser(dto.userId()));
 
+        CartSnapshot before = new CartSnapshot(cart);
         cart.setUser(user);
         cart.setCartProducts(buildCartProducts(cart, dto));
 
-        return new CartResponseDTO(cartRepository.save(cart));
+        Cart saved = cartRepository.save(cart);
+        eventPublisher.publishEvent(new CartChangedEvent(before, new CartSnapshot(saved)));
+        return new CartResponseDTO(saved);
     }
 
     private List<CartProduct> buildCartProducts(Cart cart, CartRequestDTO dto) {
@@ -91,11 +111,13 @@ public class CartService {
     public void deleteCart(String id) {
         Cart cart = cartRepository.findById(id)
                 .orElseThrow(() -> ResourceNotFoundException.forCart(id));
+        CartSnapshot before = new CartSnapshot(cart);
         try {
             cartRepository.delete(cart);
         } catch (DataIntegrityViolationException e) {
             throw new DatabaseException(e.getMessage());
         }
+        eventPublisher.publishEvent(CartChangedEvent.deleted(before));
     }
 
     public List<CartResponseDTO> getCartsByUserId(String userId) {
@@ -110,6 +132,21 @@ public class CartService {
                 .toList();
     }
 
+    /**
+     * Streams the user's carts, ordered by id, folding consecutive joined rows
+     * into one cart at a time. Must be consumed and closed inside the caller's
+     * transaction.
+     */
+    @Transactional(readOnly = true)
+    public Stream<CartResponseDTO> streamCartsByUserId(String userId) {
+        return groupByCart(cartRepository.streamLinesByUserId(userId));
+    }
+
+    @Transactional(readOnly = true)
+    public Stream<CartResponseDTO> streamCartsByProductId(String productId) {
+        return groupByCart(cartRepository.streamLinesByProductId(productId));
+    }
+
     public long getTotalProductsForUser(String userId) {
         return cartRepository.findByUserId(userId).stream()
                 .flatMap(c -> c.getCartProducts().stream())
@@ -125,4 +162,36 @@ public class CartService {
                 .map(CartResponseDTO::new)
                 .toList();
     }
-}
\ No newline at end of file
+
+    /** Rows must arrive ordered by cart id; only the cart being assembled is held in memory. */
+    private static Stream<CartResponseDTO> groupByCart(Stream<CartLineRowDTO> rows) {
+        Iterator<CartLineRowDTO> it = rows.iterator();
+        Iterator<CartResponseDTO> carts = new Iterator<>() {
+            private CartLineRowDTO pending = it.hasNext() ? it.next() : null;
+
+            @Override
+            public boolean hasNext() {
+                return pending != null;
+            }
+
+            @Override
+            public CartResponseDTO next() {
+                if (pending == null) throw new NoSuchElementException();
+                CartLineRowDTO first = pending;
+                List<CartProductResponseDTO> products = new ArrayList<>();
+                CartLineRowDTO row = first;
+                do {
+                    if (row.productId() != null) {
+                        products.add(new CartProductResponseDTO(
+                                row.productId(), row.productTitle(), row.productPrice(), row.quantity()));
+                    }
+                    row = it.hasNext() ? it.next() : null;
+                } while (row != null && row.cartId().equals(first.cartId()));
+                pending = row;
+                return new CartResponseDTO(first.cartId(), first.userId(), products);
+            }
+        };
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(carts, Spliterator.ORDERED), false)
+                .onClose(rows::close);
+    }
+}
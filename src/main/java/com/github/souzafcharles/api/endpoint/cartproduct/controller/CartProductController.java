@@ -4,13 +4,17 @@ import com.github.souzafcharles.api.endpoint.cartproduct.model.dto.CartProductRe
 import com.github.souzafcharles.api.endpoint.cartproduct.model.dto.CartProductResponseDTO;
 import com.github.souzafcharles.api.endpoint.cartproduct.model.dto.ProductSalesDTO;
 import com.github.souzafcharles.api.endpoint.cartproduct.service.CartProductService;
+import com.github.souzafcharles.api.endpoint.export.service.NdjsonStreamingService;
+import com.github.souzafcharles.api.exceptions.custom.InvalidQueryException;
 import com.github.souzafcharles.api.utils.Messages;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.util.List;
 import java.util.Map;
@@ -21,9 +25,11 @@ import java.util.Map;
 public class CartProductController {
 
     private final CartProductService cartProductService;
+    private final NdjsonStreamingService ndjsonStreamingService;
 
-    public CartProductController(CartProductService cartProductService) {
+    public CartProductController(CartProductService cartProductService, NdjsonStreamingService ndjsonStreamingService) {
         this.cartProductService = cartProductService;
+        this.ndjsonStreamingService = ndjsonStreamingService;
     }
 
     @PostMapping("/{cartId}")
@@ -66,6 +72,15 @@ public class CartProductController {
         return ResponseEntity.ok(cartProductService.getMostSoldProducts(topN));
     }
 
+    @GetMapping(value = "/analytics/most-sold", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    @Operation(summary = Messages.CART_PRODUCT_MOST_SOLD_SUMMARY,
+            description = Messages.CART_PRODUCT_MOST_SOLD_DESCRIPTION)
+    public ResponseEntity<StreamingResponseBody> streamMostSoldProducts(
+            @RequestParam(defaultValue = "5") int topN
+    ) {
+        return streamMostSold(null, topN);
+    }
+
     @GetMapping("/analytics/most-sold-by-category")
     @Operation(summary = "Most Sold Products by Category",
             description = "Get the top N most sold products filtered by category")
@@ -76,6 +91,16 @@ public class CartProductController {
         return ResponseEntity.ok(cartProductService.getMostSoldProductsByCategory(category, topN));
     }
 
+    @GetMapping(value = "/analytics/most-sold-by-category", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    @Operation(summary = "Most Sold Products by Category",
+            description = "Get the top N most sold products filtered by category")
+    public ResponseEntity<StreamingResponseBody> streamMostSoldProductsByCategory(
+            @RequestParam String category,
+            @RequestParam(defaultValue = "5") int topN
+    ) {
+        return streamMostSold(category, topN);
+    }
+
     @GetMapping("/analytics/revenue")
     @Operation(summary = Messages.CART_PRODUCT_REVENUE_SUMMARY,
             description = Messages.CART_PRODUCT_REVENUE_DESCRIPTION)
@@ -96,4 +121,21 @@ public class CartProductController {
     public ResponseEntity<List<String>> getCartsContainingProduct(@PathVariable String productId) {
         return ResponseEntity.ok(cartProductService.getCartsContainingProduct(productId));
     }
+
+    @GetMapping(value = "/analytics/carts-by-product/{productId}", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    @Operation(summary = Messages.CART_PRODUCT_CARTS_BY_PRODUCT_SUMMARY,
+            description = Messages.CART_PRODUCT_CARTS_BY_PRODUCT_DESCRIPTION)
+    public ResponseEntity<StreamingResponseBody> streamCartsContainingProduct(@PathVariable String productId) {
+        return ndjsonStreamingService.stream(String.class,
+                () -> cartProductService.streamCartsContainingProduct(productId));
+    }
+
+    // Checked here rather than in the stream: once rows are being written the status is already sent.
+    private ResponseEntity<StreamingResponseBody> streamMostSold(String category, int topN) {
+        if (topN < 0) {
+            throw new InvalidQueryException(String.format(Messages.CART_PRODUCT_TOP_N_NEGATIVE, topN));
+        }
+        return ndjsonStreamingService.stream(ProductSalesDTO.class,
+                () -> cartProductService.streamMostSoldProducts(category, topN));
+    }
 }
@@ -0,0 +1,7 @@
+package com.github.souzafcharles.api.endpoint.cartproduct.model.projection;
+
+public interface UserSpendView {
+    String getUserId();
+    Long getTotalItems();
+    Double getTotalValue();
+}
@@ -4,11 +4,17 @@ import com.github.souzafcharles.api.endpoint.cartproduct.model.entity.CartProduc
 import com.github.souzafcharles.api.endpoint.cartproduct.model.entity.CartProductId;
 import com.github.souzafcharles.api.endpoint.cartproduct.model.projection.CartProductView;
 import com.github.souzafcharles.api.endpoint.cartproduct.model.projection.ProductSalesView;
+import com.github.souzafcharles.api.endpoint.cartproduct.model.projection.UserSpendView;
+import com.github.souzafcharles.api.endpoint.export.model.dto.CartLineExportDTO;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 
 import java.util.List;
+import java.util.stream.Stream;
 
 public interface CartProductRepository extends JpaRepository<CartProduct, CartProductId> {
 
@@ -50,6 +56,15 @@ public interface CartProductRepository extends JpaRepository<CartProduct, CartPr
     """)
     List<Object[]> findRevenuePerProductRaw();
 
+    @Query("""
+        SELECT cp.cart.user.id AS userId,
+               SUM(cp.quantity) AS totalItems,
+               SUM(cp.quantity * cp.product.price) AS totalValue
+        FROM CartProduct cp
+        GROUP BY cp.cart.user.id
+    """)
+    List<UserSpendView> findSpendPerUser();
+
     @Query("SELECT SUM(cp.quantity) FROM CartProduct cp")
     Long countTotalItems();
 
@@ -59,4 +74,48 @@ public interface CartProductRepository extends JpaRepository<CartProduct, CartPr
         WHERE cp.product.id = :productId
     """)
     List<String> findCartsByProductId(@Param("productId") String productId);
+
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("""
+        SELECT new com.github.souzafcharles.api.endpoint.export.model.dto.CartLineExportDTO(
+               cp.cart.id, cp.cart.user.id, cp.product.id, cp.product.category, cp.quantity, cp.product.price)
+        FROM CartProduct cp
+    """)
+    Stream<CartLineExportDTO> streamCartLines();
+
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT cp.cart.id, cp.product.id FROM CartProduct cp ORDER BY cp.cart.id")
+    Stream<Object[]> streamCartProductPairsRaw();
+
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("""
+        SELECT cp.product.id AS productId,
+               cp.product.title AS title,
+               SUM(cp.quantity) AS totalSold
+        FROM CartProduct cp
+        WHERE (:category IS NULL OR cp.product.category = :category)
+        GROUP BY cp.product.id, cp.product.title
+        ORDER BY SUM(cp.quantity) DESC
+    """)
+    Stream<ProductSalesView> streamMostSoldProductsByCategory(@Param("category") String category);
+
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("""
+        SELECT DISTINCT cp.cart.id
+        FROM CartProduct cp
+        WHERE cp.product.id = :productId
+    """)
+    Stream<String> streamCartsByProductId(@Param("productId") String productId);
 }
@@ -1,5 +1,7 @@
 package com.github.souzafcharles.api.endpoint.cartproduct.service;
 
+import com.github.souzafcharles.api.endpoint.cart.event.CartChangedEvent;
+import com.github.souzafcharles.api.endpoint.cart.event.CartSnapshot;
 import com.github.souzafcharles.api.endpoint.cart.model.entity.Cart;
 import com.github.souzafcharles.api.endpoint.cart.repository.CartRepository;
 import com.github.souzafcharles.api.endpoint.cartproduct.model.dto.CartProductRequestDTO;
@@ -11,12 +13,14 @@ import com.github.souzafcharles.api.endpoint.cartproduct.model.projection.CartPr
 import com.github.souzafcharles.api.endpoint.product.model.entity.Product;
 import com.github.souzafcharles.api.endpoint.product.repository.ProductRepository;
 import com.github.souzafcharles.api.exceptions.custom.ResourceNotFoundException;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Service
 @Transactional
@@ -25,13 +29,19 @@ public class CartProductService {
     private final CartRepository cartRepository;
     private final ProductRepository productRepository;
     private final com.github.souzafcharles.api.endpoint.cartproduct.repository.CartProductRepository cartProductRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TotalItemsCounter totalItemsCounter;
 
     public CartProductService(CartRepository cartRepository,
                               ProductRepository productRepository,
-                              com.github.souzafcharles.api.endpoint.cartproduct.repository.CartProductRepository cartProductRepository) {
+                              com.github.souzafcharles.api.endpoint.cartproduct.repository.CartProductRepository cartProductRepository,
+                              ApplicationEventPublisher eventPublisher,
+                              TotalItemsCounter totalItemsCounter) {
         this.cartRepository = cartRepository;
         this.productRepository = productRepository;
         this.cartProductRepository = cartProductRepository;
+        this.eventPublisher = eventPublisher;
+        this.totalItemsCounter = totalItemsCounter;
     }
 
     public CartProductResponseDTO addProductToCart(String cartId, CartProductRequestDTO dto) {
@@ -41,6 +51,7 @@ public class CartProductService {
         Product product = productRepository.findById(dto.productId())
                 .orElseThrow(() -> ResourceNotFoundException.forProduct(dto.productId()));
 
+        CartSnapshot before = new CartSnapshot(cart);
         CartProduct cartProduct = cart.getCartProducts().stream()
                 .filter(cp -> cp.getProduct().getId().equals(product.getId()))
                 .findFirst()
@@ -55,6 +66,7 @@ public class CartProductService {
 
         cartProduct.setQuantity((cartProduct.getQuantity() == null ? 0 : cartProduct.getQuantity()) + dto.quantity());
         cartRepository.save(cart);
+        eventPublisher.publishEvent(new CartChangedEvent(before, new CartSnapshot(cart)));
 
         return new CartProductResponseDTO(cartProduct);
     }
@@ -63,10 +75,12 @@ public class CartProductService {
         Cart cart = cartRepository.findById(cartId)
                 .orElseThrow(() -> ResourceNotFoundException.forCart(cartId));
 
+        CartSnapshot before = new CartSnapshot(cart);
         boolean removed = cart.getCartProducts().removeIf(cp -> cp.getProduct().getId().equals(productId));
         if (!removed) throw ResourceNotFoundException.forProduct(productId);
 
         cartRepository.save(cart);
+        eventPublisher.publishEvent(new CartChangedEvent(before, new CartSnapshot(cart)));
     }
 
     public List<CartProductResponseDTO> getProductsInCart(String cartId) {
@@ -90,6 +104,18 @@ public class CartProductService {
                 .collect(Collectors.toList());
     }
 
+    /**
+     * Top sellers, optionally within one category, read from a forward-only
+     * stream that is closed after {@code topN} rows. Must be consumed and
+     * closed inside the caller's transaction.
+     */
+    @Transactional(readOnly = true)
+    public Stream<ProductSalesDTO> streamMostSoldProducts(String category, int topN) {
+        return cartProductRepository.streamMostSoldProductsByCategory(category)
+                .limit(topN)
+                .map(v -> new ProductSalesDTO(v.getProductId(), v.getTitle(), v.getTotalSold()));
+    }
+
     public Map<String, Double> getRevenuePerProduct() {
         return cartProductRepository.findRevenuePerProductRaw().stream()
                 .collect(Collectors.toMap(
@@ -99,11 +125,15 @@ public class CartProductService {
     }
 
     public long getTotalItemsInCarts() {
-        Long count = cartProductRepository.countTotalItems();
-        return count == null ? 0 : count;
+        return totalItemsCounter.get();
     }
 
     public List<String> getCartsContainingProduct(String productId) {
         return cartProductRepository.findCartsByProductId(productId);
     }
+
+    @Transactional(readOnly = true)
+    public Stream<String> streamCartsContainingProduct(String productId) {
+        return cartProductRepository.streamCartsByProductId(productId);
+    }
 }
@@ -0,0 +1,67 @@
+package com.github.souzafcharles.api.endpoint.cartproduct.service;
+
+import com.github.souzafcharles.api.endpoint.cart.event.CartChangedEvent;
+import com.github.souzafcharles.api.endpoint.cart.event.CartLineSnapshot;
+import com.github.souzafcharles.api.endpoint.cart.event.CartSnapshot;
+import com.github.souzafcharles.api.endpoint.cartproduct.repository.CartProductRepository;
+import com.github.souzafcharles.api.initializer.SeedingFinishedEvent;
+import com.github.souzafcharles.api.utils.Messages;
+import com.github.souzafcharles.api.utils.ReconciledCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * In-memory SUM(quantity) over tb_cart_product, adjusted from {@link CartChangedEvent}s
+ * after commit and reconciled against the database on a fixed delay.
+ */
+@Component
+public class TotalItemsCounter {
+
+    private static final Logger log = LoggerFactory.getLogger(TotalItemsCounter.class);
+    private static final String NAME = "total-items";
+
+    private final CartProductRepository cartProductRepository;
+    private final ReconciledCounter counter;
+
+    public TotalItemsCounter(CartProductRepository cartProductRepository, MeterRegistry meterRegistry) {
+        this.cartProductRepository = cartProductRepository;
+        this.counter = new ReconciledCounter(NAME, meterRegistry);
+    }
+
+    public long get() {
+        return counter.get();
+    }
+
+    @EventListener(SeedingFinishedEvent.class)
+    public void seed() {
+        counter.reset(queryTotalItems());
+        log.info(Messages.COUNTER_SEEDED, NAME, counter.get());
+    }
+
+    @Scheduled(fixedDelayString = "${store.counters.reconcile-interval:PT5M}",
+            initialDelayString = "${store.counters.reconcile-interval:PT5M}")
+    public void reconcile() {
+        long drift = counter.reconcile(this::queryTotalItems);
+        if (drift != 0) log.warn(Messages.COUNTER_DRIFT_CORRECTED, NAME, drift, counter.get());
+    }
+
+    /** Runs at publish time, inside the writer's transaction, so the delta is tracked until it commits. */
+    @EventListener
+    public void onCartChanged(CartChangedEvent event) {
+        counter.addAfterCommit(quantity(event.after()) - quantity(event.before()));
+    }
+
+    private long queryTotalItems() {
+        Long total = cartProductRepository.countTotalItems();
+        return total == null ? 0 : total;
+    }
+
+    private static long quantity(CartSnapshot cart) {
+        if (cart == null) return 0;
+        return cart.lines().stream().mapToLong(CartLineSnapshot::quantity).sum();
+    }
+}
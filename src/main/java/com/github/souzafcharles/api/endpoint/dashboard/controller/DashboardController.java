@@ -0,0 +1,30 @@
+package com.github.souzafcharles.api.endpoint.dashboard.controller;
+
+import com.github.souzafcharles.api.endpoint.dashboard.model.dto.DashboardDTO;
+import com.github.souzafcharles.api.endpoint.dashboard.service.DashboardService;
+import com.github.souzafcharles.api.utils.Messages;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/dashboard")
+@Tag(name = "Dashboard API", description = Messages.DASHBOARD_TAG_DESCRIPTION)
+public class DashboardController {
+
+    private final DashboardService dashboardService;
+
+    public DashboardController(DashboardService dashboardService) {
+        this.dashboardService = dashboardService;
+    }
+
+    @GetMapping
+    @Operation(summary = Messages.DASHBOARD_SUMMARY,
+            description = Messages.DASHBOARD_DESCRIPTION)
+    public ResponseEntity<DashboardDTO> getDashboard() {
+        return ResponseEntity.ok(dashboardService.getDashboard());
+    }
+}
@@ -0,0 +1,10 @@
+package com.github.souzafcharles.api.endpoint.dashboard.model.dto;
+
+import java.io.Serializable;
+import java.util.Map;
+
+public record DashboardDTO(
+        Boolean complete,
+        Long elapsedMillis,
+        Map<String, DashboardSectionDTO> sections
+) implements Serializable { }
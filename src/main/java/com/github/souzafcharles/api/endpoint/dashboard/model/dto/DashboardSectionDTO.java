@@ -0,0 +1,21 @@
+package com.github.souzafcharles.api.endpoint.dashboard.model.dto;
+
+import java.io.Serializable;
+
+public record DashboardSectionDTO(
+        Status status,
+        Object data,
+        String error,
+        Long elapsedMillis
+) implements Serializable {
+
+    public enum Status { OK, TIMEOUT, ERROR }
+
+    public static DashboardSectionDTO ok(Object data, long elapsedMillis) {
+        return new DashboardSectionDTO(Status.OK, data, null, elapsedMillis);
+    }
+
+    public static DashboardSectionDTO failed(Status status, String error) {
+        return new DashboardSectionDTO(status, null, error, null);
+    }
+}
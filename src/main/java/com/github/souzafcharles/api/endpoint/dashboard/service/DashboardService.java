@@ -0,0 +1,102 @@
+package com.github.souzafcharles.api.endpoint.dashboard.service;
+
+import com.github.souzafcharles.api.endpoint.cartproduct.service.CartProductService;
+import com.github.souzafcharles.api.endpoint.dashboard.model.dto.DashboardDTO;
+import com.github.souzafcharles.api.endpoint.dashboard.model.dto.DashboardSectionDTO;
+import com.github.souzafcharles.api.endpoint.product.service.ProductService;
+import com.github.souzafcharles.api.endpoint.user.service.UserService;
+import com.github.souzafcharles.api.utils.Messages;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+/**
+ * Builds the admin dashboard by running every section concurrently, one
+ * virtual thread each, so the response takes about as long as the slowest
+ * section. Each section runs in its own service transaction and must finish
+ * within {@code store.dashboard.section-timeout}. A slow or failing section is
+ * reported with a marker instead of failing the whole dashboard.
+ */
+@Service
+public class DashboardService {
+
+    private static final Logger log = LoggerFactory.getLogger(DashboardService.class);
+    private static final int TOP_N = 5;
+
+    private record Timed(Object data, long elapsedNanos) { }
+
+    private final Map<String, Supplier<Object>> sections = new LinkedHashMap<>();
+    private final ExecutorService executor =
+            Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("dashboard-", 0).factory());
+    private final Duration sectionTimeout;
+
+    public DashboardService(ProductService productService,
+                            CartProductService cartProductService,
+                            UserService userService,
+                            @Value("${store.dashboard.section-timeout:PT2S}") Duration sectionTimeout) {
+        this.sectionTimeout = sectionTimeout;
+        sections.put("mostSold", () -> cartProductService.getMostSoldProducts(TOP_N));
+        sections.put("revenuePerProduct", cartProductService::getRevenuePerProduct);
+        sections.put("totalItems", cartProductService::getTotalItemsInCarts);
+        sections.put("averagePricePerCategory", productService::getAveragePricePerCategory);
+        sections.put("topExpensive", () -> productService.getTopExpensiveProducts(TOP_N));
+        sections.put("topCheapest", () -> productService.getTopCheapestProducts(TOP_N));
+        sections.put("userCount", userService::countUsers);
+    }
+
+    public DashboardDTO getDashboard() {
+        long start = System.nanoTime();
+        long deadline = start + sectionTimeout.toNanos();
+
+        Map<String, Future<Timed>> running = new LinkedHashMap<>();
+        sections.forEach((name, section) -> running.put(name, executor.submit(() -> {
+            long sectionStart = System.nanoTime();
+            Object data = section.get();
+            return new Timed(data, System.nanoTime() - sectionStart);
+        })));
+
+        Map<String, DashboardSectionDTO> results = new LinkedHashMap<>();
+        running.forEach((name, future) -> results.put(name, await(name, future, deadline)));
+
+        boolean complete = results.values().stream()
+                .allMatch(section -> section.status() == DashboardSectionDTO.Status.OK);
+        return new DashboardDTO(complete, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start), results);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    private DashboardSectionDTO await(String name, Future<Timed> future, long deadline) {
+        try {
+            Timed timed = future.get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+            return DashboardSectionDTO.ok(timed.data(), TimeUnit.NANOSECONDS.toMillis(timed.elapsedNanos()));
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            log.warn(Messages.DASHBOARD_SECTION_TIMED_OUT, name, sectionTimeout.toMillis());
+            return DashboardSectionDTO.failed(DashboardSectionDTO.Status.TIMEOUT,
+                    String.format(Messages.DASHBOARD_SECTION_TIMEOUT_ERROR, sectionTimeout.toMillis()));
+        } catch (ExecutionException e) {
+            log.warn(Messages.DASHBOARD_SECTION_FAILED, name, e.getCause().toString());
+            return DashboardSectionDTO.failed(DashboardSectionDTO.Status.ERROR, e.getCause().getMessage());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            future.cancel(true);
+            return DashboardSectionDTO.failed(DashboardSectionDTO.Status.ERROR, e.toString());
+        }
+    }
+}
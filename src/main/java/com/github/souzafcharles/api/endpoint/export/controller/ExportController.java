@@ -0,0 +1,95 @@
+package com.github.souzafcharles.api.endpoint.export.controller;
+
+import com.github.souzafcharles.api.endpoint.export.service.ExportService;
+import com.github.souzafcharles.api.endpoint.export.writer.ExportFormat;
+import com.github.souzafcharles.api.utils.Messages;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Locale;
+import java.util.zip.GZIPOutputStream;
+
+@RestController
+@RequestMapping("/exports")
+@Tag(name = "Export API", description = Messages.EXPORT_TAG_DESCRIPTION)
+public class ExportController {
+
+    private static final int GZIP_BUFFER_SIZE = 64 * 1024;
+
+    private final ExportService exportService;
+
+    public ExportController(ExportService exportService) {
+        this.exportService = exportService;
+    }
+
+    @GetMapping("/cart-lines")
+    @Operation(summary = Messages.EXPORT_CART_LINES_SUMMARY, description = Messages.EXPORT_CART_LINES_DESCRIPTION)
+    public ResponseEntity<StreamingResponseBody> exportCartLines(
+            @RequestParam(defaultValue = "csv") String format,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding
+    ) {
+        return export("cart-lines", format, acceptEncoding, exportService::exportCartLines);
+    }
+
+    @GetMapping("/products")
+    @Operation(summary = Messages.EXPORT_PRODUCTS_SUMMARY, description = Messages.EXPORT_PRODUCTS_DESCRIPTION)
+    public ResponseEntity<StreamingResponseBody> exportProducts(
+            @RequestParam(defaultValue = "csv") String format,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding
+    ) {
+        return export("products", format, acceptEncoding, exportService::exportProducts);
+    }
+
+    @GetMapping("/users")
+    @Operation(summary = Messages.EXPORT_USERS_SUMMARY, description = Messages.EXPORT_USERS_DESCRIPTION)
+    public ResponseEntity<StreamingResponseBody> exportUsers(
+            @RequestParam(defaultValue = "csv") String format,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding
+    ) {
+        return export("users", format, acceptEncoding, exportService::exportUsers);
+    }
+
+    private ResponseEntity<StreamingResponseBody> export(String name, String format, String acceptEncoding,
+                                                         Exporter exporter) {
+        ExportFormat exportFormat = ExportFormat.fromParameter(format);
+        boolean gzip = acceptEncoding != null && acceptEncoding.toLowerCase(Locale.ROOT).contains("gzip");
+
+        StreamingResponseBody body = out -> {
+            if (gzip) {
+                GZIPOutputStream compressed = new GZIPOutputStream(out, GZIP_BUFFER_SIZE);
+                exporter.export(exportFormat, compressed);
+                compressed.finish();
+            } else {
+                exporter.export(exportFormat, out);
+            }
+        };
+
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                .contentType(exportFormat.getMediaType())
+                .header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING)
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                        .filename(name + "." + exportFormat.getExtension())
+                        .build()
+                        .toString());
+        if (gzip) {
+            response.header(HttpHeaders.CONTENT_ENCODING, "gzip");
+        }
+        return response.body(body);
+    }
+
+    @FunctionalInterface
+    private interface Exporter {
+        long export(ExportFormat format, OutputStream out) throws IOException;
+    }
+}
@@ -0,0 +1,12 @@
+package com.github.souzafcharles.api.endpoint.export.model.dto;
+
+import java.io.Serializable;
+
+public record CartLineExportDTO(
+        String cartId,
+        String userId,
+        String productId,
+        String category,
+        Integer quantity,
+        Double unitPrice
+) implements Serializable { }
@@ -0,0 +1,80 @@
+package com.github.souzafcharles.api.endpoint.export.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.souzafcharles.api.endpoint.cartproduct.repository.CartProductRepository;
+import com.github.souzafcharles.api.endpoint.export.model.dto.CartLineExportDTO;
+import com.github.souzafcharles.api.endpoint.export.writer.ExportFormat;
+import com.github.souzafcharles.api.endpoint.export.writer.RowWriter;
+import com.github.souzafcharles.api.endpoint.product.model.dto.ProductResponseDTO;
+import com.github.souzafcharles.api.endpoint.product.repository.ProductRepository;
+import com.github.souzafcharles.api.endpoint.user.model.dto.UserResponseDTO;
+import com.github.souzafcharles.api.endpoint.user.repository.UserRepository;
+import com.github.souzafcharles.api.utils.Messages;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+/**
+ * Streams whole tables to an output stream. Rows come from forward-only,
+ * read-only repository streams of DTO projections, so nothing is attached to
+ * the persistence context and memory stays flat regardless of table size.
+ * Methods must be called on the thread that writes the response, since the
+ * JDBC cursor lives in that thread's transaction.
+ */
+@Service
+@Transactional(readOnly = true)
+public class ExportService {
+
+    private static final Logger log = LoggerFactory.getLogger(ExportService.class);
+
+    private final CartProductRepository cartProductRepository;
+    private final ProductRepository productRepository;
+    private final UserRepository userRepository;
+    private final ObjectMapper objectMapper;
+
+    public ExportService(CartProductRepository cartProductRepository,
+                         ProductRepository productRepository,
+                         UserRepository userRepository,
+                         ObjectMapper objectMapper) {
+        this.cartProductRepository = cartProductRepository;
+        this.productRepository = productRepository;
+        this.userRepository = userRepository;
+        this.objectMapper = objectMapper;
+    }
+
+    public long exportCartLines(ExportFormat format, OutputStream out) throws IOException {
+        try (Stream<CartLineExportDTO> rows = cartProductRepository.streamCartLines()) {
+            return write("cart-lines", format, CartLineExportDTO.class, rows, out);
+        }
+    }
+
+    public long exportProducts(ExportFormat format, OutputStream out) throws IOException {
+        try (Stream<ProductResponseDTO> rows = productRepository.streamAllAsDto()) {
+            return write("products", format, ProductResponseDTO.class, rows, out);
+        }
+    }
+
+    public long exportUsers(ExportFormat format, OutputStream out) throws IOException {
+        try (Stream<UserResponseDTO> rows = userRepository.streamAllAsDto()) {
+            return write("users", format, UserResponseDTO.class, rows, out);
+        }
+    }
+
+    private <T extends Record> long write(String name, ExportFormat format, Class<T> type,
+                                          Stream<T> rows, OutputStream out) throws IOException {
+        RowWriter<T> writer = format.writer(type, objectMapper, out);
+        long count = 0;
+        for (Iterator<T> it = rows.iterator(); it.hasNext(); count++) {
+            writer.write(it.next());
+        }
+        writer.finish();
+        log.info(Messages.EXPORT_COMPLETED, name, count, format);
+        return count;
+    }
+}
@@ -0,0 +1,71 @@
+package com.github.souzafcharles.api.endpoint.export.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.souzafcharles.api.endpoint.export.writer.NdjsonRowWriter;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.Iterator;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+/**
+ * Serves list endpoints as {@code application/x-ndjson}. The rows supplier is
+ * only invoked once the response body is being written, inside a read-only
+ * transaction on that thread, so repository streams keep their JDBC cursor
+ * open while rows are written out one at a time. The first row is flushed as
+ * soon as it is written; the rest go out as the output buffer fills.
+ */
+@Service
+public class NdjsonStreamingService {
+
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate readOnlyTransaction;
+
+    public NdjsonStreamingService(ObjectMapper objectMapper, PlatformTransactionManager transactionManager) {
+        this.objectMapper = objectMapper;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+    }
+
+    public <T> ResponseEntity<StreamingResponseBody> stream(Class<T> type, Supplier<Stream<T>> rows) {
+        StreamingResponseBody body = out -> {
+            try {
+                readOnlyTransaction.executeWithoutResult(status -> {
+                    try (Stream<T> stream = rows.get()) {
+                        write(type, stream, out);
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                });
+            } catch (UncheckedIOException e) {
+                throw e.getCause();
+            }
+        };
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(body);
+    }
+
+    <T> long write(Class<T> type, Stream<T> rows, OutputStream out) throws IOException {
+        Iterator<T> it = rows.iterator();
+        if (!it.hasNext()) return 0;
+
+        NdjsonRowWriter<T> writer = new NdjsonRowWriter<>(objectMapper, type, out);
+        writer.write(it.next());
+        writer.flush();
+        long count = 1;
+        for (; it.hasNext(); count++) {
+            writer.write(it.next());
+        }
+        writer.finish();
+        return count;
+    }
+}
@@ -0,0 +1,56 @@
+package com.github.souzafcharles.api.endpoint.export.writer;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.souzafcharles.api.exceptions.custom.InvalidQueryException;
+import com.github.souzafcharles.api.utils.Messages;
+import org.springframework.http.MediaType;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Arrays;
+import java.util.Locale;
+
+public enum ExportFormat {
+
+    CSV(new MediaType("text", "csv"), "csv") {
+        @Override
+        public <T extends Record> RowWriter<T> writer(Class<T> type, ObjectMapper objectMapper, OutputStream out)
+                throws IOException {
+            return new CsvRowWriter<>(type, out);
+        }
+    },
+    NDJSON(MediaType.APPLICATION_NDJSON, "ndjson") {
+        @Override
+        public <T extends Record> RowWriter<T> writer(Class<T> type, ObjectMapper objectMapper, OutputStream out)
+                throws IOException {
+            return new NdjsonRowWriter<>(objectMapper, type, out);
+        }
+    };
+
+    private final MediaType mediaType;
+    private final String extension;
+
+    ExportFormat(MediaType mediaType, String extension) {
+        this.mediaType = mediaType;
+        this.extension = extension;
+    }
+
+    public abstract <T extends Record> RowWriter<T> writer(Class<T> type, ObjectMapper objectMapper, OutputStream out)
+            throws IOException;
+
+    public MediaType getMediaType() {
+        return mediaType;
+    }
+
+    public String getExtension() {
+        return extension;
+    }
+
+    public static ExportFormat fromParameter(String value) {
+        return Arrays.stream(values())
+                .filter(format -> format.extension.equals(value.toLowerCase(Locale.ROOT)))
+                .findFirst()
+                .orElseThrow(() -> new InvalidQueryException(String.format(
+                        Messages.EXPORT_FORMAT_UNSUPPORTED, value, Arrays.toString(values()).toLowerCase(Locale.ROOT))));
+    }
+}
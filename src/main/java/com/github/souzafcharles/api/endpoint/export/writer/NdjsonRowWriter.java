@@ -0,0 +1,46 @@
+package com.github.souzafcharles.api.endpoint.export.writer;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * Newline-delimited JSON writer: one JSON document per line, all written
+ * through a single generator so the output buffer is reused across rows.
+ */
+public class NdjsonRowWriter<T> implements RowWriter<T> {
+
+    private final JsonGenerator generator;
+    private final ObjectWriter writer;
+    private boolean empty = true;
+
+    public NdjsonRowWriter(ObjectMapper objectMapper, Class<T> type, OutputStream out) throws IOException {
+        this.generator = objectMapper.getFactory().createGenerator(out);
+        this.generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+        this.generator.setRootValueSeparator(new SerializedString("\n"));
+        this.writer = objectMapper.writerFor(type).without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+    }
+
+    @Override
+    public void write(T row) throws IOException {
+        writer.writeValue(generator, row);
+        empty = false;
+    }
+
+    /** Pushes buffered rows to the underlying stream without ending the output. */
+    public void flush() throws IOException {
+        generator.flush();
+    }
+
+    @Override
+    public void finish() throws IOException {
+        // Terminates the last line only; an empty export stays empty rather than one blank record.
+        if (!empty) generator.writeRaw('\n');
+        generator.flush();
+    }
+}
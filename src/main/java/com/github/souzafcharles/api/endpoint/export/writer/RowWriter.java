@@ -0,0 +1,18 @@
+package com.github.souzafcharles.api.endpoint.export.writer;
+
+import java.io.IOException;
+
+/**
+ * Writes export rows one at a time to an underlying stream, never holding more
+ * than the current row in memory.
+ */
+public interface RowWriter<T> {
+
+    void write(T row) throws IOException;
+
+    /**
+     * Flushes buffered output without closing the underlying stream, which is
+     * owned by the servlet container.
+     */
+    void finish() throws IOException;
+}
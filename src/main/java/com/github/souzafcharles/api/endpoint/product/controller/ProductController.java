@@ -1,9 +1,13 @@
 package com.github.souzafcharles.api.endpoint.product.controller;
 
+import com.github.souzafcharles.api.endpoint.export.service.NdjsonStreamingService;
+import com.github.souzafcharles.api.endpoint.product.model.dto.BoughtTogetherDTO;
 import com.github.souzafcharles.api.endpoint.product.model.dto.ProductRequestDTO;
 import com.github.souzafcharles.api.endpoint.product.model.dto.ProductResponseDTO;
+import com.github.souzafcharles.api.endpoint.product.service.BoughtTogetherService;
 import com.github.souzafcharles.api.endpoint.product.service.ProductService;
 import com.github.souzafcharles.api.utils.Messages;
+import com.github.souzafcharles.api.utils.SelfLinkTemplate;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
@@ -13,8 +17,10 @@ import org.springframework.hateoas.EntityModel;
 import org.springframework.hateoas.PagedModel;
 import org.springframework.hateoas.server.mvc.WebMvcLinkBuilder;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.util.List;
 import java.util.Map;
@@ -24,10 +30,18 @@ import java.util.Map;
 @Tag(name = "Product API", description = Messages.PRODUCT_TAG_DESCRIPTION)
 public class ProductController {
 
+    private static final SelfLinkTemplate SELF_LINK =
+            SelfLinkTemplate.of(id -> WebMvcLinkBuilder.methodOn(ProductController.class).getById(id));
+
     private final ProductService productService;
+    private final BoughtTogetherService boughtTogetherService;
+    private final NdjsonStreamingService ndjsonStreamingService;
 
-    public ProductController(ProductService productService) {
+    public ProductController(ProductService productService, BoughtTogetherService boughtTogetherService,
+                             NdjsonStreamingService ndjsonStreamingService) {
         this.productService = productService;
+        this.boughtTogetherService = boughtTogetherService;
+        this.ndjsonStreamingService = ndjsonStreamingService;
     }
 
     @GetMapping
@@ -35,11 +49,7 @@ public class ProductController {
     public ResponseEntity<PagedModel<EntityModel<ProductResponseDTO>>> getAll(
             Pageable pageable, PagedResourcesAssembler<ProductResponseDTO> assembler) {
         var page = productService.getAllProducts(pageable);
-        var model = assembler.toModel(page, product ->
-                EntityModel.of(product,
-                        WebMvcLinkBuilder.linkTo(WebMvcLinkBuilder.methodOn(ProductController.class)
-                                .getById(product.id())).withSelfRel())
-        );
+        var model = assembler.toModel(page, SELF_LINK.forPage(ProductResponseDTO::id));
         return page.isEmpty() ? ResponseEntity.noContent().build() : ResponseEntity.ok(model);
     }
 
@@ -74,6 +84,13 @@ public class ProductController {
         return ResponseEntity.ok(productService.searchProducts(keyword));
     }
 
+    @GetMapping(value = "/search", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    @Operation(summary = Messages.PRODUCT_SEARCH_SUMMARY, description = Messages.PRODUCT_SEARCH_DESCRIPTION)
+    public ResponseEntity<StreamingResponseBody> streamSearch(@RequestParam String keyword) {
+        return ndjsonStreamingService.stream(ProductResponseDTO.class,
+                () -> productService.streamProductsByKeyword(keyword));
+    }
+
     @GetMapping("/top-expensive")
     @Operation(summary = Messages.PRODUCT_TOP_EXPENSIVE_SUMMARY, description = Messages.PRODUCT_TOP_EXPENSIVE_DESCRIPTION)
     public ResponseEntity<List<ProductResponseDTO>> topExpensive(@RequestParam(defaultValue = "5") int topN) {
@@ -97,4 +114,17 @@ public class ProductController {
     public ResponseEntity<List<ProductResponseDTO>> productsByPriceRange(@RequestParam Double min, @RequestParam Double max) {
         return ResponseEntity.ok(productService.getProductsByPriceRange(min, max));
     }
+
+    @GetMapping(value = "/price-range", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    @Operation(summary = Messages.PRODUCT_PRICE_RANGE_SUMMARY, description = Messages.PRODUCT_PRICE_RANGE_DESCRIPTION)
+    public ResponseEntity<StreamingResponseBody> streamProductsByPriceRange(@RequestParam Double min, @RequestParam Double max) {
+        return ndjsonStreamingService.stream(ProductResponseDTO.class,
+                () -> productService.streamProductsByPriceRange(min, max));
+    }
+
+    @GetMapping("/{id}/bought-together")
+    @Operation(summary = Messages.PRODUCT_BOUGHT_TOGETHER_SUMMARY, description = Messages.PRODUCT_BOUGHT_TOGETHER_DESCRIPTION)
+    public ResponseEntity<List<BoughtTogetherDTO>> boughtTogether(@PathVariable String id, @RequestParam(defaultValue = "5") int limit) {
+        return ResponseEntity.ok(boughtTogetherService.getBoughtTogether(id, limit));
+    }
 }
\ No newline at end of file
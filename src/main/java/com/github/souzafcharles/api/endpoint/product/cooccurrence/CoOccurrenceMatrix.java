@@ -0,0 +1,153 @@
+package com.github.souzafcharles.api.endpoint.product.cooccurrence;
+
+import com.github.souzafcharles.api.utils.IdDictionary;
+import com.github.souzafcharles.api.utils.IntIntHashMap;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * Sparse, symmetric product x product matrix counting how many carts contain
+ * each pair of products. Product ids are dictionary-encoded to dense ints and
+ * every row is a primitive {@link IntIntHashMap}, so a cell costs two ints.
+ * Not thread-safe: callers guard reads and writes.
+ */
+public class CoOccurrenceMatrix {
+
+    private static final int MIN_BASKETS_PER_TASK = 1024;
+    private static final int TASKS_PER_WORKER = 4;
+
+    private final IdDictionary products;
+    private final List<IntIntHashMap> rows;
+
+    public CoOccurrenceMatrix() {
+        this(new IdDictionary(), new ArrayList<>());
+    }
+
+    private CoOccurrenceMatrix(IdDictionary products, List<IntIntHashMap> rows) {
+        this.products = products;
+        this.rows = rows;
+    }
+
+    /**
+     * Builds the matrix from baskets of product codes issued by {@code products}.
+     * Basket ranges are counted into private rows by fork/join workers and merged
+     * pairwise on the way back up, so no locking is needed during the build.
+     */
+    public static CoOccurrenceMatrix build(IdDictionary products, int[][] baskets, ForkJoinPool pool) {
+        int threshold = Math.max(MIN_BASKETS_PER_TASK,
+                baskets.length / (pool.getParallelism() * TASKS_PER_WORKER));
+        IntIntHashMap[] rows = pool.invoke(new BuildTask(baskets, 0, baskets.length, products.size(), threshold));
+        return new CoOccurrenceMatrix(products, new ArrayList<>(Arrays.asList(rows)));
+    }
+
+    public void addBasket(Collection<String> productIds) {
+        apply(productIds, 1);
+    }
+
+    public void removeBasket(Collection<String> productIds) {
+        apply(productIds, -1);
+    }
+
+    public List<Partner> topPartners(String productId, int limit) {
+        int code = products.find(productId);
+        if (code == IdDictionary.ABSENT || code >= rows.size() || rows.get(code) == null) {
+            return List.of();
+        }
+
+        IntIntHashMap row = rows.get(code);
+        PriorityQueue<Partner> top = new PriorityQueue<>(Math.min(limit, row.size()) + 1);
+        row.forEach((partner, count) -> {
+            if (top.size() < limit || count > top.peek().count()) {
+                top.offer(new Partner(products.decode(partner), count));
+                if (top.size() > limit) top.poll();
+            }
+        });
+
+        List<Partner> result = new ArrayList<>(top);
+        result.sort(Comparator.reverseOrder());
+        return result;
+    }
+
+    private void apply(Collection<String> productIds, int delta) {
+        int[] basket = productIds.stream()
+                .distinct()
+                .mapToInt(products::encode)
+                .toArray();
+        while (rows.size() < products.size()) rows.add(null);
+        for (int a : basket) {
+            for (int b : basket) {
+                if (a == b) continue;
+                IntIntHashMap row = rows.get(a);
+                if (row == null) rows.set(a, row = new IntIntHashMap());
+                row.addTo(b, delta);
+            }
+        }
+    }
+
+    public record Partner(String productId, int count) implements Comparable<Partner> {
+        @Override
+        public int compareTo(Partner other) {
+            return Integer.compare(count, other.count);
+        }
+    }
+
+    private static final class BuildTask extends RecursiveTask<IntIntHashMap[]> {
+
+        private final int[][] baskets;
+        private final int from;
+        private final int to;
+        private final int productCount;
+        private final int threshold;
+
+        private BuildTask(int[][] baskets, int from, int to, int productCount, int threshold) {
+            this.baskets = baskets;
+            this.from = from;
+            this.to = to;
+            this.productCount = productCount;
+            this.threshold = threshold;
+        }
+
+        @Override
+        protected IntIntHashMap[] compute() {
+            if (to - from <= threshold) {
+                return count();
+            }
+            int middle = (from + to) >>> 1;
+            BuildTask left = new BuildTask(baskets, from, middle, productCount, threshold);
+            left.fork();
+            IntIntHashMap[] right = new BuildTask(baskets, middle, to, productCount, threshold).compute();
+            return merge(left.join(), right);
+        }
+
+        private IntIntHashMap[] count() {
+            IntIntHashMap[] rows = new IntIntHashMap[productCount];
+            for (int i = from; i < to; i++) {
+                int[] basket = baskets[i];
+                for (int a : basket) {
+                    IntIntHashMap row = rows[a];
+                    if (row == null) rows[a] = row = new IntIntHashMap();
+                    for (int b : basket) {
+                        if (a != b) row.addTo(b, 1);
+                    }
+                }
+            }
+            return rows;
+        }
+
+        private static IntIntHashMap[] merge(IntIntHashMap[] into, IntIntHashMap[] from) {
+            for (int i = 0; i < into.length; i++) {
+                if (from[i] == null) continue;
+                if (into[i] == null) into[i] = from[i];
+                else into[i].addAll(from[i]);
+            }
+            return into;
+        }
+    }
+}
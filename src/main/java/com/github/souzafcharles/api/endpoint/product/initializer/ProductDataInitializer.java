@@ -1,16 +1,13 @@
 package com.github.souzafcharles.api.endpoint.product.initializer;
 
-import com.github.souzafcharles.api.client.FakeStoreClient;
 import com.github.souzafcharles.api.endpoint.product.model.dto.ProductResponseDTO;
 import com.github.souzafcharles.api.endpoint.product.model.entity.Product;
 import com.github.souzafcharles.api.endpoint.product.repository.ProductRepository;
 import com.github.souzafcharles.api.utils.Messages;
-import jakarta.annotation.PostConstruct;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Component;
 
-import java.util.Arrays;
 import java.util.List;
 
 @Component("productDataInitializer")
@@ -19,27 +16,27 @@ public class ProductDataInitializer {
     private static final Logger log = LoggerFactory.getLogger(ProductDataInitializer.class);
 
     private final ProductRepository productRepository;
-    private final FakeStoreClient fakeStoreClient;
 
-    public ProductDataInitializer(ProductRepository productRepository, FakeStoreClient fakeStoreClient) {
+    public ProductDataInitializer(ProductRepository productRepository) {
         this.productRepository = productRepository;
-        this.fakeStoreClient = fakeStoreClient;
     }
 
-    @PostConstruct
-    public void init() {
+    public boolean isInitialized() {
         if (productRepository.count() > 0) {
             log.info(Messages.PRODUCT_ALREADY_INITIALIZED);
-            return;
+            return true;
         }
+        return false;
+    }
 
-        ProductResponseDTO[] products = fakeStoreClient.getAllProducts().block();
-        if (products == null || products.length == 0) {
+    /** Saves one chunk of the streamed payload; called repeatedly until the stream ends. */
+    public int save(List<ProductResponseDTO> products) {
+        if (products == null || products.isEmpty()) {
             log.warn(Messages.PRODUCT_NO_RETURNED);
-            return;
+            return 0;
         }
 
-        List<Product> entities = Arrays.stream(products)
+        List<Product> entities = products.stream()
                 .map(dto -> {
                     Product product = new Product();
                     product.setId(dto.id());
@@ -53,6 +50,12 @@ public class ProductDataInitializer {
                 .toList();
 
         productRepository.saveAll(entities);
-        log.info(Messages.PRODUCT_SAVED_SUCCESS, entities.size());
+        log.debug(Messages.PRODUCT_SAVED_SUCCESS, entities.size());
+        return entities.size();
+    }
+
+    /** Deletes a partially seeded table, so the next start sees it empty and seeds it again. */
+    public void clear() {
+        productRepository.deleteAllInBatch();
     }
 }
\ No newline at end of file
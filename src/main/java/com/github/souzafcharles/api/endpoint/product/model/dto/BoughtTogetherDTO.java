@@ -0,0 +1,9 @@
+package com.github.souzafcharles.api.endpoint.product.model.dto;
+
+import java.io.Serializable;
+
+public record BoughtTogetherDTO(
+        String productId,
+        String title,
+        Integer cartsInCommon
+) implements Serializable { }
@@ -1,10 +1,18 @@
 package com.github.souzafcharles.api.endpoint.product.repository;
 
+import com.github.souzafcharles.api.endpoint.product.model.dto.ProductResponseDTO;
 import com.github.souzafcharles.api.endpoint.product.model.entity.Product;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.stream.Stream;
 
 @Repository
 public interface ProductRepository extends JpaRepository<Product, String> {
@@ -13,4 +21,45 @@ public interface ProductRepository extends JpaRepository<Product, String> {
     List<Product> findAllByOrderByPriceAsc();
     List<Product> findByPriceBetween(Double minPrice, Double maxPrice);
     List<Product> findByDescriptionContainingIgnoreCase(String keyword);
+
+    @Query("SELECT p.id FROM Product p WHERE p.id IN :ids")
+    List<String> findIdsByIdIn(@Param("ids") Collection<String> ids);
+
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("""
+        SELECT new com.github.souzafcharles.api.endpoint.product.model.dto.ProductResponseDTO(
+               p.id, p.title, p.price, p.description, p.category, p.image)
+        FROM Product p
+    """)
+    Stream<ProductResponseDTO> streamAllAsDto();
+
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("""
+        SELECT new com.github.souzafcharles.api.endpoint.product.model.dto.ProductResponseDTO(
+               p.id, p.title, p.price, p.description, p.category, p.image)
+        FROM Product p
+        WHERE LOCATE(LOWER(:keyword), LOWER(p.title)) > 0
+           OR LOCATE(LOWER(:keyword), LOWER(p.description)) > 0
+        ORDER BY p.id
+    """)
+    Stream<ProductResponseDTO> streamByKeyword(@Param("keyword") String keyword);
+
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("""
+        SELECT new com.github.souzafcharles.api.endpoint.product.model.dto.ProductResponseDTO(
+               p.id, p.title, p.price, p.description, p.category, p.image)
+        FROM Product p
+        WHERE p.price BETWEEN :min AND :max
+        ORDER BY p.id
+    """)
+    Stream<ProductResponseDTO> streamByPriceBetween(@Param("min") Double min, @Param("max") Double max);
 }
@@ -0,0 +1,198 @@
+package com.github.souzafcharles.api.endpoint.product.service;
+
+import com.github.souzafcharles.api.endpoint.cart.event.CartChangedEvent;
+import com.github.souzafcharles.api.endpoint.cart.event.CartLineSnapshot;
+import com.github.souzafcharles.api.endpoint.cart.event.CartSnapshot;
+import com.github.souzafcharles.api.endpoint.cartproduct.repository.CartProductRepository;
+import com.github.souzafcharles.api.endpoint.product.cooccurrence.CoOccurrenceMatrix;
+import com.github.souzafcharles.api.endpoint.product.model.dto.BoughtTogetherDTO;
+import com.github.souzafcharles.api.endpoint.product.model.entity.Product;
+import com.github.souzafcharles.api.endpoint.product.repository.ProductRepository;
+import com.github.souzafcharles.api.exceptions.custom.InvalidQueryException;
+import com.github.souzafcharles.api.exceptions.custom.ResourceNotFoundException;
+import com.github.souzafcharles.api.initializer.SeedingFinishedEvent;
+import com.github.souzafcharles.api.utils.IdDictionary;
+import com.github.souzafcharles.api.utils.Messages;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Serves "frequently bought together" from an in-memory co-occurrence matrix.
+ * The matrix is rebuilt from tb_cart_product at startup and on a fixed delay,
+ * and patched from {@link CartChangedEvent}s in between. Events arriving while
+ * a rebuild is scanning are replayed onto the new matrix before it is swapped in.
+ */
+@Service
+public class BoughtTogetherService {
+
+    public static final int MAX_LIMIT = 100;
+
+    private static final Logger log = LoggerFactory.getLogger(BoughtTogetherService.class);
+
+    private final CartProductRepository cartProductRepository;
+    private final ProductRepository productRepository;
+    private final TransactionTemplate readOnlyTransaction;
+    private final ForkJoinPool pool = new ForkJoinPool(Runtime.getRuntime().availableProcessors());
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final ReentrantLock rebuildLock = new ReentrantLock();
+
+    private CoOccurrenceMatrix matrix = new CoOccurrenceMatrix();
+    private List<CartChangedEvent> pending;
+
+    public BoughtTogetherService(CartProductRepository cartProductRepository,
+                                 ProductRepository productRepository,
+                                 PlatformTransactionManager transactionManager) {
+        this.cartProductRepository = cartProductRepository;
+        this.productRepository = productRepository;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+    }
+
+    public List<BoughtTogetherDTO> getBoughtTogether(String productId, int limit) {
+        if (limit < 1 || limit > MAX_LIMIT) {
+            throw new InvalidQueryException(String.format(Messages.BOUGHT_TOGETHER_LIMIT_INVALID, MAX_LIMIT, limit));
+        }
+        if (!productRepository.existsById(productId)) {
+            throw ResourceNotFoundException.forProduct(productId);
+        }
+
+        List<CoOccurrenceMatrix.Partner> partners;
+        lock.readLock().lock();
+        try {
+            partners = matrix.topPartners(productId, limit);
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        Map<String, String> titles = productRepository.findAllById(
+                        partners.stream().map(CoOccurrenceMatrix.Partner::productId).toList())
+                .stream()
+                .collect(Collectors.toMap(Product::getId, Product::getTitle));
+
+        return partners.stream()
+                .filter(partner -> titles.containsKey(partner.productId()))
+                .map(partner -> new BoughtTogetherDTO(
+                        partner.productId(), titles.get(partner.productId()), partner.count()))
+                .toList();
+    }
+
+    @EventListener(SeedingFinishedEvent.class)
+    @Scheduled(fixedDelayString = "${store.bought-together.rebuild-interval:PT30M}",
+            initialDelayString = "${store.bought-together.rebuild-interval:PT30M}")
+    public void rebuild() {
+        rebuildLock.lock();
+        try {
+            scanAndSwap();
+        } finally {
+            rebuildLock.unlock();
+        }
+    }
+
+    private void scanAndSwap() {
+        lock.writeLock().lock();
+        try {
+            pending = new ArrayList<>();
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        long start = System.nanoTime();
+        IdDictionary products = new IdDictionary();
+        int basketCount = 0;
+        CoOccurrenceMatrix rebuilt = null;
+        try {
+            int[][] baskets = readOnlyTransaction.execute(status -> scanBaskets(products));
+            basketCount = baskets.length;
+            rebuilt = CoOccurrenceMatrix.build(products, baskets, pool);
+        } finally {
+            lock.writeLock().lock();
+            try {
+                if (rebuilt != null) {
+                    for (CartChangedEvent event : pending) apply(rebuilt, event);
+                    matrix = rebuilt;
+                }
+                pending = null;
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+        log.info(Messages.BOUGHT_TOGETHER_REBUILT, basketCount, products.size(),
+                TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCartChanged(CartChangedEvent event) {
+        if (productIds(event.before()).equals(productIds(event.after()))) return;
+
+        lock.writeLock().lock();
+        try {
+            apply(matrix, event);
+            if (pending != null) pending.add(event);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private static void apply(CoOccurrenceMatrix target, CartChangedEvent event) {
+        target.removeBasket(productIds(event.before()));
+        target.addBasket(productIds(event.after()));
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        pool.shutdownNow();
+    }
+
+    /**
+     * Groups the (cart, product) pairs, ordered by cart, into one array of
+     * product codes per cart. Carts with a single product form no pairs and are skipped.
+     */
+    private int[][] scanBaskets(IdDictionary products) {
+        List<int[]> baskets = new ArrayList<>();
+        try (Stream<Object[]> rows = cartProductRepository.streamCartProductPairsRaw()) {
+            String currentCart = null;
+            int[] basket = new int[16];
+            int size = 0;
+            for (Iterator<Object[]> it = rows.iterator(); it.hasNext(); ) {
+                Object[] row = it.next();
+                if (!row[0].equals(currentCart)) {
+                    if (size > 1) baskets.add(Arrays.copyOf(basket, size));
+                    currentCart = (String) row[0];
+                    size = 0;
+                }
+                if (size == basket.length) basket = Arrays.copyOf(basket, size * 2);
+                basket[size++] = products.encode((String) row[1]);
+            }
+            if (size > 1) baskets.add(Arrays.copyOf(basket, size));
+        }
+        return baskets.toArray(int[][]::new);
+    }
+
+    private static Set<String> productIds(CartSnapshot cart) {
+        if (cart == null) return Set.of();
+        return cart.lines().stream()
+                .map(CartLineSnapshot::productId)
+                .collect(Collectors.toSet());
+    }
+}
@@ -1,11 +1,16 @@
 package com.github.souzafcharles.api.endpoint.product.service;
 
 import com.github.souzafcharles.api.client.FakeStoreClient;
+import com.github.souzafcharles.api.endpoint.cart.event.CartChangedEvent;
+import com.github.souzafcharles.api.endpoint.cart.event.CartSnapshot;
+import com.github.souzafcharles.api.endpoint.cart.model.entity.Cart;
+import com.github.souzafcharles.api.endpoint.cartproduct.model.entity.CartProduct;
 import com.github.souzafcharles.api.endpoint.product.model.dto.ProductRequestDTO;
 import com.github.souzafcharles.api.endpoint.product.model.dto.ProductResponseDTO;
 import com.github.souzafcharles.api.endpoint.product.model.entity.Product;
 import com.github.souzafcharles.api.endpoint.product.repository.ProductRepository;
 import com.github.souzafcharles.api.exceptions.custom.ResourceNotFoundException;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
@@ -14,15 +19,18 @@ import org.springframework.transaction.annotation.Transactional;
 
 import java.util.*;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Service
 @Transactional
 public class ProductService {
 
     private final ProductRepository productRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
-    public ProductService(ProductRepository productRepository) {
+    public ProductService(ProductRepository productRepository, ApplicationEventPublisher eventPublisher) {
         this.productRepository = productRepository;
+        this.eventPublisher = eventPublisher;
     }
 
     public Page<ProductResponseDTO> getAllProducts(Pageable pageable) {
@@ -55,18 +63,53 @@ public class ProductService {
     public ProductResponseDTO updateProduct(String id, ProductRequestDTO dto) {
         Product product = productRepository.findById(id)
                 .orElseThrow(() -> ResourceNotFoundException.forProduct(id));
+        List<Cart> affectedCarts = movesCartLines(product, dto.price(), dto.category())
+                ? cartsContaining(product)
+                : List.of();
+        List<CartSnapshot> before = affectedCarts.stream().map(CartSnapshot::new).toList();
+
         product.setTitle(dto.title());
         product.setPrice(dto.price());
         product.setDescription(dto.description());
         product.setCategory(dto.category());
         product.setImage(dto.image());
-        return new ProductResponseDTO(productRepository.save(product));
+        ProductResponseDTO updated = new ProductResponseDTO(productRepository.save(product));
+
+        for (int i = 0; i < affectedCarts.size(); i++) {
+            eventPublisher.publishEvent(new CartChangedEvent(before.get(i), new CartSnapshot(affectedCarts.get(i))));
+        }
+        return updated;
+    }
+
+    /**
+     * Cart lines snapshot the product's price and category, so changing either
+     * moves revenue and category figures in the views patched from cart events.
+     */
+    public static boolean movesCartLines(Product product, Double price, String category) {
+        return !Objects.equals(product.getPrice(), price) || !Objects.equals(product.getCategory(), category);
+    }
+
+    private static List<Cart> cartsContaining(Product product) {
+        return product.getCartProducts().stream()
+                .map(CartProduct::getCart)
+                .distinct()
+                .toList();
     }
 
     public void deleteProduct(String id) {
         Product product = productRepository.findById(id)
                 .orElseThrow(() -> ResourceNotFoundException.forProduct(id));
+        List<CartChangedEvent> affectedCarts = product.getCartProducts().stream()
+                .map(CartProduct::getCart)
+                .distinct()
+                .map(CartSnapshot::new)
+                .map(before -> new CartChangedEvent(before, before.withoutProduct(id)))
+                .toList();
+        // Loaded carts would otherwise cascade their lines back in and cancel the delete.
+        product.getCartProducts().forEach(line -> line.getCart().getCartProducts().remove(line));
+        product.getCartProducts().clear();
         productRepository.delete(product);
+        affectedCarts.forEach(eventPublisher::publishEvent);
     }
 
     public List<ProductResponseDTO> searchProducts(String keyword) {
@@ -78,6 +121,16 @@ public class ProductService {
                 .toList();
     }
 
+    /**
+     * Same matches as {@link #searchProducts(String)}, ordered by id, as a
+     * forward-only stream that must be consumed and closed inside the caller's
+     * transaction.
+     */
+    @Transactional(readOnly = true)
+    public Stream<ProductResponseDTO> streamProductsByKeyword(String keyword) {
+        return productRepository.streamByKeyword(keyword);
+    }
+
     public List<ProductResponseDTO> getTopExpensiveProducts(int topN) {
         return productRepository.findAllByOrderByPriceDesc().stream()
                 .limit(topN)
@@ -105,4 +158,9 @@ public class ProductService {
                 .map(ProductResponseDTO::new)
                 .toList();
     }
-}
\ No newline at end of file
+
+    @Transactional(readOnly = true)
+    public Stream<ProductResponseDTO> streamProductsByPriceRange(Double min, Double max) {
+        return productRepository.streamByPriceBetween(min, max);
+    }
+}
@@ -0,0 +1,36 @@
+package com.github.souzafcharles.api.endpoint.reactive.controller;
+
+import com.github.souzafcharles.api.endpoint.cart.model.dto.CartResponseDTO;
+import com.github.souzafcharles.api.endpoint.reactive.repository.ReactiveCartRepository;
+import com.github.souzafcharles.api.exceptions.custom.ResourceNotFoundException;
+import com.github.souzafcharles.api.utils.Messages;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+@RestController
+@RequestMapping("/reactive/carts")
+@Tag(name = "Reactive API", description = Messages.REACTIVE_TAG_DESCRIPTION)
+public class ReactiveCartController {
+
+    private final ReactiveCartRepository cartRepository;
+
+    public ReactiveCartController(ReactiveCartRepository cartRepository) {
+        this.cartRepository = cartRepository;
+    }
+
+    @GetMapping
+    @Operation(summary = Messages.REACTIVE_CART_LIST_SUMMARY, description = Messages.REACTIVE_CART_LIST_DESCRIPTION)
+    public Flux<CartResponseDTO> getAll(@RequestParam(required = false) String userId) {
+        return cartRepository.findAll(userId);
+    }
+
+    @GetMapping("/{id}")
+    @Operation(summary = Messages.REACTIVE_CART_GET_SUMMARY, description = Messages.REACTIVE_CART_GET_DESCRIPTION)
+    public Mono<CartResponseDTO> getById(@PathVariable String id) {
+        return cartRepository.findById(id)
+                .switchIfEmpty(Mono.error(() -> ResourceNotFoundException.forCart(id)));
+    }
+}
@@ -0,0 +1,55 @@
+package com.github.souzafcharles.api.endpoint.reactive.controller;
+
+import com.github.souzafcharles.api.endpoint.cartproduct.model.dto.ProductSalesDTO;
+import com.github.souzafcharles.api.endpoint.reactive.repository.ReactiveCartProductRepository;
+import com.github.souzafcharles.api.exceptions.custom.InvalidQueryException;
+import com.github.souzafcharles.api.utils.Messages;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.Map;
+
+@RestController
+@RequestMapping("/reactive/cart-products/analytics")
+@Tag(name = "Reactive API", description = Messages.REACTIVE_TAG_DESCRIPTION)
+public class ReactiveCartProductController {
+
+    private final ReactiveCartProductRepository cartProductRepository;
+
+    public ReactiveCartProductController(ReactiveCartProductRepository cartProductRepository) {
+        this.cartProductRepository = cartProductRepository;
+    }
+
+    @GetMapping("/most-sold")
+    @Operation(summary = Messages.REACTIVE_MOST_SOLD_SUMMARY, description = Messages.REACTIVE_MOST_SOLD_DESCRIPTION)
+    public Flux<ProductSalesDTO> getMostSold(
+            @RequestParam(required = false) String category,
+            @RequestParam(defaultValue = "5") int topN
+    ) {
+        if (topN < 1) {
+            return Flux.error(new InvalidQueryException(String.format(Messages.REACTIVE_TOP_N_INVALID, topN)));
+        }
+        return cartProductRepository.findMostSold(category, topN);
+    }
+
+    @GetMapping("/revenue")
+    @Operation(summary = Messages.REACTIVE_REVENUE_SUMMARY, description = Messages.REACTIVE_REVENUE_DESCRIPTION)
+    public Mono<Map<String, Double>> getRevenuePerProduct() {
+        return cartProductRepository.findRevenuePerProduct();
+    }
+
+    @GetMapping("/total-items")
+    @Operation(summary = Messages.REACTIVE_TOTAL_ITEMS_SUMMARY, description = Messages.REACTIVE_TOTAL_ITEMS_DESCRIPTION)
+    public Mono<Long> getTotalItems() {
+        return cartProductRepository.countTotalItems();
+    }
+
+    @GetMapping("/carts-by-product/{productId}")
+    @Operation(summary = Messages.REACTIVE_CARTS_BY_PRODUCT_SUMMARY, description = Messages.REACTIVE_CARTS_BY_PRODUCT_DESCRIPTION)
+    public Flux<String> getCartsContainingProduct(@PathVariable String productId) {
+        return cartProductRepository.findCartIdsByProductId(productId);
+    }
+}
@@ -0,0 +1,36 @@
+package com.github.souzafcharles.api.endpoint.reactive.controller;
+
+import com.github.souzafcharles.api.endpoint.product.model.dto.ProductResponseDTO;
+import com.github.souzafcharles.api.endpoint.reactive.repository.ReactiveProductRepository;
+import com.github.souzafcharles.api.exceptions.custom.ResourceNotFoundException;
+import com.github.souzafcharles.api.utils.Messages;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+@RestController
+@RequestMapping("/reactive/products")
+@Tag(name = "Reactive API", description = Messages.REACTIVE_TAG_DESCRIPTION)
+public class ReactiveProductController {
+
+    private final ReactiveProductRepository productRepository;
+
+    public ReactiveProductController(ReactiveProductRepository productRepository) {
+        this.productRepository = productRepository;
+    }
+
+    @GetMapping
+    @Operation(summary = Messages.REACTIVE_PRODUCT_LIST_SUMMARY, description = Messages.REACTIVE_PRODUCT_LIST_DESCRIPTION)
+    public Flux<ProductResponseDTO> getAll(@RequestParam(required = false) String category) {
+        return productRepository.findAll(category);
+    }
+
+    @GetMapping("/{id}")
+    @Operation(summary = Messages.REACTIVE_PRODUCT_GET_SUMMARY, description = Messages.REACTIVE_PRODUCT_GET_DESCRIPTION)
+    public Mono<ProductResponseDTO> getById(@PathVariable String id) {
+        return productRepository.findById(id)
+                .switchIfEmpty(Mono.error(() -> ResourceNotFoundException.forProduct(id)));
+    }
+}
@@ -0,0 +1,72 @@
+package com.github.souzafcharles.api.endpoint.reactive.repository;
+
+import com.github.souzafcharles.api.endpoint.cartproduct.model.dto.ProductSalesDTO;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.util.Map;
+
+/** Cart-line aggregates computed in the database, mirroring the JPA analytics queries. */
+@Repository
+public class ReactiveCartProductRepository {
+
+    private static final String MOST_SOLD = """
+            SELECT p.id, p.title, SUM(cp.quantity) AS total_sold
+            FROM tb_cart_product cp
+            JOIN tb_product p ON p.id = cp.product_id
+            %s
+            GROUP BY p.id, p.title
+            ORDER BY total_sold DESC
+            LIMIT :limit
+            """;
+
+    private final DatabaseClient client;
+
+    public ReactiveCartProductRepository(ReactiveDatabase database) {
+        this.client = database.client();
+    }
+
+    public Flux<ProductSalesDTO> findMostSold(String category, int limit) {
+        DatabaseClient.GenericExecuteSpec query = category == null
+                ? client.sql(MOST_SOLD.formatted(""))
+                : client.sql(MOST_SOLD.formatted("WHERE p.category = :category")).bind("category", category);
+        return query.bind("limit", limit)
+                .map(row -> new ProductSalesDTO(
+                        row.get("id", String.class),
+                        row.get("title", String.class),
+                        row.get("total_sold", Number.class).intValue()))
+                .all()
+                .subscribeOn(Schedulers.boundedElastic());
+    }
+
+    public Mono<Map<String, Double>> findRevenuePerProduct() {
+        return client.sql("""
+                        SELECT p.title, SUM(cp.quantity * p.price) AS revenue
+                        FROM tb_cart_product cp
+                        JOIN tb_product p ON p.id = cp.product_id
+                        GROUP BY p.title
+                        """)
+                .map(row -> Map.entry(row.get("title", String.class), row.get("revenue", Number.class).doubleValue()))
+                .all()
+                .collectMap(Map.Entry::getKey, Map.Entry::getValue)
+                .subscribeOn(Schedulers.boundedElastic());
+    }
+
+    public Mono<Long> countTotalItems() {
+        return client.sql("SELECT COALESCE(SUM(quantity), 0) AS total FROM tb_cart_product")
+                .map(row -> row.get("total", Number.class).longValue())
+                .one()
+                .subscribeOn(Schedulers.boundedElastic());
+    }
+
+    public Flux<String> findCartIdsByProductId(String productId) {
+        return client.sql("SELECT DISTINCT cart_id FROM tb_cart_product WHERE product_id = :productId ORDER BY cart_id")
+                .bind("productId", productId)
+                .map(row -> row.get("cart_id", String.class))
+                .all()
+                .subscribeOn(Schedulers.boundedElastic());
+    }
+}
@@ -0,0 +1,70 @@
+package com.github.souzafcharles.api.endpoint.reactive.repository;
+
+import com.github.souzafcharles.api.endpoint.cart.model.dto.CartResponseDTO;
+import com.github.souzafcharles.api.endpoint.cartproduct.model.dto.CartProductResponseDTO;
+import io.r2dbc.spi.Readable;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Reads carts with their lines in a single ordered join and folds consecutive
+ * rows of the same cart into one {@link CartResponseDTO}, so a stream holds at
+ * most one cart's rows at a time. Carts without lines come back with an empty
+ * product list.
+ */
+@Repository
+public class ReactiveCartRepository {
+
+    private static final String SELECT = """
+            SELECT c.id AS cart_id, c.user_id, cp.product_id, p.title, p.price, cp.quantity
+            FROM tb_cart c
+            LEFT JOIN tb_cart_product cp ON cp.cart_id = c.id
+            LEFT JOIN tb_product p ON p.id = cp.product_id
+            """;
+
+    private final DatabaseClient client;
+
+    public ReactiveCartRepository(ReactiveDatabase database) {
+        this.client = database.client();
+    }
+
+    public Flux<CartResponseDTO> findAll(String userId) {
+        DatabaseClient.GenericExecuteSpec query = userId == null
+                ? client.sql(SELECT + " ORDER BY c.id")
+                : client.sql(SELECT + " WHERE c.user_id = :userId ORDER BY c.id").bind("userId", userId);
+        return group(query.map(ReactiveCartRepository::toLine).all());
+    }
+
+    public Mono<CartResponseDTO> findById(String id) {
+        return group(client.sql(SELECT + " WHERE c.id = :id")
+                .bind("id", id)
+                .map(ReactiveCartRepository::toLine)
+                .all())
+                .next();
+    }
+
+    private static Flux<CartResponseDTO> group(Flux<CartLineRow> rows) {
+        return rows.bufferUntilChanged(CartLineRow::cartId)
+                .map(lines -> new CartResponseDTO(lines.getFirst().cartId(), lines.getFirst().userId(),
+                        lines.stream().map(CartLineRow::line).filter(Objects::nonNull).toList()))
+                .subscribeOn(Schedulers.boundedElastic());
+    }
+
+    private static CartLineRow toLine(Readable row) {
+        String productId = row.get("product_id", String.class);
+        CartProductResponseDTO line = productId == null ? null : new CartProductResponseDTO(
+                productId,
+                row.get("title", String.class),
+                row.get("price", Double.class),
+                row.get("quantity", Integer.class));
+        return new CartLineRow(row.get("cart_id", String.class), row.get("user_id", String.class), line);
+    }
+
+    private record CartLineRow(String cartId, String userId, CartProductResponseDTO line) { }
+}
@@ -0,0 +1,75 @@
+package com.github.souzafcharles.api.endpoint.reactive.repository;
+
+import com.github.souzafcharles.api.utils.Messages;
+import io.r2dbc.h2.H2ConnectionConfiguration;
+import io.r2dbc.h2.H2ConnectionFactory;
+import io.r2dbc.pool.ConnectionPool;
+import io.r2dbc.pool.ConnectionPoolConfiguration;
+import io.r2dbc.spi.ConnectionFactories;
+import io.r2dbc.spi.ConnectionFactory;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Component;
+import reactor.core.scheduler.Schedulers;
+
+import java.time.Duration;
+
+/**
+ * R2DBC access to the same database JPA uses. The connection is derived from
+ * the JDBC datasource settings, which for the embedded H2 database means the
+ * same in-memory instance, unless {@code store.reactive.r2dbc-url} names one
+ * explicitly. The pool is kept off the bean graph on purpose: a
+ * {@link ConnectionFactory} bean would make Boot skip the JDBC datasource.
+ * r2dbc-h2 runs each query synchronously on whichever thread delivers the
+ * connection. The repositories subscribe on {@code Schedulers.boundedElastic()}
+ * and the pool allocates there too (its default is the shared single
+ * scheduler), so queries never run on a request or event-loop thread.
+ */
+@Component
+public class ReactiveDatabase {
+
+    private static final String H2_JDBC_PREFIX = "jdbc:h2:";
+
+    private final ConnectionPool pool;
+    private final DatabaseClient client;
+
+    public ReactiveDatabase(DataSourceProperties dataSourceProperties,
+                            @Value("${store.reactive.r2dbc-url:}") String r2dbcUrl,
+                            @Value("${store.reactive.pool.max-size:10}") int maxSize,
+                            @Value("${store.reactive.pool.max-acquire-time:PT5S}") Duration maxAcquireTime) {
+        ConnectionFactory connections = r2dbcUrl.isBlank()
+                ? fromJdbc(dataSourceProperties)
+                : ConnectionFactories.get(r2dbcUrl);
+        this.pool = new ConnectionPool(ConnectionPoolConfiguration.builder(connections)
+                .name("reactive-read")
+                .maxSize(maxSize)
+                .maxAcquireTime(maxAcquireTime)
+                .allocatorSubscribeOn(Schedulers.boundedElastic())
+                .build());
+        this.client = DatabaseClient.create(pool);
+    }
+
+    public DatabaseClient client() {
+        return client;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        pool.dispose();
+    }
+
+    private static ConnectionFactory fromJdbc(DataSourceProperties properties) {
+        String url = properties.determineUrl();
+        if (url == null || !url.startsWith(H2_JDBC_PREFIX)) {
+            throw new IllegalStateException(String.format(Messages.REACTIVE_DATABASE_UNSUPPORTED, url));
+        }
+        H2ConnectionConfiguration.Builder configuration = H2ConnectionConfiguration.builder()
+                .url(url.substring(H2_JDBC_PREFIX.length()))
+                .username(properties.determineUsername());
+        String password = properties.determinePassword();
+        if (password != null && !password.isEmpty()) configuration.password(password);
+        return new H2ConnectionFactory(configuration.build());
+    }
+}
@@ -0,0 +1,46 @@
+package com.github.souzafcharles.api.endpoint.reactive.repository;
+
+import com.github.souzafcharles.api.endpoint.product.model.dto.ProductResponseDTO;
+import io.r2dbc.spi.Readable;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+@Repository
+public class ReactiveProductRepository {
+
+    private static final String SELECT = "SELECT id, title, price, description, category, image FROM tb_product";
+
+    private final DatabaseClient client;
+
+    public ReactiveProductRepository(ReactiveDatabase database) {
+        this.client = database.client();
+    }
+
+    public Flux<ProductResponseDTO> findAll(String category) {
+        DatabaseClient.GenericExecuteSpec query = category == null
+                ? client.sql(SELECT + " ORDER BY id")
+                : client.sql(SELECT + " WHERE category = :category ORDER BY id").bind("category", category);
+        return query.map(ReactiveProductRepository::toDto).all().subscribeOn(Schedulers.boundedElastic());
+    }
+
+    public Mono<ProductResponseDTO> findById(String id) {
+        return client.sql(SELECT + " WHERE id = :id")
+                .bind("id", id)
+                .map(ReactiveProductRepository::toDto)
+                .one()
+                .subscribeOn(Schedulers.boundedElastic());
+    }
+
+    private static ProductResponseDTO toDto(Readable row) {
+        return new ProductResponseDTO(
+                row.get("id", String.class),
+                row.get("title", String.class),
+                row.get("price", Double.class),
+                row.get("description", String.class),
+                row.get("category", String.class),
+                row.get("image", String.class));
+    }
+}
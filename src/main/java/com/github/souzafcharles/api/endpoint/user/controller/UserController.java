@@ -1,9 +1,19 @@
 package com.github.souzafcharles.api.endpoint.user.controller;
 
+import com.github.souzafcharles.api.config.ContentNegotiationConfig;
+import com.github.souzafcharles.api.endpoint.export.service.NdjsonStreamingService;
+import com.github.souzafcharles.api.endpoint.user.model.dto.TopCustomerDTO;
+import com.github.souzafcharles.api.endpoint.user.model.dto.UserBulkImportResultDTO;
 import com.github.souzafcharles.api.endpoint.user.model.dto.UserRequestDTO;
 import com.github.souzafcharles.api.endpoint.user.model.dto.UserResponseDTO;
+import com.github.souzafcharles.api.endpoint.user.model.dto.UserSummaryDTO;
+import com.github.souzafcharles.api.endpoint.user.search.UserSearchField;
+import com.github.souzafcharles.api.endpoint.user.search.UserSearchMode;
+import com.github.souzafcharles.api.endpoint.user.service.TopCustomersService;
+import com.github.souzafcharles.api.endpoint.user.service.UserBulkImportService;
 import com.github.souzafcharles.api.endpoint.user.service.UserService;
 import com.github.souzafcharles.api.utils.Messages;
+import com.github.souzafcharles.api.utils.SelfLinkTemplate;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
@@ -12,10 +22,15 @@ import org.springframework.data.web.PagedResourcesAssembler;
 import org.springframework.hateoas.EntityModel;
 import org.springframework.hateoas.PagedModel;
 import org.springframework.hateoas.server.mvc.WebMvcLinkBuilder;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
+import java.io.InputStream;
 import java.util.List;
 
 @RestController
@@ -23,10 +38,22 @@ import java.util.List;
 @Tag(name = "User API", description = Messages.USER_TAG_DESCRIPTION)
 public class UserController {
 
+    private static final SelfLinkTemplate SELF_LINK =
+            SelfLinkTemplate.of(id -> WebMvcLinkBuilder.methodOn(UserController.class).getById(id));
+
     private final UserService userService;
+    private final UserBulkImportService bulkImportService;
+    private final TopCustomersService topCustomersService;
+    private final NdjsonStreamingService ndjsonStreamingService;
 
-    public UserController(UserService userService) {
+    public UserController(UserService userService,
+                          UserBulkImportService bulkImportService,
+                          TopCustomersService topCustomersService,
+                          NdjsonStreamingService ndjsonStreamingService) {
         this.userService = userService;
+        this.bulkImportService = bulkImportService;
+        this.topCustomersService = topCustomersService;
+        this.ndjsonStreamingService = ndjsonStreamingService;
     }
 
     @GetMapping
@@ -36,28 +63,49 @@ public class UserController {
             PagedResourcesAssembler<UserResponseDTO> assembler
     ) {
         var page = userService.getAllUsers(pageable);
-        var model = assembler.toModel(page, user ->
-                EntityModel.of(user, WebMvcLinkBuilder.linkTo(
-                        WebMvcLinkBuilder.methodOn(UserController.class).getById(user.id())
-                ).withSelfRel())
-        );
+        var model = assembler.toModel(page, SELF_LINK.forPage(UserResponseDTO::id));
         return page.isEmpty()
                 ? ResponseEntity.noContent().build()
                 : ResponseEntity.ok(model);
     }
 
+    @GetMapping(params = "ids")
+    @Operation(summary = Messages.USER_GET_BY_IDS_SUMMARY, description = Messages.USER_GET_BY_IDS_DESCRIPTION)
+    public ResponseEntity<List<UserResponseDTO>> getByIds(@RequestParam List<String> ids) {
+        return ResponseEntity.ok(userService.getUsersByIds(ids));
+    }
+
     @GetMapping("/{id}")
     @Operation(summary = Messages.USER_GET_BY_ID_SUMMARY, description = Messages.USER_GET_BY_ID_DESCRIPTION)
     public ResponseEntity<UserResponseDTO> getById(@PathVariable String id) {
         return ResponseEntity.ok(userService.getUserById(id));
     }
 
+    @GetMapping("/{id}/summary")
+    @Operation(summary = Messages.USER_SUMMARY_SUMMARY, description = Messages.USER_SUMMARY_DESCRIPTION)
+    public ResponseEntity<UserSummaryDTO> getSummary(
+            @PathVariable String id,
+            @RequestParam(defaultValue = "5") int recentCarts
+    ) {
+        return ResponseEntity.ok(userService.getUserSummary(id, recentCarts));
+    }
+
     @PostMapping
     @Operation(summary = Messages.USER_CREATE_SUMMARY, description = Messages.USER_CREATE_DESCRIPTION)
     public ResponseEntity<UserResponseDTO> create(@RequestBody @Valid UserRequestDTO dto) {
         return ResponseEntity.status(HttpStatus.CREATED).body(userService.createUser(dto));
     }
 
+    @PostMapping(value = "/bulk", consumes = {MediaType.APPLICATION_NDJSON_VALUE, MediaType.APPLICATION_JSON_VALUE,
+            MediaType.APPLICATION_CBOR_VALUE, ContentNegotiationConfig.APPLICATION_SMILE_VALUE})
+    @Operation(summary = Messages.USER_BULK_IMPORT_SUMMARY, description = Messages.USER_BULK_IMPORT_DESCRIPTION)
+    public ResponseEntity<UserBulkImportResultDTO> bulkImport(
+            InputStream body,
+            @RequestHeader(HttpHeaders.CONTENT_TYPE) MediaType contentType
+    ) throws IOException {
+        return ResponseEntity.ok(bulkImportService.importUsers(body, contentType));
+    }
+
     @PutMapping("/{id}")
     @Operation(summary = Messages.USER_UPDATE_SUMMARY, description = Messages.USER_UPDATE_DESCRIPTION)
     public ResponseEntity<UserResponseDTO> update(
@@ -76,8 +124,31 @@ public class UserController {
 
     @GetMapping("/search")
     @Operation(summary = Messages.USER_SEARCH_SUMMARY, description = Messages.USER_SEARCH_DESCRIPTION)
-    public ResponseEntity<List<UserResponseDTO>> searchByUsername(@RequestParam String keyword) {
-        return ResponseEntity.ok(userService.searchUsersByUsername(keyword));
+    public ResponseEntity<List<UserResponseDTO>> searchByUsername(
+            @RequestParam String keyword,
+            @RequestParam(defaultValue = "substring") String mode,
+            @RequestParam(defaultValue = "username") String field,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "50") int size
+    ) {
+        return ResponseEntity.ok(userService.searchUsers(keyword,
+                UserSearchField.fromParameter(field), UserSearchMode.fromParameter(mode), page, size));
+    }
+
+    @GetMapping(value = "/search", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    @Operation(summary = Messages.USER_SEARCH_SUMMARY, description = Messages.USER_SEARCH_DESCRIPTION)
+    public ResponseEntity<StreamingResponseBody> streamSearchByUsername(
+            @RequestParam String keyword,
+            @RequestParam(defaultValue = "substring") String mode,
+            @RequestParam(defaultValue = "username") String field,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "50") int size
+    ) {
+        // Served from the in-memory search index and capped by the page size, so the page is resolved
+        // up front; this keeps paging errors as a 400 rather than failing an already started stream.
+        List<UserResponseDTO> users = userService.searchUsers(keyword,
+                UserSearchField.fromParameter(field), UserSearchMode.fromParameter(mode), page, size);
+        return ndjsonStreamingService.stream(UserResponseDTO.class, users::stream);
     }
 
     @GetMapping("/by-username")
@@ -92,6 +163,18 @@ public class UserController {
         return ResponseEntity.ok(userService.getUserByEmail(email));
     }
 
+    @GetMapping("/analytics/top-spenders")
+    @Operation(summary = Messages.USER_TOP_SPENDERS_SUMMARY, description = Messages.USER_TOP_SPENDERS_DESCRIPTION)
+    public ResponseEntity<List<TopCustomerDTO>> getTopSpenders(@RequestParam(defaultValue = "10") int topN) {
+        return ResponseEntity.ok(topCustomersService.getTopSpenders(topN));
+    }
+
+    @GetMapping("/analytics/top-buyers")
+    @Operation(summary = Messages.USER_TOP_BUYERS_SUMMARY, description = Messages.USER_TOP_BUYERS_DESCRIPTION)
+    public ResponseEntity<List<TopCustomerDTO>> getTopBuyers(@RequestParam(defaultValue = "10") int topN) {
+        return ResponseEntity.ok(topCustomersService.getTopBuyers(topN));
+    }
+
     @GetMapping("/count")
     @Operation(summary = Messages.USER_COUNT_SUMMARY, description = Messages.USER_COUNT_DESCRIPTION)
     public ResponseEntity<Long> countUsers() {
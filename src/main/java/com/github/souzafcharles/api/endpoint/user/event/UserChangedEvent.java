@@ -0,0 +1,22 @@
+package com.github.souzafcharles.api.endpoint.user.event;
+
+/**
+ * Published by every {@code UserService} write. {@code before} is {@code null}
+ * for a created user and {@code after} is {@code null} for a deleted one.
+ */
+public record UserChangedEvent(
+        UserSnapshot before,
+        UserSnapshot after
+) {
+    public static UserChangedEvent created(UserSnapshot after) {
+        return new UserChangedEvent(null, after);
+    }
+
+    public static UserChangedEvent deleted(UserSnapshot before) {
+        return new UserChangedEvent(before, null);
+    }
+
+    public String userId() {
+        return after != null ? after.id() : before.id();
+    }
+}
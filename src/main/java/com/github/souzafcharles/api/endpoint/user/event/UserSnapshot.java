@@ -0,0 +1,13 @@
+package com.github.souzafcharles.api.endpoint.user.event;
+
+import com.github.souzafcharles.api.endpoint.user.model.entity.User;
+
+public record UserSnapshot(
+        String id,
+        String username,
+        String email
+) {
+    public UserSnapshot(User user) {
+        this(user.getId(), user.getUsername(), user.getEmail());
+    }
+}
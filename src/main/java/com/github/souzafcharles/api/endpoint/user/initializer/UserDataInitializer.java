@@ -1,56 +1,67 @@
 package com.github.souzafcharles.api.endpoint.user.initializer;
 
-import com.github.souzafcharles.api.client.FakeStoreClient;
 import com.github.souzafcharles.api.endpoint.user.model.dto.UserResponseDTO;
 import com.github.souzafcharles.api.endpoint.user.model.entity.User;
 import com.github.souzafcharles.api.endpoint.user.repository.UserRepository;
+import com.github.souzafcharles.api.endpoint.user.service.PasswordHasher;
 import com.github.souzafcharles.api.utils.Messages;
-import jakarta.annotation.PostConstruct;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Component;
 
-import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
+import java.util.stream.IntStream;
 
 @Component("userDataInitializer")
 public class UserDataInitializer {
 
     private static final Logger log = LoggerFactory.getLogger(UserDataInitializer.class);
 
+    public static final String SEED_PASSWORD = "123456";
+
     private final UserRepository userRepository;
-    private final FakeStoreClient fakeStoreClient;
+    private final PasswordHasher passwordHasher;
 
-    public UserDataInitializer(UserRepository userRepository, FakeStoreClient fakeStoreClient) {
+    public UserDataInitializer(UserRepository userRepository, PasswordHasher passwordHasher) {
         this.userRepository = userRepository;
-        this.fakeStoreClient = fakeStoreClient;
+        this.passwordHasher = passwordHasher;
     }
 
-    @PostConstruct
-    public void init() {
+    public boolean isInitialized() {
         if (userRepository.count() > 0) {
             log.info(Messages.USER_ALREADY_INITIALIZED);
-            return;
+            return true;
         }
+        return false;
+    }
 
-        UserResponseDTO[] users = fakeStoreClient.getAllUsers().block();
-        if (users == null || users.length == 0) {
+    /** Saves one chunk of the streamed payload; called repeatedly until the stream ends. */
+    public int save(List<UserResponseDTO> users) {
+        if (users == null || users.isEmpty()) {
             log.warn(Messages.USER_NO_RETURNED);
-            return;
+            return 0;
         }
 
-        List<User> entities = Arrays.stream(users)
-                .map(dto -> {
+        List<String> hashes = passwordHasher.hashAll(Collections.nCopies(users.size(), SEED_PASSWORD));
+        List<User> entities = IntStream.range(0, users.size())
+                .mapToObj(i -> {
                     User user = new User();
-                    user.setId(dto.id());
-                    user.setUsername(dto.username());
-                    user.setEmail(dto.email());
-                    user.setPassword("123456");
+                    user.setId(users.get(i).id());
+                    user.setUsername(users.get(i).username());
+                    user.setEmail(users.get(i).email());
+                    user.setPassword(hashes.get(i));
                     return user;
                 })
                 .toList();
 
         userRepository.saveAll(entities);
-        log.info(Messages.USER_SAVED_SUCCESS, entities.size());
+        log.debug(Messages.USER_SAVED_SUCCESS, entities.size());
+        return entities.size();
+    }
+
+    /** Deletes a partially seeded table, so the next start sees it empty and seeds it again. */
+    public void clear() {
+        userRepository.deleteAllInBatch();
     }
 }
\ No newline at end of file
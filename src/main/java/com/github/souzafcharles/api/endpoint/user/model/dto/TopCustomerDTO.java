@@ -0,0 +1,10 @@
+package com.github.souzafcharles.api.endpoint.user.model.dto;
+
+import java.io.Serializable;
+
+public record TopCustomerDTO(
+        String userId,
+        String username,
+        long totalItems,
+        double totalValue
+) implements Serializable { }
@@ -0,0 +1,8 @@
+package com.github.souzafcharles.api.endpoint.user.model.dto;
+
+import java.io.Serializable;
+
+public record UserBulkImportErrorDTO(
+        long line,
+        String reason
+) implements Serializable { }
@@ -0,0 +1,11 @@
+package com.github.souzafcharles.api.endpoint.user.model.dto;
+
+import java.io.Serializable;
+import java.util.List;
+
+public record UserBulkImportResultDTO(
+        long received,
+        long created,
+        long rejected,
+        List<UserBulkImportErrorDTO> errors
+) implements Serializable { }
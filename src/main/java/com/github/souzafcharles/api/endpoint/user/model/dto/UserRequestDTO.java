@@ -1,6 +1,8 @@
 package com.github.souzafcharles.api.endpoint.user.model.dto;
 
+import com.github.souzafcharles.api.endpoint.user.service.PasswordHasher;
 import com.github.souzafcharles.api.utils.Messages;
+import com.github.souzafcharles.api.utils.validation.MaxUtf8Bytes;
 import jakarta.validation.constraints.Email;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.Size;
@@ -11,5 +13,6 @@ public record UserRequestDTO(
         @NotBlank(message = Messages.EMAIL_REQUIRED)
         @Email(message = Messages.EMAIL_INVALID) String email,
         @NotBlank(message = Messages.PASSWORD_REQUIRED)
-        @Size(min = 6, message = Messages.PASSWORD_MIN_LENGTH) String password
+        @Size(min = 6, message = Messages.PASSWORD_MIN_LENGTH)
+        @MaxUtf8Bytes(value = PasswordHasher.MAX_PASSWORD_BYTES, message = Messages.PASSWORD_MAX_BYTES) String password
 ) implements Serializable { }
\ No newline at end of file
@@ -0,0 +1,25 @@
+package com.github.souzafcharles.api.endpoint.user.model.dto;
+
+import com.github.souzafcharles.api.endpoint.cart.model.dto.CartSummaryDTO;
+import com.github.souzafcharles.api.endpoint.user.model.projection.UserSummaryView;
+
+import java.io.Serializable;
+import java.util.List;
+
+public record UserSummaryDTO(
+        UserResponseDTO user,
+        long cartCount,
+        long totalItems,
+        double totalValue,
+        List<CartSummaryDTO> recentCarts
+) implements Serializable {
+    public UserSummaryDTO(UserSummaryView view, List<CartSummaryDTO> recentCarts) {
+        this(
+                new UserResponseDTO(view.getId(), view.getUsername(), view.getEmail()),
+                view.getCartCount(),
+                view.getTotalItems(),
+                view.getTotalValue(),
+                recentCarts
+        );
+    }
+}
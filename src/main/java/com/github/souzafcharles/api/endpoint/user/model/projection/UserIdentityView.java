@@ -0,0 +1,6 @@
+package com.github.souzafcharles.api.endpoint.user.model.projection;
+
+public interface UserIdentityView {
+    String getUsername();
+    String getEmail();
+}
@@ -0,0 +1,10 @@
+package com.github.souzafcharles.api.endpoint.user.model.projection;
+
+public interface UserSummaryView {
+    String getId();
+    String getUsername();
+    String getEmail();
+    Long getCartCount();
+    Long getTotalItems();
+    Double getTotalValue();
+}
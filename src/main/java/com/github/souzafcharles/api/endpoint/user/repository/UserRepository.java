@@ -1,11 +1,21 @@
 package com.github.souzafcharles.api.endpoint.user.repository;
 
+import com.github.souzafcharles.api.endpoint.user.model.dto.UserResponseDTO;
 import com.github.souzafcharles.api.endpoint.user.model.entity.User;
+import com.github.souzafcharles.api.endpoint.user.model.projection.UserIdentityView;
+import com.github.souzafcharles.api.endpoint.user.model.projection.UserSummaryView;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
 public interface UserRepository extends JpaRepository<User, String> {
@@ -14,4 +24,37 @@ public interface UserRepository extends JpaRepository<User, String> {
     Optional<User> findByEmail(String email);
     List<User> findByUsernameContainingIgnoreCase(String keyword);
     long countByUsernameIsNotNull();
+
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT new com.github.souzafcharles.api.endpoint.user.model.dto.UserResponseDTO(u.id, u.username, u.email) FROM User u")
+    Stream<UserResponseDTO> streamAllAsDto();
+
+    @Query("SELECT new com.github.souzafcharles.api.endpoint.user.model.dto.UserResponseDTO(u.id, u.username, u.email) FROM User u WHERE u.id IN :ids")
+    List<UserResponseDTO> findDtosByIdIn(@Param("ids") Collection<String> ids);
+
+    @Query("SELECT u.id FROM User u WHERE u.id IN :ids")
+    List<String> findIdsByIdIn(@Param("ids") Collection<String> ids);
+
+    @Query("SELECT u.username AS username, u.email AS email FROM User u WHERE u.email IN :emails OR u.username IN :usernames")
+    List<UserIdentityView> findIdentitiesByEmailInOrUsernameIn(@Param("emails") Collection<String> emails,
+                                                              @Param("usernames") Collection<String> usernames);
+
+    @Query("""
+        SELECT u.id AS id,
+               u.username AS username,
+               u.email AS email,
+               COUNT(DISTINCT c.id) AS cartCount,
+               COALESCE(SUM(cp.quantity), 0) AS totalItems,
+               COALESCE(SUM(cp.quantity * p.price), 0) AS totalValue
+        FROM User u
+        LEFT JOIN u.carts c
+        LEFT JOIN c.cartProducts cp
+        LEFT JOIN cp.product p
+        WHERE u.id = :userId
+        GROUP BY u.id, u.username, u.email
+    """)
+    Optional<UserSummaryView> findSummaryById(@Param("userId") String userId);
 }
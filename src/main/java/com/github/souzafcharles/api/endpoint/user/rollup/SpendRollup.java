@@ -0,0 +1,63 @@
+package com.github.souzafcharles.api.endpoint.user.rollup;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+
+/**
+ * Per-user totals of the items and value held in that user's carts, kept as
+ * one mutable entry per user so cart writes are applied as deltas. Users whose
+ * carts hold nothing have no entry. Not thread-safe: callers guard reads and writes.
+ */
+public class SpendRollup {
+
+    private final Map<String, Totals> totals = new HashMap<>();
+
+    public void add(String userId, long items, double value) {
+        if (userId == null || (items == 0 && value == 0)) return;
+        Totals entry = totals.computeIfAbsent(userId, id -> new Totals());
+        entry.items += items;
+        entry.value += value;
+        if (entry.items <= 0) totals.remove(userId);
+    }
+
+    public int size() {
+        return totals.size();
+    }
+
+    /** The {@code limit} users with the highest cart value, highest first. */
+    public List<Entry> topBySpend(int limit) {
+        return top(limit, Comparator.comparingDouble(Entry::totalValue).thenComparingLong(Entry::totalItems));
+    }
+
+    /** The {@code limit} users with the most items in their carts, highest first. */
+    public List<Entry> topByItems(int limit) {
+        return top(limit, Comparator.comparingLong(Entry::totalItems).thenComparingDouble(Entry::totalValue));
+    }
+
+    private List<Entry> top(int limit, Comparator<Entry> order) {
+        Comparator<Entry> ranking = order.thenComparing(Entry::userId, Comparator.reverseOrder());
+        PriorityQueue<Entry> top = new PriorityQueue<>(limit + 1, ranking);
+        totals.forEach((userId, entry) -> {
+            Entry candidate = new Entry(userId, entry.items, entry.value);
+            if (top.size() < limit || ranking.compare(candidate, top.peek()) > 0) {
+                top.offer(candidate);
+                if (top.size() > limit) top.poll();
+            }
+        });
+
+        List<Entry> result = new ArrayList<>(top);
+        result.sort(ranking.reversed());
+        return result;
+    }
+
+    public record Entry(String userId, long totalItems, double totalValue) { }
+
+    private static final class Totals {
+        private long items;
+        private double value;
+    }
+}
@@ -0,0 +1,146 @@
+package com.github.souzafcharles.api.endpoint.user.search;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Trigram inverted index over short lower-cased strings. Every string is
+ * indexed with a leading start marker, so a prefix query is the substring
+ * query {@code marker + prefix}. Queries of three or more characters
+ * intersect the posting lists of their trigrams lazily, driven by the
+ * shortest list, and verify each candidate. Shorter queries fall back to a
+ * scan. Documents get increasing ids, so posting lists stay sorted. Removed
+ * documents keep their postings and are skipped at query time; the owner
+ * reclaims them by re-adding the live documents to a fresh index once
+ * {@link #tombstones()} grows too large. Not thread-safe.
+ */
+public final class TrigramIndex {
+
+    private static final char START = '\u0002';
+    private static final int[] NO_DOCS = new int[0];
+
+    private final List<String> texts = new ArrayList<>();
+    private final Map<Long, Postings> postings = new HashMap<>();
+    private int liveDocs;
+
+    private static final class Postings {
+        int[] docs = new int[4];
+        int size;
+
+        void add(int doc) {
+            if (size > 0 && docs[size - 1] == doc) return;
+            if (size == docs.length) docs = Arrays.copyOf(docs, size * 2);
+            docs[size++] = doc;
+        }
+    }
+
+    public static String normalize(String value) {
+        return value == null ? "" : value.toLowerCase(Locale.ROOT);
+    }
+
+    public int add(String value) {
+        String text = START + normalize(value);
+        int doc = texts.size();
+        texts.add(text);
+        for (int i = 0; i + 3 <= text.length(); i++) {
+            postings.computeIfAbsent(trigram(text, i), key -> new Postings()).add(doc);
+        }
+        liveDocs++;
+        return doc;
+    }
+
+    public void remove(int doc) {
+        if (texts.get(doc) != null) {
+            texts.set(doc, null);
+            liveDocs--;
+        }
+    }
+
+    public int size() {
+        return liveDocs;
+    }
+
+    /** Removed documents whose text slot and postings are still held. */
+    public int tombstones() {
+        return texts.size() - liveDocs;
+    }
+
+    /**
+     * Returns up to {@code limit} matching document ids in ascending order,
+     * after skipping the first {@code offset} matches.
+     */
+    public int[] search(String query, boolean prefix, int offset, int limit) {
+        String needle = (prefix ? String.valueOf(START) : "") + normalize(query);
+        return needle.length() < 3
+                ? scan(needle, offset, limit)
+                : intersect(needle, offset, limit);
+    }
+
+    private int[] scan(String needle, int offset, int limit) {
+        int[] found = new int[Math.min(limit, Math.max(liveDocs, 0))];
+        int count = 0;
+        int skipped = 0;
+        for (int doc = 0; doc < texts.size() && count < found.length; doc++) {
+            String text = texts.get(doc);
+            if (text == null || !text.contains(needle)) continue;
+            if (skipped++ < offset) continue;
+            found[count++] = doc;
+        }
+        return Arrays.copyOf(found, count);
+    }
+
+    private int[] intersect(String needle, int offset, int limit) {
+        List<Postings> lists = new ArrayList<>();
+        for (int i = 0; i + 3 <= needle.length(); i++) {
+            Postings list = postings.get(trigram(needle, i));
+            if (list == null) return NO_DOCS;
+            if (!lists.contains(list)) lists.add(list);
+        }
+        lists.sort((a, b) -> Integer.compare(a.size, b.size));
+
+        Postings driver = lists.get(0);
+        int[] cursors = new int[lists.size()];
+        int[] found = new int[Math.min(limit, driver.size)];
+        int count = 0;
+        int skipped = 0;
+
+        candidates:
+        for (int c = 0; c < driver.size && count < found.length; c++) {
+            int doc = driver.docs[c];
+            for (int l = 1; l < lists.size(); l++) {
+                Postings other = lists.get(l);
+                cursors[l] = advance(other, cursors[l], doc);
+                if (cursors[l] == other.size) break candidates;
+                if (other.docs[cursors[l]] != doc) continue candidates;
+            }
+            String text = texts.get(doc);
+            if (text == null || !text.contains(needle)) continue;
+            if (skipped++ < offset) continue;
+            found[count++] = doc;
+        }
+        return Arrays.copyOf(found, count);
+    }
+
+    /** Galloping search for the first position at or after {@code from} whose doc is >= {@code target}. */
+    private static int advance(Postings list, int from, int target) {
+        int step = 1;
+        int low = from;
+        int high = from;
+        while (high < list.size && list.docs[high] < target) {
+            low = high + 1;
+            high += step;
+            step <<= 1;
+        }
+        high = Math.min(high + 1, list.size);
+        int index = Arrays.binarySearch(list.docs, low, high, target);
+        return index >= 0 ? index : -index - 1;
+    }
+
+    private static long trigram(String text, int at) {
+        return ((long) text.charAt(at) << 32) | ((long) text.charAt(at + 1) << 16) | text.charAt(at + 2);
+    }
+}
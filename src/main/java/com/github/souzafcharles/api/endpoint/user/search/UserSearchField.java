@@ -0,0 +1,20 @@
+package com.github.souzafcharles.api.endpoint.user.search;
+
+import com.github.souzafcharles.api.exceptions.custom.InvalidQueryException;
+import com.github.souzafcharles.api.utils.Messages;
+
+import java.util.Arrays;
+import java.util.Locale;
+
+public enum UserSearchField {
+
+    USERNAME, EMAIL;
+
+    public static UserSearchField fromParameter(String value) {
+        return Arrays.stream(values())
+                .filter(option -> option.name().equalsIgnoreCase(value))
+                .findFirst()
+                .orElseThrow(() -> new InvalidQueryException(String.format(
+                        Messages.USER_SEARCH_OPTION_UNSUPPORTED, "search field", value, Arrays.toString(values()).toLowerCase(Locale.ROOT))));
+    }
+}
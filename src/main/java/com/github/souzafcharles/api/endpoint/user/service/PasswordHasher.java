@@ -0,0 +1,151 @@
+package com.github.souzafcharles.api.endpoint.user.service;
+
+import com.github.souzafcharles.api.exceptions.custom.InvalidQueryException;
+import com.github.souzafcharles.api.exceptions.custom.ServiceBusyException;
+import com.github.souzafcharles.api.utils.Messages;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Hashes passwords with bcrypt on a dedicated fixed-size pool, so the CPU
+ * cost of user writes is bounded by {@code store.password.hash-threads}
+ * instead of by the number of request threads. The pool has a bounded queue.
+ * When it is full, or a hash waits longer than {@code store.password.hash-timeout},
+ * callers get a {@link ServiceBusyException} (503) instead of piling up.
+ * Queue depth and pool activity are published as {@code executor.*}
+ * metrics tagged {@code name=password-hash}.
+ */
+@Component
+public class PasswordHasher {
+
+    /** bcrypt only reads this many bytes of input; longer passwords are rejected by the encoder. */
+    public static final int MAX_PASSWORD_BYTES = 72;
+
+    private static final Logger log = LoggerFactory.getLogger(PasswordHasher.class);
+
+    private final BCryptPasswordEncoder encoder;
+    private final ThreadPoolExecutor executor;
+    private final int threads;
+    private final Duration timeout;
+    private final Counter rejected;
+    private final Timer hashTimer;
+
+    public PasswordHasher(MeterRegistry meterRegistry,
+                          @Value("${store.password.bcrypt-cost:10}") int cost,
+                          @Value("${store.password.hash-threads:0}") int threads,
+                          @Value("${store.password.queue-capacity:256}") int queueCapacity,
+                          @Value("${store.password.hash-timeout:PT5S}") Duration timeout) {
+        this.encoder = new BCryptPasswordEncoder(cost);
+        this.threads = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+        this.timeout = timeout;
+        this.executor = new ThreadPoolExecutor(this.threads, this.threads, 0, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                Thread.ofPlatform().name("password-hash-", 0).daemon().factory(),
+                new ThreadPoolExecutor.AbortPolicy());
+
+        new ExecutorServiceMetrics(executor, "password-hash", Tags.empty()).bindTo(meterRegistry);
+        this.rejected = Counter.builder("store.password.rejected").register(meterRegistry);
+        this.hashTimer = Timer.builder("store.password.hash").tag("cost", String.valueOf(cost)).register(meterRegistry);
+        log.info(Messages.PASSWORD_HASHER_STARTED, cost, this.threads, queueCapacity);
+    }
+
+    public String hash(String rawPassword) {
+        Future<String> future = submit(() -> encode(rawPassword));
+        try {
+            return future.get(timeout.toNanos(), TimeUnit.NANOSECONDS);
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            throw new ServiceBusyException(Messages.PASSWORD_HASHER_RESOURCE);
+        } catch (ExecutionException e) {
+            throw failure(e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            future.cancel(true);
+            throw new ServiceBusyException(Messages.PASSWORD_HASHER_RESOURCE);
+        }
+    }
+
+    /**
+     * Hashes a batch across every pool thread, one contiguous chunk per thread,
+     * and returns the hashes in input order. Chunks the queue cannot take are
+     * hashed on the calling thread instead of being rejected.
+     */
+    public List<String> hashAll(List<String> rawPasswords) {
+        int chunkSize = Math.max(1, (rawPasswords.size() + threads - 1) / threads);
+        List<Future<List<String>>> chunks = new ArrayList<>();
+        for (int from = 0; from < rawPasswords.size(); from += chunkSize) {
+            List<String> chunk = rawPasswords.subList(from, Math.min(from + chunkSize, rawPasswords.size()));
+            Callable<List<String>> task = () -> chunk.stream().map(this::encode).toList();
+            try {
+                chunks.add(executor.submit(task));
+            } catch (RejectedExecutionException e) {
+                FutureTask<List<String>> inline = new FutureTask<>(task);
+                inline.run();
+                chunks.add(inline);
+            }
+        }
+
+        List<String> hashes = new ArrayList<>(rawPasswords.size());
+        try {
+            for (Future<List<String>> chunk : chunks) hashes.addAll(chunk.get());
+        } catch (ExecutionException e) {
+            throw failure(e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            chunks.forEach(chunk -> chunk.cancel(true));
+            throw new IllegalStateException(e);
+        }
+        return hashes;
+    }
+
+    public boolean matches(String rawPassword, String hash) {
+        return encoder.matches(rawPassword, hash);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    private Future<String> submit(Callable<String> task) {
+        try {
+            return executor.submit(task);
+        } catch (RejectedExecutionException e) {
+            rejected.increment();
+            log.warn(Messages.PASSWORD_HASHER_REJECTED, executor.getQueue().size());
+            throw new ServiceBusyException(Messages.PASSWORD_HASHER_RESOURCE);
+        }
+    }
+
+    private RuntimeException failure(Throwable cause) {
+        // The encoder rejects passwords over MAX_PASSWORD_BYTES; request validation should catch them first.
+        if (cause instanceof IllegalArgumentException) return new InvalidQueryException(Messages.PASSWORD_MAX_BYTES);
+        return new IllegalStateException(cause);
+    }
+
+    private String encode(String rawPassword) {
+        return hashTimer.record(() -> encoder.encode(rawPassword));
+    }
+}
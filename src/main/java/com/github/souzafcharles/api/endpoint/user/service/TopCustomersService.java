@@ -0,0 +1,169 @@
+package com.github.souzafcharles.api.endpoint.user.service;
+
+import com.github.souzafcharles.api.endpoint.cart.event.CartChangedEvent;
+import com.github.souzafcharles.api.endpoint.cart.event.CartLineSnapshot;
+import com.github.souzafcharles.api.endpoint.cart.event.CartSnapshot;
+import com.github.souzafcharles.api.endpoint.cartproduct.model.projection.UserSpendView;
+import com.github.souzafcharles.api.endpoint.cartproduct.repository.CartProductRepository;
+import com.github.souzafcharles.api.endpoint.user.model.dto.TopCustomerDTO;
+import com.github.souzafcharles.api.endpoint.user.model.dto.UserResponseDTO;
+import com.github.souzafcharles.api.endpoint.user.repository.UserRepository;
+import com.github.souzafcharles.api.endpoint.user.rollup.SpendRollup;
+import com.github.souzafcharles.api.exceptions.custom.InvalidQueryException;
+import com.github.souzafcharles.api.initializer.SeedingFinishedEvent;
+import com.github.souzafcharles.api.utils.Messages;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.Collectors;
+
+/**
+ * Ranks users by the items and value in their carts from an in-memory
+ * {@link SpendRollup}. The rollup is seeded from one grouped query at startup,
+ * re-seeded on a fixed delay (which also picks up product price changes) and
+ * patched from {@link CartChangedEvent}s in between. Events arriving while
+ * the seed query runs are replayed onto the new rollup before it is swapped in.
+ */
+@Service
+public class TopCustomersService {
+
+    public static final int MAX_TOP_N = 100;
+
+    private static final Logger log = LoggerFactory.getLogger(TopCustomersService.class);
+
+    private final CartProductRepository cartProductRepository;
+    private final UserRepository userRepository;
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final ReentrantLock rebuildLock = new ReentrantLock();
+
+    private SpendRollup rollup = new SpendRollup();
+    private List<CartChangedEvent> pending;
+
+    public TopCustomersService(CartProductRepository cartProductRepository, UserRepository userRepository) {
+        this.cartProductRepository = cartProductRepository;
+        this.userRepository = userRepository;
+    }
+
+    public List<TopCustomerDTO> getTopSpenders(int topN) {
+        return rank(topN, SpendRollup::topBySpend);
+    }
+
+    public List<TopCustomerDTO> getTopBuyers(int topN) {
+        return rank(topN, SpendRollup::topByItems);
+    }
+
+    @EventListener(SeedingFinishedEvent.class)
+    @Scheduled(fixedDelayString = "${store.top-customers.rebuild-interval:PT30M}",
+            initialDelayString = "${store.top-customers.rebuild-interval:PT30M}")
+    public void rebuild() {
+        rebuildLock.lock();
+        try {
+            scanAndSwap();
+        } finally {
+            rebuildLock.unlock();
+        }
+    }
+
+    private void scanAndSwap() {
+        lock.writeLock().lock();
+        try {
+            pending = new ArrayList<>();
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        long start = System.nanoTime();
+        SpendRollup rebuilt = new SpendRollup();
+        boolean scanned = false;
+        try {
+            for (UserSpendView row : cartProductRepository.findSpendPerUser()) {
+                rebuilt.add(row.getUserId(),
+                        row.getTotalItems() != null ? row.getTotalItems() : 0,
+                        row.getTotalValue() != null ? row.getTotalValue() : 0.0);
+            }
+            scanned = true;
+        } finally {
+            lock.writeLock().lock();
+            try {
+                if (scanned) {
+                    pending.forEach(event -> apply(rebuilt, event));
+                    rollup = rebuilt;
+                }
+                pending = null;
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+        log.info(Messages.TOP_CUSTOMERS_REBUILT, rebuilt.size(),
+                TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCartChanged(CartChangedEvent event) {
+        lock.writeLock().lock();
+        try {
+            apply(rollup, event);
+            if (pending != null) pending.add(event);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private static void apply(SpendRollup target, CartChangedEvent event) {
+        apply(target, event.before(), -1);
+        apply(target, event.after(), 1);
+    }
+
+    private static void apply(SpendRollup target, CartSnapshot cart, int sign) {
+        if (cart == null) return;
+        long items = 0;
+        double value = 0;
+        for (CartLineSnapshot line : cart.lines()) {
+            items += line.quantity();
+            value += line.quantity() * line.unitPrice();
+        }
+        target.add(cart.userId(), sign * items, sign * value);
+    }
+
+    private List<TopCustomerDTO> rank(int topN, Ranking ranking) {
+        if (topN < 1 || topN > MAX_TOP_N) {
+            throw new InvalidQueryException(String.format(Messages.TOP_CUSTOMERS_TOP_N_INVALID, MAX_TOP_N, topN));
+        }
+
+        List<SpendRollup.Entry> top;
+        lock.readLock().lock();
+        try {
+            top = ranking.top(rollup, topN);
+        } finally {
+            lock.readLock().unlock();
+        }
+        if (top.isEmpty()) return List.of();
+
+        Map<String, String> usernames = userRepository.findDtosByIdIn(
+                        top.stream().map(SpendRollup.Entry::userId).toList())
+                .stream()
+                .collect(Collectors.toMap(UserResponseDTO::id, UserResponseDTO::username));
+
+        return top.stream()
+                .filter(entry -> usernames.containsKey(entry.userId()))
+                .map(entry -> new TopCustomerDTO(entry.userId(), usernames.get(entry.userId()),
+                        entry.totalItems(), Math.round(entry.totalValue() * 100) / 100.0))
+                .toList();
+    }
+
+    @FunctionalInterface
+    private interface Ranking {
+        List<SpendRollup.Entry> top(SpendRollup rollup, int limit);
+    }
+}
@@ -0,0 +1,283 @@
+package com.github.souzafcharles.api.endpoint.user.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.exc.StreamReadException;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.github.souzafcharles.api.config.ContentNegotiationConfig;
+import com.github.souzafcharles.api.endpoint.user.event.UserChangedEvent;
+import com.github.souzafcharles.api.endpoint.user.event.UserSnapshot;
+import com.github.souzafcharles.api.endpoint.user.model.dto.UserBulkImportErrorDTO;
+import com.github.souzafcharles.api.endpoint.user.model.dto.UserBulkImportResultDTO;
+import com.github.souzafcharles.api.endpoint.user.model.dto.UserRequestDTO;
+import com.github.souzafcharles.api.endpoint.user.model.entity.User;
+import com.github.souzafcharles.api.endpoint.user.model.projection.UserIdentityView;
+import com.github.souzafcharles.api.endpoint.user.repository.UserRepository;
+import com.github.souzafcharles.api.utils.Messages;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Imports users from newline-delimited JSON, one {@link UserRequestDTO} per
+ * line, or from a JSON, CBOR or Smile array or value sequence. Lines are parsed and
+ * validated as they are read and accumulated into batches of
+ * {@code store.users.bulk-batch-size}. Each batch runs one
+ * {@code IN} query for the emails and usernames the Bloom filters cannot rule
+ * out, hashes its passwords across the hashing pool and is inserted in its own
+ * transaction, so memory stays flat and a failing batch does not roll back
+ * earlier ones. Invalid or duplicate lines are skipped and reported by line
+ * number.
+ */
+@Service
+public class UserBulkImportService {
+
+    public static final int MAX_REPORTED_ERRORS = 100;
+
+    private static final Logger log = LoggerFactory.getLogger(UserBulkImportService.class);
+
+    private final UserRepository userRepository;
+    private final UserIdentityFilter identityFilter;
+    private final PasswordHasher passwordHasher;
+    private final ApplicationEventPublisher eventPublisher;
+    private final Validator validator;
+    private final ObjectReader reader;
+    private final ObjectReader cborReader;
+    private final ObjectReader smileReader;
+    private final TransactionTemplate transaction;
+    private final int batchSize;
+
+    public UserBulkImportService(UserRepository userRepository,
+                                 UserIdentityFilter identityFilter,
+                                 PasswordHasher passwordHasher,
+                                 ApplicationEventPublisher eventPublisher,
+                                 Validator validator,
+                                 ObjectMapper objectMapper,
+                                 PlatformTransactionManager transactionManager,
+                                 @Value("${store.users.bulk-batch-size:500}") int batchSize) {
+        this.userRepository = userRepository;
+        this.identityFilter = identityFilter;
+        this.passwordHasher = passwordHasher;
+        this.eventPublisher = eventPublisher;
+        this.validator = validator;
+        this.reader = objectMapper.readerFor(UserRequestDTO.class);
+        this.cborReader = objectMapper.copyWith(new CBORFactory()).readerFor(UserRequestDTO.class);
+        this.smileReader = objectMapper.copyWith(new SmileFactory()).readerFor(UserRequestDTO.class);
+        this.transaction = new TransactionTemplate(transactionManager);
+        this.batchSize = batchSize;
+    }
+
+    public UserBulkImportResultDTO importUsers(InputStream in) throws IOException {
+        return importUsers(in, MediaType.APPLICATION_NDJSON);
+    }
+
+    /**
+     * Imports a body of the given type: newline-delimited JSON, or a sequence
+     * of JSON, CBOR or Smile values, or a single array of them. Values are
+     * numbered from 1 in place of lines.
+     */
+    public UserBulkImportResultDTO importUsers(InputStream in, MediaType contentType) throws IOException {
+        Progress progress = new Progress();
+        List<Line> batch = new ArrayList<>(batchSize);
+        ObjectReader valueReader = valueReaderFor(contentType);
+        if (valueReader == null) {
+            readLines(in, progress, batch);
+        } else {
+            readValues(valueReader, in, progress, batch);
+        }
+        if (!batch.isEmpty()) flush(batch, progress);
+
+        log.info(Messages.USER_BULK_COMPLETED, progress.received, progress.created, progress.rejected);
+        progress.errors.sort(Comparator.comparingLong(UserBulkImportErrorDTO::line));
+        return new UserBulkImportResultDTO(progress.received, progress.created, progress.rejected,
+                List.copyOf(progress.errors));
+    }
+
+    private ObjectReader valueReaderFor(MediaType contentType) {
+        if (contentType == null) return null;
+        if (contentType.isCompatibleWith(MediaType.APPLICATION_JSON)) return reader;
+        if (contentType.isCompatibleWith(MediaType.APPLICATION_CBOR)) return cborReader;
+        if (contentType.isCompatibleWith(ContentNegotiationConfig.APPLICATION_SMILE)) return smileReader;
+        return null;
+    }
+
+    private void readLines(InputStream in, Progress progress, List<Line> batch) throws IOException {
+        BufferedReader lines = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8));
+        long number = 0;
+        for (String text = lines.readLine(); text != null; text = lines.readLine()) {
+            number++;
+            if (text.isBlank()) continue;
+            progress.received++;
+
+            UserRequestDTO dto;
+            try {
+                dto = reader.readValue(text);
+            } catch (JsonProcessingException e) {
+                progress.reject(number, String.format(Messages.USER_BULK_MALFORMED_LINE, e.getOriginalMessage()));
+                continue;
+            }
+            if (dto == null) {
+                progress.reject(number, String.format(Messages.USER_BULK_MALFORMED_LINE, text));
+                continue;
+            }
+            accept(number, dto, progress, batch);
+        }
+    }
+
+    private void readValues(ObjectReader valueReader, InputStream in, Progress progress, List<Line> batch)
+            throws IOException {
+        try (MappingIterator<UserRequestDTO> values = valueReader.readValues(in)) {
+            long number = 0;
+            while (values.hasNextValue()) {
+                number++;
+                progress.received++;
+                UserRequestDTO dto;
+                try {
+                    dto = values.nextValue();
+                } catch (StreamReadException e) {
+                    // Corrupt input cannot be resynchronised outside line mode, so the rest of the body is dropped.
+                    progress.reject(number, String.format(Messages.USER_BULK_MALFORMED_LINE, e.getOriginalMessage()));
+                    return;
+                } catch (JsonProcessingException e) {
+                    progress.reject(number, String.format(Messages.USER_BULK_MALFORMED_LINE, e.getOriginalMessage()));
+                    continue;
+                }
+                if (dto == null) {
+                    progress.reject(number, String.format(Messages.USER_BULK_MALFORMED_LINE, "null"));
+                    continue;
+                }
+                accept(number, dto, progress, batch);
+            }
+        }
+    }
+
+    private void accept(long number, UserRequestDTO dto, Progress progress, List<Line> batch) {
+        Set<ConstraintViolation<UserRequestDTO>> violations = validator.validate(dto);
+        if (!violations.isEmpty()) {
+            progress.reject(number, violations.stream()
+                    .map(ConstraintViolation::getMessage)
+                    .sorted()
+                    .collect(Collectors.joining("; ")));
+            return;
+        }
+
+        batch.add(new Line(number, dto));
+        if (batch.size() == batchSize) {
+            flush(batch, progress);
+            batch.clear();
+        }
+    }
+
+    private void flush(List<Line> batch, Progress progress) {
+        List<Line> accepted = withoutDuplicates(batch, progress);
+        if (accepted.isEmpty()) return;
+
+        List<String> hashes = passwordHasher.hashAll(accepted.stream().map(line -> line.user().password()).toList());
+        List<User> users = new ArrayList<>(accepted.size());
+        for (int i = 0; i < accepted.size(); i++) {
+            UserRequestDTO dto = accepted.get(i).user();
+            User user = new User();
+            user.setUsername(dto.username());
+            user.setEmail(dto.email());
+            user.setPassword(hashes.get(i));
+            identityFilter.add(user.getUsername(), user.getEmail());
+            users.add(user);
+        }
+
+        try {
+            transaction.executeWithoutResult(status -> {
+                List<User> saved = userRepository.saveAll(users);
+                userRepository.flush();
+                saved.forEach(user -> eventPublisher.publishEvent(UserChangedEvent.created(new UserSnapshot(user))));
+            });
+            progress.created += users.size();
+        } catch (DataIntegrityViolationException e) {
+            log.warn(Messages.USER_BULK_BATCH_FAILED, accepted.getFirst().number(), accepted.getLast().number(),
+                    e.getMostSpecificCause().getMessage());
+            accepted.forEach(line -> progress.reject(line.number(), Messages.USER_BULK_BATCH_CONFLICT));
+        }
+    }
+
+    /**
+     * Drops lines whose email or username repeats an earlier line of the same
+     * batch or already exists, using a single query for the whole batch.
+     * Earlier batches are committed by then, so the query also covers them.
+     */
+    private List<Line> withoutDuplicates(List<Line> batch, Progress progress) {
+        Set<String> candidateEmails = new HashSet<>();
+        Set<String> candidateUsernames = new HashSet<>();
+        for (Line line : batch) {
+            if (identityFilter.mightContainEmail(line.user().email())) candidateEmails.add(line.user().email());
+            if (identityFilter.mightContainUsername(line.user().username())) candidateUsernames.add(line.user().username());
+        }
+
+        Set<String> takenEmails = new HashSet<>();
+        Set<String> takenUsernames = new HashSet<>();
+        if (!candidateEmails.isEmpty() || !candidateUsernames.isEmpty()) {
+            // Validated emails and usernames are never blank, so "" stands in for an empty IN list.
+            for (UserIdentityView existing : userRepository.findIdentitiesByEmailInOrUsernameIn(
+                    candidateEmails.isEmpty() ? Set.of("") : candidateEmails,
+                    candidateUsernames.isEmpty() ? Set.of("") : candidateUsernames)) {
+                takenEmails.add(existing.getEmail());
+                takenUsernames.add(existing.getUsername());
+            }
+            candidateEmails.stream().filter(email -> !takenEmails.contains(email))
+                    .forEach(email -> identityFilter.recordFalsePositive(UserIdentityFilter.Kind.EMAIL));
+            candidateUsernames.stream().filter(username -> !takenUsernames.contains(username))
+                    .forEach(username -> identityFilter.recordFalsePositive(UserIdentityFilter.Kind.USERNAME));
+        }
+
+        List<Line> accepted = new ArrayList<>(batch.size());
+        for (Line line : batch) {
+            String email = line.user().email();
+            String username = line.user().username();
+            if (takenEmails.contains(email)) {
+                progress.reject(line.number(), String.format(Messages.EXCEPTION_DUPLICATE_EMAIL, email));
+            } else if (takenUsernames.contains(username)) {
+                progress.reject(line.number(), String.format(Messages.EXCEPTION_DUPLICATE_USERNAME, username));
+            } else {
+                takenEmails.add(email);
+                takenUsernames.add(username);
+                accepted.add(line);
+            }
+        }
+        return accepted;
+    }
+
+    private record Line(long number, UserRequestDTO user) { }
+
+    private static final class Progress {
+        private long received;
+        private long created;
+        private long rejected;
+        private final List<UserBulkImportErrorDTO> errors = new ArrayList<>();
+
+        private void reject(long line, String reason) {
+            rejected++;
+            if (errors.size() < MAX_REPORTED_ERRORS) errors.add(new UserBulkImportErrorDTO(line, reason));
+        }
+    }
+}
@@ -0,0 +1,60 @@
+package com.github.souzafcharles.api.endpoint.user.service;
+
+import com.github.souzafcharles.api.endpoint.user.event.UserChangedEvent;
+import com.github.souzafcharles.api.endpoint.user.event.UserSnapshot;
+import com.github.souzafcharles.api.endpoint.user.repository.UserRepository;
+import com.github.souzafcharles.api.initializer.SeedingFinishedEvent;
+import com.github.souzafcharles.api.utils.Messages;
+import com.github.souzafcharles.api.utils.ReconciledCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * In-memory count of registered users, adjusted from {@link UserChangedEvent}s
+ * after commit and reconciled against the database on a fixed delay.
+ */
+@Component
+public class UserCounter {
+
+    private static final Logger log = LoggerFactory.getLogger(UserCounter.class);
+    private static final String NAME = "users";
+
+    private final UserRepository userRepository;
+    private final ReconciledCounter counter;
+
+    public UserCounter(UserRepository userRepository, MeterRegistry meterRegistry) {
+        this.userRepository = userRepository;
+        this.counter = new ReconciledCounter(NAME, meterRegistry);
+    }
+
+    public long get() {
+        return counter.get();
+    }
+
+    @EventListener(SeedingFinishedEvent.class)
+    public void seed() {
+        counter.reset(userRepository.countByUsernameIsNotNull());
+        log.info(Messages.COUNTER_SEEDED, NAME, counter.get());
+    }
+
+    @Scheduled(fixedDelayString = "${store.counters.reconcile-interval:PT5M}",
+            initialDelayString = "${store.counters.reconcile-interval:PT5M}")
+    public void reconcile() {
+        long drift = counter.reconcile(userRepository::countByUsernameIsNotNull);
+        if (drift != 0) log.warn(Messages.COUNTER_DRIFT_CORRECTED, NAME, drift, counter.get());
+    }
+
+    /** Runs at publish time, inside the writer's transaction, so the delta is tracked until it commits. */
+    @EventListener
+    public void onUserChanged(UserChangedEvent event) {
+        counter.addAfterCommit(counted(event.after()) - counted(event.before()));
+    }
+
+    private static long counted(UserSnapshot user) {
+        return user != null ? 1 : 0;
+    }
+}
@@ -0,0 +1,193 @@
+package com.github.souzafcharles.api.endpoint.user.service;
+
+import com.github.souzafcharles.api.endpoint.user.model.dto.UserResponseDTO;
+import com.github.souzafcharles.api.endpoint.user.repository.UserRepository;
+import com.github.souzafcharles.api.initializer.SeedingFinishedEvent;
+import com.github.souzafcharles.api.utils.BloomFilter;
+import com.github.souzafcharles.api.utils.Messages;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.Stream;
+
+/**
+ * Bloom filters over the emails and usernames in tb_user, so duplicate checks
+ * can skip the repository for values that are definitely free. Until the first
+ * build completes every value is reported as a possible hit. Values are added
+ * before the writing transaction commits; a rolled-back or deleted user only
+ * costs a false positive. Once more values have been added than the filters
+ * were sized for, they are rebuilt from the database in the background at
+ * twice the user count. Values added while a rebuild is scanning are replayed
+ * into the new filters before they are swapped in.
+ */
+@Component
+public class UserIdentityFilter {
+
+    public enum Kind { EMAIL, USERNAME }
+
+    private static final Logger log = LoggerFactory.getLogger(UserIdentityFilter.class);
+
+    private final UserRepository userRepository;
+    private final TransactionTemplate readOnlyTransaction;
+    private final int minimumCapacity;
+    private final double falsePositiveRate;
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final AtomicBoolean resizeRequested = new AtomicBoolean();
+    private final ExecutorService resizer = Executors.newSingleThreadExecutor(
+            Thread.ofPlatform().name("user-filter-resize").daemon().factory());
+    private final Map<Kind, Counter> negatives = new EnumMap<>(Kind.class);
+    private final Map<Kind, Counter> falsePositives = new EnumMap<>(Kind.class);
+
+    private final Map<Kind, BloomFilter> filters = new EnumMap<>(Kind.class);
+    private List<UserResponseDTO> pending;
+
+    public UserIdentityFilter(UserRepository userRepository,
+                              PlatformTransactionManager transactionManager,
+                              MeterRegistry meterRegistry,
+                              @Value("${store.user-filter.expected-insertions:10000}") int minimumCapacity,
+                              @Value("${store.user-filter.false-positive-rate:0.01}") double falsePositiveRate) {
+        this.userRepository = userRepository;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.minimumCapacity = minimumCapacity;
+        this.falsePositiveRate = falsePositiveRate;
+
+        for (Kind kind : Kind.values()) {
+            String tag = kind.name().toLowerCase(Locale.ROOT);
+            negatives.put(kind, Counter.builder("store.bloom.negatives").tag("filter", tag).register(meterRegistry));
+            falsePositives.put(kind, Counter.builder("store.bloom.false-positives").tag("filter", tag).register(meterRegistry));
+            Gauge.builder("store.bloom.expected-fpp", this, filter -> filter.expectedFalsePositiveRate(kind))
+                    .tag("filter", tag)
+                    .register(meterRegistry);
+        }
+    }
+
+    public boolean mightContainEmail(String email) {
+        return mightContain(Kind.EMAIL, email);
+    }
+
+    public boolean mightContainUsername(String username) {
+        return mightContain(Kind.USERNAME, username);
+    }
+
+    /** Called when a possible hit turned out to be absent from the repository. */
+    public void recordFalsePositive(Kind kind) {
+        falsePositives.get(kind).increment();
+    }
+
+    public void add(String username, String email) {
+        boolean saturated;
+        lock.writeLock().lock();
+        try {
+            if (!filters.isEmpty()) {
+                filters.get(Kind.USERNAME).put(username);
+                filters.get(Kind.EMAIL).put(email);
+            }
+            if (pending != null) pending.add(new UserResponseDTO(null, username, email));
+            saturated = !filters.isEmpty() && filters.get(Kind.EMAIL).isSaturated();
+        } finally {
+            lock.writeLock().unlock();
+        }
+        if (saturated && resizeRequested.compareAndSet(false, true)) {
+            resizer.execute(() -> {
+                try {
+                    rebuild();
+                } finally {
+                    resizeRequested.set(false);
+                }
+            });
+        }
+    }
+
+    public double expectedFalsePositiveRate(Kind kind) {
+        lock.readLock().lock();
+        try {
+            BloomFilter filter = filters.get(kind);
+            return filter == null ? Double.NaN : filter.expectedFalsePositiveRate();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @EventListener(SeedingFinishedEvent.class)
+    public void rebuild() {
+        lock.writeLock().lock();
+        try {
+            if (pending != null) return;
+            pending = new ArrayList<>();
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        long start = System.nanoTime();
+        Map<Kind, BloomFilter> rebuilt = new EnumMap<>(Kind.class);
+        boolean scanned = false;
+        try {
+            int capacity = (int) Math.min(Integer.MAX_VALUE / 2, Math.max(minimumCapacity, userRepository.count() * 2));
+            rebuilt.put(Kind.EMAIL, BloomFilter.create(capacity, falsePositiveRate));
+            rebuilt.put(Kind.USERNAME, BloomFilter.create(capacity, falsePositiveRate));
+            readOnlyTransaction.executeWithoutResult(status -> {
+                try (Stream<UserResponseDTO> users = userRepository.streamAllAsDto()) {
+                    users.forEach(user -> put(rebuilt, user));
+                }
+            });
+            scanned = true;
+        } finally {
+            lock.writeLock().lock();
+            try {
+                if (scanned) {
+                    pending.forEach(user -> put(rebuilt, user));
+                    filters.putAll(rebuilt);
+                }
+                pending = null;
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+        log.info(Messages.USER_FILTER_REBUILT, rebuilt.get(Kind.EMAIL).insertions(), rebuilt.get(Kind.EMAIL).capacity(),
+                TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        resizer.shutdownNow();
+    }
+
+    private boolean mightContain(Kind kind, String value) {
+        boolean possible;
+        lock.readLock().lock();
+        try {
+            BloomFilter filter = filters.get(kind);
+            possible = filter == null || filter.mightContain(value);
+        } finally {
+            lock.readLock().unlock();
+        }
+        if (!possible) negatives.get(kind).increment();
+        return possible;
+    }
+
+    private static void put(Map<Kind, BloomFilter> target, UserResponseDTO user) {
+        target.get(Kind.USERNAME).put(user.username());
+        target.get(Kind.EMAIL).put(user.email());
+    }
+}
@@ -0,0 +1,209 @@
+package com.github.souzafcharles.api.endpoint.user.service;
+
+import com.github.souzafcharles.api.endpoint.user.event.UserChangedEvent;
+import com.github.souzafcharles.api.endpoint.user.event.UserSnapshot;
+import com.github.souzafcharles.api.endpoint.user.model.dto.UserResponseDTO;
+import com.github.souzafcharles.api.endpoint.user.repository.UserRepository;
+import com.github.souzafcharles.api.endpoint.user.search.TrigramIndex;
+import com.github.souzafcharles.api.endpoint.user.search.UserSearchField;
+import com.github.souzafcharles.api.endpoint.user.search.UserSearchMode;
+import com.github.souzafcharles.api.initializer.SeedingFinishedEvent;
+import com.github.souzafcharles.api.utils.Messages;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.Stream;
+
+/**
+ * In-memory trigram indexes over usernames and emails backing /users/search.
+ * Built from tb_user at startup (or on the first search, whichever comes
+ * first) and patched from {@link UserChangedEvent}s after commit. Events
+ * arriving while a rebuild is scanning are replayed onto the new index
+ * before it is swapped in. Updates and deletes leave tombstones behind, so
+ * once they outnumber the live users (and pass a small floor) the indexes
+ * are compacted in memory by re-adding the live users.
+ */
+@Component
+public class UserSearchIndex {
+
+    private static final Logger log = LoggerFactory.getLogger(UserSearchIndex.class);
+
+    static final int COMPACTION_MIN_TOMBSTONES = 64;
+
+    private final UserRepository userRepository;
+    private final TransactionTemplate readOnlyTransaction;
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final ReentrantLock rebuildLock = new ReentrantLock();
+
+    private Indexes indexes;
+    private List<UserChangedEvent> pending;
+
+    /** Both indexes receive every user in the same order, so their document ids line up. */
+    private static final class Indexes {
+        final TrigramIndex usernames = new TrigramIndex();
+        final TrigramIndex emails = new TrigramIndex();
+        final List<UserResponseDTO> users = new ArrayList<>();
+        final Map<String, Integer> docByUserId = new HashMap<>();
+
+        void put(UserResponseDTO user) {
+            remove(user.id());
+            int doc = usernames.add(user.username());
+            emails.add(user.email());
+            users.add(user);
+            docByUserId.put(user.id(), doc);
+        }
+
+        void remove(String userId) {
+            Integer doc = docByUserId.remove(userId);
+            if (doc == null) return;
+            usernames.remove(doc);
+            emails.remove(doc);
+            users.set(doc, null);
+        }
+
+        boolean needsCompaction() {
+            int tombstones = usernames.tombstones();
+            return tombstones >= COMPACTION_MIN_TOMBSTONES && tombstones > usernames.size();
+        }
+
+        /** Re-adds the live users in their current order, dropping tombstoned documents and postings. */
+        Indexes compacted() {
+            Indexes compacted = new Indexes();
+            for (UserResponseDTO user : users) {
+                if (user != null) compacted.put(user);
+            }
+            return compacted;
+        }
+
+        void apply(UserChangedEvent event) {
+            UserSnapshot after = event.after();
+            if (after == null) remove(event.userId());
+            else put(new UserResponseDTO(after.id(), after.username(), after.email()));
+        }
+    }
+
+    public UserSearchIndex(UserRepository userRepository, PlatformTransactionManager transactionManager) {
+        this.userRepository = userRepository;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+    }
+
+    public List<UserResponseDTO> search(String keyword, UserSearchField field, UserSearchMode mode, int offset, int limit) {
+        ensureBuilt();
+        lock.readLock().lock();
+        try {
+            TrigramIndex index = field == UserSearchField.EMAIL ? indexes.emails : indexes.usernames;
+            return Arrays.stream(index.search(keyword, mode == UserSearchMode.PREFIX, offset, limit))
+                    .mapToObj(indexes.users::get)
+                    .toList();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @EventListener(SeedingFinishedEvent.class)
+    public void rebuild() {
+        // Serialises rebuilds without a monitor: the scan runs on request threads, which may be virtual.
+        rebuildLock.lock();
+        try {
+            scanAndSwap();
+        } finally {
+            rebuildLock.unlock();
+        }
+    }
+
+    private void scanAndSwap() {
+        lock.writeLock().lock();
+        try {
+            pending = new ArrayList<>();
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        long start = System.nanoTime();
+        Indexes rebuilt = new Indexes();
+        boolean scanned = false;
+        try {
+            readOnlyTransaction.executeWithoutResult(status -> {
+                try (Stream<UserResponseDTO> users = userRepository.streamAllAsDto()) {
+                    users.forEach(rebuilt::put);
+                }
+            });
+            scanned = true;
+        } finally {
+            lock.writeLock().lock();
+            try {
+                if (scanned) {
+                    pending.forEach(rebuilt::apply);
+                    indexes = rebuilt;
+                }
+                pending = null;
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+        log.info(Messages.USER_SEARCH_INDEX_REBUILT, rebuilt.usernames.size(),
+                TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onUserChanged(UserChangedEvent event) {
+        lock.writeLock().lock();
+        try {
+            if (indexes != null) {
+                indexes.apply(event);
+                if (indexes.needsCompaction()) compact();
+            }
+            if (pending != null) pending.add(event);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /** Caller holds the write lock. */
+    private void compact() {
+        int tombstones = indexes.usernames.tombstones();
+        long start = System.nanoTime();
+        indexes = indexes.compacted();
+        log.debug(Messages.USER_SEARCH_INDEX_COMPACTED, tombstones, indexes.usernames.size(),
+                TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+    }
+
+    int tombstones() {
+        lock.readLock().lock();
+        try {
+            return indexes == null ? 0 : indexes.usernames.tombstones();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void ensureBuilt() {
+        lock.readLock().lock();
+        try {
+            if (indexes != null) return;
+        } finally {
+            lock.readLock().unlock();
+        }
+        rebuildLock.lock();
+        try {
+            if (indexes == null) scanAndSwap();
+        } finally {
+            rebuildLock.unlock();
+        }
+    }
+}
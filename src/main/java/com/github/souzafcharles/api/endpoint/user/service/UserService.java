@@ -1,30 +1,77 @@
 package com.github.souzafcharles.api.endpoint.user.service;
 
+import com.github.souzafcharles.api.endpoint.cart.event.CartChangedEvent;
+import com.github.souzafcharles.api.endpoint.cart.event.CartSnapshot;
+import com.github.souzafcharles.api.endpoint.cart.model.dto.CartSummaryDTO;
+import com.github.souzafcharles.api.endpoint.cart.repository.CartRepository;
+import com.github.souzafcharles.api.endpoint.user.event.UserChangedEvent;
+import com.github.souzafcharles.api.endpoint.user.event.UserSnapshot;
 import com.github.souzafcharles.api.exceptions.custom.DatabaseException;
 import com.github.souzafcharles.api.exceptions.custom.DuplicateEmailException;
+import com.github.souzafcharles.api.exceptions.custom.DuplicateUsernameException;
+import com.github.souzafcharles.api.exceptions.custom.InvalidQueryException;
 import com.github.souzafcharles.api.exceptions.custom.ResourceNotFoundException;
 import com.github.souzafcharles.api.endpoint.user.model.dto.UserRequestDTO;
 import com.github.souzafcharles.api.endpoint.user.model.dto.UserResponseDTO;
+import com.github.souzafcharles.api.endpoint.user.model.dto.UserSummaryDTO;
 import com.github.souzafcharles.api.endpoint.user.model.entity.User;
+import com.github.souzafcharles.api.endpoint.user.model.projection.UserSummaryView;
 import com.github.souzafcharles.api.endpoint.user.repository.UserRepository;
+import com.github.souzafcharles.api.endpoint.user.search.UserSearchField;
+import com.github.souzafcharles.api.endpoint.user.search.UserSearchMode;
 import com.github.souzafcharles.api.utils.Messages;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
 
 @Service
 @Transactional
 public class UserService {
 
-    private final UserRepository userRepository;
+    public static final int MAX_SEARCH_PAGE_SIZE = 1000;
+    public static final int MAX_IDS_PER_REQUEST = 1000;
+    public static final int MAX_SUMMARY_RECENT_CARTS = 50;
 
-    public UserService(UserRepository userRepository) {
+    private final UserRepository userRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final UserCounter userCounter;
+    private final UserIdentityFilter identityFilter;
+    private final UserSearchIndex searchIndex;
+    private final PasswordHasher passwordHasher;
+    private final CartRepository cartRepository;
+    private final TransactionTemplate transaction;
+
+    public UserService(UserRepository userRepository,
+                       ApplicationEventPublisher eventPublisher,
+                       UserCounter userCounter,
+                       UserIdentityFilter identityFilter,
+                       UserSearchIndex searchIndex,
+                       PasswordHasher passwordHasher,
+                       CartRepository cartRepository,
+                       PlatformTransactionManager transactionManager) {
         this.userRepository = userRepository;
+        this.eventPublisher = eventPublisher;
+        this.userCounter = userCounter;
+        this.identityFilter = identityFilter;
+        this.searchIndex = searchIndex;
+        this.passwordHasher = passwordHasher;
+        this.cartRepository = cartRepository;
+        this.transaction = new TransactionTemplate(transactionManager);
     }
 
     public Page<UserResponseDTO> getAllUsers(Pageable pageable) {
@@ -43,51 +90,115 @@ public class UserService {
         return new UserResponseDTO(user);
     }
 
-    public UserResponseDTO createUser(UserRequestDTO dto) {
-        userRepository.findByEmail(dto.email())
-                .ifPresent(existing -> { throw new DuplicateEmailException(dto.email()); });
-
-        User user = new User();
-        user.setUsername(dto.username());
-        user.setEmail(dto.email());
-        user.setPassword(dto.password());
-
-        try {
-            return new UserResponseDTO(userRepository.save(user));
-        } catch (DataIntegrityViolationException e) {
-            throw new DatabaseException(e.getMessage());
+    /**
+     * Profile view of a user: the user, cart count, total items and total value
+     * come from one aggregate query, and the latest {@code recentCarts} carts
+     * with their own totals from one projection query.
+     */
+    @Transactional(readOnly = true)
+    public UserSummaryDTO getUserSummary(String id, int recentCarts) {
+        if (recentCarts < 0 || recentCarts > MAX_SUMMARY_RECENT_CARTS) {
+            throw new InvalidQueryException(String.format(Messages.USER_SUMMARY_RECENT_CARTS_INVALID,
+                    MAX_SUMMARY_RECENT_CARTS, recentCarts));
         }
-    }
-
-    public UserResponseDTO updateUser(String id, UserRequestDTO dto) {
-        User user = userRepository.findById(id)
+        UserSummaryView summary = userRepository.findSummaryById(id)
                 .orElseThrow(() -> ResourceNotFoundException.forUser(id));
+        List<CartSummaryDTO> carts = recentCarts == 0 || summary.getCartCount() == 0
+                ? List.of()
+                : cartRepository.findRecentSummariesByUserId(id, PageRequest.of(0, recentCarts)).stream()
+                        .map(CartSummaryDTO::new)
+                        .toList();
+        return new UserSummaryDTO(summary, carts);
+    }
 
-        if (dto.email() != null) {
-            userRepository.findByEmail(dto.email())
-                    .filter(existing -> !existing.getId().equals(id))
-                    .ifPresent(existing -> { throw new DuplicateEmailException(dto.email()); });
+    /**
+     * Resolves all ids with one {@code IN} query and returns the users in the
+     * order the ids were given; unknown ids are left out.
+     */
+    public List<UserResponseDTO> getUsersByIds(List<String> ids) {
+        if (ids.size() > MAX_IDS_PER_REQUEST) {
+            throw new InvalidQueryException(String.format(Messages.USER_IDS_LIMIT_EXCEEDED, MAX_IDS_PER_REQUEST, ids.size()));
         }
+        if (ids.isEmpty()) return List.of();
 
-        user.setUsername(dto.username());
-        user.setEmail(dto.email());
-        user.setPassword(dto.password());
+        Map<String, UserResponseDTO> byId = new HashMap<>();
+        userRepository.findDtosByIdIn(new HashSet<>(ids)).forEach(user -> byId.put(user.id(), user));
+        return ids.stream()
+                .map(byId::get)
+                .filter(Objects::nonNull)
+                .toList();
+    }
 
-        try {
-            return new UserResponseDTO(userRepository.save(user));
-        } catch (DataIntegrityViolationException e) {
-            throw new DatabaseException(e.getMessage());
-        }
+    /**
+     * Hashes the password before the write transaction opens, so no JDBC
+     * connection is held while the request waits on the hashing pool.
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public UserResponseDTO createUser(UserRequestDTO dto) {
+        checkEmailAvailable(dto.email(), null);
+        checkUsernameAvailable(dto.username(), null);
+        String passwordHash = passwordHasher.hash(dto.password());
+
+        return transaction.execute(status -> {
+            User user = new User();
+            user.setUsername(dto.username());
+            user.setEmail(dto.email());
+            user.setPassword(passwordHash);
+            identityFilter.add(user.getUsername(), user.getEmail());
+
+            User saved;
+            try {
+                saved = userRepository.save(user);
+            } catch (DataIntegrityViolationException e) {
+                throw new DatabaseException(e.getMessage());
+            }
+            eventPublisher.publishEvent(UserChangedEvent.created(new UserSnapshot(saved)));
+            return new UserResponseDTO(saved);
+        });
+    }
+
+    /** Hashes outside the write transaction, like {@link #createUser}. */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public UserResponseDTO updateUser(String id, UserRequestDTO dto) {
+        String passwordHash = passwordHasher.hash(dto.password());
+
+        return transaction.execute(status -> {
+            User user = userRepository.findById(id)
+                    .orElseThrow(() -> ResourceNotFoundException.forUser(id));
+
+            if (dto.email() != null) checkEmailAvailable(dto.email(), id);
+            if (dto.username() != null) checkUsernameAvailable(dto.username(), id);
+
+            UserSnapshot before = new UserSnapshot(user);
+            user.setUsername(dto.username());
+            user.setEmail(dto.email());
+            user.setPassword(passwordHash);
+            identityFilter.add(user.getUsername(), user.getEmail());
+
+            User saved;
+            try {
+                saved = userRepository.save(user);
+            } catch (DataIntegrityViolationException e) {
+                throw new DatabaseException(e.getMessage());
+            }
+            eventPublisher.publishEvent(new UserChangedEvent(before, new UserSnapshot(saved)));
+            return new UserResponseDTO(saved);
+        });
     }
 
     public void deleteUser(String id) {
         User user = userRepository.findById(id)
                 .orElseThrow(() -> ResourceNotFoundException.forUser(id));
+        List<CartSnapshot> cascadedCarts = user.getCarts().stream()
+                .map(CartSnapshot::new)
+                .toList();
         try {
             userRepository.delete(user);
         } catch (DataIntegrityViolationException e) {
             throw new DatabaseException(e.getMessage());
         }
+        cascadedCarts.forEach(cart -> eventPublisher.publishEvent(CartChangedEvent.deleted(cart)));
+        eventPublisher.publishEvent(UserChangedEvent.deleted(new UserSnapshot(user)));
     }
 
     public UserResponseDTO getUserByUsername(String username) {
@@ -102,13 +213,34 @@ public class UserService {
                 .orElseThrow(() -> ResourceNotFoundException.forUser(email));
     }
 
-    public List<UserResponseDTO> searchUsersByUsername(String keyword) {
-        return userRepository.findByUsernameContainingIgnoreCase(keyword).stream()
-                .map(UserResponseDTO::new)
-                .toList();
+    public List<UserResponseDTO> searchUsers(String keyword, UserSearchField field, UserSearchMode mode, int page, int size) {
+        if (page < 0 || size < 1 || size > MAX_SEARCH_PAGE_SIZE || (long) page * size > Integer.MAX_VALUE) {
+            throw new InvalidQueryException(String.format(Messages.USER_SEARCH_PAGING_INVALID, MAX_SEARCH_PAGE_SIZE, page, size));
+        }
+        return searchIndex.search(keyword, field, mode, page * size, size);
     }
 
     public long countUsers() {
-        return userRepository.countByUsernameIsNotNull();
+        return userCounter.get();
+    }
+
+    private void checkEmailAvailable(String email, String currentUserId) {
+        if (!identityFilter.mightContainEmail(email)) return;
+        Optional<User> existing = userRepository.findByEmail(email);
+        if (existing.isEmpty()) {
+            identityFilter.recordFalsePositive(UserIdentityFilter.Kind.EMAIL);
+        } else if (!existing.get().getId().equals(currentUserId)) {
+            throw new DuplicateEmailException(email);
+        }
+    }
+
+    private void checkUsernameAvailable(String username, String currentUserId) {
+        if (!identityFilter.mightContainUsername(username)) return;
+        Optional<User> existing = userRepository.findByUsername(username);
+        if (existing.isEmpty()) {
+            identityFilter.recordFalsePositive(UserIdentityFilter.Kind.USERNAME);
+        } else if (!existing.get().getId().equals(currentUserId)) {
+            throw new DuplicateUsernameException(username);
+        }
     }
 }
\ No newline at end of file
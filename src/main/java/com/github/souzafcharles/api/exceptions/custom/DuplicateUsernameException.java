@@ -0,0 +1,9 @@
+package com.github.souzafcharles.api.exceptions.custom;
+
+import com.github.souzafcharles.api.utils.Messages;
+
+public class DuplicateUsernameException extends RuntimeException {
+    public DuplicateUsernameException(Object username) {
+        super(String.format(Messages.EXCEPTION_DUPLICATE_USERNAME, username));
+    }
+}
\ No newline at end of file
@@ -0,0 +1,9 @@
+package com.github.souzafcharles.api.exceptions.custom;
+
+import com.github.souzafcharles.api.utils.Messages;
+
+public class InvalidQueryException extends RuntimeException {
+    public InvalidQueryException(String message) {
+        super(String.format(Messages.EXCEPTION_INVALID_QUERY, message));
+    }
+}
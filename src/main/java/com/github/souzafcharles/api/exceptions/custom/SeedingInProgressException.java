@@ -0,0 +1,9 @@
+package com.github.souzafcharles.api.exceptions.custom;
+
+import com.github.souzafcharles.api.utils.Messages;
+
+public class SeedingInProgressException extends RuntimeException {
+    public SeedingInProgressException(Object status) {
+        super(String.format(Messages.EXCEPTION_SEEDING_IN_PROGRESS, status));
+    }
+}
@@ -0,0 +1,9 @@
+package com.github.souzafcharles.api.exceptions.custom;
+
+import com.github.souzafcharles.api.utils.Messages;
+
+public class ServiceBusyException extends RuntimeException {
+    public ServiceBusyException(String resource) {
+        super(String.format(Messages.EXCEPTION_SERVICE_BUSY, resource));
+    }
+}
\ No newline at end of file
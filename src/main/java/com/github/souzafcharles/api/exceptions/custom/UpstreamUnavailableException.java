@@ -0,0 +1,9 @@
+package com.github.souzafcharles.api.exceptions.custom;
+
+import com.github.souzafcharles.api.utils.Messages;
+
+public class UpstreamUnavailableException extends RuntimeException {
+    public UpstreamUnavailableException(String upstream) {
+        super(String.format(Messages.EXCEPTION_UPSTREAM_UNAVAILABLE, upstream));
+    }
+}
@@ -1,30 +1,65 @@
 package com.github.souzafcharles.api.exceptions.handler;
 
+import com.github.souzafcharles.api.config.ContentNegotiationConfig;
 import com.github.souzafcharles.api.exceptions.custom.*;
 import com.github.souzafcharles.api.exceptions.model.StandardError;
 import com.github.souzafcharles.api.utils.Messages;
 import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.context.support.DefaultMessageSourceResolvable;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.InvalidMediaTypeException;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ControllerAdvice;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 
 import java.time.Instant;
+import java.util.List;
+import java.util.stream.Collectors;
 
 @ControllerAdvice
 public class ResourceExceptionHandler {
 
+    /** Formats with a converter that can write {@link StandardError}. */
+    private static final List<MediaType> ERROR_MEDIA_TYPES = List.of(
+            MediaType.APPLICATION_JSON, MediaType.APPLICATION_CBOR, ContentNegotiationConfig.APPLICATION_SMILE);
+
     private ResponseEntity<StandardError> buildResponse(
             Exception e, String error, HttpStatus status, HttpServletRequest request) {
+        return buildResponse(e.getMessage(), error, status, request);
+    }
+
+    private ResponseEntity<StandardError> buildResponse(
+            String message, String error, HttpStatus status, HttpServletRequest request) {
 
         StandardError err = new StandardError(
                 Instant.now(),
                 status.value(),
                 error,
-                e.getMessage(),
+                message,
                 request.getRequestURI()
         );
-        return ResponseEntity.status(status).body(err);
+        ResponseEntity.BodyBuilder response = ResponseEntity.status(status);
+        if (!acceptsErrorMediaType(request)) {
+            // Clients asking only for NDJSON or protobuf would otherwise turn every error into a 406/500, since
+            // no converter writes StandardError in those formats. One JSON document is preset instead of
+            // negotiated; it is also a valid NDJSON stream.
+            response.contentType(MediaType.APPLICATION_JSON);
+        }
+        return response.body(err);
+    }
+
+    private static boolean acceptsErrorMediaType(HttpServletRequest request) {
+        String accept = request.getHeader(HttpHeaders.ACCEPT);
+        if (accept == null) return true;
+        try {
+            return MediaType.parseMediaTypes(accept).stream()
+                    .anyMatch(type -> ERROR_MEDIA_TYPES.stream().anyMatch(type::isCompatibleWith));
+        } catch (InvalidMediaTypeException e) {
+            return true;
+        }
     }
 
     @ExceptionHandler(ResourceNotFoundException.class)
@@ -37,11 +72,40 @@ public class ResourceExceptionHandler {
         return buildResponse(e, Messages.ERROR_DUPLICATE_EMAIL, HttpStatus.BAD_REQUEST, request);
     }
 
+    @ExceptionHandler(DuplicateUsernameException.class)
+    public ResponseEntity<StandardError> handleDuplicateUsername(DuplicateUsernameException e, HttpServletRequest request) {
+        return buildResponse(e, Messages.ERROR_DUPLICATE_USERNAME, HttpStatus.BAD_REQUEST, request);
+    }
+
     @ExceptionHandler(DatabaseException.class)
     public ResponseEntity<StandardError> handleDatabaseException(DatabaseException e, HttpServletRequest request) {
         return buildResponse(e, Messages.ERROR_DATABASE, HttpStatus.BAD_REQUEST, request);
     }
 
+    @ExceptionHandler(InvalidQueryException.class)
+    public ResponseEntity<StandardError> handleInvalidQuery(InvalidQueryException e, HttpServletRequest request) {
+        return buildResponse(e, Messages.ERROR_INVALID_QUERY, HttpStatus.BAD_REQUEST, request);
+    }
+
+    @ExceptionHandler(MethodArgumentNotValidException.class)
+    public ResponseEntity<StandardError> handleValidation(MethodArgumentNotValidException e, HttpServletRequest request) {
+        String message = e.getBindingResult().getAllErrors().stream()
+                .map(DefaultMessageSourceResolvable::getDefaultMessage)
+                .sorted()
+                .collect(Collectors.joining("; "));
+        return buildResponse(message, Messages.ERROR_VALIDATION, HttpStatus.BAD_REQUEST, request);
+    }
+
+    @ExceptionHandler(ServiceBusyException.class)
+    public ResponseEntity<StandardError> handleServiceBusy(ServiceBusyException e, HttpServletRequest request) {
+        return buildResponse(e, Messages.ERROR_SERVICE_BUSY, HttpStatus.SERVICE_UNAVAILABLE, request);
+    }
+
+    @ExceptionHandler(SeedingInProgressException.class)
+    public ResponseEntity<StandardError> handleSeedingInProgress(SeedingInProgressException e, HttpServletRequest request) {
+        return buildResponse(e, Messages.ERROR_SEEDING_IN_PROGRESS, HttpStatus.SERVICE_UNAVAILABLE, request);
+    }
+
     @ExceptionHandler(Exception.class)
     public ResponseEntity<StandardError> handleGenericException(Exception e, HttpServletRequest request) {
         return buildResponse(e, Messages.ERROR_GENERIC, HttpStatus.INTERNAL_SERVER_ERROR, request);
@@ -0,0 +1,92 @@
+package com.github.souzafcharles.api.initializer;
+
+import com.github.souzafcharles.api.utils.Messages;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Tracks the background seeding run for the {@code seeding} health indicator,
+ * which keeps the readiness group out of service until it completes. Rows are
+ * recorded per table as each one is persisted. Finishing, either way,
+ * publishes a {@link SeedingFinishedEvent} so in-memory state is rebuilt.
+ * Spring stops at the first listener that throws, leaving the rest stale, so
+ * a failing listener turns the outcome into {@link Status#FAILED}.
+ */
+@Component
+public class SeedProgress {
+
+    public enum Status { PENDING, RUNNING, COMPLETED, FAILED }
+
+    private static final Logger log = LoggerFactory.getLogger(SeedProgress.class);
+
+    private final ApplicationEventPublisher eventPublisher;
+    private final Map<String, Long> rows = new LinkedHashMap<>();
+
+    private Status status = Status.PENDING;
+    private Instant startedAt;
+    private Instant finishedAt;
+    private String error;
+
+    public SeedProgress(ApplicationEventPublisher eventPublisher) {
+        this.eventPublisher = eventPublisher;
+    }
+
+    public synchronized void started() {
+        status = Status.RUNNING;
+        startedAt = Instant.now();
+    }
+
+    public synchronized void recorded(String table, long count) {
+        rows.put(table, count);
+    }
+
+    public void completed() {
+        finish(Status.COMPLETED, null);
+    }
+
+    public void failed(Throwable cause) {
+        log.error(Messages.SEED_FAILED, cause.toString(), cause);
+        finish(Status.FAILED, cause.toString());
+    }
+
+    public synchronized Status status() {
+        return status;
+    }
+
+    /** Point-in-time view for the health endpoint. */
+    public synchronized Map<String, Object> details() {
+        Map<String, Object> details = new LinkedHashMap<>();
+        details.put("status", status);
+        details.put("rows", new LinkedHashMap<>(rows));
+        if (startedAt != null) {
+            details.put("elapsedMs", Duration.between(startedAt, finishedAt != null ? finishedAt : Instant.now()).toMillis());
+        }
+        if (error != null) details.put("error", error);
+        return details;
+    }
+
+    /** Listeners rebuild before the status flips, so readiness only turns UP once they are done. */
+    private void finish(Status outcome, String cause) {
+        Status result = outcome;
+        String reason = cause;
+        try {
+            eventPublisher.publishEvent(new SeedingFinishedEvent(outcome == Status.COMPLETED));
+        } catch (RuntimeException e) {
+            log.error(Messages.SEED_LISTENER_FAILED, e.toString(), e);
+            result = Status.FAILED;
+            if (reason == null) reason = e.toString();
+        }
+        synchronized (this) {
+            status = result;
+            finishedAt = Instant.now();
+            error = reason;
+        }
+    }
+}
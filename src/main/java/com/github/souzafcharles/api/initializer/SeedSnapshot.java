@@ -0,0 +1,87 @@
+package com.github.souzafcharles.api.initializer;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.souzafcharles.api.endpoint.cart.model.dto.CartResponseDTO;
+import com.github.souzafcharles.api.endpoint.product.model.dto.ProductResponseDTO;
+import com.github.souzafcharles.api.endpoint.user.model.dto.UserResponseDTO;
+import com.github.souzafcharles.api.utils.Messages;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.IntFunction;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Offline copy of the Fake Store API payloads, stored as one gzip-compressed
+ * JSON object with {@code users}, {@code products} and {@code carts} arrays.
+ * Reading streams through the arrays element by element, so the document is
+ * never held as a tree. Unknown top-level fields are skipped.
+ */
+public record SeedSnapshot(
+        Instant fetchedAt,
+        UserResponseDTO[] users,
+        ProductResponseDTO[] products,
+        CartResponseDTO[] carts
+) {
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    public static SeedSnapshot read(InputStream in, ObjectMapper objectMapper) throws IOException {
+        Instant fetchedAt = null;
+        UserResponseDTO[] users = new UserResponseDTO[0];
+        ProductResponseDTO[] products = new ProductResponseDTO[0];
+        CartResponseDTO[] carts = new CartResponseDTO[0];
+
+        try (JsonParser parser = objectMapper.getFactory().createParser(new GZIPInputStream(in, BUFFER_SIZE))) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                throw new IOException(Messages.SEED_SNAPSHOT_INVALID);
+            }
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.currentName();
+                parser.nextToken();
+                switch (field) {
+                    case "fetchedAt" -> fetchedAt = Instant.parse(parser.getText());
+                    case "users" -> users = readArray(parser, objectMapper, UserResponseDTO.class, UserResponseDTO[]::new);
+                    case "products" -> products = readArray(parser, objectMapper, ProductResponseDTO.class, ProductResponseDTO[]::new);
+                    case "carts" -> carts = readArray(parser, objectMapper, CartResponseDTO.class, CartResponseDTO[]::new);
+                    default -> parser.skipChildren();
+                }
+            }
+        }
+        return new SeedSnapshot(fetchedAt, users, products, carts);
+    }
+
+    public void write(OutputStream out, ObjectMapper objectMapper) throws IOException {
+        GZIPOutputStream compressed = new GZIPOutputStream(out, BUFFER_SIZE);
+        try (JsonGenerator generator = objectMapper.getFactory().createGenerator(compressed)) {
+            generator.writeStartObject();
+            generator.writeStringField("fetchedAt", fetchedAt.toString());
+            generator.writeFieldName("users");
+            objectMapper.writeValue(generator, users);
+            generator.writeFieldName("products");
+            objectMapper.writeValue(generator, products);
+            generator.writeFieldName("carts");
+            objectMapper.writeValue(generator, carts);
+            generator.writeEndObject();
+        }
+    }
+
+    private static <T> T[] readArray(JsonParser parser, ObjectMapper objectMapper, Class<T> type,
+                                     IntFunction<T[]> array) throws IOException {
+        if (parser.currentToken() != JsonToken.START_ARRAY) {
+            throw new IOException(Messages.SEED_SNAPSHOT_INVALID);
+        }
+        List<T> items = new ArrayList<>();
+        while (parser.nextToken() != JsonToken.END_ARRAY) {
+            items.add(objectMapper.readValue(parser, type));
+        }
+        return items.toArray(array);
+    }
+}
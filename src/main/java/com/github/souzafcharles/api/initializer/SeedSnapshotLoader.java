@@ -0,0 +1,58 @@
+package com.github.souzafcharles.api.initializer;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.souzafcharles.api.utils.Messages;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.Resource;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Loads the seed snapshot configured by {@code store.seed.snapshot} at most
+ * once, on first use, so startups that reach the upstream never parse it.
+ */
+@Component
+public class SeedSnapshotLoader {
+
+    private static final Logger log = LoggerFactory.getLogger(SeedSnapshotLoader.class);
+
+    private final Resource location;
+    private final ObjectMapper objectMapper;
+    private final ReentrantLock lock = new ReentrantLock();
+
+    private SeedSnapshot snapshot;
+
+    public SeedSnapshotLoader(@Value("${store.seed.snapshot:classpath:seed/fakestore-snapshot.json.gz}") Resource location,
+                              ObjectMapper objectMapper) {
+        this.location = location;
+        this.objectMapper = objectMapper;
+    }
+
+    public SeedSnapshot get() {
+        // Seed threads are virtual; reading under a monitor would pin their carrier.
+        lock.lock();
+        try {
+            if (snapshot == null) {
+                long start = System.nanoTime();
+                try (InputStream in = location.getInputStream()) {
+                    snapshot = SeedSnapshot.read(in, objectMapper);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+                log.info(Messages.SEED_SNAPSHOT_LOADED, location, snapshot.fetchedAt(), snapshot.users().length,
+                        snapshot.products().length, snapshot.carts().length,
+                        TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+            }
+            return snapshot;
+        } finally {
+            lock.unlock();
+        }
+    }
+}
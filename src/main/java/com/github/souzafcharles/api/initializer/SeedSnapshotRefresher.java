@@ -0,0 +1,60 @@
+package com.github.souzafcharles.api.initializer;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.souzafcharles.api.client.FakeStoreClient;
+import com.github.souzafcharles.api.utils.Messages;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Duration;
+import java.time.Instant;
+
+/**
+ * Command-line entry point that refreshes the bundled seed snapshot from the
+ * live Fake Store API. Runs without a Spring context:
+ * {@code mvn -Prefresh-seed-snapshot compile exec:java}, or with an explicit
+ * target path as the first argument. The file is written next to the target
+ * and moved into place, so a failed download never leaves a truncated snapshot.
+ */
+public final class SeedSnapshotRefresher {
+
+    private static final Logger log = LoggerFactory.getLogger(SeedSnapshotRefresher.class);
+
+    private static final Path DEFAULT_TARGET = Path.of("src/main/resources/seed/fakestore-snapshot.json.gz");
+    private static final String BASE_URL = "https://fakestoreapi.com";
+    private static final Duration TIMEOUT = Duration.ofSeconds(30);
+
+    private SeedSnapshotRefresher() {
+    }
+
+    public static void main(String[] args) throws IOException {
+        Path target = args.length > 0 ? Path.of(args[0]) : DEFAULT_TARGET;
+        FakeStoreClient client = new FakeStoreClient(WebClient.create(BASE_URL), new SimpleMeterRegistry(),
+                3, Duration.ofMillis(200), Duration.ofSeconds(2), 1, Duration.ofMinutes(1));
+
+        SeedSnapshot snapshot = Mono.zip(client.getAllUsers(), client.getAllProducts(), client.getAllCarts())
+                .map(payloads -> new SeedSnapshot(Instant.now(), payloads.getT1(), payloads.getT2(), payloads.getT3()))
+                .block(TIMEOUT);
+        if (snapshot == null) {
+            throw new IllegalStateException(Messages.SEED_SNAPSHOT_EMPTY);
+        }
+
+        Path parent = target.toAbsolutePath().getParent();
+        Files.createDirectories(parent);
+        Path temp = Files.createTempFile(parent, "seed-", ".tmp");
+        try (OutputStream out = Files.newOutputStream(temp)) {
+            snapshot.write(out, new ObjectMapper());
+        }
+        Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        log.info(Messages.SEED_SNAPSHOT_WRITTEN, target, snapshot.users().length,
+                snapshot.products().length, snapshot.carts().length);
+    }
+}
@@ -0,0 +1,9 @@
+package com.github.souzafcharles.api.initializer;
+
+/**
+ * Published once startup seeding stops writing, whether it succeeded or not.
+ * In-memory structures built from the database listen for it instead of
+ * {@code ApplicationReadyEvent}, which now fires before the tables are filled.
+ */
+public record SeedingFinishedEvent(boolean succeeded) {
+}
@@ -0,0 +1,31 @@
+package com.github.souzafcharles.api.initializer;
+
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.HealthIndicator;
+import org.springframework.stereotype.Component;
+
+/**
+ * Reports startup seeding as the {@code seeding} health contributor: out of
+ * service while it runs, down if it failed. Included in the readiness group,
+ * so load balancers hold traffic until the tables are filled while the port is
+ * already open.
+ */
+@Component("seeding")
+public class SeedingHealthIndicator implements HealthIndicator {
+
+    private final SeedProgress progress;
+
+    public SeedingHealthIndicator(SeedProgress progress) {
+        this.progress = progress;
+    }
+
+    @Override
+    public Health health() {
+        Health.Builder builder = switch (progress.status()) {
+            case COMPLETED -> Health.up();
+            case FAILED -> Health.down();
+            case PENDING, RUNNING -> Health.outOfService();
+        };
+        return builder.withDetails(progress.details()).build();
+    }
+}
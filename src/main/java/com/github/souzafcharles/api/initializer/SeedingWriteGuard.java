@@ -0,0 +1,44 @@
+package com.github.souzafcharles.api.initializer;
+
+import com.github.souzafcharles.api.exceptions.custom.SeedingInProgressException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import java.util.Set;
+
+/**
+ * Rejects writes with a 503 until the startup seed has finished. Seeding runs
+ * while the API already serves reads. A write landing first would make a
+ * table look initialized to the seeder, or collide with a seeded username or
+ * id half way through a chunk. Reads and the actuator endpoints are not affected.
+ */
+@Component
+public class SeedingWriteGuard implements HandlerInterceptor, WebMvcConfigurer {
+
+    private static final Set<String> READ_METHODS = Set.of("GET", "HEAD", "OPTIONS");
+
+    private final SeedProgress progress;
+
+    public SeedingWriteGuard(SeedProgress progress) {
+        this.progress = progress;
+    }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(this);
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (READ_METHODS.contains(request.getMethod())) return true;
+        SeedProgress.Status status = progress.status();
+        if (status == SeedProgress.Status.PENDING || status == SeedProgress.Status.RUNNING) {
+            throw new SeedingInProgressException(status);
+        }
+        return true;
+    }
+}
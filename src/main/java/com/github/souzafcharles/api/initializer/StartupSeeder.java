@@ -0,0 +1,211 @@
+package com.github.souzafcharles.api.initializer;
+
+import com.github.souzafcharles.api.client.FakeStoreClient;
+import com.github.souzafcharles.api.endpoint.cart.initializer.CartDataInitializer;
+import com.github.souzafcharles.api.endpoint.product.initializer.ProductDataInitializer;
+import com.github.souzafcharles.api.endpoint.user.initializer.UserDataInitializer;
+import com.github.souzafcharles.api.utils.Messages;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.annotation.Profile;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.function.ToIntFunction;
+
+/**
+ * Seeds empty tables once the application is ready, on a background thread so
+ * the API serves requests meanwhile; {@link SeedProgress} holds readiness out of
+ * service until it finishes. By default the payloads come from the bundled
+ * {@link SeedSnapshot}; with {@code store.seed.upstream-enabled} the Fake Store
+ * API is tried first and any stream that fails or sends nothing within
+ * {@code store.seed.upstream-timeout} falls back to the snapshot. Payloads are
+ * decoded element by element and persisted in chunks of
+ * {@code store.seed.chunk-size} on virtual threads as they arrive, so memory
+ * stays flat whatever the catalog size. A table whose stream fails part way
+ * is emptied again, so its {@code isInitialized} check does not skip it on
+ * the next start. Users and products stream in
+ * parallel; carts are requested once both are persisted, since a held-open
+ * response would trip the client's read timeout. Every phase is logged and
+ * recorded in the {@code store.startup.phase} timer, tagged by phase name.
+ * Disabled under the {@code synthetic} profile, which generates its own data.
+ */
+@Component
+@Profile("!synthetic")
+public class StartupSeeder {
+
+    private static final Logger log = LoggerFactory.getLogger(StartupSeeder.class);
+
+    private final FakeStoreClient fakeStoreClient;
+    private final UserDataInitializer userDataInitializer;
+    private final ProductDataInitializer productDataInitializer;
+    private final CartDataInitializer cartDataInitializer;
+    private final SeedSnapshotLoader snapshotLoader;
+    private final SeedProgress progress;
+    private final MeterRegistry meterRegistry;
+    private final boolean upstreamEnabled;
+    private final Duration upstreamTimeout;
+    private final int chunkSize;
+
+    public StartupSeeder(FakeStoreClient fakeStoreClient,
+                         UserDataInitializer userDataInitializer,
+                         ProductDataInitializer productDataInitializer,
+                         CartDataInitializer cartDataInitializer,
+                         SeedSnapshotLoader snapshotLoader,
+                         SeedProgress progress,
+                         MeterRegistry meterRegistry,
+                         @Value("${store.seed.upstream-enabled:false}") boolean upstreamEnabled,
+                         @Value("${store.seed.upstream-timeout:PT10S}") Duration upstreamTimeout,
+                         @Value("${store.seed.chunk-size:500}") int chunkSize) {
+        this.fakeStoreClient = fakeStoreClient;
+        this.userDataInitializer = userDataInitializer;
+        this.productDataInitializer = productDataInitializer;
+        this.cartDataInitializer = cartDataInitializer;
+        this.snapshotLoader = snapshotLoader;
+        this.progress = progress;
+        this.meterRegistry = meterRegistry;
+        this.upstreamEnabled = upstreamEnabled;
+        this.upstreamTimeout = upstreamTimeout;
+        this.chunkSize = chunkSize;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void seedInBackground() {
+        Thread.ofVirtual().name("startup-seeder").start(() -> {
+            try {
+                seed();
+            } catch (RuntimeException e) {
+                // Already logged and reported as FAILED by SeedProgress.
+            }
+        });
+    }
+
+    public void seed() {
+        progress.started();
+        try {
+            seedTables();
+        } catch (RuntimeException e) {
+            progress.failed(e);
+            throw e;
+        }
+        progress.completed();
+    }
+
+    private void seedTables() {
+        long start = System.nanoTime();
+        boolean seedUsers = !userDataInitializer.isInitialized();
+        boolean seedProducts = !productDataInitializer.isInitialized();
+        boolean seedCarts = !cartDataInitializer.isInitialized();
+
+        try (ExecutorService executor = Executors.newThreadPerTaskExecutor(
+                Thread.ofVirtual().name("seed-", 0).factory())) {
+            Scheduler persistence = Schedulers.fromExecutorService(executor, "seed");
+            Mono<Long> users = seedUsers
+                    ? persist("users", source("users", fakeStoreClient::streamUsers, SeedSnapshot::users),
+                            userDataInitializer::save, userDataInitializer::clear, persistence)
+                    : Mono.just(0L);
+            Mono<Long> products = seedProducts
+                    ? persist("products", source("products", fakeStoreClient::streamProducts, SeedSnapshot::products),
+                            productDataInitializer::save, productDataInitializer::clear, persistence)
+                    : Mono.just(0L);
+            Mono<Long> carts = seedCarts
+                    ? persist("carts", source("carts", fakeStoreClient::streamCarts, SeedSnapshot::carts),
+                            cartDataInitializer::save, cartDataInitializer::clear, persistence)
+                    : Mono.just(0L);
+
+            // Delaying the error lets the other stream finish instead of being cancelled half persisted.
+            Mono.whenDelayError(users, products).then(carts).block();
+        }
+
+        long elapsed = System.nanoTime() - start;
+        record("total", elapsed);
+        log.info(Messages.SEED_COMPLETED, TimeUnit.NANOSECONDS.toMillis(elapsed));
+    }
+
+    /**
+     * Upstream elements, or the snapshot's when the upstream is disabled or
+     * fails before its first element arrives within the deadline. Once
+     * elements have been persisted a failure is not recoverable from the
+     * snapshot and fails the run.
+     */
+    private <T> Flux<T> source(String payload, Supplier<Flux<T>> upstream, Function<SeedSnapshot, T[]> fromSnapshot) {
+        Flux<T> snapshot = Flux.defer(() -> Flux.fromArray(
+                timed("load-" + payload, () -> fromSnapshot.apply(snapshotLoader.get()))));
+        if (!upstreamEnabled) return snapshot;
+        return Flux.defer(() -> {
+            AtomicBoolean received = new AtomicBoolean();
+            return upstream.get()
+                    .timeout(Mono.delay(upstreamTimeout), item -> Mono.never())
+                    .doOnNext(item -> received.set(true))
+                    .onErrorResume(e -> !received.get(), e -> {
+                        log.warn(Messages.SEED_UPSTREAM_FAILED, payload, e.toString());
+                        return snapshot;
+                    });
+        });
+    }
+
+    /**
+     * Persists chunks one at a time as they fill, so only a chunk or two is
+     * held in memory. If the stream fails, the rows saved so far are cleared
+     * before the error is passed on.
+     */
+    private <T> Mono<Long> persist(String table, Flux<T> source, ToIntFunction<List<T>> save, Runnable clear,
+                                   Scheduler scheduler) {
+        return Mono.defer(() -> {
+            long start = System.nanoTime();
+            AtomicLong saved = new AtomicLong();
+            return source.buffer(chunkSize)
+                    .defaultIfEmpty(List.of())
+                    .concatMap(chunk -> Mono.fromCallable(() -> save.applyAsInt(chunk)).subscribeOn(scheduler))
+                    .doOnNext(count -> progress.recorded(table, saved.addAndGet(count)))
+                    .then(Mono.fromCallable(saved::get))
+                    .doOnSuccess(total -> record("persist-" + table, System.nanoTime() - start))
+                    .onErrorResume(e -> Mono.fromRunnable(() -> discard(table, saved.get(), clear, e))
+                            .subscribeOn(scheduler)
+                            .then(Mono.error(e)));
+        });
+    }
+
+    private void discard(String table, long saved, Runnable clear, Throwable cause) {
+        try {
+            clear.run();
+            progress.recorded(table, 0);
+            log.warn(Messages.SEED_TABLE_DISCARDED, table, saved);
+        } catch (RuntimeException e) {
+            cause.addSuppressed(e);
+            log.error(Messages.SEED_TABLE_DISCARD_FAILED, table, e.toString(), e);
+        }
+    }
+
+    private <T> T timed(String phase, Supplier<T> work) {
+        long start = System.nanoTime();
+        try {
+            return work.get();
+        } finally {
+            record(phase, System.nanoTime() - start);
+        }
+    }
+
+    private void record(String phase, long nanos) {
+        Timer.builder("store.startup.phase").tag("phase", phase).register(meterRegistry)
+                .record(nanos, TimeUnit.NANOSECONDS);
+        log.info(Messages.SEED_PHASE_COMPLETED, phase, TimeUnit.NANOSECONDS.toMillis(nanos));
+    }
+}
@@ -0,0 +1,226 @@
+package com.github.souzafcharles.api.initializer.synthetic;
+
+import com.github.souzafcharles.api.endpoint.user.repository.UserRepository;
+import com.github.souzafcharles.api.endpoint.user.service.PasswordHasher;
+import com.github.souzafcharles.api.initializer.SeedProgress;
+import com.github.souzafcharles.api.utils.Messages;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.annotation.Profile;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Fills an empty database with a reproducible synthetic dataset when the
+ * {@code synthetic} profile is active, in place of the Fake Store seed. Counts,
+ * seed and skew come from {@code store.synthetic.*}; the same settings always
+ * produce the same rows. Categories follow a Zipf distribution, prices are
+ * log-normal around a per-category median and cart lines pick products by
+ * Zipf-distributed popularity over a shuffled ranking, so hot products are
+ * spread across the id range. Rows are streamed straight to JDBC batch
+ * inserts, bypassing the persistence context, and never held all at once.
+ * Like the regular seed it runs in the background once the application is
+ * ready and reports through {@link SeedProgress}.
+ */
+@Component
+@Profile("synthetic")
+public class SyntheticDataGenerator {
+
+    private static final Logger log = LoggerFactory.getLogger(SyntheticDataGenerator.class);
+
+    static final String[] CATEGORIES = {"electronics", "men's clothing", "women's clothing", "jewelery"};
+    private static final double[] CATEGORY_MEDIAN_PRICE = {180.0, 35.0, 30.0, 120.0};
+    private static final double PRICE_SIGMA = 0.7;
+    private static final String PASSWORD = "123456";
+    private static final Instant CARTS_UNTIL = Instant.parse("2026-01-01T00:00:00Z");
+    private static final long CARTS_SPAN_SECONDS = Duration.ofDays(365).toSeconds();
+
+    private static final String INSERT_USER = "INSERT INTO tb_user (id, username, email, password) VALUES (?, ?, ?, ?)";
+    private static final String INSERT_PRODUCT =
+            "INSERT INTO tb_product (id, title, price, description, category, image) VALUES (?, ?, ?, ?, ?, ?)";
+    private static final String INSERT_CART = "INSERT INTO tb_cart (id, user_id, created_at) VALUES (?, ?, ?)";
+    private static final String INSERT_CART_PRODUCT =
+            "INSERT INTO tb_cart_product (cart_id, product_id, quantity) VALUES (?, ?, ?)";
+    private static final List<String> TABLES_CHILD_FIRST = List.of("tb_cart_product", "tb_cart", "tb_product", "tb_user");
+
+    private final JdbcTemplate jdbcTemplate;
+    private final UserRepository userRepository;
+    private final PasswordHasher passwordHasher;
+    private final SeedProgress progress;
+    private final int users;
+    private final int products;
+    private final int carts;
+    private final int maxLinesPerCart;
+    private final double popularityExponent;
+    private final long seed;
+    private final int batchSize;
+
+    public SyntheticDataGenerator(JdbcTemplate jdbcTemplate,
+                                  UserRepository userRepository,
+                                  PasswordHasher passwordHasher,
+                                  SeedProgress progress,
+                                  @Value("${store.synthetic.users:100000}") int users,
+                                  @Value("${store.synthetic.products:10000}") int products,
+                                  @Value("${store.synthetic.carts:1000000}") int carts,
+                                  @Value("${store.synthetic.max-lines-per-cart:5}") int maxLinesPerCart,
+                                  @Value("${store.synthetic.popularity-exponent:1.1}") double popularityExponent,
+                                  @Value("${store.synthetic.seed:42}") long seed,
+                                  @Value("${store.synthetic.batch-size:1000}") int batchSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.userRepository = userRepository;
+        this.passwordHasher = passwordHasher;
+        this.progress = progress;
+        this.users = users;
+        this.products = products;
+        this.carts = carts;
+        this.maxLinesPerCart = Math.min(maxLinesPerCart, products);
+        this.popularityExponent = popularityExponent;
+        this.seed = seed;
+        this.batchSize = batchSize;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void generateInBackground() {
+        Thread.ofVirtual().name("synthetic-generator").start(() -> {
+            try {
+                generate();
+            } catch (RuntimeException e) {
+                // Already logged and reported as FAILED by SeedProgress.
+            }
+        });
+    }
+
+    public void generate() {
+        progress.started();
+        if (userRepository.count() > 0) {
+            log.info(Messages.SYNTHETIC_ALREADY_INITIALIZED);
+            progress.completed();
+            return;
+        }
+        long start = System.nanoTime();
+        long lines;
+        try {
+            generateUsers();
+            progress.recorded("users", users);
+            generateProducts();
+            progress.recorded("products", products);
+            lines = generateCarts();
+            progress.recorded("carts", carts);
+        } catch (RuntimeException e) {
+            discard(e);
+            progress.failed(e);
+            throw e;
+        }
+        progress.completed();
+        log.info(Messages.SYNTHETIC_COMPLETED, users, products, carts, lines, seed,
+                TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+    }
+
+    private void generateUsers() {
+        // One hash for every user: bcrypt per row would dominate the run.
+        String hash = passwordHasher.hash(PASSWORD);
+        List<Object[]> batch = new ArrayList<>(batchSize);
+        for (int i = 1; i <= users; i++) {
+            batch.add(new Object[]{String.valueOf(i), "user" + i, "user" + i + "@example.com", hash});
+            if (batch.size() == batchSize) flush(INSERT_USER, batch);
+        }
+        flush(INSERT_USER, batch);
+    }
+
+    private void generateProducts() {
+        SplittableRandom random = new SplittableRandom(seed + 1);
+        ZipfDistribution categories = new ZipfDistribution(CATEGORIES.length, 1.0);
+        List<Object[]> batch = new ArrayList<>(batchSize);
+        for (int i = 1; i <= products; i++) {
+            int category = categories.sample(random);
+            double price = CATEGORY_MEDIAN_PRICE[category] * Math.exp(PRICE_SIGMA * random.nextGaussian());
+            batch.add(new Object[]{String.valueOf(i), "Product " + i, Math.max(0.99, Math.round(price * 100) / 100.0),
+                    "Synthetic " + CATEGORIES[category] + " item " + i, CATEGORIES[category],
+                    "https://example.com/products/" + i + ".jpg"});
+            if (batch.size() == batchSize) flush(INSERT_PRODUCT, batch);
+        }
+        flush(INSERT_PRODUCT, batch);
+    }
+
+    private long generateCarts() {
+        SplittableRandom random = new SplittableRandom(seed + 2);
+        ZipfDistribution popularity = new ZipfDistribution(products, popularityExponent);
+        int[] productByRank = shuffledIds(products, random);
+
+        List<Object[]> cartBatch = new ArrayList<>(batchSize);
+        List<Object[]> lineBatch = new ArrayList<>(batchSize * maxLinesPerCart);
+        int[] picked = new int[maxLinesPerCart];
+        long lines = 0;
+        for (int i = 1; i <= carts; i++) {
+            String cartId = String.valueOf(i);
+            Instant createdAt = CARTS_UNTIL.minusSeconds(random.nextLong(CARTS_SPAN_SECONDS));
+            cartBatch.add(new Object[]{cartId, String.valueOf(1 + random.nextInt(users)), Timestamp.from(createdAt)});
+
+            int count = 1 + random.nextInt(maxLinesPerCart);
+            for (int line = 0; line < count; line++) {
+                int product;
+                do {
+                    product = productByRank[popularity.sample(random)];
+                } while (contains(picked, line, product));
+                picked[line] = product;
+                lineBatch.add(new Object[]{cartId, String.valueOf(product), 1 + random.nextInt(5)});
+            }
+            lines += count;
+
+            if (cartBatch.size() == batchSize) {
+                flush(INSERT_CART, cartBatch);
+                flush(INSERT_CART_PRODUCT, lineBatch);
+            }
+        }
+        flush(INSERT_CART, cartBatch);
+        flush(INSERT_CART_PRODUCT, lineBatch);
+        return lines;
+    }
+
+    /** Empties what a failed run wrote, so the populated-database check does not skip the next one. */
+    private void discard(RuntimeException cause) {
+        try {
+            TABLES_CHILD_FIRST.forEach(table -> jdbcTemplate.update("DELETE FROM " + table));
+            log.warn(Messages.SYNTHETIC_DISCARDED);
+        } catch (RuntimeException e) {
+            cause.addSuppressed(e);
+            log.error(Messages.SYNTHETIC_DISCARD_FAILED, e.toString(), e);
+        }
+    }
+
+    private void flush(String sql, List<Object[]> batch) {
+        if (batch.isEmpty()) return;
+        jdbcTemplate.batchUpdate(sql, batch);
+        batch.clear();
+    }
+
+    private static int[] shuffledIds(int n, SplittableRandom random) {
+        int[] ids = new int[n];
+        for (int i = 0; i < n; i++) ids[i] = i + 1;
+        for (int i = n - 1; i > 0; i--) {
+            int j = random.nextInt(i + 1);
+            int swap = ids[i];
+            ids[i] = ids[j];
+            ids[j] = swap;
+        }
+        return ids;
+    }
+
+    private static boolean contains(int[] values, int length, int value) {
+        for (int i = 0; i < length; i++) {
+            if (values[i] == value) return true;
+        }
+        return false;
+    }
+}
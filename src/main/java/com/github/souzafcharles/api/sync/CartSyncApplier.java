@@ -0,0 +1,223 @@
+package com.github.souzafcharles.api.sync;
+
+import com.github.souzafcharles.api.client.FakeStoreClient;
+import com.github.souzafcharles.api.endpoint.cart.event.CartChangedEvent;
+import com.github.souzafcharles.api.endpoint.cart.event.CartSnapshot;
+import com.github.souzafcharles.api.endpoint.cart.model.dto.CartResponseDTO;
+import com.github.souzafcharles.api.endpoint.cart.model.entity.Cart;
+import com.github.souzafcharles.api.endpoint.cart.repository.CartRepository;
+import com.github.souzafcharles.api.endpoint.cartproduct.model.dto.CartProductResponseDTO;
+import com.github.souzafcharles.api.endpoint.cartproduct.model.entity.CartProduct;
+import com.github.souzafcharles.api.endpoint.cartproduct.repository.CartProductRepository;
+import com.github.souzafcharles.api.endpoint.export.model.dto.CartLineExportDTO;
+import com.github.souzafcharles.api.endpoint.product.repository.ProductRepository;
+import com.github.souzafcharles.api.endpoint.user.repository.UserRepository;
+import com.github.souzafcharles.api.utils.ContentHash;
+import com.github.souzafcharles.api.utils.Messages;
+import jakarta.persistence.EntityManager;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Carts, hashed as the owner's id plus the sum of one hash per
+ * {@code (productId, quantity)} line. Summing makes the hash independent of
+ * line order, so local lines can be folded in straight from an unordered
+ * stream. Updates edit lines in place rather than replacing the collection,
+ * which would insert a line before deleting the one with the same key.
+ * Carts whose user, and lines whose product, do not exist locally are
+ * skipped as in {@code CartDataInitializer}.
+ */
+@Component
+public class CartSyncApplier implements SyncApplier<CartResponseDTO> {
+
+    private static final Logger log = LoggerFactory.getLogger(CartSyncApplier.class);
+
+    private final FakeStoreClient fakeStoreClient;
+    private final CartRepository cartRepository;
+    private final CartProductRepository cartProductRepository;
+    private final UserRepository userRepository;
+    private final ProductRepository productRepository;
+    private final EntityManager entityManager;
+    private final ApplicationEventPublisher eventPublisher;
+
+    public CartSyncApplier(FakeStoreClient fakeStoreClient,
+                           CartRepository cartRepository,
+                           CartProductRepository cartProductRepository,
+                           UserRepository userRepository,
+                           ProductRepository productRepository,
+                           EntityManager entityManager,
+                           ApplicationEventPublisher eventPublisher) {
+        this.fakeStoreClient = fakeStoreClient;
+        this.cartRepository = cartRepository;
+        this.cartProductRepository = cartProductRepository;
+        this.userRepository = userRepository;
+        this.productRepository = productRepository;
+        this.entityManager = entityManager;
+        this.eventPublisher = eventPublisher;
+    }
+
+    @Override
+    public String kind() {
+        return "carts";
+    }
+
+    @Override
+    public Flux<CartResponseDTO> upstream() {
+        return fakeStoreClient.streamCarts();
+    }
+
+    @Override
+    public Map<String, Long> localHashes() {
+        Map<String, Long> hashes = new HashMap<>();
+        try (Stream<Object[]> carts = cartRepository.streamIdsWithUserRaw()) {
+            carts.forEach(row -> hashes.put((String) row[0], ownerHash((String) row[1])));
+        }
+        try (Stream<CartLineExportDTO> lines = cartProductRepository.streamCartLines()) {
+            lines.forEach(line -> hashes.merge(line.cartId(), lineHash(line.productId(), line.quantity()), Long::sum));
+        }
+        return hashes;
+    }
+
+    @Override
+    public String id(CartResponseDTO row) {
+        return row.id();
+    }
+
+    @Override
+    public long hash(CartResponseDTO row) {
+        long hash = ownerHash(row.userId());
+        for (CartProductResponseDTO line : row.products()) {
+            hash += lineHash(line.productId(), line.quantity());
+        }
+        return hash;
+    }
+
+    @Override
+    public int insert(List<CartResponseDTO> rows) {
+        if (rows.isEmpty()) return 0;
+        List<CartResponseDTO> valid = applicable(rows);
+        for (CartResponseDTO dto : valid) {
+            Cart cart = new Cart();
+            cart.setId(dto.id());
+            cart.setUser(userRepository.getReferenceById(dto.userId()));
+            quantities(dto).forEach((productId, quantity) -> cart.getCartProducts().add(line(cart, productId, quantity)));
+            entityManager.persist(cart);
+            eventPublisher.publishEvent(CartChangedEvent.created(new CartSnapshot(cart)));
+        }
+        return valid.size();
+    }
+
+    @Override
+    public int update(List<CartResponseDTO> rows) {
+        if (rows.isEmpty()) return 0;
+        Map<String, CartResponseDTO> byId = applicable(rows).stream()
+                .collect(Collectors.toMap(CartResponseDTO::id, Function.identity(), (first, second) -> second));
+        List<Cart> carts = cartRepository.findAllById(byId.keySet());
+        for (Cart cart : carts) {
+            CartResponseDTO dto = byId.get(cart.getId());
+            CartSnapshot before = new CartSnapshot(cart);
+            if (cart.getUser() == null || !Objects.equals(cart.getUser().getId(), dto.userId())) {
+                cart.setUser(userRepository.getReferenceById(dto.userId()));
+            }
+
+            Map<String, Integer> wanted = quantities(dto);
+            for (Iterator<CartProduct> lines = cart.getCartProducts().iterator(); lines.hasNext(); ) {
+                CartProduct line = lines.next();
+                Integer quantity = wanted.remove(line.getProduct().getId());
+                if (quantity == null) {
+                    lines.remove();
+                } else {
+                    line.setQuantity(quantity);
+                }
+            }
+            wanted.forEach((productId, quantity) -> cart.getCartProducts().add(line(cart, productId, quantity)));
+
+            eventPublisher.publishEvent(new CartChangedEvent(before, new CartSnapshot(cart)));
+        }
+        return carts.size();
+    }
+
+    @Override
+    public int delete(List<String> ids) {
+        if (ids.isEmpty()) return 0;
+        List<Cart> carts = cartRepository.findAllById(ids);
+        for (Cart cart : carts) {
+            CartSnapshot before = new CartSnapshot(cart);
+            cartRepository.delete(cart);
+            eventPublisher.publishEvent(CartChangedEvent.deleted(before));
+        }
+        return carts.size();
+    }
+
+    /** Drops carts whose user is unknown and lines whose product is unknown, with one lookup each per batch. */
+    private List<CartResponseDTO> applicable(List<CartResponseDTO> rows) {
+        Set<String> userIds = new HashSet<>();
+        Set<String> productIds = new HashSet<>();
+        for (CartResponseDTO dto : rows) {
+            userIds.add(dto.userId());
+            dto.products().forEach(line -> productIds.add(line.productId()));
+        }
+        Set<String> knownUsers = new HashSet<>(userRepository.findIdsByIdIn(userIds));
+        Set<String> knownProducts = productIds.isEmpty()
+                ? Set.of()
+                : new HashSet<>(productRepository.findIdsByIdIn(productIds));
+
+        return rows.stream()
+                .filter(dto -> {
+                    if (knownUsers.contains(dto.userId())) return true;
+                    log.warn(Messages.CART_IGNORED_USER_NOT_FOUND, dto.id(), dto.userId());
+                    return false;
+                })
+                .map(dto -> {
+                    List<CartProductResponseDTO> lines = dto.products().stream()
+                            .filter(line -> {
+                                if (knownProducts.contains(line.productId())) return true;
+                                log.warn(Messages.CART_PRODUCT_IGNORED, dto.id(), line.productId());
+                                return false;
+                            })
+                            .toList();
+                    return lines.size() == dto.products().size() ? dto : new CartResponseDTO(dto.id(), dto.userId(), lines);
+                })
+                .toList();
+    }
+
+    /** Quantity per product, summing repeated lines so each product appears once as the key requires. */
+    private static Map<String, Integer> quantities(CartResponseDTO dto) {
+        Map<String, Integer> quantities = new LinkedHashMap<>();
+        for (CartProductResponseDTO line : dto.products()) {
+            quantities.merge(line.productId(), line.quantity() != null ? line.quantity() : 0, Integer::sum);
+        }
+        return quantities;
+    }
+
+    private CartProduct line(Cart cart, String productId, int quantity) {
+        CartProduct line = new CartProduct();
+        line.setCart(cart);
+        line.setProduct(productRepository.getReferenceById(productId));
+        line.setQuantity(quantity);
+        return line;
+    }
+
+    private static long ownerHash(String userId) {
+        return ContentHash.of().add(userId).get();
+    }
+
+    private static long lineHash(String productId, Integer quantity) {
+        return ContentHash.of().add(productId).add(quantity).get();
+    }
+}
@@ -0,0 +1,143 @@
+package com.github.souzafcharles.api.sync;
+
+import com.github.souzafcharles.api.client.FakeStoreClient;
+import com.github.souzafcharles.api.endpoint.cart.event.CartChangedEvent;
+import com.github.souzafcharles.api.endpoint.cart.event.CartSnapshot;
+import com.github.souzafcharles.api.endpoint.cart.model.entity.Cart;
+import com.github.souzafcharles.api.endpoint.cartproduct.model.entity.CartProduct;
+import com.github.souzafcharles.api.endpoint.product.model.dto.ProductResponseDTO;
+import com.github.souzafcharles.api.endpoint.product.model.entity.Product;
+import com.github.souzafcharles.api.endpoint.product.repository.ProductRepository;
+import com.github.souzafcharles.api.endpoint.product.service.ProductService;
+import com.github.souzafcharles.api.utils.ContentHash;
+import jakarta.persistence.EntityManager;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Products, hashed over title, price, description, category and image. Like
+ * {@code ProductService}, an update that changes price or category publishes a
+ * {@link CartChangedEvent} for every cart holding the product, and a delete
+ * publishes one for every cart that loses its lines; the lines are detached
+ * from those carts first so the delete is not undone at flush.
+ */
+@Component
+public class ProductSyncApplier implements SyncApplier<ProductResponseDTO> {
+
+    private final FakeStoreClient fakeStoreClient;
+    private final ProductRepository productRepository;
+    private final EntityManager entityManager;
+    private final ApplicationEventPublisher eventPublisher;
+
+    public ProductSyncApplier(FakeStoreClient fakeStoreClient,
+                              ProductRepository productRepository,
+                              EntityManager entityManager,
+                              ApplicationEventPublisher eventPublisher) {
+        this.fakeStoreClient = fakeStoreClient;
+        this.productRepository = productRepository;
+        this.entityManager = entityManager;
+        this.eventPublisher = eventPublisher;
+    }
+
+    @Override
+    public String kind() {
+        return "products";
+    }
+
+    @Override
+    public Flux<ProductResponseDTO> upstream() {
+        return fakeStoreClient.streamProducts();
+    }
+
+    @Override
+    public Map<String, Long> localHashes() {
+        Map<String, Long> hashes = new HashMap<>();
+        try (Stream<ProductResponseDTO> rows = productRepository.streamAllAsDto()) {
+            rows.forEach(row -> hashes.put(row.id(), hash(row)));
+        }
+        return hashes;
+    }
+
+    @Override
+    public String id(ProductResponseDTO row) {
+        return row.id();
+    }
+
+    @Override
+    public long hash(ProductResponseDTO row) {
+        return ContentHash.of()
+                .add(row.title())
+                .add(row.price())
+                .add(row.description())
+                .add(row.category())
+                .add(row.image())
+                .get();
+    }
+
+    @Override
+    public int insert(List<ProductResponseDTO> rows) {
+        for (ProductResponseDTO dto : rows) {
+            Product product = new Product();
+            product.setId(dto.id());
+            copy(dto, product);
+            entityManager.persist(product);
+        }
+        return rows.size();
+    }
+
+    @Override
+    public int update(List<ProductResponseDTO> rows) {
+        if (rows.isEmpty()) return 0;
+        Map<String, ProductResponseDTO> byId = rows.stream()
+                .collect(Collectors.toMap(ProductResponseDTO::id, Function.identity(), (first, second) -> second));
+        List<Product> products = productRepository.findAllById(byId.keySet());
+        for (Product product : products) {
+            ProductResponseDTO dto = byId.get(product.getId());
+            List<Cart> affectedCarts = ProductService.movesCartLines(product, dto.price(), dto.category())
+                    ? product.getCartProducts().stream().map(CartProduct::getCart).distinct().toList()
+                    : List.of();
+            List<CartSnapshot> before = affectedCarts.stream().map(CartSnapshot::new).toList();
+            copy(dto, product);
+            for (int i = 0; i < affectedCarts.size(); i++) {
+                eventPublisher.publishEvent(new CartChangedEvent(before.get(i), new CartSnapshot(affectedCarts.get(i))));
+            }
+        }
+        return products.size();
+    }
+
+    @Override
+    public int delete(List<String> ids) {
+        if (ids.isEmpty()) return 0;
+        List<Product> products = productRepository.findAllById(ids);
+        for (Product product : products) {
+            List<CartChangedEvent> affectedCarts = product.getCartProducts().stream()
+                    .map(CartProduct::getCart)
+                    .distinct()
+                    .map(CartSnapshot::new)
+                    .map(before -> new CartChangedEvent(before, before.withoutProduct(product.getId())))
+                    .toList();
+            // Loaded carts would otherwise cascade their lines back in and cancel the delete.
+            product.getCartProducts().forEach(line -> line.getCart().getCartProducts().remove(line));
+            product.getCartProducts().clear();
+            productRepository.delete(product);
+            affectedCarts.forEach(eventPublisher::publishEvent);
+        }
+        return products.size();
+    }
+
+    private static void copy(ProductResponseDTO dto, Product product) {
+        product.setTitle(dto.title());
+        product.setPrice(dto.price());
+        product.setDescription(dto.description());
+        product.setCategory(dto.category());
+        product.setImage(dto.image());
+    }
+}
@@ -0,0 +1,34 @@
+package com.github.souzafcharles.api.sync;
+
+import reactor.core.publisher.Flux;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * One kind of row kept in step with the Fake Store API by
+ * {@link UpstreamSyncJob}. {@link #hash} and {@link #localHashes} must hash
+ * the same fields the same way, so a row that did not change upstream
+ * compares equal. The write methods run inside the job's batch transaction
+ * and publish the same change events as the services.
+ */
+public interface SyncApplier<T> {
+
+    String kind();
+
+    Flux<T> upstream();
+
+    /** Content hash of every local row by id; runs in a read-only transaction. */
+    Map<String, Long> localHashes();
+
+    String id(T row);
+
+    long hash(T row);
+
+    /** Returns the number of rows written; rows that cannot be applied are skipped and logged. */
+    int insert(List<T> rows);
+
+    int update(List<T> rows);
+
+    int delete(List<String> ids);
+}
@@ -0,0 +1,17 @@
+package com.github.souzafcharles.api.sync;
+
+/**
+ * Outcome of reconciling one kind of row. {@code complete} is false when the
+ * upstream stream failed part way, in which case no deletes were applied.
+ */
+public record SyncReport(
+        String kind,
+        long inserted,
+        long updated,
+        long deleted,
+        long unchanged,
+        long failed,
+        boolean complete,
+        long durationMs
+) {
+}
@@ -0,0 +1,46 @@
+package com.github.souzafcharles.api.sync;
+
+import jakarta.persistence.*;
+
+/**
+ * Marks a row as mirrored from the Fake Store API, so the sync job only
+ * deletes rows the upstream once sent and never those created through this
+ * API. Keyed by {@code kind:rowId} to keep a single-column primary key.
+ */
+@Entity
+@Table(name = "tb_upstream_row", indexes = @Index(name = "ix_upstream_row_kind", columnList = "kind"))
+public class UpstreamRow {
+
+    @Id
+    private String id;
+
+    @Column(nullable = false)
+    private String kind;
+
+    @Column(name = "row_id", nullable = false)
+    private String rowId;
+
+    protected UpstreamRow() {}
+
+    public UpstreamRow(String kind, String rowId) {
+        this.id = key(kind, rowId);
+        this.kind = kind;
+        this.rowId = rowId;
+    }
+
+    public static String key(String kind, String rowId) {
+        return kind + ":" + rowId;
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    public String getKind() {
+        return kind;
+    }
+
+    public String getRowId() {
+        return rowId;
+    }
+}
@@ -0,0 +1,15 @@
+package com.github.souzafcharles.api.sync;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface UpstreamRowRepository extends JpaRepository<UpstreamRow, String> {
+
+    @Query("SELECT r.rowId FROM UpstreamRow r WHERE r.kind = :kind")
+    List<String> findRowIdsByKind(@Param("kind") String kind);
+}
@@ -0,0 +1,234 @@
+package com.github.souzafcharles.api.sync;
+
+import com.github.souzafcharles.api.initializer.SeedProgress;
+import com.github.souzafcharles.api.utils.Messages;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import reactor.core.publisher.Mono;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Keeps products, users and carts in step with the Fake Store API without
+ * re-seeding. Each kind is hashed locally once per run ({@link SyncApplier}),
+ * then the upstream stream is consumed in chunks of {@code store.sync.batch-size}
+ * and only rows that are new or whose content hash differs are written, one
+ * transaction per chunk, so a failing chunk does not undo earlier ones. Rows
+ * the upstream no longer sends are deleted only if a previous run recorded
+ * them in {@link UpstreamRow}, which keeps rows created through this API, and
+ * only once the whole stream has been read. Kinds run in dependency order so
+ * carts see the products and users they refer to.
+ * <p>
+ * Off unless {@code store.sync.enabled}; runs every {@code store.sync.interval}
+ * once seeding has completed. Each run is logged per kind and recorded under
+ * {@code store.sync.rows} (tagged by kind and action) and {@code store.sync.duration}.
+ */
+@Component
+public class UpstreamSyncJob {
+
+    private static final Logger log = LoggerFactory.getLogger(UpstreamSyncJob.class);
+
+    private final List<SyncApplier<?>> appliers;
+    private final UpstreamRowRepository upstreamRowRepository;
+    private final EntityManager entityManager;
+    private final SeedProgress seedProgress;
+    private final MeterRegistry meterRegistry;
+    private final TransactionTemplate transaction;
+    private final TransactionTemplate readOnlyTransaction;
+    private final boolean enabled;
+    private final int batchSize;
+    private final ReentrantLock runLock = new ReentrantLock();
+
+    private volatile List<SyncReport> lastRun = List.of();
+
+    public UpstreamSyncJob(ProductSyncApplier productSyncApplier,
+                           UserSyncApplier userSyncApplier,
+                           CartSyncApplier cartSyncApplier,
+                           UpstreamRowRepository upstreamRowRepository,
+                           EntityManager entityManager,
+                           SeedProgress seedProgress,
+                           MeterRegistry meterRegistry,
+                           PlatformTransactionManager transactionManager,
+                           @Value("${store.sync.enabled:false}") boolean enabled,
+                           @Value("${store.sync.batch-size:500}") int batchSize) {
+        this.appliers = List.of(productSyncApplier, userSyncApplier, cartSyncApplier);
+        this.upstreamRowRepository = upstreamRowRepository;
+        this.entityManager = entityManager;
+        this.seedProgress = seedProgress;
+        this.meterRegistry = meterRegistry;
+        this.transaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.enabled = enabled;
+        this.batchSize = batchSize;
+    }
+
+    @Scheduled(fixedDelayString = "${store.sync.interval:PT1H}",
+            initialDelayString = "${store.sync.interval:PT1H}")
+    public void scheduledSync() {
+        if (!enabled) return;
+        SeedProgress.Status seeding = seedProgress.status();
+        if (seeding != SeedProgress.Status.COMPLETED) {
+            log.info(Messages.SYNC_SKIPPED_SEEDING, seeding);
+            return;
+        }
+        sync();
+    }
+
+    public List<SyncReport> sync() {
+        // A lock, not a monitor: a run blocks on JDBC throughout, which would pin a virtual thread.
+        runLock.lock();
+        try {
+            List<SyncReport> reports = new ArrayList<>(appliers.size());
+            for (SyncApplier<?> applier : appliers) {
+                reports.add(reconcile(applier));
+            }
+            lastRun = List.copyOf(reports);
+            return lastRun;
+        } finally {
+            runLock.unlock();
+        }
+    }
+
+    /** Reports of the most recent run, one per kind; empty until the first run. */
+    public List<SyncReport> lastRun() {
+        return lastRun;
+    }
+
+    private <T> SyncReport reconcile(SyncApplier<T> applier) {
+        long start = System.nanoTime();
+        String kind = applier.kind();
+        Map<String, Long> local = readOnlyTransaction.execute(status -> applier.localHashes());
+        Set<String> owned = new HashSet<>(upstreamRowRepository.findRowIdsByKind(kind));
+        Set<String> seen = new HashSet<>();
+        Counts counts = new Counts();
+
+        // Captured rather than thrown, so chunks already received are still applied.
+        AtomicReference<Throwable> failure = new AtomicReference<>();
+        Iterable<List<T>> chunks = applier.upstream()
+                .onErrorResume(e -> {
+                    failure.set(e);
+                    return Mono.empty();
+                })
+                .buffer(batchSize)
+                .toIterable(2);
+        for (List<T> chunk : chunks) {
+            applyChunk(applier, chunk, local, owned, seen, counts);
+        }
+        boolean complete = failure.get() == null;
+        if (complete) {
+            deleteGone(applier, local, owned, seen, counts);
+        } else {
+            log.warn(Messages.SYNC_UPSTREAM_FAILED, kind, seen.size(), failure.get().toString());
+        }
+
+        long elapsed = System.nanoTime() - start;
+        SyncReport report = new SyncReport(kind, counts.inserted, counts.updated, counts.deleted, counts.unchanged,
+                counts.failed, complete, TimeUnit.NANOSECONDS.toMillis(elapsed));
+        record(report, elapsed);
+        return report;
+    }
+
+    private <T> void applyChunk(SyncApplier<T> applier, List<T> chunk, Map<String, Long> local,
+                                Set<String> owned, Set<String> seen, Counts counts) {
+        List<T> inserts = new ArrayList<>();
+        List<T> updates = new ArrayList<>();
+        List<String> newlyOwned = new ArrayList<>();
+        long unchanged = 0;
+        for (T row : chunk) {
+            String id = applier.id(row);
+            if (id == null || !seen.add(id)) continue;
+            Long current = local.get(id);
+            if (current == null) {
+                inserts.add(row);
+            } else if (current != applier.hash(row)) {
+                updates.add(row);
+            } else {
+                unchanged++;
+            }
+            if (!owned.contains(id)) newlyOwned.add(id);
+        }
+        counts.unchanged += unchanged;
+        if (inserts.isEmpty() && updates.isEmpty() && newlyOwned.isEmpty()) return;
+
+        try {
+            int[] written = transaction.execute(status -> {
+                int inserted = applier.insert(inserts);
+                int updated = applier.update(updates);
+                newlyOwned.forEach(id -> entityManager.persist(new UpstreamRow(applier.kind(), id)));
+                return new int[] {inserted, updated};
+            });
+            counts.inserted += written[0];
+            counts.updated += written[1];
+            owned.addAll(newlyOwned);
+        } catch (DataAccessException | PersistenceException e) {
+            log.warn(Messages.SYNC_BATCH_FAILED, chunk.size(), applier.kind(), e.toString());
+            counts.failed += inserts.size() + updates.size();
+        }
+    }
+
+    /** Deletes rows a previous run recorded that the upstream no longer sends, and forgets them. */
+    private void deleteGone(SyncApplier<?> applier, Map<String, Long> local, Set<String> owned,
+                            Set<String> seen, Counts counts) {
+        List<String> gone = owned.stream().filter(id -> !seen.contains(id)).toList();
+        for (int from = 0; from < gone.size(); from += batchSize) {
+            List<String> batch = gone.subList(from, Math.min(gone.size(), from + batchSize));
+            List<String> present = batch.stream().filter(local::containsKey).toList();
+            try {
+                Integer deleted = transaction.execute(status -> {
+                    int count = applier.delete(present);
+                    upstreamRowRepository.deleteAllByIdInBatch(
+                            batch.stream().map(id -> UpstreamRow.key(applier.kind(), id)).toList());
+                    return count;
+                });
+                counts.deleted += deleted;
+            } catch (DataAccessException | PersistenceException e) {
+                log.warn(Messages.SYNC_BATCH_FAILED, batch.size(), applier.kind(), e.toString());
+                counts.failed += present.size();
+            }
+        }
+    }
+
+    private void record(SyncReport report, long nanos) {
+        count(report.kind(), "inserted", report.inserted());
+        count(report.kind(), "updated", report.updated());
+        count(report.kind(), "deleted", report.deleted());
+        count(report.kind(), "unchanged", report.unchanged());
+        count(report.kind(), "failed", report.failed());
+        Timer.builder("store.sync.duration").tag("kind", report.kind()).register(meterRegistry)
+                .record(nanos, TimeUnit.NANOSECONDS);
+        log.info(Messages.SYNC_COMPLETED, report.kind(), report.inserted(), report.updated(), report.deleted(),
+                report.unchanged(), report.failed(), report.durationMs());
+    }
+
+    private void count(String kind, String action, long amount) {
+        Counter.builder("store.sync.rows").tag("kind", kind).tag("action", action).register(meterRegistry)
+                .increment(amount);
+    }
+
+    private static final class Counts {
+        private long inserted;
+        private long updated;
+        private long deleted;
+        private long unchanged;
+        private long failed;
+    }
+}
@@ -0,0 +1,134 @@
+package com.github.souzafcharles.api.sync;
+
+import com.github.souzafcharles.api.client.FakeStoreClient;
+import com.github.souzafcharles.api.endpoint.cart.event.CartChangedEvent;
+import com.github.souzafcharles.api.endpoint.cart.event.CartSnapshot;
+import com.github.souzafcharles.api.endpoint.user.event.UserChangedEvent;
+import com.github.souzafcharles.api.endpoint.user.event.UserSnapshot;
+import com.github.souzafcharles.api.endpoint.user.initializer.UserDataInitializer;
+import com.github.souzafcharles.api.endpoint.user.model.dto.UserResponseDTO;
+import com.github.souzafcharles.api.endpoint.user.model.entity.User;
+import com.github.souzafcharles.api.endpoint.user.repository.UserRepository;
+import com.github.souzafcharles.api.endpoint.user.service.PasswordHasher;
+import com.github.souzafcharles.api.endpoint.user.service.UserIdentityFilter;
+import com.github.souzafcharles.api.utils.ContentHash;
+import jakarta.persistence.EntityManager;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Users, hashed over username and email; the upstream sends no usable
+ * password, so new users get the seed password (hashed once per batch) and
+ * existing passwords are left alone. Deleting a user cascades to its carts,
+ * which are reported as deleted first, as in {@code UserService}.
+ */
+@Component
+public class UserSyncApplier implements SyncApplier<UserResponseDTO> {
+
+    private final FakeStoreClient fakeStoreClient;
+    private final UserRepository userRepository;
+    private final UserIdentityFilter identityFilter;
+    private final PasswordHasher passwordHasher;
+    private final EntityManager entityManager;
+    private final ApplicationEventPublisher eventPublisher;
+
+    public UserSyncApplier(FakeStoreClient fakeStoreClient,
+                           UserRepository userRepository,
+                           UserIdentityFilter identityFilter,
+                           PasswordHasher passwordHasher,
+                           EntityManager entityManager,
+                           ApplicationEventPublisher eventPublisher) {
+        this.fakeStoreClient = fakeStoreClient;
+        this.userRepository = userRepository;
+        this.identityFilter = identityFilter;
+        this.passwordHasher = passwordHasher;
+        this.entityManager = entityManager;
+        this.eventPublisher = eventPublisher;
+    }
+
+    @Override
+    public String kind() {
+        return "users";
+    }
+
+    @Override
+    public Flux<UserResponseDTO> upstream() {
+        return fakeStoreClient.streamUsers();
+    }
+
+    @Override
+    public Map<String, Long> localHashes() {
+        Map<String, Long> hashes = new HashMap<>();
+        try (Stream<UserResponseDTO> rows = userRepository.streamAllAsDto()) {
+            rows.forEach(row -> hashes.put(row.id(), hash(row)));
+        }
+        return hashes;
+    }
+
+    @Override
+    public String id(UserResponseDTO row) {
+        return row.id();
+    }
+
+    @Override
+    public long hash(UserResponseDTO row) {
+        return ContentHash.of().add(row.username()).add(row.email()).get();
+    }
+
+    @Override
+    public int insert(List<UserResponseDTO> rows) {
+        if (rows.isEmpty()) return 0;
+        String password = passwordHasher.hash(UserDataInitializer.SEED_PASSWORD);
+        for (UserResponseDTO dto : rows) {
+            User user = new User();
+            user.setId(dto.id());
+            user.setUsername(dto.username());
+            user.setEmail(dto.email());
+            user.setPassword(password);
+            entityManager.persist(user);
+            identityFilter.add(user.getUsername(), user.getEmail());
+            eventPublisher.publishEvent(UserChangedEvent.created(new UserSnapshot(user)));
+        }
+        return rows.size();
+    }
+
+    @Override
+    public int update(List<UserResponseDTO> rows) {
+        if (rows.isEmpty()) return 0;
+        Map<String, UserResponseDTO> byId = rows.stream()
+                .collect(Collectors.toMap(UserResponseDTO::id, Function.identity(), (first, second) -> second));
+        List<User> users = userRepository.findAllById(byId.keySet());
+        for (User user : users) {
+            UserResponseDTO dto = byId.get(user.getId());
+            UserSnapshot before = new UserSnapshot(user);
+            user.setUsername(dto.username());
+            user.setEmail(dto.email());
+            identityFilter.add(user.getUsername(), user.getEmail());
+            eventPublisher.publishEvent(new UserChangedEvent(before, new UserSnapshot(user)));
+        }
+        return users.size();
+    }
+
+    @Override
+    public int delete(List<String> ids) {
+        if (ids.isEmpty()) return 0;
+        List<User> users = userRepository.findAllById(ids);
+        for (User user : users) {
+            List<CartSnapshot> cascadedCarts = user.getCarts().stream()
+                    .map(CartSnapshot::new)
+                    .toList();
+            userRepository.delete(user);
+            cascadedCarts.forEach(cart -> eventPublisher.publishEvent(CartChangedEvent.deleted(cart)));
+            eventPublisher.publishEvent(UserChangedEvent.deleted(new UserSnapshot(user)));
+        }
+        return users.size();
+    }
+}
@@ -0,0 +1,101 @@
+package com.github.souzafcharles.api.utils;
+
+/**
+ * Fixed-size Bloom filter over strings. {@link #mightContain(String)} never
+ * returns {@code false} for a value that was {@link #put(String) put}, and
+ * returns {@code true} for an absent value with roughly the configured
+ * probability while fewer than {@link #capacity()} values have been added.
+ * Index positions use double hashing over a 64-bit FNV-1a hash. Not thread-safe.
+ */
+public final class BloomFilter {
+
+    private static final long FNV_OFFSET = 0xcbf29ce484222325L;
+    private static final long FNV_PRIME = 0x100000001b3L;
+
+    private final long[] words;
+    private final long numBits;
+    private final int hashes;
+    private final int capacity;
+    private long bitsSet;
+    private int insertions;
+
+    private BloomFilter(long numBits, int hashes, int capacity) {
+        this.words = new long[(int) ((numBits + 63) >>> 6)];
+        this.numBits = (long) words.length << 6;
+        this.hashes = hashes;
+        this.capacity = capacity;
+    }
+
+    public static BloomFilter create(int expectedInsertions, double falsePositiveRate) {
+        if (expectedInsertions < 1) expectedInsertions = 1;
+        if (falsePositiveRate <= 0 || falsePositiveRate >= 1) {
+            throw new IllegalArgumentException("falsePositiveRate must be in (0, 1) but was " + falsePositiveRate);
+        }
+        double ln2 = Math.log(2);
+        long numBits = Math.max(64, (long) Math.ceil(-expectedInsertions * Math.log(falsePositiveRate) / (ln2 * ln2)));
+        int hashes = Math.max(1, (int) Math.round((double) numBits / expectedInsertions * ln2));
+        return new BloomFilter(numBits, hashes, expectedInsertions);
+    }
+
+    public void put(String value) {
+        long hash = hash(value);
+        long h1 = hash;
+        long h2 = mix(hash ^ FNV_OFFSET) | 1;
+        for (int i = 0; i < hashes; i++) {
+            long bit = Long.remainderUnsigned(h1 + i * h2, numBits);
+            long mask = 1L << bit;
+            int word = (int) (bit >>> 6);
+            if ((words[word] & mask) == 0) {
+                words[word] |= mask;
+                bitsSet++;
+            }
+        }
+        insertions++;
+    }
+
+    public boolean mightContain(String value) {
+        long hash = hash(value);
+        long h1 = hash;
+        long h2 = mix(hash ^ FNV_OFFSET) | 1;
+        for (int i = 0; i < hashes; i++) {
+            long bit = Long.remainderUnsigned(h1 + i * h2, numBits);
+            if ((words[(int) (bit >>> 6)] & (1L << bit)) == 0) return false;
+        }
+        return true;
+    }
+
+    /** Probability that an absent value is reported present, estimated from the fill ratio. */
+    public double expectedFalsePositiveRate() {
+        return Math.pow((double) bitsSet / numBits, hashes);
+    }
+
+    public int capacity() {
+        return capacity;
+    }
+
+    public int insertions() {
+        return insertions;
+    }
+
+    public boolean isSaturated() {
+        return insertions > capacity;
+    }
+
+    private static long hash(String value) {
+        long hash = FNV_OFFSET;
+        for (int i = 0; i < value.length(); i++) {
+            hash ^= value.charAt(i);
+            hash *= FNV_PRIME;
+        }
+        return mix(hash);
+    }
+
+    private static long mix(long h) {
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        h *= 0xc4ceb9fe1a85ec53L;
+        h ^= h >>> 33;
+        return h;
+    }
+}
@@ -0,0 +1,60 @@
+package com.github.souzafcharles.api.utils;
+
+/**
+ * 64-bit FNV-1a hash over a sequence of fields, used to tell whether two
+ * copies of a row carry the same content without comparing them field by
+ * field. Every field is terminated by a separator (and nulls get their own
+ * marker), so {@code ("ab", "c")} and {@code ("a", "bc")} hash differently.
+ */
+public final class ContentHash {
+
+    private static final long OFFSET_BASIS = 0xcbf29ce484222325L;
+    private static final long PRIME = 0x100000001b3L;
+    private static final int SEPARATOR = 0x1f;
+    private static final int NULL_MARKER = 0x00;
+
+    private long hash = OFFSET_BASIS;
+
+    public static ContentHash of() {
+        return new ContentHash();
+    }
+
+    public ContentHash add(String value) {
+        if (value == null) {
+            mix(NULL_MARKER);
+        } else {
+            for (int i = 0; i < value.length(); i++) {
+                char c = value.charAt(i);
+                mix(c >>> 8);
+                mix(c & 0xff);
+            }
+        }
+        mix(SEPARATOR);
+        return this;
+    }
+
+    public ContentHash add(Number value) {
+        if (value == null) {
+            mix(NULL_MARKER);
+            mix(SEPARATOR);
+            return this;
+        }
+        long bits = value instanceof Double || value instanceof Float
+                ? Double.doubleToLongBits(value.doubleValue())
+                : value.longValue();
+        for (int shift = 56; shift >= 0; shift -= 8) {
+            mix((int) (bits >>> shift) & 0xff);
+        }
+        mix(SEPARATOR);
+        return this;
+    }
+
+    public long get() {
+        return hash;
+    }
+
+    private void mix(int octet) {
+        hash ^= octet;
+        hash *= PRIME;
+    }
+}
@@ -0,0 +1,40 @@
+package com.github.souzafcharles.api.utils;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Assigns dense {@code int} codes to string identifiers, so in-memory
+ * analytics structures can index primitive arrays instead of hashing strings.
+ * Codes are stable for the lifetime of the dictionary. Not thread-safe.
+ */
+public final class IdDictionary {
+
+    public static final int ABSENT = -1;
+
+    private final Map<String, Integer> codes = new HashMap<>();
+    private final List<String> values = new ArrayList<>();
+
+    public int encode(String value) {
+        Integer code = codes.get(value);
+        if (code != null) return code;
+        int next = values.size();
+        codes.put(value, next);
+        values.add(value);
+        return next;
+    }
+
+    public int find(String value) {
+        return codes.getOrDefault(value, ABSENT);
+    }
+
+    public String decode(int code) {
+        return values.get(code);
+    }
+
+    public int size() {
+        return values.size();
+    }
+}
@@ -0,0 +1,129 @@
+package com.github.souzafcharles.api.utils;
+
+import java.util.Arrays;
+
+/**
+ * Open-addressing hash map from non-negative {@code int} keys to {@code int}
+ * values, with linear probing and backward-shift deletion. Avoids the boxing
+ * and per-entry objects of {@code HashMap<Integer, Integer>}, which matters for
+ * the sparse matrices and counters kept in memory for analytics.
+ * Missing keys read as {@code 0}; an entry whose value drops to {@code 0} is
+ * removed. Not thread-safe.
+ */
+public final class IntIntHashMap {
+
+    private static final int FREE = -1;
+    private static final float LOAD_FACTOR = 0.6f;
+
+    private int[] keys;
+    private int[] values;
+    private int mask;
+    private int resizeAt;
+    private int size;
+
+    public IntIntHashMap() {
+        this(8);
+    }
+
+    public IntIntHashMap(int expectedSize) {
+        int capacity = Integer.highestOneBit(Math.max(4, (int) (expectedSize / LOAD_FACTOR)) * 2 - 1);
+        allocate(capacity);
+    }
+
+    public int get(int key) {
+        int i = slot(key);
+        while (keys[i] != FREE) {
+            if (keys[i] == key) return values[i];
+            i = (i + 1) & mask;
+        }
+        return 0;
+    }
+
+    /**
+     * Adds {@code delta} to the value stored for {@code key} and returns the new value.
+     */
+    public int addTo(int key, int delta) {
+        if (key < 0) throw new IllegalArgumentException("Negative key: " + key);
+        int i = slot(key);
+        while (keys[i] != FREE) {
+            if (keys[i] == key) {
+                int value = values[i] + delta;
+                if (value == 0) removeAt(i);
+                else values[i] = value;
+                return value;
+            }
+            i = (i + 1) & mask;
+        }
+        if (delta == 0) return 0;
+        keys[i] = key;
+        values[i] = delta;
+        if (++size > resizeAt) rehash(keys.length << 1);
+        return delta;
+    }
+
+    public void addAll(IntIntHashMap other) {
+        other.forEach(this::addTo);
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public void forEach(EntryConsumer consumer) {
+        for (int i = 0; i < keys.length; i++) {
+            if (keys[i] != FREE) consumer.accept(keys[i], values[i]);
+        }
+    }
+
+    private void removeAt(int i) {
+        size--;
+        int j = i;
+        while (true) {
+            j = (j + 1) & mask;
+            if (keys[j] == FREE) break;
+            int displacement = (j - slot(keys[j])) & mask;
+            if (displacement >= ((j - i) & mask)) {
+                keys[i] = keys[j];
+                values[i] = values[j];
+                i = j;
+            }
+        }
+        keys[i] = FREE;
+        values[i] = 0;
+    }
+
+    private void rehash(int capacity) {
+        int[] oldKeys = keys;
+        int[] oldValues = values;
+        allocate(capacity);
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldKeys[i] == FREE) continue;
+            int j = slot(oldKeys[i]);
+            while (keys[j] != FREE) j = (j + 1) & mask;
+            keys[j] = oldKeys[i];
+            values[j] = oldValues[i];
+        }
+    }
+
+    private void allocate(int capacity) {
+        keys = new int[capacity];
+        values = new int[capacity];
+        Arrays.fill(keys, FREE);
+        mask = capacity - 1;
+        resizeAt = (int) (capacity * LOAD_FACTOR);
+    }
+
+    private int slot(int key) {
+        int h = key * 0x9E3779B9;
+        return (h ^ (h >>> 16)) & mask;
+    }
+
+    @FunctionalInterface
+    public interface EntryConsumer {
+        void accept(int key, int value);
+    }
+}
@@ -9,12 +9,21 @@ public class Messages {
     // ===== General Exceptions =====
     public static final String ERROR_RESOURCE_NOT_FOUND = "Resource not found with the specified identifier or criteria.";
     public static final String ERROR_DUPLICATE_EMAIL = "Email address already in use.";
+    public static final String ERROR_DUPLICATE_USERNAME = "Username already in use.";
     public static final String ERROR_DATABASE = "Database integrity violation.";
     public static final String ERROR_GENERIC = "Unexpected internal server error.";
+    public static final String ERROR_INVALID_QUERY = "Invalid query or request parameters.";
+    public static final String ERROR_VALIDATION = "Request body failed validation.";
+    public static final String ERROR_SERVICE_BUSY = "Service temporarily overloaded, please retry later.";
+    public static final String ERROR_SEEDING_IN_PROGRESS = "Service is still loading its data, please retry later.";
 
     // ===== Custom Exception Messages =====
     public static final String EXCEPTION_DATABASE = "Database error detected: %s. Please verify database constraints and configurations";
     public static final String EXCEPTION_DUPLICATE_EMAIL = "The email address '%s' is already associated with an existing account.";
+    public static final String EXCEPTION_DUPLICATE_USERNAME = "The username '%s' is already associated with an existing account.";
+    public static final String EXCEPTION_INVALID_QUERY = "The request could not be processed: %s.";
+    public static final String EXCEPTION_SERVICE_BUSY = "The %s is at capacity and could not accept the request.";
+    public static final String EXCEPTION_SEEDING_IN_PROGRESS = "Writes are accepted once startup seeding completes (seeding is %s).";
 
     // ===== Product (Validation & Exceptions) =====
     public static final String PRODUCT_TITLE_REQUIRED = "The title is required";
@@ -25,11 +34,13 @@ public class Messages {
 
     // For exceptions
     public static final String PRODUCT_NOT_FOUND = "Product not found with ID: %s";
+    public static final String BOUGHT_TOGETHER_LIMIT_INVALID = "limit must be between 1 and %d but was %d";
 
     // For logging
     public static final String PRODUCT_ALREADY_INITIALIZED = "Products already initialized. Skipping load.";
     public static final String PRODUCT_NO_RETURNED = "No product returned from the Fake Store API.";
     public static final String PRODUCT_SAVED_SUCCESS = "{} products were saved to the H2 database.";
+    public static final String BOUGHT_TOGETHER_REBUILT = "Bought-together matrix rebuilt from {} carts over {} products in {} ms.";
 
 
     // ===== Product Swagger =====
@@ -54,6 +65,8 @@ public class Messages {
     public static final String PRODUCT_AVG_PRICE_CATEGORY_DESCRIPTION = "Computes the average product price per category to derive pricing insights and strategy.";
     public static final String PRODUCT_PRICE_RANGE_SUMMARY = "Retrieve products within a price range";
     public static final String PRODUCT_PRICE_RANGE_DESCRIPTION = "Fetches products filtered by minimum and maximum price, enabling targeted analysis.";
+    public static final String PRODUCT_BOUGHT_TOGETHER_SUMMARY = "Retrieve products frequently bought together";
+    public static final String PRODUCT_BOUGHT_TOGETHER_DESCRIPTION = "Fetches the products that share the most carts with the given product, supporting cross-selling and bundle analysis.";
 
     // ===== User (Validation & Exceptions) =====
     public static final String USERNAME_REQUIRED = "The username is required";
@@ -61,6 +74,7 @@ public class Messages {
     public static final String EMAIL_INVALID = "The email is invalid";
     public static final String PASSWORD_REQUIRED = "The password is required";
     public static final String PASSWORD_MIN_LENGTH = "The password must be at least 6 characters long";
+    public static final String PASSWORD_MAX_BYTES = "The password must be at most 72 bytes long when UTF-8 encoded";
 
     // For exceptions
     public static final String USER_NOT_FOUND = "User not found with ID: %s";
@@ -82,12 +96,22 @@ public class Messages {
     public static final String USER_UPDATE_DESCRIPTION = "Updates user details, allowing recalculation of analytics and insights.";
     public static final String USER_DELETE_SUMMARY = "Delete a user";
     public static final String USER_DELETE_DESCRIPTION = "Removes a user from the system, ensuring obsolete or irrelevant data is not processed.";
-    public static final String USER_SEARCH_SUMMARY = "Search users by username";
-    public static final String USER_SEARCH_DESCRIPTION = "Searches users by username, supporting engagement and trend analysis.";
+    public static final String USER_SEARCH_SUMMARY = "Search users by username or email";
+    public static final String USER_SEARCH_DESCRIPTION = "Case-insensitive substring or prefix search over usernames (or emails) backed by an in-memory trigram index, with page and size parameters.";
     public static final String USER_GET_BY_USERNAME_SUMMARY = "Retrieve user by username";
     public static final String USER_GET_BY_USERNAME_DESCRIPTION = "Fetches a user based on username, for precise lookup and analysis.";
     public static final String USER_GET_BY_EMAIL_SUMMARY = "Retrieve user by email";
     public static final String USER_GET_BY_EMAIL_DESCRIPTION = "Fetches a user by email, supporting contact and behavioural insights.";
+    public static final String USER_BULK_IMPORT_SUMMARY = "Bulk import users";
+    public static final String USER_BULK_IMPORT_DESCRIPTION = "Streams newline-delimited JSON users (or a JSON, CBOR or Smile array or value sequence), inserting them in batches with one duplicate check per batch; invalid or duplicate lines are skipped and reported by line number.";
+    public static final String USER_GET_BY_IDS_SUMMARY = "Retrieve several users by ID";
+    public static final String USER_GET_BY_IDS_DESCRIPTION = "Resolves a comma-separated list of user IDs with a single query and returns the users found in request order.";
+    public static final String USER_SUMMARY_SUMMARY = "Retrieve a user profile summary";
+    public static final String USER_SUMMARY_DESCRIPTION = "Returns the user with cart count, total items, total value and the most recent carts, computed in the database with one aggregate and one projection query.";
+    public static final String USER_TOP_SPENDERS_SUMMARY = "Rank users by cart value";
+    public static final String USER_TOP_SPENDERS_DESCRIPTION = "Returns the topN users whose carts hold the highest total value, served from an incrementally maintained per-user rollup.";
+    public static final String USER_TOP_BUYERS_SUMMARY = "Rank users by items in carts";
+    public static final String USER_TOP_BUYERS_DESCRIPTION = "Returns the topN users whose carts hold the most items, served from an incrementally maintained per-user rollup.";
     public static final String USER_COUNT_SUMMARY = "Count total users";
     public static final String USER_COUNT_DESCRIPTION = "Counts all registered users, providing a key metric for engagement and growth analysis.";
 
@@ -106,6 +130,7 @@ public class Messages {
     public static final String CART_IGNORED_USER_NOT_FOUND = "Ignoring Cart ID {}: User ID {} not found.";
     public static final String CART_SAVED_SUCCESS = "{} carts were saved to the H2 database.";
     public static final String CART_NO_VALID = "No valid cart to save.";
+    public static final String CART_SAVED_BATCH = "Saved cart batch {} of {} ({} carts).";
 
     // ===== Cart Swagger =====
     public static final String CART_TAG_DESCRIPTION = "Endpoints to manage user shopping carts and generate insights.";
@@ -154,4 +179,139 @@ public class Messages {
     public static final String CARTS_CONTAINING_PRODUCT_NOT_FOUND = "Product {} not found in any cart.";
     public static final String MOST_SOLD_PRODUCTS_BY_CATEGORY_RETURNED = "Top sold products for category '{}' returned: {}.";
 
+    // ===== CartProduct (Validation) =====
+    public static final String CART_PRODUCT_TOP_N_NEGATIVE = "topN must not be negative but was %d";
+
+    // ===== Export Swagger =====
+    public static final String EXPORT_TAG_DESCRIPTION = "Endpoints to bulk export store data as streamed CSV or NDJSON for BI and offline analysis.";
+    public static final String EXPORT_CART_LINES_SUMMARY = "Export all cart lines";
+    public static final String EXPORT_CART_LINES_DESCRIPTION = "Streams every cart line (cart, user, product, category, quantity and unit price) as CSV or NDJSON, gzip-compressed when the client accepts it.";
+    public static final String EXPORT_PRODUCTS_SUMMARY = "Export all products";
+    public static final String EXPORT_PRODUCTS_DESCRIPTION = "Streams the full product catalogue as CSV or NDJSON, gzip-compressed when the client accepts it.";
+    public static final String EXPORT_USERS_SUMMARY = "Export all users";
+    public static final String EXPORT_USERS_DESCRIPTION = "Streams every registered user as CSV or NDJSON, gzip-compressed when the client accepts it.";
+
+    // ===== Export (Validation & Logging) =====
+    public static final String EXPORT_FORMAT_UNSUPPORTED = "unsupported export format '%s', expected one of %s";
+    public static final String EXPORT_COMPLETED = "Export of '{}' finished: {} rows written as {}.";
+
+    // ===== Counters (Logging) =====
+    public static final String COUNTER_SEEDED = "Counter '{}' seeded from the database with {}.";
+    public static final String COUNTER_DRIFT_CORRECTED = "Counter '{}' drifted by {} from the database and was corrected to {}.";
+
+    // ===== Analytics Swagger =====
+    public static final String ANALYTICS_TAG_DESCRIPTION = "Ad-hoc aggregate queries over an in-memory column store of cart lines.";
+    public static final String ANALYTICS_QUERY_SUMMARY = "Run an ad-hoc analytics query";
+    public static final String ANALYTICS_QUERY_DESCRIPTION = "Filters cart lines on cartId, userId, productId, category, quantity, unitPrice or revenue, groups them by any of the dimensions and computes sum, count, avg, min and max, with ordering and a limit.";
+
+    // ===== Analytics (Validation & Logging) =====
+    public static final String ANALYTICS_UNKNOWN_FIELD = "unknown field '%s', expected one of %s";
+    public static final String ANALYTICS_UNKNOWN_KEYWORD = "unknown keyword '%s', expected one of %s";
+    public static final String ANALYTICS_NOT_A_DIMENSION = "'%s' is a measure and cannot be grouped on";
+    public static final String ANALYTICS_NOT_A_MEASURE = "'%s' is a dimension and cannot be aggregated";
+    public static final String ANALYTICS_DUPLICATE_NAME = "column '%s' appears more than once in the result";
+    public static final String ANALYTICS_OPERATOR_UNSUPPORTED = "operator '%s' is not supported on '%s', expected one of %s";
+    public static final String ANALYTICS_FILTER_VALUE_MISSING = "filter on '%s' with operator '%s' needs a value";
+    public static final String ANALYTICS_FILTER_NOT_NUMERIC = "'%s' is not a number and cannot be compared with '%s'";
+    public static final String ANALYTICS_ORDER_UNKNOWN = "cannot order by '%s', expected one of %s";
+    public static final String ANALYTICS_LIMIT_INVALID = "limit must be between 1 and %d but was %d";
+    public static final String ANALYTICS_TOO_MANY_GROUPS = "the group-by dimensions have too many combinations";
+    public static final String ANALYTICS_STORE_REBUILT = "Cart-line column store rebuilt with {} rows in {} segments in {} ms.";
+    public static final String ANALYTICS_QUERY_EXECUTED = "Analytics query returned {} groups from {} matched rows in {} us.";
+
+    // ===== Dashboard Swagger =====
+    public static final String DASHBOARD_TAG_DESCRIPTION = "Composite endpoint aggregating the admin dashboard figures in a single call.";
+    public static final String DASHBOARD_SUMMARY = "Retrieve the admin dashboard";
+    public static final String DASHBOARD_DESCRIPTION = "Computes most-sold products, revenue per product, total items, average price per category, top expensive and cheapest products and the user count concurrently. Sections that fail or exceed their timeout are marked instead of failing the response.";
+
+    // ===== Dashboard (Logging) =====
+    public static final String DASHBOARD_SECTION_TIMED_OUT = "Dashboard section '{}' did not finish within {} ms and was cancelled.";
+    public static final String DASHBOARD_SECTION_FAILED = "Dashboard section '{}' failed: {}.";
+    public static final String DASHBOARD_SECTION_TIMEOUT_ERROR = "section did not finish within %d ms";
+
+    // ===== User Identity Filter (Logging) =====
+    public static final String USER_FILTER_REBUILT = "User email/username Bloom filters rebuilt with {} users at capacity {} in {} ms.";
+
+    // ===== User Search (Validation & Logging) =====
+    public static final String USER_SEARCH_OPTION_UNSUPPORTED = "unsupported %s '%s', expected one of %s";
+    public static final String USER_SEARCH_PAGING_INVALID = "page must be at least 0 and size between 1 and %d but were %d and %d";
+    public static final String USER_SEARCH_INDEX_REBUILT = "User search index rebuilt with {} users in {} ms.";
+    public static final String USER_SEARCH_INDEX_COMPACTED = "User search index compacted: {} tombstones dropped, {} users kept in {} ms.";
+
+    // ===== Password Hashing (Logging) =====
+    public static final String PASSWORD_HASHER_STARTED = "Password hasher using bcrypt cost {} on {} threads with a queue of {}.";
+    public static final String PASSWORD_HASHER_REJECTED = "Password hashing queue is full ({} waiting); rejecting request.";
+    public static final String PASSWORD_HASHER_RESOURCE = "password hashing pipeline";
+
+    // ===== User Bulk Import & Multi-Get (Validation & Logging) =====
+    public static final String USER_BULK_MALFORMED_LINE = "malformed user JSON: %s";
+    public static final String USER_BULK_BATCH_CONFLICT = "batch rejected by a concurrent write; retry the line";
+    public static final String USER_BULK_BATCH_FAILED = "Bulk user import batch for lines {}-{} failed: {}.";
+    public static final String USER_BULK_COMPLETED = "Bulk user import finished: {} received, {} created, {} rejected.";
+    public static final String USER_SUMMARY_RECENT_CARTS_INVALID = "recentCarts must be between 0 and %d but was %d";
+    public static final String USER_IDS_LIMIT_EXCEEDED = "at most %d ids can be requested at once but got %d";
+
+    // ===== Top Customers (Validation & Logging) =====
+    public static final String TOP_CUSTOMERS_TOP_N_INVALID = "topN must be between 1 and %d but was %d";
+    public static final String TOP_CUSTOMERS_REBUILT = "Top-customers rollup rebuilt with {} users in {} ms.";
+
+    // ===== Startup Seeding (Logging) =====
+    public static final String SEED_PHASE_COMPLETED = "Startup seeding phase '{}' finished in {} ms.";
+    public static final String SEED_COMPLETED = "Startup seeding finished in {} ms.";
+    public static final String SEED_FAILED = "Startup seeding failed ({}); readiness stays DOWN.";
+    public static final String SEED_TABLE_DISCARDED = "Seeding {} failed part way; deleted the {} rows saved so the next start seeds it again.";
+    public static final String SEED_TABLE_DISCARD_FAILED = "Seeding {} failed part way and its rows could not be deleted ({}); empty the table before restarting.";
+    public static final String SEED_LISTENER_FAILED = "Rebuilding in-memory state after seeding failed ({}); later listeners were skipped, so seeding is reported as FAILED.";
+    public static final String SEED_UPSTREAM_FAILED = "Fetching {} from the Fake Store API failed ({}); seeding from the bundled snapshot.";
+    public static final String SEED_SNAPSHOT_LOADED = "Seed snapshot {} (fetched {}) loaded: {} users, {} products, {} carts in {} ms.";
+    public static final String SEED_SNAPSHOT_WRITTEN = "Seed snapshot written to {}: {} users, {} products, {} carts.";
+    public static final String SEED_SNAPSHOT_INVALID = "Seed snapshot must be a JSON object with users, products and carts arrays.";
+    public static final String SEED_SNAPSHOT_EMPTY = "The Fake Store API returned no payload for the seed snapshot.";
+
+    // ===== Synthetic Data Generator (Logging) =====
+    public static final String SYNTHETIC_ALREADY_INITIALIZED = "Database already populated. Skipping synthetic data generation.";
+    public static final String SYNTHETIC_DISTRIBUTION_EMPTY = "A Zipf distribution needs at least one rank, got %d.";
+    public static final String SYNTHETIC_DISCARDED = "Synthetic data generation failed part way; deleted the rows written so the next start generates them again.";
+    public static final String SYNTHETIC_DISCARD_FAILED = "Synthetic data generation failed part way and its rows could not be deleted ({}); empty the database before restarting.";
+    public static final String SYNTHETIC_COMPLETED = "Generated {} users, {} products, {} carts and {} cart lines (seed {}) in {} ms.";
+
+    // ===== Upstream Client (Exceptions & Logging) =====
+    public static final String EXCEPTION_UPSTREAM_UNAVAILABLE = "The %s upstream is unavailable: circuit open after repeated failures.";
+    public static final String CIRCUIT_STATE_CHANGED = "Circuit '{}' moved from {} to {} after {} consecutive failures.";
+    public static final String UPSTREAM_RETRYING = "Retrying {} call (retry {}) after {}.";
+    public static final String HTTP_CACHE_ENTRY_UNREADABLE = "Ignoring unreadable HTTP cache entry for {} ({}).";
+    public static final String HTTP_CACHE_REVALIDATION_FAILED = "Background revalidation of {} failed ({}); the stale copy stays in use.";
+
+    // ===== Upstream Sync (Logging) =====
+    public static final String SYNC_SKIPPED_SEEDING = "Upstream sync skipped: seeding is {}.";
+    public static final String SYNC_UPSTREAM_FAILED = "Upstream sync of {} stopped after {} rows ({}); deletes are skipped until a complete run.";
+    public static final String SYNC_BATCH_FAILED = "Upstream sync batch of {} {} rows failed: {}.";
+    public static final String SYNC_COMPLETED = "Upstream sync of {}: {} inserted, {} updated, {} deleted, {} unchanged, {} failed in {} ms.";
+
+    // ===== Reactive Read API =====
+    public static final String REACTIVE_TAG_DESCRIPTION = "Non-blocking reads over R2DBC, streamed as NDJSON or server-sent events when requested.";
+    public static final String REACTIVE_PRODUCT_LIST_SUMMARY = "Stream products";
+    public static final String REACTIVE_PRODUCT_LIST_DESCRIPTION = "Streams all products ordered by ID, optionally filtered by category.";
+    public static final String REACTIVE_PRODUCT_GET_SUMMARY = "Get product (reactive)";
+    public static final String REACTIVE_PRODUCT_GET_DESCRIPTION = "Reads one product by ID without blocking a request thread.";
+    public static final String REACTIVE_CART_LIST_SUMMARY = "Stream carts";
+    public static final String REACTIVE_CART_LIST_DESCRIPTION = "Streams all carts with their lines ordered by ID, optionally filtered by user.";
+    public static final String REACTIVE_CART_GET_SUMMARY = "Get cart (reactive)";
+    public static final String REACTIVE_CART_GET_DESCRIPTION = "Reads one cart with its lines without blocking a request thread.";
+    public static final String REACTIVE_MOST_SOLD_SUMMARY = "Stream most sold products";
+    public static final String REACTIVE_MOST_SOLD_DESCRIPTION = "Streams the topN products by quantity in carts, optionally within one category.";
+    public static final String REACTIVE_REVENUE_SUMMARY = "Revenue per product (reactive)";
+    public static final String REACTIVE_REVENUE_DESCRIPTION = "Returns the cart value per product title.";
+    public static final String REACTIVE_TOTAL_ITEMS_SUMMARY = "Total items in carts (reactive)";
+    public static final String REACTIVE_TOTAL_ITEMS_DESCRIPTION = "Sums the quantities of all cart lines in the database.";
+    public static final String REACTIVE_CARTS_BY_PRODUCT_SUMMARY = "Stream carts containing a product";
+    public static final String REACTIVE_CARTS_BY_PRODUCT_DESCRIPTION = "Streams the IDs of the carts that hold the given product.";
+    public static final String REACTIVE_TOP_N_INVALID = "topN must be at least 1 but was %d";
+    public static final String REACTIVE_DATABASE_UNSUPPORTED = "Cannot derive an R2DBC connection from %s; set store.reactive.r2dbc-url";
+
+    // ===== Virtual Threads (Logging) =====
+    public static final String VIRTUAL_THREAD_PINNING_MONITOR_STARTED = "Recording virtual threads pinned for {} ms or longer.";
+    public static final String VIRTUAL_THREAD_PINNING_MONITOR_UNAVAILABLE = "Virtual thread pinning monitor unavailable: {}.";
+    public static final String VIRTUAL_THREAD_PINNED = "Virtual thread pinned for {} ms at {} (first report for this site):{}";
+
 }
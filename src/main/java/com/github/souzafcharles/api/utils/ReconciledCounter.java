@@ -0,0 +1,101 @@
+package com.github.souzafcharles.api.utils;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+
+/**
+ * A {@link LongAdder} mirroring an aggregate that lives in the database.
+ * Writers adjust it with deltas; {@link #reconcile(LongSupplier)} periodically
+ * compares it with the authoritative value and reports any correction under
+ * {@code store.counter.corrections} and {@code store.counter.drift}.
+ * Transactional writers use {@link #addAfterCommit(long)}, which keeps the
+ * delta in flight until the transaction completes, so a reconcile round never
+ * counts a change the database already shows but the counter does not yet.
+ */
+public class ReconciledCounter {
+
+    private final LongAdder value = new LongAdder();
+    private final AtomicLong inFlight = new AtomicLong();
+    private final AtomicLong writes = new AtomicLong();
+    private final Counter corrections;
+    private final DistributionSummary drift;
+
+    public ReconciledCounter(String name, MeterRegistry registry) {
+        Gauge.builder("store.counter.value", value, LongAdder::sum)
+                .tag("counter", name)
+                .register(registry);
+        this.corrections = Counter.builder("store.counter.corrections")
+                .tag("counter", name)
+                .register(registry);
+        this.drift = DistributionSummary.builder("store.counter.drift")
+                .tag("counter", name)
+                .register(registry);
+    }
+
+    public void add(long delta) {
+        if (delta == 0) return;
+        value.add(delta);
+        writes.incrementAndGet();
+    }
+
+    /**
+     * Applies {@code delta} once the current transaction commits, and drops it
+     * on rollback. Outside a transaction it is applied right away.
+     */
+    public void addAfterCommit(long delta) {
+        if (delta == 0) return;
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            add(delta);
+            return;
+        }
+        inFlight.incrementAndGet();
+        writes.incrementAndGet();
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status == STATUS_COMMITTED) value.add(delta);
+                writes.incrementAndGet();
+                inFlight.decrementAndGet();
+            }
+        });
+    }
+
+    public long get() {
+        return value.sum();
+    }
+
+    public void reset(long seed) {
+        value.reset();
+        value.add(seed);
+    }
+
+    /**
+     * Corrects the counter against {@code source} and returns the applied drift.
+     * If a write was in flight or landed while the source was being read the
+     * round is skipped and 0 is returned, since the two values are not comparable.
+     */
+    public long reconcile(LongSupplier source) {
+        long writesBefore = writes.get();
+        if (inFlight.get() != 0) return 0;
+        long before = value.sum();
+        long actual = source.getAsLong();
+        if (writes.get() != writesBefore) return 0;
+
+        long difference = actual - before;
+        if (difference != 0) {
+            value.add(difference);
+            corrections.increment();
+            drift.record(Math.abs(difference));
+        }
+        return difference;
+    }
+}
@@ -0,0 +1,86 @@
+package com.github.souzafcharles.api.utils;
+
+import org.springframework.hateoas.EntityModel;
+import org.springframework.hateoas.IanaLinkRelations;
+import org.springframework.hateoas.Link;
+import org.springframework.hateoas.server.RepresentationModelAssembler;
+import org.springframework.hateoas.server.mvc.WebMvcLinkBuilder;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
+import org.springframework.web.util.UriUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.util.function.Function;
+
+/**
+ * Self link of a single-id controller method, resolved through
+ * {@link WebMvcLinkBuilder} once and then filled in by string substitution.
+ * {@code linkTo(methodOn(...))} proxies the controller and walks its mapping
+ * annotations on every call, which dominates assembling a large page; here
+ * that happens for the first link only, and each page after that costs one
+ * lookup of the request's base URI plus one concatenation per element. The
+ * id is encoded as a path segment, as {@code linkTo} does.
+ */
+public final class SelfLinkTemplate {
+
+    private static final String PLACEHOLDER = "__self_link_id__";
+
+    private final Function<String, ?> invocation;
+    private volatile Template template;
+
+    private SelfLinkTemplate(Function<String, ?> invocation) {
+        this.invocation = invocation;
+    }
+
+    /**
+     * @param invocation the controller call to link to, e.g.
+     *                   {@code id -> methodOn(ProductController.class).getById(id)}
+     */
+    public static SelfLinkTemplate of(Function<String, ?> invocation) {
+        return new SelfLinkTemplate(invocation);
+    }
+
+    /** Self link for {@code id}, relative to the current request's servlet mapping. */
+    public Link link(String id) {
+        return resolve(currentBase()).link(id);
+    }
+
+    /** Assembler adding the self link to each element of one page, sharing a single base lookup. */
+    public <T> RepresentationModelAssembler<T, EntityModel<T>> forPage(Function<T, String> id) {
+        Template resolved = resolve(currentBase());
+        return element -> EntityModel.of(element, resolved.link(id.apply(element)));
+    }
+
+    private Template resolve(String base) {
+        Template cached = template;
+        if (cached != null) return cached.rebase(base);
+
+        String href = WebMvcLinkBuilder.linkTo(invocation.apply(PLACEHOLDER)).toUri().toString();
+        int at = href.indexOf(PLACEHOLDER);
+        Template resolved = new Template(base, href.substring(0, at), href.substring(at + PLACEHOLDER.length()));
+        // Only the part below the base is request-independent; anything else is used for this page alone.
+        if (resolved.prefix.startsWith(base)) template = resolved;
+        return resolved;
+    }
+
+    /** Same base as {@code linkTo}: the current servlet mapping, or none outside a request. */
+    private static String currentBase() {
+        return RequestContextHolder.getRequestAttributes() == null
+                ? ""
+                : ServletUriComponentsBuilder.fromCurrentServletMapping().toUriString();
+    }
+
+    private record Template(String base, String prefix, String suffix) {
+
+        Template rebase(String newBase) {
+            return newBase.equals(base)
+                    ? this
+                    : new Template(newBase, newBase + prefix.substring(base.length()), suffix);
+        }
+
+        Link link(String id) {
+            return Link.of(prefix + UriUtils.encodePathSegment(id, StandardCharsets.UTF_8) + suffix,
+                    IanaLinkRelations.SELF);
+        }
+    }
+}
@@ -0,0 +1,29 @@
+package com.github.souzafcharles.api.utils.validation;
+
+import jakarta.validation.Constraint;
+import jakarta.validation.Payload;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * The annotated string must encode to at most {@link #value()} bytes in UTF-8.
+ * {@code null} is valid; combine with {@code @NotBlank} to require a value.
+ */
+@Documented
+@Constraint(validatedBy = MaxUtf8BytesValidator.class)
+@Target({ElementType.FIELD, ElementType.PARAMETER, ElementType.RECORD_COMPONENT})
+@Retention(RetentionPolicy.RUNTIME)
+public @interface MaxUtf8Bytes {
+
+    int value();
+
+    String message();
+
+    Class<?>[] groups() default {};
+
+    Class<? extends Payload>[] payload() default {};
+}
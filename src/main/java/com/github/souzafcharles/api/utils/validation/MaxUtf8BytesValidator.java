@@ -0,0 +1,23 @@
+package com.github.souzafcharles.api.utils.validation;
+
+import jakarta.validation.ConstraintValidator;
+import jakarta.validation.ConstraintValidatorContext;
+
+import java.nio.charset.StandardCharsets;
+
+public class MaxUtf8BytesValidator implements ConstraintValidator<MaxUtf8Bytes, String> {
+
+    private int max;
+
+    @Override
+    public void initialize(MaxUtf8Bytes annotation) {
+        this.max = annotation.value();
+    }
+
+    @Override
+    public boolean isValid(String value, ConstraintValidatorContext context) {
+        // Every char is at most 3 bytes (surrogate pairs are 4 for 2 chars), so short strings skip the encode.
+        if (value == null || value.length() * 3 <= max) return true;
+        return value.length() <= max && value.getBytes(StandardCharsets.UTF_8).length <= max;
+    }
+}
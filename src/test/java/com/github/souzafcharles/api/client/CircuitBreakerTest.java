@@ -0,0 +1,94 @@
+package com.github.souzafcharles.api.client;
+
+import com.github.souzafcharles.api.exceptions.custom.UpstreamUnavailableException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CircuitBreakerTest {
+
+    private AtomicLong now;
+    private CircuitBreaker breaker;
+    private AtomicInteger calls;
+
+    @BeforeEach
+    void setUp() {
+        now = new AtomicLong();
+        breaker = new CircuitBreaker("test", 2, Duration.ofSeconds(10), now::get);
+        calls = new AtomicInteger();
+    }
+
+    @Test
+    void protectShouldOpenAfterConsecutiveFailuresAndRejectWithoutCalling() {
+        // Arrange
+        fail(2);
+
+        // Act
+        Mono<String> rejected = breaker.protect(call(true));
+
+        // Assert
+        assertEquals(CircuitBreaker.State.OPEN, breaker.state());
+        assertThrows(UpstreamUnavailableException.class, rejected::block);
+        assertEquals(2, calls.get());
+    }
+
+    @Test
+    void protectShouldCloseAfterSuccessfulTrialOnceOpenDurationPasses() {
+        // Arrange
+        fail(2);
+        now.addAndGet(Duration.ofSeconds(10).toNanos());
+
+        // Act
+        String result = breaker.protect(call(true)).block();
+
+        // Assert
+        assertEquals("ok", result);
+        assertEquals(CircuitBreaker.State.CLOSED, breaker.state());
+    }
+
+    @Test
+    void protectShouldReopenWhenTrialFails() {
+        // Arrange
+        fail(2);
+        now.addAndGet(Duration.ofSeconds(11).toNanos());
+
+        // Act
+        fail(1);
+
+        // Assert
+        assertEquals(CircuitBreaker.State.OPEN, breaker.state());
+        assertThrows(UpstreamUnavailableException.class, () -> breaker.protect(call(true)).block());
+    }
+
+    @Test
+    void protectShouldResetFailureCountOnSuccess() {
+        // Arrange
+        fail(1);
+        breaker.protect(call(true)).block();
+
+        // Act
+        fail(1);
+
+        // Assert
+        assertEquals(CircuitBreaker.State.CLOSED, breaker.state());
+    }
+
+    private void fail(int times) {
+        for (int i = 0; i < times; i++) {
+            assertThrows(IllegalStateException.class, () -> breaker.protect(call(false)).block());
+        }
+    }
+
+    private Mono<String> call(boolean succeed) {
+        return Mono.defer(() -> {
+            calls.incrementAndGet();
+            return succeed ? Mono.just("ok") : Mono.error(new IllegalStateException("upstream error"));
+        });
+    }
+}
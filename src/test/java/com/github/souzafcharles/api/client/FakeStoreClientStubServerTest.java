@@ -0,0 +1,163 @@
+package com.github.souzafcharles.api.client;
+
+import com.github.souzafcharles.api.config.WebClientConfig;
+import com.github.souzafcharles.api.endpoint.user.model.dto.UserResponseDTO;
+import com.github.souzafcharles.api.exceptions.custom.UpstreamUnavailableException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.netty.handler.codec.http.HttpResponseStatus;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientRequestException;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Mono;
+import reactor.netty.DisposableServer;
+import reactor.netty.http.server.HttpServer;
+import reactor.netty.resources.ConnectionProvider;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.IntFunction;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/** Runs the client against a local Reactor Netty server that injects latency and failures. */
+class FakeStoreClientStubServerTest {
+
+    private static final String USERS = "[{\"id\":\"1\",\"username\":\"johnd\",\"email\":\"john@gmail.com\"}]";
+
+    private final AtomicInteger requests = new AtomicInteger();
+    private volatile IntFunction<Reply> behaviour;
+    private DisposableServer server;
+    private ConnectionProvider connectionProvider;
+    private SimpleMeterRegistry meterRegistry;
+    private FakeStoreClient client;
+
+    @BeforeEach
+    void setUp() {
+        server = HttpServer.create()
+                .port(0)
+                .route(routes -> routes.get("/users", (request, response) -> {
+                    Reply reply = behaviour.apply(requests.incrementAndGet());
+                    return Mono.delay(reply.delay())
+                            .then(response.status(reply.status())
+                                    .header("Content-Type", "application/json")
+                                    .sendString(Mono.just(reply.body()))
+                                    .then());
+                }))
+                .bindNow();
+
+        WebClientConfig config = new WebClientConfig();
+        connectionProvider = config.fakeStoreConnectionProvider(4, Duration.ofSeconds(1), Duration.ofSeconds(5));
+        meterRegistry = new SimpleMeterRegistry();
+        WebClient webClient = config.webClient(WebClient.builder(), connectionProvider, null, meterRegistry,
+                "http://localhost:" + server.port(), Duration.ofSeconds(1), Duration.ofMillis(200), false);
+        client = new FakeStoreClient(webClient, meterRegistry,
+                2, Duration.ofMillis(10), Duration.ofMillis(50), 3, Duration.ofMinutes(1));
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.disposeNow();
+        connectionProvider.dispose();
+    }
+
+    @Test
+    void getAllUsersShouldRetryTransientFailures() {
+        // Arrange
+        behaviour = attempt -> attempt < 3 ? Reply.status(503) : Reply.ok(USERS);
+
+        // Act
+        UserResponseDTO[] users = client.getAllUsers().block(Duration.ofSeconds(5));
+
+        // Assert
+        assertNotNull(users);
+        assertEquals("johnd", users[0].username());
+        assertEquals(3, requests.get());
+        assertEquals(2.0, meterRegistry.get("store.fakestore.retries").counter().count());
+    }
+
+    @Test
+    void getAllUsersShouldRetryResponsesSlowerThanTimeout() {
+        // Arrange
+        behaviour = attempt -> attempt == 1 ? Reply.ok(USERS).after(Duration.ofSeconds(1)) : Reply.ok(USERS);
+
+        // Act
+        UserResponseDTO[] users = client.getAllUsers().block(Duration.ofSeconds(5));
+
+        // Assert
+        assertNotNull(users);
+        assertEquals(2, requests.get());
+    }
+
+    @Test
+    void getAllUsersShouldGiveUpAfterMaxRetries() {
+        // Arrange
+        behaviour = attempt -> Reply.ok(USERS).after(Duration.ofSeconds(1));
+
+        // Act & Assert
+        assertThrows(WebClientRequestException.class, () -> client.getAllUsers().block(Duration.ofSeconds(5)));
+        assertEquals(3, requests.get());
+    }
+
+    @Test
+    void getAllUsersShouldNotRetryClientErrors() {
+        // Arrange
+        behaviour = attempt -> Reply.status(404);
+
+        // Act & Assert
+        assertThrows(WebClientResponseException.NotFound.class, () -> client.getAllUsers().block(Duration.ofSeconds(5)));
+        assertEquals(1, requests.get());
+    }
+
+    @Test
+    void getAllUsersShouldFailFastOnceCircuitOpens() {
+        // Arrange
+        behaviour = attempt -> Reply.status(404);
+        for (int i = 0; i < 3; i++) {
+            assertThrows(WebClientResponseException.class, () -> client.getAllUsers().block(Duration.ofSeconds(5)));
+        }
+
+        // Act & Assert
+        assertThrows(UpstreamUnavailableException.class, () -> client.getAllUsers().block(Duration.ofSeconds(5)));
+        assertEquals(3, requests.get());
+        assertEquals(CircuitBreaker.State.OPEN, client.circuitState());
+        assertEquals(1.0, meterRegistry.get("store.fakestore.circuit.state").gauge().value());
+    }
+
+    @Test
+    void streamUsersShouldDecodeEachElementAndRetryBeforeTheFirst() {
+        // Arrange
+        String many = IntStream.rangeClosed(1, 1000)
+                .mapToObj(i -> "{\"id\":\"" + i + "\",\"username\":\"user" + i + "\",\"email\":\"u" + i + "@x.com\"}")
+                .collect(Collectors.joining(",", "[", "]"));
+        behaviour = attempt -> attempt == 1 ? Reply.status(502) : Reply.ok(many);
+
+        // Act
+        List<UserResponseDTO> users = client.streamUsers().collectList().block(Duration.ofSeconds(5));
+
+        // Assert
+        assertNotNull(users);
+        assertEquals(1000, users.size());
+        assertEquals("user1000", users.getLast().username());
+        assertEquals(2, requests.get());
+    }
+
+    private record Reply(int status, String body, Duration delay) {
+        static Reply ok(String body) {
+            return new Reply(HttpResponseStatus.OK.code(), body, Duration.ZERO);
+        }
+
+        static Reply status(int status) {
+            return new Reply(status, "{}", Duration.ZERO);
+        }
+
+        Reply after(Duration delay) {
+            return new Reply(status, body, delay);
+        }
+    }
+}
@@ -3,11 +3,13 @@ package com.github.souzafcharles.api.client;
 import com.github.souzafcharles.api.endpoint.cart.model.dto.CartResponseDTO;
 import com.github.souzafcharles.api.endpoint.product.model.dto.ProductResponseDTO;
 import com.github.souzafcharles.api.endpoint.user.model.dto.UserResponseDTO;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.web.reactive.function.client.WebClient;
 import reactor.core.publisher.Mono;
 
+import java.time.Duration;
 import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -23,7 +25,8 @@ class FakeStoreClientTest {
     void setup() {
         // Arrange: WebClient Mock
         webClient = mock(WebClient.class, RETURNS_DEEP_STUBS);
-        client = new FakeStoreClient(webClient);
+        client = new FakeStoreClient(webClient, new SimpleMeterRegistry(),
+                3, Duration.ofMillis(1), Duration.ofMillis(10), 5, Duration.ofSeconds(30));
     }
 
     @Test
@@ -68,7 +71,7 @@ class FakeStoreClientTest {
                 new CartResponseDTO("1", "user1", List.of())
         };
         when(webClient.get()
-                .uri("https://fakestoreapi.com/carts")
+                .uri("/carts")
                 .retrieve()
                 .bodyToMono(CartResponseDTO[].class))
                 .thenReturn(Mono.just(mockCarts));
@@ -89,7 +92,7 @@ class FakeStoreClientTest {
                 new UserResponseDTO("u1", "balthazar", "balthazar@example.com")
         };
         when(webClient.get()
-                .uri("https://fakestoreapi.com/users")
+                .uri("/users")
                 .retrieve()
                 .bodyToMono(UserResponseDTO[].class))
                 .thenReturn(Mono.just(mockUsers));
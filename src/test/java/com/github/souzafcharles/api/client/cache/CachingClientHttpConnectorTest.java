@@ -0,0 +1,190 @@
+package com.github.souzafcharles.api.client.cache;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.netty.DisposableServer;
+import reactor.netty.http.server.HttpServer;
+
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/** Runs the cache against a local Reactor Netty server that honours {@code If-None-Match}. */
+class CachingClientHttpConnectorTest {
+
+    private static final Instant NOW = Instant.parse("2026-01-01T00:00:00Z");
+
+    @TempDir
+    Path directory;
+
+    private final AtomicInteger requests = new AtomicInteger();
+    private final List<String> ifNoneMatch = new CopyOnWriteArrayList<>();
+    private volatile String body = "[{\"id\":\"1\"}]";
+    private volatile String etag = "\"v1\"";
+    private volatile String cacheControl = null;
+    private volatile int status = 200;
+    private volatile Duration delay = Duration.ZERO;
+    private DisposableServer server;
+    private SimpleMeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        server = HttpServer.create()
+                .port(0)
+                .route(routes -> routes.get("/products", (request, response) -> {
+                    requests.incrementAndGet();
+                    String validator = request.requestHeaders().get("If-None-Match");
+                    ifNoneMatch.add(String.valueOf(validator));
+                    return Mono.delay(delay).then(Mono.defer(() -> {
+                        if (status == 200 && etag.equals(validator)) {
+                            return response.status(304).header("ETag", etag).send().then();
+                        }
+                        if (cacheControl != null) response.header("Cache-Control", cacheControl);
+                        return response.status(status)
+                                .header("Content-Type", "application/json")
+                                .header("ETag", etag)
+                                .sendString(Mono.just(body))
+                                .then();
+                    }));
+                }))
+                .bindNow();
+        meterRegistry = new SimpleMeterRegistry();
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.disposeNow();
+    }
+
+    @Test
+    void getShouldRevalidateAndServeTheStoredBodyOnNotModified() {
+        // Arrange
+        WebClient client = client(NOW);
+        get(client);
+
+        // Act
+        String second = get(client);
+
+        // Assert
+        assertEquals(body, second);
+        assertEquals(List.of("null", "\"v1\""), ifNoneMatch);
+        assertEquals(1.0, meterRegistry.get("store.fakestore.cache").tag("result", "revalidated").counter().count());
+    }
+
+    @Test
+    void getShouldReplaceTheStoredBodyWhenItChanged() {
+        // Arrange
+        WebClient client = client(NOW);
+        get(client);
+        body = "[{\"id\":\"2\"}]";
+        etag = "\"v2\"";
+
+        // Act
+        String second = get(client);
+
+        String third = get(client);
+
+        // Assert
+        assertEquals("[{\"id\":\"2\"}]", second);
+        assertEquals("[{\"id\":\"2\"}]", third);
+        assertEquals(List.of("null", "\"v1\"", "\"v2\""), ifNoneMatch);
+    }
+
+    @Test
+    void getShouldServeFreshEntriesWithoutARequestAcrossRestarts() {
+        // Arrange
+        cacheControl = "max-age=60";
+        get(client(NOW));
+
+        // Act
+        String afterRestart = get(client(NOW.plusSeconds(30)));
+
+        // Assert
+        assertEquals(body, afterRestart);
+        assertEquals(1, requests.get());
+    }
+
+    @Test
+    void getShouldServeStaleEntriesWhileRevalidatingInTheBackground() throws InterruptedException {
+        // Arrange
+        cacheControl = "max-age=10, stale-while-revalidate=60";
+        get(client(NOW));
+        String stale = body;
+        body = "[{\"id\":\"2\"}]";
+        etag = "\"v2\"";
+        WebClient later = client(NOW.plusSeconds(30));
+
+        // Act
+        String served = get(later);
+
+        // Assert
+        assertEquals(stale, served);
+        String refreshed = served;
+        for (int i = 0; i < 50 && refreshed.equals(stale); i++) {
+            Thread.sleep(20);
+            refreshed = get(later);
+        }
+        assertEquals(body, refreshed);
+        assertEquals(2, requests.get());
+    }
+
+    @Test
+    void concurrentGetsShouldShareOneUpstreamCall() {
+        // Arrange
+        delay = Duration.ofMillis(200);
+        WebClient client = client(NOW);
+
+        // Act
+        List<String> bodies = Flux.range(0, 8)
+                .flatMap(i -> client.get().uri("/products").retrieve().bodyToMono(String.class))
+                .collectList()
+                .block(Duration.ofSeconds(5));
+
+        // Assert
+        assertNotNull(bodies);
+        assertEquals(8, bodies.size());
+        assertTrue(bodies.stream().allMatch(body::equals));
+        assertEquals(1, requests.get());
+        assertEquals(7.0, meterRegistry.get("store.fakestore.cache").tag("result", "coalesced").counter().count());
+    }
+
+    @Test
+    void getShouldPassErrorsThroughWithoutStoringThem() {
+        // Arrange
+        status = 503;
+        WebClient client = client(NOW);
+
+        // Act & Assert
+        assertThrows(WebClientResponseException.ServiceUnavailable.class, () -> get(client));
+        status = 200;
+        assertEquals(body, get(client));
+        assertEquals(List.of("null", "null"), ifNoneMatch);
+    }
+
+    private WebClient client(Instant now) {
+        HttpDiskCache cache = new HttpDiskCache(directory, Duration.ZERO, Duration.ZERO, Clock.fixed(now, ZoneOffset.UTC));
+        return WebClient.builder()
+                .baseUrl("http://localhost:" + server.port())
+                .clientConnector(new CachingClientHttpConnector(new ReactorClientHttpConnector(), cache, meterRegistry))
+                .build();
+    }
+
+    private static String get(WebClient client) {
+        return client.get().uri("/products").retrieve().bodyToMono(String.class).block(Duration.ofSeconds(5));
+    }
+}
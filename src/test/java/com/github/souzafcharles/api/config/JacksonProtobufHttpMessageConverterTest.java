@@ -0,0 +1,59 @@
+package com.github.souzafcharles.api.config;
+
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.protobuf.ProtobufMapper;
+import com.github.souzafcharles.api.endpoint.cart.model.dto.CartResponseDTO;
+import com.github.souzafcharles.api.endpoint.cartproduct.model.dto.CartProductResponseDTO;
+import com.github.souzafcharles.api.endpoint.product.model.dto.ProductResponseDTO;
+import com.github.souzafcharles.api.endpoint.user.model.dto.UserResponseDTO;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+import org.springframework.mock.http.MockHttpOutputMessage;
+
+import java.io.IOException;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class JacksonProtobufHttpMessageConverterTest {
+
+    private final ProtobufMapper mapper = new ProtobufMapper();
+    private JacksonProtobufHttpMessageConverter converter;
+
+    @BeforeEach
+    void setUp() throws JsonMappingException {
+        converter = new JacksonProtobufHttpMessageConverter(mapper, ProductResponseDTO.class, CartResponseDTO.class);
+    }
+
+    @Test
+    void writeShouldEncodeCartAsProtobufMessage() throws IOException {
+        // Arrange
+        CartResponseDTO cart = new CartResponseDTO("c1", "u1", List.of(
+                new CartProductResponseDTO("p1", "Bag", 10.5, 2),
+                new CartProductResponseDTO("p2", "Shirt", 7.25, 1)));
+        MockHttpOutputMessage output = new MockHttpOutputMessage();
+
+        // Act
+        converter.write(cart, JacksonProtobufHttpMessageConverter.APPLICATION_PROTOBUF, output);
+
+        // Assert
+        byte[] body = output.getBodyAsBytes();
+        CartResponseDTO decoded = mapper.readerFor(CartResponseDTO.class)
+                .with(mapper.generateSchemaFor(CartResponseDTO.class))
+                .readValue(body);
+        assertEquals(cart, decoded);
+        assertEquals(JacksonProtobufHttpMessageConverter.APPLICATION_PROTOBUF, output.getHeaders().getContentType());
+        assertTrue(body.length < new ObjectMapper().writeValueAsBytes(cart).length);
+    }
+
+    @Test
+    void converterShouldOnlyWriteRegisteredTypes() {
+        // Act & Assert
+        assertTrue(converter.canWrite(ProductResponseDTO.class, JacksonProtobufHttpMessageConverter.APPLICATION_PROTOBUF));
+        assertFalse(converter.canWrite(UserResponseDTO.class, JacksonProtobufHttpMessageConverter.APPLICATION_PROTOBUF));
+        assertFalse(converter.canWrite(ProductResponseDTO.class, MediaType.APPLICATION_JSON));
+        assertFalse(converter.canRead(ProductResponseDTO.class, JacksonProtobufHttpMessageConverter.APPLICATION_PROTOBUF));
+    }
+}
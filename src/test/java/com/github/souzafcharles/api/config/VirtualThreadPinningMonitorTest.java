@@ -0,0 +1,69 @@
+package com.github.souzafcharles.api.config;
+
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class VirtualThreadPinningMonitorTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Test
+    void monitorShouldTimePinsAtTheApplicationFrame() throws Exception {
+        // Arrange
+        VirtualThreadPinningMonitor monitor = new VirtualThreadPinningMonitor(meterRegistry, true, Duration.ofMillis(10));
+        Object monitorLock = new Object();
+
+        try {
+            // Act
+            Thread.ofVirtual().start(() -> {
+                synchronized (monitorLock) {
+                    sleep(50);
+                }
+            }).join();
+
+            // Assert
+            Timer pinned = null;
+            for (int i = 0; i < 100 && pinned == null; i++) {
+                pinned = meterRegistry.find("store.threads.virtual.pinned").timer();
+                if (pinned == null) Thread.sleep(100);
+            }
+            assertNotNull(pinned);
+            assertEquals(1, pinned.count());
+            assertTrue(pinned.getId().getTag("site").startsWith("VirtualThreadPinningMonitorTest."));
+        } finally {
+            monitor.shutdown();
+        }
+    }
+
+    @Test
+    void recordShouldFoldSitesBeyondTheLimitIntoOther() {
+        // Arrange
+        VirtualThreadPinningMonitor monitor = new VirtualThreadPinningMonitor(meterRegistry, false, Duration.ZERO);
+        for (int i = 0; i < VirtualThreadPinningMonitor.MAX_SITES; i++) {
+            monitor.record("Site.m" + i, Duration.ofMillis(30), List.of());
+        }
+
+        // Act
+        monitor.record("Site.extra", Duration.ofMillis(30), List.of());
+        monitor.record("Site.m0", Duration.ofMillis(30), List.of());
+
+        // Assert
+        assertNull(meterRegistry.find("store.threads.virtual.pinned").tag("site", "Site.extra").timer());
+        assertEquals(1, meterRegistry.get("store.threads.virtual.pinned").tag("site", VirtualThreadPinningMonitor.OTHER_SITE).timer().count());
+        assertEquals(2, meterRegistry.get("store.threads.virtual.pinned").tag("site", "Site.m0").timer().count());
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,142 @@
+package com.github.souzafcharles.api.endpoint.analytics.columnstore;
+
+import com.github.souzafcharles.api.endpoint.analytics.model.dto.AnalyticsAggregateDTO;
+import com.github.souzafcharles.api.endpoint.analytics.model.dto.AnalyticsFilterDTO;
+import com.github.souzafcharles.api.endpoint.analytics.model.dto.AnalyticsOrderDTO;
+import com.github.souzafcharles.api.endpoint.analytics.model.dto.AnalyticsQueryDTO;
+import com.github.souzafcharles.api.endpoint.analytics.model.dto.AnalyticsResultDTO;
+import com.github.souzafcharles.api.exceptions.custom.InvalidQueryException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AnalyticsQueryTest {
+
+    private CartLineColumnStore store;
+
+    @BeforeEach
+    void setUp() {
+        store = new CartLineColumnStore();
+        store.addLine("c1", "u1", "p1", "electronics", 2, 100.0);
+        store.addLine("c1", "u1", "p2", "jewelery", 1, 50.0);
+        store.addLine("c2", "u2", "p1", "electronics", 3, 100.0);
+        store.addLine("c3", "u2", "p3", "electronics", 1, 10.0);
+    }
+
+    @Test
+    void executeShouldGroupAndAggregate() {
+        // Arrange
+        AnalyticsQueryDTO dto = new AnalyticsQueryDTO(null, List.of("category"), List.of(
+                new AnalyticsAggregateDTO("sum", "quantity", "items"),
+                new AnalyticsAggregateDTO("sum", "revenue", null),
+                new AnalyticsAggregateDTO("max", "unitPrice", null),
+                new AnalyticsAggregateDTO("count", null, null)
+        ), null, null);
+
+        // Act
+        AnalyticsResultDTO result = AnalyticsQuery.compile(dto, store).execute();
+
+        // Assert
+        assertEquals(List.of(
+                Map.of("category", "electronics", "items", 6L, "sumRevenue", 510.0, "maxUnitPrice", 100.0, "count", 3L),
+                Map.of("category", "jewelery", "items", 1L, "sumRevenue", 50.0, "maxUnitPrice", 50.0, "count", 1L)
+        ), result.rows());
+        assertEquals(4L, result.matchedRows());
+    }
+
+    @Test
+    void executeShouldApplyFiltersOrderAndLimit() {
+        // Arrange
+        AnalyticsQueryDTO dto = new AnalyticsQueryDTO(
+                List.of(new AnalyticsFilterDTO("category", "eq", "electronics", null),
+                        new AnalyticsFilterDTO("unitPrice", "gte", 50, null)),
+                List.of("userId"),
+                List.of(new AnalyticsAggregateDTO("sum", "quantity", "items")),
+                List.of(new AnalyticsOrderDTO("items", "desc")),
+                1);
+
+        // Act
+        AnalyticsResultDTO result = AnalyticsQuery.compile(dto, store).execute();
+
+        // Assert
+        assertEquals(List.of(Map.of("userId", "u2", "items", 3L)), result.rows());
+        assertEquals(2L, result.matchedRows());
+    }
+
+    @Test
+    void executeShouldMatchNothingForUnknownDimensionValue() {
+        // Arrange
+        AnalyticsQueryDTO dto = new AnalyticsQueryDTO(
+                List.of(new AnalyticsFilterDTO("productId", "in", null, List.of("p9", "p8"))),
+                null, null, null, null);
+
+        // Act
+        AnalyticsResultDTO result = AnalyticsQuery.compile(dto, store).execute();
+
+        // Assert
+        assertEquals(List.of(Map.of("count", 0L)), result.rows());
+    }
+
+    @Test
+    void executeShouldSkipRemovedCartsAndSeeReAddedOnes() {
+        // Arrange
+        store.removeCart("c1");
+        store.addLine("c1", "u1", "p3", "electronics", 4, 10.0);
+        AnalyticsQueryDTO dto = new AnalyticsQueryDTO(null, List.of("productId"),
+                List.of(new AnalyticsAggregateDTO("sum", "quantity", "items")), null, null);
+
+        // Act
+        AnalyticsResultDTO result = AnalyticsQuery.compile(dto, store).execute();
+
+        // Assert
+        assertEquals(List.of(Map.of("productId", "p1", "items", 3L), Map.of("productId", "p3", "items", 5L)), result.rows());
+        assertEquals(3L, result.scannedRows());
+    }
+
+    @Test
+    void executeShouldMergeAcrossSegments() {
+        // Arrange
+        CartLineColumnStore large = new CartLineColumnStore();
+        int rows = Segment.CAPACITY * 3 + 17;
+        for (int i = 0; i < rows; i++) {
+            large.addLine("c" + i, "u" + (i % 7), "p" + (i % 11), i % 2 == 0 ? "even" : "odd", 1, 2.0);
+        }
+        AnalyticsQueryDTO dto = new AnalyticsQueryDTO(null, List.of("category", "userId"),
+                List.of(new AnalyticsAggregateDTO("sum", "quantity", "items")), null, AnalyticsQuery.MAX_LIMIT);
+
+        // Act
+        AnalyticsResultDTO result = AnalyticsQuery.compile(dto, large).execute();
+
+        // Assert
+        assertEquals(4, large.segmentCount());
+        assertEquals(14, result.rows().size());
+        assertEquals((long) rows, result.rows().stream().mapToLong(row -> (Long) row.get("items")).sum());
+        assertEquals("even", result.rows().get(0).get("category"));
+        assertEquals("u0", result.rows().get(0).get("userId"));
+    }
+
+    @Test
+    void compileShouldRejectInvalidQueries() {
+        // Act & Assert
+        assertThrows(InvalidQueryException.class, () -> AnalyticsQuery.compile(
+                new AnalyticsQueryDTO(null, List.of("price"), null, null, null), store));
+        assertThrows(InvalidQueryException.class, () -> AnalyticsQuery.compile(
+                new AnalyticsQueryDTO(null, List.of("quantity"), null, null, null), store));
+        assertThrows(InvalidQueryException.class, () -> AnalyticsQuery.compile(
+                new AnalyticsQueryDTO(null, null, List.of(new AnalyticsAggregateDTO("median", "quantity", null)), null, null), store));
+        assertThrows(InvalidQueryException.class, () -> AnalyticsQuery.compile(
+                new AnalyticsQueryDTO(null, null, List.of(new AnalyticsAggregateDTO("sum", "category", null)), null, null), store));
+        assertThrows(InvalidQueryException.class, () -> AnalyticsQuery.compile(
+                new AnalyticsQueryDTO(List.of(new AnalyticsFilterDTO("category", "gt", "a", null)), null, null, null, null), store));
+        assertThrows(InvalidQueryException.class, () -> AnalyticsQuery.compile(
+                new AnalyticsQueryDTO(List.of(new AnalyticsFilterDTO("quantity", "gt", "many", null)), null, null, null, null), store));
+        assertThrows(InvalidQueryException.class, () -> AnalyticsQuery.compile(
+                new AnalyticsQueryDTO(null, null, null, List.of(new AnalyticsOrderDTO("items", "asc")), null), store));
+        assertThrows(InvalidQueryException.class, () -> AnalyticsQuery.compile(
+                new AnalyticsQueryDTO(null, null, null, null, 0), store));
+    }
+}
@@ -0,0 +1,34 @@
+package com.github.souzafcharles.api.endpoint.analytics.controller;
+
+import com.github.souzafcharles.api.endpoint.analytics.model.dto.AnalyticsQueryDTO;
+import com.github.souzafcharles.api.endpoint.analytics.model.dto.AnalyticsResultDTO;
+import com.github.souzafcharles.api.endpoint.analytics.service.AnalyticsService;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class AnalyticsControllerTest {
+
+    @Test
+    void queryShouldReturnServiceResult() {
+        // Arrange
+        AnalyticsService analyticsService = mock(AnalyticsService.class);
+        AnalyticsController analyticsController = new AnalyticsController(analyticsService);
+        AnalyticsQueryDTO dto = new AnalyticsQueryDTO(null, null, null, null, null);
+        AnalyticsResultDTO result = new AnalyticsResultDTO(List.of(Map.of("count", 4L)), 4L, 4L, 10L);
+        when(analyticsService.query(dto)).thenReturn(result);
+
+        // Act
+        ResponseEntity<AnalyticsResultDTO> response = analyticsController.query(dto);
+
+        // Assert
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals(result, response.getBody());
+    }
+}
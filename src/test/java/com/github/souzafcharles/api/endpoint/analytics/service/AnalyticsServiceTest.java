@@ -0,0 +1,88 @@
+package com.github.souzafcharles.api.endpoint.analytics.service;
+
+import com.github.souzafcharles.api.endpoint.analytics.model.dto.AnalyticsAggregateDTO;
+import com.github.souzafcharles.api.endpoint.analytics.model.dto.AnalyticsQueryDTO;
+import com.github.souzafcharles.api.endpoint.analytics.model.dto.AnalyticsResultDTO;
+import com.github.souzafcharles.api.endpoint.cart.event.CartChangedEvent;
+import com.github.souzafcharles.api.endpoint.cart.event.CartLineSnapshot;
+import com.github.souzafcharles.api.endpoint.cart.event.CartSnapshot;
+import com.github.souzafcharles.api.endpoint.cartproduct.repository.CartProductRepository;
+import com.github.souzafcharles.api.endpoint.export.model.dto.CartLineExportDTO;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class AnalyticsServiceTest {
+
+    private static final AnalyticsQueryDTO ITEMS_PER_USER = new AnalyticsQueryDTO(null, List.of("userId"),
+            List.of(new AnalyticsAggregateDTO("sum", "quantity", "items")), null, null);
+
+    private CartProductRepository cartProductRepository;
+    private AnalyticsService analyticsService;
+
+    @BeforeEach
+    void setUp() {
+        cartProductRepository = mock(CartProductRepository.class);
+        analyticsService = new AnalyticsService(cartProductRepository, mock(PlatformTransactionManager.class));
+    }
+
+    @Test
+    void rebuildShouldLoadCartLinesFromDatabase() {
+        // Arrange
+        when(cartProductRepository.streamCartLines()).thenReturn(Stream.of(
+                new CartLineExportDTO("c1", "u1", "p1", "electronics", 2, 100.0),
+                new CartLineExportDTO("c2", "u2", "p1", "electronics", null, null)
+        ));
+
+        // Act
+        analyticsService.rebuild();
+        AnalyticsResultDTO result = analyticsService.query(ITEMS_PER_USER);
+
+        // Assert
+        assertEquals(List.of(Map.of("userId", "u1", "items", 2L), Map.of("userId", "u2", "items", 0L)), result.rows());
+    }
+
+    @Test
+    void rebuildShouldReplayCartsChangedWhileScanning() {
+        // Arrange
+        CartSnapshot created = new CartSnapshot("c2", "u2", List.of(new CartLineSnapshot("p1", "electronics", 3, 100.0)));
+        when(cartProductRepository.streamCartLines()).thenAnswer(invocation -> {
+            analyticsService.onCartChanged(CartChangedEvent.created(created));
+            return Stream.of(new CartLineExportDTO("c1", "u1", "p1", "electronics", 2, 100.0));
+        });
+
+        // Act
+        analyticsService.rebuild();
+
+        // Assert
+        assertEquals(List.of(Map.of("userId", "u1", "items", 2L), Map.of("userId", "u2", "items", 3L)),
+                analyticsService.query(ITEMS_PER_USER).rows());
+    }
+
+    @Test
+    void onCartChangedShouldReplaceCartLines() {
+        // Arrange
+        CartSnapshot before = new CartSnapshot("c1", "u1", List.of(new CartLineSnapshot("p1", "electronics", 2, 100.0)));
+        CartSnapshot after = new CartSnapshot("c1", "u1", List.of(new CartLineSnapshot("p1", "electronics", 5, 100.0)));
+        analyticsService.onCartChanged(CartChangedEvent.created(before));
+
+        // Act
+        analyticsService.onCartChanged(new CartChangedEvent(before, after));
+
+        // Assert
+        assertEquals(List.of(Map.of("userId", "u1", "items", 5L)), analyticsService.query(ITEMS_PER_USER).rows());
+
+        // Act
+        analyticsService.onCartChanged(CartChangedEvent.deleted(after));
+
+        // Assert
+        assertTrue(analyticsService.query(ITEMS_PER_USER).rows().isEmpty());
+    }
+}
@@ -1,6 +1,5 @@
 package com.github.souzafcharles.api.endpoint.cart.initializer;
 
-import com.github.souzafcharles.api.client.FakeStoreClient;
 import com.github.souzafcharles.api.endpoint.cart.model.dto.CartResponseDTO;
 import com.github.souzafcharles.api.endpoint.cart.model.entity.Cart;
 import com.github.souzafcharles.api.endpoint.cartproduct.model.dto.CartProductResponseDTO;
@@ -10,23 +9,25 @@ import com.github.souzafcharles.api.endpoint.product.model.entity.Product;
 import com.github.souzafcharles.api.endpoint.product.repository.ProductRepository;
 import com.github.souzafcharles.api.endpoint.user.model.entity.User;
 import com.github.souzafcharles.api.endpoint.user.repository.UserRepository;
+import jakarta.persistence.EntityManager;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
-import reactor.core.publisher.Mono;
+import org.springframework.transaction.PlatformTransactionManager;
 
 import java.util.List;
-import java.util.Optional;
-import java.util.ArrayList;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.*;
-import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.*;
 
 class CartDataInitializerTest {
 
     private CartRepository cartRepository;
     private ProductRepository productRepository;
     private UserRepository userRepository;
-    private FakeStoreClient fakeStoreClient;
+    private EntityManager entityManager;
+    private PlatformTransactionManager transactionManager;
     private CartDataInitializer initializer;
 
     private User user;
@@ -38,9 +39,11 @@ class CartDataInitializerTest {
         cartRepository = mock(CartRepository.class);
         productRepository = mock(ProductRepository.class);
         userRepository = mock(UserRepository.class);
-        fakeStoreClient = mock(FakeStoreClient.class);
+        entityManager = mock(EntityManager.class);
+        transactionManager = mock(PlatformTransactionManager.class);
 
-        initializer = new CartDataInitializer(cartRepository, productRepository, userRepository, fakeStoreClient);
+        initializer = new CartDataInitializer(cartRepository, productRepository, userRepository,
+                entityManager, transactionManager, 2);
 
         user = new User();
         user.setId("u1");
@@ -49,113 +52,110 @@ class CartDataInitializerTest {
         product = new Product();
         product.setId("p1");
         product.setTitle("Laptop");
+
+        when(userRepository.getReferenceById("u1")).thenReturn(user);
+        when(productRepository.getReferenceById("p1")).thenReturn(product);
     }
 
     @Test
-    void initShouldNotSaveWhenRepositoryNotEmpty() {
+    void isInitializedShouldBeTrueWhenRepositoryNotEmpty() {
         // Arrange
         when(cartRepository.count()).thenReturn(1L);
 
-        // Act
-        initializer.init();
-
-        // Assert
-        verify(fakeStoreClient, never()).getAllCarts();
-        verify(cartRepository, never()).saveAll(anyList());
+        // Act & Assert
+        assertTrue(initializer.isInitialized());
     }
 
     @Test
-    void initShouldNotSaveWhenFakeStoreReturnsNull() {
-        // Arrange
-        when(cartRepository.count()).thenReturn(0L);
-        when(fakeStoreClient.getAllCarts()).thenReturn(Mono.justOrEmpty(null));
-
+    void saveShouldNotSaveWhenPayloadIsNull() {
         // Act
-        initializer.init();
+        initializer.save(null);
 
         // Assert
-        verify(cartRepository, never()).saveAll(anyList());
+        verify(entityManager, never()).persist(any());
     }
 
     @Test
-    void initShouldNotSaveWhenFakeStoreReturnsEmptyArray() {
-        // Arrange
-        when(cartRepository.count()).thenReturn(0L);
-        when(fakeStoreClient.getAllCarts()).thenReturn(Mono.just(new CartResponseDTO[0]));
-
+    void saveShouldNotSaveWhenPayloadIsEmpty() {
         // Act
-        initializer.init();
+        initializer.save(List.of());
 
         // Assert
-        verify(cartRepository, never()).saveAll(anyList());
+        verify(entityManager, never()).persist(any());
     }
 
     @Test
-    void initShouldIgnoreCartIfUserNotFound() {
+    void saveShouldIgnoreCartIfUserNotFound() {
         // Arrange
-        when(cartRepository.count()).thenReturn(0L);
         CartResponseDTO cartDTO = new CartResponseDTO("c1", "u1", List.of(new CartProductResponseDTO("p1", "Laptop", 1500.0, 1)));
-        when(fakeStoreClient.getAllCarts()).thenReturn(Mono.just(new CartResponseDTO[]{cartDTO}));
-        when(userRepository.findById("u1")).thenReturn(Optional.empty());
+        when(userRepository.findIdsByIdIn(anyCollection())).thenReturn(List.of());
+        when(productRepository.findIdsByIdIn(anyCollection())).thenReturn(List.of("p1"));
 
         // Act
-        initializer.init();
+        int saved = initializer.save(List.of(cartDTO));
 
         // Assert
-        verify(cartRepository, never()).saveAll(anyList());
+        assertEquals(0, saved);
+        verify(entityManager, never()).persist(any());
+        verifyNoInteractions(transactionManager);
     }
 
     @Test
-    void initShouldIgnoreCartProductIfProductNotFound() {
+    void saveShouldIgnoreCartProductIfProductNotFound() {
         // Arrange
-        when(cartRepository.count()).thenReturn(0L);
         CartResponseDTO cartDTO = new CartResponseDTO("c1", "u1", List.of(new CartProductResponseDTO("p1", "Laptop", 1500.0, 1)));
-        when(fakeStoreClient.getAllCarts()).thenReturn(Mono.just(new CartResponseDTO[]{cartDTO}));
-        when(userRepository.findById("u1")).thenReturn(Optional.of(user));
-        when(productRepository.findById("p1")).thenReturn(Optional.empty());
+        when(userRepository.findIdsByIdIn(anyCollection())).thenReturn(List.of("u1"));
+        when(productRepository.findIdsByIdIn(anyCollection())).thenReturn(List.of());
 
         // Act
-        initializer.init();
+        initializer.save(List.of(cartDTO));
 
         // Assert
-        verify(cartRepository, times(1)).saveAll(argThat(cartsIterable -> {
-            List<Cart> carts = new ArrayList<>();
-            cartsIterable.forEach(carts::add);
-
-            if (carts.size() != 1) return false;
-            Cart savedCart = carts.get(0);
-            // Cart sem produtos válidos
-            return savedCart.getCartProducts().isEmpty() && savedCart.getUser().equals(user) && savedCart.getId().equals("c1");
-        }));
+        verify(entityManager).persist(argThat((Cart savedCart) -> savedCart.getCartProducts().isEmpty()
+                && savedCart.getUser().equals(user) && savedCart.getId().equals("c1")));
+        verify(productRepository, never()).getReferenceById(any());
     }
 
     @Test
-    void initShouldSaveValidCart() {
+    void saveShouldSaveValidCart() {
         // Arrange
-        when(cartRepository.count()).thenReturn(0L);
         CartResponseDTO cartDTO = new CartResponseDTO("c1", "u1", List.of(new CartProductResponseDTO("p1", "Laptop", 1500.0, 2)));
-        when(fakeStoreClient.getAllCarts()).thenReturn(Mono.just(new CartResponseDTO[]{cartDTO}));
-        when(userRepository.findById("u1")).thenReturn(Optional.of(user));
-        when(productRepository.findById("p1")).thenReturn(Optional.of(product));
+        when(userRepository.findIdsByIdIn(anyCollection())).thenReturn(List.of("u1"));
+        when(productRepository.findIdsByIdIn(anyCollection())).thenReturn(List.of("p1"));
 
         // Act
-        initializer.init();
+        initializer.save(List.of(cartDTO));
 
         // Assert
-        verify(cartRepository, times(1)).saveAll(argThat(cartsIterable -> {
-            List<Cart> carts = new ArrayList<>();
-            cartsIterable.forEach(carts::add);
-
-            if (carts.size() != 1) return false;
-            Cart savedCart = carts.get(0);
-            if (!savedCart.getId().equals("c1")) return false;
-            if (!savedCart.getUser().equals(user)) return false;
-
+        verify(entityManager).persist(argThat((Cart savedCart) -> {
+            if (!savedCart.getId().equals("c1") || !savedCart.getUser().equals(user)) return false;
             List<CartProduct> cartProducts = savedCart.getCartProducts();
             if (cartProducts.size() != 1) return false;
-
             CartProduct cp = cartProducts.get(0);
-            return cp.getProduct().equals(product) && cp.getQuantity() == 2;
+            return cp.getProduct().equals(product) && cp.getQuantity() == 2 && cp.getCart() == savedCart;
         }));
+        verify(userRepository, never()).findById(any());
+        verify(productRepository, never()).findById(any());
+    }
+
+    @Test
+    void saveShouldLookUpIdsInBulkAndPersistInBatches() {
+        // Arrange
+        List<CartResponseDTO> carts = List.of(
+                new CartResponseDTO("c1", "u1", List.of(new CartProductResponseDTO("p1", "Laptop", 1500.0, 1))),
+                new CartResponseDTO("c2", "u1", List.of(new CartProductResponseDTO("p1", "Laptop", 1500.0, 2))),
+                new CartResponseDTO("c3", "u1", List.of(new CartProductResponseDTO("p1", "Laptop", 1500.0, 3))));
+        when(userRepository.findIdsByIdIn(anyCollection())).thenReturn(List.of("u1"));
+        when(productRepository.findIdsByIdIn(anyCollection())).thenReturn(List.of("p1"));
+
+        // Act
+        int saved = initializer.save(carts);
+
+        // Assert
+        assertEquals(3, saved);
+        verify(userRepository, times(1)).findIdsByIdIn(anyCollection());
+        verify(productRepository, times(1)).findIdsByIdIn(anyCollection());
+        verify(entityManager, times(3)).persist(any(Cart.class));
+        verify(transactionManager, times(2)).getTransaction(any());
     }
-}
\ No newline at end of file
+}
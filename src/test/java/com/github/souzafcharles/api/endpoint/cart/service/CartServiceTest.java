@@ -1,5 +1,7 @@
 package com.github.souzafcharles.api.endpoint.cart.service;
 
+import com.github.souzafcharles.api.endpoint.cart.event.CartChangedEvent;
+import com.github.souzafcharles.api.endpoint.cart.model.dto.CartLineRowDTO;
 import com.github.souzafcharles.api.endpoint.cart.model.dto.CartRequestDTO;
 import com.github.souzafcharles.api.endpoint.cart.model.dto.CartResponseDTO;
 import com.github.souzafcharles.api.endpoint.cart.model.entity.Cart;
@@ -14,6 +16,8 @@ import com.github.souzafcharles.api.exceptions.custom.DatabaseException;
 import com.github.souzafcharles.api.exceptions.custom.ResourceNotFoundException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
@@ -21,6 +25,8 @@ import org.springframework.data.domain.Pageable;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Stream;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.*;
@@ -31,6 +37,7 @@ class CartServiceTest {
     private CartRepository cartRepository;
     private UserRepository userRepository;
     private ProductRepository productRepository;
+    private ApplicationEventPublisher eventPublisher;
     private CartService cartService;
 
     private User user;
@@ -43,8 +50,9 @@ class CartServiceTest {
         cartRepository = mock(CartRepository.class);
         userRepository = mock(UserRepository.class);
         productRepository = mock(ProductRepository.class);
+        eventPublisher = mock(ApplicationEventPublisher.class);
 
-        cartService = new CartService(cartRepository, userRepository, productRepository);
+        cartService = new CartService(cartRepository, userRepository, productRepository, eventPublisher);
 
         user = new User();
         user.setId("u1");
@@ -157,6 +165,10 @@ class CartServiceTest {
         // Assert
         assertEquals(1, response.products().size());
         assertEquals(3, response.products().get(0).quantity());
+        ArgumentCaptor<CartChangedEvent> event = ArgumentCaptor.forClass(CartChangedEvent.class);
+        verify(eventPublisher).publishEvent(event.capture());
+        assertEquals(2, event.getValue().before().lines().get(0).quantity());
+        assertEquals(3, event.getValue().after().lines().get(0).quantity());
     }
 
     @Test
@@ -169,6 +181,8 @@ class CartServiceTest {
 
         // Assert
         verify(cartRepository, times(1)).delete(cart);
+        verify(eventPublisher).publishEvent(argThat((CartChangedEvent event) ->
+                event.after() == null && event.before().cartId().equals("c1")));
     }
 
     @Test
@@ -179,6 +193,7 @@ class CartServiceTest {
 
         // Act & Assert
         assertThrows(DatabaseException.class, () -> cartService.deleteCart("c1"));
+        verifyNoInteractions(eventPublisher);
     }
 
     @Test
@@ -207,6 +222,20 @@ class CartServiceTest {
         assertEquals("c1", result.get(0).id());
     }
 
+    @Test
+    void getCartsByProductIdShouldKeepCartsWithoutUser() {
+        // Arrange
+        cart.setUser(null);
+        when(cartRepository.findByCartProductsProductId("p1")).thenReturn(List.of(cart));
+
+        // Act
+        List<CartResponseDTO> result = cartService.getCartsByProductId("p1");
+
+        // Assert
+        assertEquals(1, result.size());
+        assertNull(result.get(0).userId());
+    }
+
     @Test
     void getTotalProductsForUserShouldReturnSum() {
         // Act
@@ -234,4 +263,30 @@ class CartServiceTest {
         result = cartService.getCartsWithTotalValueGreaterThan(5000.0);
         assertTrue(result.isEmpty());
     }
+
+    @Test
+    void streamCartsByUserIdShouldFoldConsecutiveRowsPerCart() {
+        // Arrange
+        AtomicBoolean closed = new AtomicBoolean();
+        when(cartRepository.streamLinesByUserId("u1")).thenReturn(Stream.of(
+                new CartLineRowDTO("c1", "u1", "p1", "Laptop", 1000.0, 1),
+                new CartLineRowDTO("c1", "u1", "p2", "Mouse", 20.0, 3),
+                new CartLineRowDTO("c2", "u1", null, null, null, null),
+                new CartLineRowDTO("c3", "u1", "p2", "Mouse", 20.0, 1)
+        ).onClose(() -> closed.set(true)));
+
+        // Act
+        List<CartResponseDTO> result;
+        try (Stream<CartResponseDTO> carts = cartService.streamCartsByUserId("u1")) {
+            result = carts.toList();
+        }
+
+        // Assert
+        assertEquals(List.of("c1", "c2", "c3"), result.stream().map(CartResponseDTO::id).toList());
+        assertEquals(2, result.get(0).products().size());
+        assertEquals(3, result.get(0).products().get(1).quantity());
+        assertTrue(result.get(1).products().isEmpty());
+        assertEquals("p2", result.get(2).products().getFirst().productId());
+        assertTrue(closed.get());
+    }
 }
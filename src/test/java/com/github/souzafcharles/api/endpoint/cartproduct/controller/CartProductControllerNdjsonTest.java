@@ -0,0 +1,93 @@
+package com.github.souzafcharles.api.endpoint.cartproduct.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.souzafcharles.api.endpoint.cartproduct.model.dto.ProductSalesDTO;
+import com.github.souzafcharles.api.endpoint.cartproduct.service.CartProductService;
+import com.github.souzafcharles.api.endpoint.export.service.NdjsonStreamingService;
+import com.github.souzafcharles.api.exceptions.handler.ResourceExceptionHandler;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionStatus;
+
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+class CartProductControllerNdjsonTest {
+
+    private CartProductService cartProductService;
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        // Arrange
+        cartProductService = mock(CartProductService.class);
+        PlatformTransactionManager transactionManager = mock(PlatformTransactionManager.class);
+        when(transactionManager.getTransaction(any())).thenReturn(mock(TransactionStatus.class));
+        NdjsonStreamingService streamingService = new NdjsonStreamingService(new ObjectMapper(), transactionManager);
+        mockMvc = MockMvcBuilders
+                .standaloneSetup(new CartProductController(cartProductService, streamingService))
+                .setControllerAdvice(new ResourceExceptionHandler())
+                .build();
+    }
+
+    @Test
+    void mostSoldShouldStreamOneLinePerRowForNdjsonClients() throws Exception {
+        // Arrange
+        when(cartProductService.streamMostSoldProducts(null, 2)).thenReturn(Stream.of(
+                new ProductSalesDTO("p1", "Laptop", 5),
+                new ProductSalesDTO("p2", "Mouse", 3)));
+
+        // Act
+        MvcResult started = mockMvc.perform(get("/cart-products/analytics/most-sold")
+                        .param("topN", "2")
+                        .accept(MediaType.APPLICATION_NDJSON))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        // Assert
+        mockMvc.perform(asyncDispatch(started))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_NDJSON))
+                .andExpect(content().string("""
+                        {"productId":"p1","title":"Laptop","totalSold":5}
+                        {"productId":"p2","title":"Mouse","totalSold":3}
+                        """));
+        verify(cartProductService, never()).getMostSoldProducts(anyInt());
+    }
+
+    @Test
+    void mostSoldShouldStayAJsonArrayWithoutNdjsonAccept() throws Exception {
+        // Arrange
+        when(cartProductService.getMostSoldProducts(2)).thenReturn(List.of(new ProductSalesDTO("p1", "Laptop", 5)));
+
+        // Act & Assert
+        mockMvc.perform(get("/cart-products/analytics/most-sold").param("topN", "2"))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_JSON))
+                .andExpect(jsonPath("$[0].productId").value("p1"));
+        verify(cartProductService, never()).streamMostSoldProducts(any(), anyInt());
+    }
+
+    @Test
+    void mostSoldShouldAnswerNegativeTopNWithJsonBadRequestForNdjsonClients() throws Exception {
+        // Act & Assert
+        mockMvc.perform(get("/cart-products/analytics/most-sold")
+                        .param("topN", "-1")
+                        .accept(MediaType.APPLICATION_NDJSON))
+                .andExpect(status().isBadRequest())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_JSON))
+                .andExpect(jsonPath("$.status").value(400));
+        verifyNoInteractions(cartProductService);
+    }
+}
@@ -4,6 +4,7 @@ import com.github.souzafcharles.api.endpoint.cartproduct.model.dto.CartProductRe
 import com.github.souzafcharles.api.endpoint.cartproduct.model.dto.CartProductResponseDTO;
 import com.github.souzafcharles.api.endpoint.cartproduct.model.dto.ProductSalesDTO;
 import com.github.souzafcharles.api.endpoint.cartproduct.service.CartProductService;
+import com.github.souzafcharles.api.exceptions.custom.InvalidQueryException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.*;
@@ -123,4 +124,11 @@ class CartProductControllerTest {
         assertEquals(1, response.getBody().size());
         assertEquals("c1", response.getBody().get(0));
     }
+
+    @Test
+    void streamMostSoldProductsShouldRejectNegativeTopNBeforeStreaming() {
+        // Act & Assert
+        assertThrows(InvalidQueryException.class, () -> cartProductController.streamMostSoldProducts(-1));
+        verifyNoInteractions(cartProductService);
+    }
 }
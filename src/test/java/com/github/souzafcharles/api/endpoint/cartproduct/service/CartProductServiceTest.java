@@ -1,5 +1,6 @@
 package com.github.souzafcharles.api.endpoint.cartproduct.service;
 
+import com.github.souzafcharles.api.endpoint.cart.event.CartChangedEvent;
 import com.github.souzafcharles.api.endpoint.cart.model.entity.Cart;
 import com.github.souzafcharles.api.endpoint.cart.repository.CartRepository;
 import com.github.souzafcharles.api.endpoint.cartproduct.model.dto.CartProductRequestDTO;
@@ -13,6 +14,7 @@ import com.github.souzafcharles.api.endpoint.product.repository.ProductRepositor
 import com.github.souzafcharles.api.exceptions.custom.ResourceNotFoundException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationEventPublisher;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -26,6 +28,8 @@ class CartProductServiceTest {
     private CartRepository cartRepository;
     private ProductRepository productRepository;
     private com.github.souzafcharles.api.endpoint.cartproduct.repository.CartProductRepository cartProductRepository;
+    private ApplicationEventPublisher eventPublisher;
+    private TotalItemsCounter totalItemsCounter;
     private CartProductService cartProductService;
 
     private Cart cart;
@@ -37,7 +41,10 @@ class CartProductServiceTest {
         productRepository = mock(ProductRepository.class);
         cartProductRepository = mock(com.github.souzafcharles.api.endpoint.cartproduct.repository.CartProductRepository.class);
 
-        cartProductService = new CartProductService(cartRepository, productRepository, cartProductRepository);
+        eventPublisher = mock(ApplicationEventPublisher.class);
+        totalItemsCounter = mock(TotalItemsCounter.class);
+
+        cartProductService = new CartProductService(cartRepository, productRepository, cartProductRepository, eventPublisher, totalItemsCounter);
 
         cart = new Cart();
         cart.setId("c1");
@@ -111,6 +118,8 @@ class CartProductServiceTest {
 
         assertTrue(cart.getCartProducts().isEmpty());
         verify(cartRepository, times(1)).save(cart);
+        verify(eventPublisher).publishEvent(argThat((CartChangedEvent event) ->
+                event.before().lines().size() == 1 && event.after().lines().isEmpty()));
     }
 
     @Test
@@ -181,12 +190,13 @@ class CartProductServiceTest {
     }
 
     @Test
-    void getTotalItemsInCartsShouldReturnSum() {
-        when(cartProductRepository.countTotalItems()).thenReturn(3L);
+    void getTotalItemsInCartsShouldReturnCounterWithoutQuerying() {
+        when(totalItemsCounter.get()).thenReturn(3L);
 
         long total = cartProductService.getTotalItemsInCarts();
 
         assertEquals(3, total);
+        verify(cartProductRepository, never()).countTotalItems();
     }
 
     @Test
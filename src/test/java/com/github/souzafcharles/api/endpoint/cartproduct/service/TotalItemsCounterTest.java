@@ -0,0 +1,91 @@
+package com.github.souzafcharles.api.endpoint.cartproduct.service;
+
+import com.github.souzafcharles.api.endpoint.cart.event.CartChangedEvent;
+import com.github.souzafcharles.api.endpoint.cart.event.CartLineSnapshot;
+import com.github.souzafcharles.api.endpoint.cart.event.CartSnapshot;
+import com.github.souzafcharles.api.endpoint.cartproduct.repository.CartProductRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class TotalItemsCounterTest {
+
+    private CartProductRepository cartProductRepository;
+    private TotalItemsCounter totalItemsCounter;
+
+    @BeforeEach
+    void setUp() {
+        cartProductRepository = mock(CartProductRepository.class);
+        totalItemsCounter = new TotalItemsCounter(cartProductRepository, new SimpleMeterRegistry());
+    }
+
+    @Test
+    void seedShouldLoadSumFromDatabase() {
+        // Arrange
+        when(cartProductRepository.countTotalItems()).thenReturn(42L);
+
+        // Act
+        totalItemsCounter.seed();
+
+        // Assert
+        assertEquals(42, totalItemsCounter.get());
+    }
+
+    @Test
+    void seedShouldTreatEmptyTableAsZero() {
+        // Arrange
+        when(cartProductRepository.countTotalItems()).thenReturn(null);
+
+        // Act
+        totalItemsCounter.seed();
+
+        // Assert
+        assertEquals(0, totalItemsCounter.get());
+    }
+
+    @Test
+    void onCartChangedShouldApplyQuantityDelta() {
+        // Arrange
+        CartSnapshot before = cart(line("p1", 2), line("p2", 1));
+        CartSnapshot after = cart(line("p1", 5));
+
+        // Act
+        totalItemsCounter.onCartChanged(CartChangedEvent.created(before));
+        totalItemsCounter.onCartChanged(new CartChangedEvent(before, after));
+
+        // Assert
+        assertEquals(5, totalItemsCounter.get());
+
+        // Act
+        totalItemsCounter.onCartChanged(CartChangedEvent.deleted(after));
+
+        // Assert
+        assertEquals(0, totalItemsCounter.get());
+    }
+
+    @Test
+    void reconcileShouldCorrectDriftFromDatabase() {
+        // Arrange
+        totalItemsCounter.onCartChanged(CartChangedEvent.created(cart(line("p1", 3))));
+        when(cartProductRepository.countTotalItems()).thenReturn(4L);
+
+        // Act
+        totalItemsCounter.reconcile();
+
+        // Assert
+        assertEquals(4, totalItemsCounter.get());
+    }
+
+    private static CartSnapshot cart(CartLineSnapshot... lines) {
+        return new CartSnapshot("c1", "u1", List.of(lines));
+    }
+
+    private static CartLineSnapshot line(String productId, int quantity) {
+        return new CartLineSnapshot(productId, "electronics", quantity, 10.0);
+    }
+}
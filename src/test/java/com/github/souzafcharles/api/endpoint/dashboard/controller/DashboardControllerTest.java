@@ -0,0 +1,32 @@
+package com.github.souzafcharles.api.endpoint.dashboard.controller;
+
+import com.github.souzafcharles.api.endpoint.dashboard.model.dto.DashboardDTO;
+import com.github.souzafcharles.api.endpoint.dashboard.model.dto.DashboardSectionDTO;
+import com.github.souzafcharles.api.endpoint.dashboard.service.DashboardService;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class DashboardControllerTest {
+
+    @Test
+    void getDashboardShouldReturnServiceResult() {
+        // Arrange
+        DashboardService dashboardService = mock(DashboardService.class);
+        DashboardController dashboardController = new DashboardController(dashboardService);
+        DashboardDTO dashboard = new DashboardDTO(true, 5L, Map.of("userCount", DashboardSectionDTO.ok(2L, 1)));
+        when(dashboardService.getDashboard()).thenReturn(dashboard);
+
+        // Act
+        ResponseEntity<DashboardDTO> response = dashboardController.getDashboard();
+
+        // Assert
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals(dashboard, response.getBody());
+    }
+}
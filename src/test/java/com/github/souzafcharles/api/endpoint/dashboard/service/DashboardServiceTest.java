@@ -0,0 +1,115 @@
+package com.github.souzafcharles.api.endpoint.dashboard.service;
+
+import com.github.souzafcharles.api.endpoint.cartproduct.service.CartProductService;
+import com.github.souzafcharles.api.endpoint.dashboard.model.dto.DashboardDTO;
+import com.github.souzafcharles.api.endpoint.dashboard.model.dto.DashboardSectionDTO;
+import com.github.souzafcharles.api.endpoint.product.service.ProductService;
+import com.github.souzafcharles.api.endpoint.user.service.UserService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class DashboardServiceTest {
+
+    private ProductService productService;
+    private CartProductService cartProductService;
+    private UserService userService;
+    private DashboardService dashboardService;
+
+    @BeforeEach
+    void setUp() {
+        productService = mock(ProductService.class);
+        cartProductService = mock(CartProductService.class);
+        userService = mock(UserService.class);
+        dashboardService = new DashboardService(productService, cartProductService, userService, Duration.ofMillis(300));
+    }
+
+    @AfterEach
+    void tearDown() {
+        dashboardService.shutdown();
+    }
+
+    @Test
+    void getDashboardShouldReturnEverySection() {
+        // Arrange
+        when(cartProductService.getTotalItemsInCarts()).thenReturn(12L);
+        when(userService.countUsers()).thenReturn(3L);
+        when(productService.getAveragePricePerCategory()).thenReturn(Map.of("electronics", 100.0));
+
+        // Act
+        DashboardDTO dashboard = dashboardService.getDashboard();
+
+        // Assert
+        assertTrue(dashboard.complete());
+        assertEquals(7, dashboard.sections().size());
+        assertEquals(12L, dashboard.sections().get("totalItems").data());
+        assertEquals(3L, dashboard.sections().get("userCount").data());
+        assertEquals(Map.of("electronics", 100.0), dashboard.sections().get("averagePricePerCategory").data());
+    }
+
+    @Test
+    void getDashboardShouldMarkSlowSectionAndReturnTheRest() {
+        // Arrange
+        when(userService.countUsers()).thenReturn(3L);
+        when(cartProductService.getRevenuePerProduct()).thenAnswer(invocation -> {
+            Thread.sleep(5_000);
+            return Map.of();
+        });
+
+        // Act
+        DashboardDTO dashboard = dashboardService.getDashboard();
+
+        // Assert
+        assertFalse(dashboard.complete());
+        assertEquals(DashboardSectionDTO.Status.TIMEOUT, dashboard.sections().get("revenuePerProduct").status());
+        assertEquals(DashboardSectionDTO.Status.OK, dashboard.sections().get("userCount").status());
+        assertEquals(3L, dashboard.sections().get("userCount").data());
+        assertTrue(dashboard.elapsedMillis() < 2_000);
+    }
+
+    @Test
+    void getDashboardShouldMarkFailedSection() {
+        // Arrange
+        when(productService.getTopExpensiveProducts(5)).thenThrow(new IllegalStateException("boom"));
+
+        // Act
+        DashboardDTO dashboard = dashboardService.getDashboard();
+
+        // Assert
+        DashboardSectionDTO section = dashboard.sections().get("topExpensive");
+        assertEquals(DashboardSectionDTO.Status.ERROR, section.status());
+        assertEquals("boom", section.error());
+        assertNull(section.data());
+        assertEquals(DashboardSectionDTO.Status.OK, dashboard.sections().get("topCheapest").status());
+    }
+
+    @Test
+    void getDashboardShouldRunSectionsConcurrently() {
+        // Arrange
+        when(userService.countUsers()).thenAnswer(invocation -> {
+            Thread.sleep(150);
+            return 1L;
+        });
+        when(cartProductService.getTotalItemsInCarts()).thenAnswer(invocation -> {
+            Thread.sleep(150);
+            return 1L;
+        });
+        when(productService.getAveragePricePerCategory()).thenAnswer(invocation -> {
+            Thread.sleep(150);
+            return Map.of();
+        });
+
+        // Act
+        DashboardDTO dashboard = dashboardService.getDashboard();
+
+        // Assert
+        assertTrue(dashboard.complete());
+        assertTrue(dashboard.elapsedMillis() < 300);
+    }
+}
@@ -0,0 +1,90 @@
+package com.github.souzafcharles.api.endpoint.export.controller;
+
+import com.github.souzafcharles.api.endpoint.export.service.ExportService;
+import com.github.souzafcharles.api.endpoint.export.writer.ExportFormat;
+import com.github.souzafcharles.api.exceptions.custom.InvalidQueryException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.GZIPInputStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+class ExportControllerTest {
+
+    @Mock
+    private ExportService exportService;
+
+    @InjectMocks
+    private ExportController exportController;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+    }
+
+    @Test
+    void exportCartLinesShouldStreamPlainCsvByDefault() throws IOException {
+        // Arrange
+        when(exportService.exportCartLines(eq(ExportFormat.CSV), any(OutputStream.class))).thenAnswer(invocation -> {
+            invocation.<OutputStream>getArgument(1).write("cartId\r\n".getBytes(StandardCharsets.UTF_8));
+            return 0L;
+        });
+
+        // Act
+        ResponseEntity<StreamingResponseBody> response = exportController.exportCartLines("csv", null);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        response.getBody().writeTo(out);
+
+        // Assert
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals(ExportFormat.CSV.getMediaType(), response.getHeaders().getContentType());
+        assertNull(response.getHeaders().getFirst(HttpHeaders.CONTENT_ENCODING));
+        assertTrue(response.getHeaders().getFirst(HttpHeaders.CONTENT_DISPOSITION).contains("cart-lines.csv"));
+        assertEquals("cartId\r\n", out.toString(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void exportUsersShouldGzipWhenClientAcceptsIt() throws IOException {
+        // Arrange
+        when(exportService.exportUsers(eq(ExportFormat.NDJSON), any(OutputStream.class))).thenAnswer(invocation -> {
+            invocation.<OutputStream>getArgument(1).write("{\"id\":\"u1\"}\n".getBytes(StandardCharsets.UTF_8));
+            return 1L;
+        });
+
+        // Act
+        ResponseEntity<StreamingResponseBody> response = exportController.exportUsers("ndjson", "gzip, deflate");
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        response.getBody().writeTo(out);
+
+        // Assert
+        assertEquals(MediaType.APPLICATION_NDJSON, response.getHeaders().getContentType());
+        assertEquals("gzip", response.getHeaders().getFirst(HttpHeaders.CONTENT_ENCODING));
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(out.toByteArray()))) {
+            assertEquals("{\"id\":\"u1\"}\n", new String(in.readAllBytes(), StandardCharsets.UTF_8));
+        }
+    }
+
+    @Test
+    void exportProductsShouldRejectUnsupportedFormat() {
+        // Act & Assert
+        assertThrows(InvalidQueryException.class, () -> exportController.exportProducts("xml", null));
+        verifyNoInteractions(exportService);
+    }
+}
@@ -0,0 +1,131 @@
+package com.github.souzafcharles.api.endpoint.export.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.souzafcharles.api.endpoint.cartproduct.repository.CartProductRepository;
+import com.github.souzafcharles.api.endpoint.export.model.dto.CartLineExportDTO;
+import com.github.souzafcharles.api.endpoint.export.writer.ExportFormat;
+import com.github.souzafcharles.api.endpoint.product.model.dto.ProductResponseDTO;
+import com.github.souzafcharles.api.endpoint.product.repository.ProductRepository;
+import com.github.souzafcharles.api.endpoint.user.model.dto.UserResponseDTO;
+import com.github.souzafcharles.api.endpoint.user.repository.UserRepository;
+import com.github.souzafcharles.api.exceptions.custom.InvalidQueryException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class ExportServiceTest {
+
+    private CartProductRepository cartProductRepository;
+    private ProductRepository productRepository;
+    private UserRepository userRepository;
+    private ExportService exportService;
+
+    @BeforeEach
+    void setUp() {
+        // Arrange
+        cartProductRepository = mock(CartProductRepository.class);
+        productRepository = mock(ProductRepository.class);
+        userRepository = mock(UserRepository.class);
+        exportService = new ExportService(cartProductRepository, productRepository, userRepository, new ObjectMapper());
+    }
+
+    @Test
+    void exportCartLinesShouldWriteCsvWithHeader() throws IOException {
+        // Arrange
+        when(cartProductRepository.streamCartLines()).thenReturn(Stream.of(
+                new CartLineExportDTO("c1", "u1", "p1", "electronics", 2, 10.5),
+                new CartLineExportDTO("c1", "u1", "p2", "men's clothing", 1, 3.0)
+        ));
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        // Act
+        long count = exportService.exportCartLines(ExportFormat.CSV, out);
+
+        // Assert
+        assertEquals(2, count);
+        assertEquals("""
+                cartId,userId,productId,category,quantity,unitPrice\r
+                c1,u1,p1,electronics,2,10.5\r
+                c1,u1,p2,men's clothing,1,3.0\r
+                """, out.toString(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void exportProductsShouldQuoteCsvValuesContainingSeparators() throws IOException {
+        // Arrange
+        when(productRepository.streamAllAsDto()).thenReturn(Stream.of(
+                new ProductResponseDTO("p1", "Laptop, 15\"", 1500.0, null, "electronics", null)
+        ));
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        // Act
+        exportService.exportProducts(ExportFormat.CSV, out);
+
+        // Assert
+        String[] lines = out.toString(StandardCharsets.UTF_8).split("\r\n");
+        assertEquals("id,title,price,description,category,image", lines[0]);
+        assertEquals("p1,\"Laptop, 15\"\"\",1500.0,,electronics,", lines[1]);
+    }
+
+    @Test
+    void exportUsersShouldWriteOneJsonDocumentPerLine() throws IOException {
+        // Arrange
+        when(userRepository.streamAllAsDto()).thenReturn(Stream.of(
+                new UserResponseDTO("u1", "Alice", "alice@example.com"),
+                new UserResponseDTO("u2", "Bob", "bob@example.com")
+        ));
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        // Act
+        long count = exportService.exportUsers(ExportFormat.NDJSON, out);
+
+        // Assert
+        assertEquals(2, count);
+        assertEquals("""
+                {"id":"u1","username":"Alice","email":"alice@example.com"}
+                {"id":"u2","username":"Bob","email":"bob@example.com"}
+                """, out.toString(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void exportUsersShouldWriteNothingForAnEmptyNdjsonExport() throws IOException {
+        // Arrange
+        when(userRepository.streamAllAsDto()).thenReturn(Stream.empty());
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        // Act
+        long count = exportService.exportUsers(ExportFormat.NDJSON, out);
+
+        // Assert
+        assertEquals(0, count);
+        assertEquals(0, out.size());
+    }
+
+    @Test
+    void exportShouldCloseRepositoryStream() throws IOException {
+        // Arrange
+        Stream<UserResponseDTO> rows = Stream.of(new UserResponseDTO("u1", "Alice", "alice@example.com"));
+        Runnable onClose = mock(Runnable.class);
+        when(userRepository.streamAllAsDto()).thenReturn(rows.onClose(onClose));
+
+        // Act
+        exportService.exportUsers(ExportFormat.CSV, new ByteArrayOutputStream());
+
+        // Assert
+        verify(onClose, times(1)).run();
+    }
+
+    @Test
+    void fromParameterShouldRejectUnknownFormat() {
+        // Act & Assert
+        assertEquals(ExportFormat.NDJSON, ExportFormat.fromParameter("NDJSON"));
+        assertThrows(InvalidQueryException.class, () -> ExportFormat.fromParameter("xml"));
+    }
+}
@@ -0,0 +1,90 @@
+package com.github.souzafcharles.api.endpoint.export.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.souzafcharles.api.endpoint.user.model.dto.UserResponseDTO;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class NdjsonStreamingServiceTest {
+
+    private PlatformTransactionManager transactionManager;
+    private NdjsonStreamingService streamingService;
+
+    @BeforeEach
+    void setUp() {
+        // Arrange
+        transactionManager = mock(PlatformTransactionManager.class);
+        when(transactionManager.getTransaction(any())).thenReturn(mock(TransactionStatus.class));
+        streamingService = new NdjsonStreamingService(new ObjectMapper(), transactionManager);
+    }
+
+    @Test
+    void streamShouldWriteOneLinePerRowInsideAReadOnlyTransaction() throws IOException {
+        // Arrange
+        AtomicBoolean closed = new AtomicBoolean();
+        Stream<UserResponseDTO> rows = Stream.of(
+                new UserResponseDTO("u1", "john", "john@example.com"),
+                new UserResponseDTO("u2", "mary", "mary@example.com")
+        ).onClose(() -> closed.set(true));
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        // Act
+        ResponseEntity<StreamingResponseBody> response = streamingService.stream(UserResponseDTO.class, () -> rows);
+        verifyNoInteractions(transactionManager);
+        response.getBody().writeTo(out);
+
+        // Assert
+        assertEquals(MediaType.APPLICATION_NDJSON, response.getHeaders().getContentType());
+        assertEquals("""
+                {"id":"u1","username":"john","email":"john@example.com"}
+                {"id":"u2","username":"mary","email":"mary@example.com"}
+                """, out.toString(StandardCharsets.UTF_8));
+        assertTrue(closed.get());
+        verify(transactionManager).getTransaction(argThat(TransactionDefinition::isReadOnly));
+        verify(transactionManager).commit(any());
+    }
+
+    @Test
+    void streamShouldWriteNothingForAnEmptyResult() throws IOException {
+        // Arrange
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        // Act
+        streamingService.stream(String.class, Stream::<String>empty).getBody().writeTo(out);
+
+        // Assert
+        assertEquals(0, out.size());
+    }
+
+    @Test
+    void streamShouldRollBackAndRethrowWhenWritingFails() {
+        // Arrange
+        StreamingResponseBody body = streamingService.stream(String.class, () -> Stream.of("c1")).getBody();
+
+        // Act & Assert
+        assertThrows(IOException.class, () -> body.writeTo(new OutputStream() {
+            @Override
+            public void write(int b) throws IOException {
+                throw new IOException("client went away");
+            }
+        }));
+        verify(transactionManager).rollback(any());
+    }
+}
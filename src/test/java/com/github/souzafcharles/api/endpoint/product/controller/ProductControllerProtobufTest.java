@@ -0,0 +1,69 @@
+package com.github.souzafcharles.api.endpoint.product.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.protobuf.ProtobufMapper;
+import com.github.souzafcharles.api.config.JacksonProtobufHttpMessageConverter;
+import com.github.souzafcharles.api.endpoint.cart.model.dto.CartResponseDTO;
+import com.github.souzafcharles.api.endpoint.export.service.NdjsonStreamingService;
+import com.github.souzafcharles.api.endpoint.product.model.dto.ProductResponseDTO;
+import com.github.souzafcharles.api.endpoint.product.service.BoughtTogetherService;
+import com.github.souzafcharles.api.endpoint.product.service.ProductService;
+import com.github.souzafcharles.api.exceptions.custom.ResourceNotFoundException;
+import com.github.souzafcharles.api.exceptions.handler.ResourceExceptionHandler;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+class ProductControllerProtobufTest {
+
+    private ProductService productService;
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        // Arrange
+        productService = mock(ProductService.class);
+        ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+        ProductController controller = new ProductController(productService, mock(BoughtTogetherService.class),
+                new NdjsonStreamingService(objectMapper, mock(PlatformTransactionManager.class)));
+        mockMvc = MockMvcBuilders
+                .standaloneSetup(controller)
+                .setControllerAdvice(new ResourceExceptionHandler())
+                .setMessageConverters(new MappingJackson2HttpMessageConverter(objectMapper),
+                        new JacksonProtobufHttpMessageConverter(new ProtobufMapper(),
+                                ProductResponseDTO.class, CartResponseDTO.class))
+                .build();
+    }
+
+    @Test
+    void getByIdShouldAnswerProtobufClients() throws Exception {
+        // Arrange
+        when(productService.getProductById("p1"))
+                .thenReturn(new ProductResponseDTO("p1", "Bag", 10.5, "A bag", "bags", "bag.png"));
+
+        // Act & Assert
+        mockMvc.perform(get("/products/p1").accept(JacksonProtobufHttpMessageConverter.APPLICATION_PROTOBUF))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(JacksonProtobufHttpMessageConverter.APPLICATION_PROTOBUF));
+    }
+
+    @Test
+    void getByIdShouldAnswerMissingProductWithJsonNotFoundForProtobufClients() throws Exception {
+        // Arrange
+        when(productService.getProductById("p99")).thenThrow(ResourceNotFoundException.forProduct("p99"));
+
+        // Act & Assert
+        mockMvc.perform(get("/products/p99").accept(JacksonProtobufHttpMessageConverter.APPLICATION_PROTOBUF))
+                .andExpect(status().isNotFound())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_JSON))
+                .andExpect(jsonPath("$.status").value(404));
+    }
+}
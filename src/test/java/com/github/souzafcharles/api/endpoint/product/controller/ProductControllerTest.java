@@ -1,7 +1,9 @@
 package com.github.souzafcharles.api.endpoint.product.controller;
 
+import com.github.souzafcharles.api.endpoint.product.model.dto.BoughtTogetherDTO;
 import com.github.souzafcharles.api.endpoint.product.model.dto.ProductRequestDTO;
 import com.github.souzafcharles.api.endpoint.product.model.dto.ProductResponseDTO;
+import com.github.souzafcharles.api.endpoint.product.service.BoughtTogetherService;
 import com.github.souzafcharles.api.endpoint.product.service.ProductService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -29,6 +31,9 @@ class ProductControllerTest {
     @Mock
     private ProductService productService;
 
+    @Mock
+    private BoughtTogetherService boughtTogetherService;
+
     @Mock
     private PagedResourcesAssembler<ProductResponseDTO> assembler;
 
@@ -202,6 +207,20 @@ class ProductControllerTest {
         assertEquals("Laptop", response.getBody().get(0).title());
     }
 
+    @Test
+    void boughtTogetherShouldReturnRankedPartners() {
+        // Arrange
+        List<BoughtTogetherDTO> partners = List.of(new BoughtTogetherDTO("2", "Mouse", 3));
+        when(boughtTogetherService.getBoughtTogether("1", 5)).thenReturn(partners);
+
+        // Act
+        ResponseEntity<List<BoughtTogetherDTO>> response = productController.boughtTogether("1", 5);
+
+        // Assert
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals(partners, response.getBody());
+    }
+
     @Test
     void getAllShouldCoverAssemblerLambda() {
         // Arrange
@@ -0,0 +1,98 @@
+package com.github.souzafcharles.api.endpoint.product.cooccurrence;
+
+import com.github.souzafcharles.api.utils.IdDictionary;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CoOccurrenceMatrixTest {
+
+    private final ForkJoinPool pool = new ForkJoinPool(4);
+
+    @AfterEach
+    void tearDown() {
+        pool.shutdownNow();
+    }
+
+    @Test
+    void buildShouldCountCartsSharingEachPair() {
+        // Arrange
+        IdDictionary products = new IdDictionary();
+        int a = products.encode("a");
+        int b = products.encode("b");
+        int c = products.encode("c");
+        int[][] baskets = {{a, b, c}, {a, b}, {b, c}};
+
+        // Act
+        CoOccurrenceMatrix matrix = CoOccurrenceMatrix.build(products, baskets, pool);
+
+        // Assert
+        assertEquals(List.of(new CoOccurrenceMatrix.Partner("b", 2), new CoOccurrenceMatrix.Partner("c", 1)),
+                matrix.topPartners("a", 5));
+        assertEquals(2, matrix.topPartners("b", 1).get(0).count());
+        assertTrue(matrix.topPartners("unknown", 5).isEmpty());
+    }
+
+    @Test
+    void parallelBuildShouldMatchIncrementalUpdates() {
+        // Arrange
+        Random random = new Random(7);
+        IdDictionary products = new IdDictionary();
+        for (int i = 0; i < 50; i++) products.encode("p" + i);
+        int[][] baskets = new int[20_000][];
+        CoOccurrenceMatrix incremental = new CoOccurrenceMatrix();
+        for (int i = 0; i < baskets.length; i++) {
+            baskets[i] = random.ints(0, 50).distinct().limit(1 + random.nextInt(5)).toArray();
+            incremental.addBasket(Arrays.stream(baskets[i]).mapToObj(products::decode).toList());
+        }
+
+        // Act
+        CoOccurrenceMatrix built = CoOccurrenceMatrix.build(products, baskets, pool);
+
+        // Assert
+        for (int i = 0; i < 50; i++) {
+            assertEquals(asMap(incremental.topPartners("p" + i, 50)), asMap(built.topPartners("p" + i, 50)));
+        }
+    }
+
+    @Test
+    void topPartnersShouldHandleLimitFarAboveThePartnerCount() {
+        // Arrange
+        CoOccurrenceMatrix matrix = new CoOccurrenceMatrix();
+        matrix.addBasket(List.of("a", "b", "c"));
+
+        // Act
+        List<CoOccurrenceMatrix.Partner> partners = matrix.topPartners("a", Integer.MAX_VALUE);
+
+        // Assert
+        assertEquals(2, partners.size());
+    }
+
+    @Test
+    void removeBasketShouldUndoAddBasket() {
+        // Arrange
+        CoOccurrenceMatrix matrix = new CoOccurrenceMatrix();
+        matrix.addBasket(List.of("a", "b"));
+        matrix.addBasket(List.of("a", "c"));
+
+        // Act
+        matrix.removeBasket(List.of("a", "b"));
+
+        // Assert
+        assertEquals(List.of(new CoOccurrenceMatrix.Partner("c", 1)), matrix.topPartners("a", 5));
+        assertTrue(matrix.topPartners("b", 5).isEmpty());
+    }
+
+    private static Map<String, Integer> asMap(List<CoOccurrenceMatrix.Partner> partners) {
+        return partners.stream().collect(Collectors.toMap(
+                CoOccurrenceMatrix.Partner::productId, CoOccurrenceMatrix.Partner::count));
+    }
+}
@@ -0,0 +1,132 @@
+package com.github.souzafcharles.api.endpoint.product.service;
+
+import com.github.souzafcharles.api.endpoint.cart.event.CartChangedEvent;
+import com.github.souzafcharles.api.endpoint.cart.event.CartLineSnapshot;
+import com.github.souzafcharles.api.endpoint.cart.event.CartSnapshot;
+import com.github.souzafcharles.api.endpoint.cartproduct.repository.CartProductRepository;
+import com.github.souzafcharles.api.endpoint.product.model.dto.BoughtTogetherDTO;
+import com.github.souzafcharles.api.endpoint.product.model.entity.Product;
+import com.github.souzafcharles.api.endpoint.product.repository.ProductRepository;
+import com.github.souzafcharles.api.exceptions.custom.InvalidQueryException;
+import com.github.souzafcharles.api.exceptions.custom.ResourceNotFoundException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyIterable;
+import static org.mockito.Mockito.*;
+
+class BoughtTogetherServiceTest {
+
+    private CartProductRepository cartProductRepository;
+    private ProductRepository productRepository;
+    private BoughtTogetherService boughtTogetherService;
+
+    @BeforeEach
+    void setUp() {
+        // Arrange
+        cartProductRepository = mock(CartProductRepository.class);
+        productRepository = mock(ProductRepository.class);
+        boughtTogetherService = new BoughtTogetherService(
+                cartProductRepository, productRepository, mock(PlatformTransactionManager.class));
+
+        when(productRepository.existsById(anyString())).thenReturn(true);
+        when(productRepository.findAllById(anyIterable())).thenReturn(List.of(
+                product("p1", "Laptop"), product("p2", "Mouse"), product("p3", "Bag")));
+    }
+
+    @AfterEach
+    void tearDown() {
+        boughtTogetherService.shutdown();
+    }
+
+    @Test
+    void rebuildShouldRankProductsByCartsInCommon() {
+        // Arrange
+        when(cartProductRepository.streamCartProductPairsRaw()).thenReturn(Stream.of(
+                new Object[]{"c1", "p1"}, new Object[]{"c1", "p2"},
+                new Object[]{"c2", "p1"}, new Object[]{"c2", "p2"}, new Object[]{"c2", "p3"},
+                new Object[]{"c3", "p1"}
+        ));
+
+        // Act
+        boughtTogetherService.rebuild();
+        List<BoughtTogetherDTO> result = boughtTogetherService.getBoughtTogether("p1", 5);
+
+        // Assert
+        assertEquals(List.of(new BoughtTogetherDTO("p2", "Mouse", 2), new BoughtTogetherDTO("p3", "Bag", 1)), result);
+    }
+
+    @Test
+    void rebuildShouldReplayCartsChangedWhileScanning() {
+        // Arrange
+        CartSnapshot created = new CartSnapshot("c2", "u2", List.of(line("p1"), line("p3")));
+        when(cartProductRepository.streamCartProductPairsRaw()).thenAnswer(invocation -> {
+            boughtTogetherService.onCartChanged(CartChangedEvent.created(created));
+            return Stream.of(new Object[]{"c1", "p1"}, new Object[]{"c1", "p2"},
+                    new Object[]{"c3", "p1"}, new Object[]{"c3", "p2"});
+        });
+
+        // Act
+        boughtTogetherService.rebuild();
+
+        // Assert
+        assertEquals(List.of(new BoughtTogetherDTO("p2", "Mouse", 2), new BoughtTogetherDTO("p3", "Bag", 1)),
+                boughtTogetherService.getBoughtTogether("p1", 5));
+    }
+
+    @Test
+    void onCartChangedShouldPatchMatrixBetweenRebuilds() {
+        // Arrange
+        CartSnapshot before = new CartSnapshot("c1", "u1", List.of(line("p1"), line("p2")));
+        CartSnapshot after = new CartSnapshot("c1", "u1", List.of(line("p1"), line("p3")));
+        boughtTogetherService.onCartChanged(CartChangedEvent.created(before));
+
+        // Act
+        boughtTogetherService.onCartChanged(new CartChangedEvent(before, after));
+
+        // Assert
+        assertEquals(List.of(new BoughtTogetherDTO("p3", "Bag", 1)), boughtTogetherService.getBoughtTogether("p1", 5));
+        assertTrue(boughtTogetherService.getBoughtTogether("p2", 5).isEmpty());
+    }
+
+    @Test
+    void getBoughtTogetherShouldRejectNonPositiveLimit() {
+        // Act & Assert
+        assertThrows(InvalidQueryException.class, () -> boughtTogetherService.getBoughtTogether("p1", 0));
+    }
+
+    @Test
+    void getBoughtTogetherShouldRejectLimitAboveMaximum() {
+        // Act & Assert
+        assertThrows(InvalidQueryException.class,
+                () -> boughtTogetherService.getBoughtTogether("p1", BoughtTogetherService.MAX_LIMIT + 1));
+        assertThrows(InvalidQueryException.class,
+                () -> boughtTogetherService.getBoughtTogether("p1", Integer.MAX_VALUE));
+    }
+
+    @Test
+    void getBoughtTogetherShouldThrowWhenProductNotFound() {
+        // Arrange
+        when(productRepository.existsById("p99")).thenReturn(false);
+
+        // Act & Assert
+        assertThrows(ResourceNotFoundException.class, () -> boughtTogetherService.getBoughtTogether("p99", 5));
+    }
+
+    private static Product product(String id, String title) {
+        Product product = new Product();
+        product.setId(id);
+        product.setTitle(title);
+        return product;
+    }
+
+    private static CartLineSnapshot line(String productId) {
+        return new CartLineSnapshot(productId, "electronics", 1, 10.0);
+    }
+}
@@ -1,5 +1,8 @@
 package com.github.souzafcharles.api.endpoint.product.service;
 
+import com.github.souzafcharles.api.endpoint.cart.event.CartChangedEvent;
+import com.github.souzafcharles.api.endpoint.cart.model.entity.Cart;
+import com.github.souzafcharles.api.endpoint.cartproduct.model.entity.CartProduct;
 import com.github.souzafcharles.api.endpoint.product.model.dto.ProductRequestDTO;
 import com.github.souzafcharles.api.endpoint.product.model.entity.Product;
 import com.github.souzafcharles.api.endpoint.product.repository.ProductRepository;
@@ -9,8 +12,10 @@ import org.junit.jupiter.api.Test;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.PageRequest;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -23,6 +28,9 @@ class ProductServiceTest {
     @Mock
     private ProductRepository productRepository;
 
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     @InjectMocks
     private ProductService productService;
 
@@ -118,6 +126,53 @@ class ProductServiceTest {
         assertEquals(1800.0, response.price());
     }
 
+    @Test
+    void updateProductShouldPublishRepricedCartWhenPriceChanges() {
+        // Arrange
+        Cart cart = new Cart();
+        cart.setId("c1");
+        CartProduct line = new CartProduct();
+        line.setCart(cart);
+        line.setProduct(product);
+        line.setQuantity(2);
+        cart.setCartProducts(List.of(line));
+        product.getCartProducts().add(line);
+        when(productRepository.findById("1")).thenReturn(Optional.of(product));
+        when(productRepository.save(product)).thenReturn(product);
+        ProductRequestDTO dto = new ProductRequestDTO("Laptop", 1200.0, "Gaming laptop", "Computers", null);
+
+        // Act
+        productService.updateProduct("1", dto);
+
+        // Assert
+        verify(eventPublisher).publishEvent(argThat((CartChangedEvent event) ->
+                event.before().lines().get(0).unitPrice() == 1500.0
+                        && event.after().lines().get(0).unitPrice() == 1200.0
+                        && event.after().lines().get(0).category().equals("Computers")));
+    }
+
+    @Test
+    void updateProductShouldPublishNothingWhenPriceAndCategoryAreUnchanged() {
+        // Arrange
+        Cart cart = new Cart();
+        cart.setId("c1");
+        CartProduct line = new CartProduct();
+        line.setCart(cart);
+        line.setProduct(product);
+        line.setQuantity(2);
+        cart.setCartProducts(List.of(line));
+        product.getCartProducts().add(line);
+        when(productRepository.findById("1")).thenReturn(Optional.of(product));
+        when(productRepository.save(product)).thenReturn(product);
+        ProductRequestDTO dto = new ProductRequestDTO("Laptop 2", 1500.0, "Renamed", "Electronics", null);
+
+        // Act
+        productService.updateProduct("1", dto);
+
+        // Assert
+        verifyNoInteractions(eventPublisher);
+    }
+
     @Test
     void updateProductShouldThrowException() {
         // Arrange
@@ -141,6 +196,59 @@ class ProductServiceTest {
         verify(productRepository, times(1)).delete(product);
     }
 
+    @Test
+    void deleteProductShouldPublishEventForEachCartContainingIt() {
+        // Arrange
+        Cart cart = new Cart();
+        cart.setId("c1");
+        CartProduct kept = new CartProduct();
+        kept.setCart(cart);
+        kept.setProduct(anotherProduct);
+        kept.setQuantity(1);
+        CartProduct removed = new CartProduct();
+        removed.setCart(cart);
+        removed.setProduct(product);
+        removed.setQuantity(2);
+        cart.setCartProducts(new ArrayList<>(List.of(kept, removed)));
+        product.getCartProducts().add(removed);
+        when(productRepository.findById("1")).thenReturn(Optional.of(product));
+
+        // Act
+        productService.deleteProduct("1");
+
+        // Assert
+        verify(eventPublisher).publishEvent(argThat((CartChangedEvent event) ->
+                event.before().lines().size() == 2
+                        && event.after().lines().size() == 1
+                        && event.after().lines().get(0).productId().equals("2")));
+    }
+
+    @Test
+    void deleteProductShouldDetachItsLinesFromLoadedCarts() {
+        // Arrange
+        Cart cart = new Cart();
+        cart.setId("c1");
+        CartProduct kept = new CartProduct();
+        kept.setCart(cart);
+        kept.setProduct(anotherProduct);
+        kept.setQuantity(1);
+        CartProduct removed = new CartProduct();
+        removed.setCart(cart);
+        removed.setProduct(product);
+        removed.setQuantity(2);
+        cart.setCartProducts(new ArrayList<>(List.of(kept, removed)));
+        product.getCartProducts().add(removed);
+        when(productRepository.findById("1")).thenReturn(Optional.of(product));
+
+        // Act
+        productService.deleteProduct("1");
+
+        // Assert
+        assertEquals(List.of(kept), cart.getCartProducts());
+        assertTrue(product.getCartProducts().isEmpty());
+        verify(productRepository).delete(product);
+    }
+
     @Test
     void deleteProductShouldThrowException() {
         // Arrange
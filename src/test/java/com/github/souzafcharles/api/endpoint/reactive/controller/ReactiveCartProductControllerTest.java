@@ -0,0 +1,47 @@
+package com.github.souzafcharles.api.endpoint.reactive.controller;
+
+import com.github.souzafcharles.api.endpoint.cartproduct.model.dto.ProductSalesDTO;
+import com.github.souzafcharles.api.endpoint.reactive.repository.ReactiveCartProductRepository;
+import com.github.souzafcharles.api.exceptions.custom.InvalidQueryException;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Flux;
+import reactor.test.StepVerifier;
+
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ReactiveCartProductControllerTest {
+
+    @Mock
+    private ReactiveCartProductRepository cartProductRepository;
+
+    @InjectMocks
+    private ReactiveCartProductController controller;
+
+    @Test
+    void getMostSoldShouldStreamRepositoryResults() {
+        // Arrange
+        ProductSalesDTO bag = new ProductSalesDTO("p1", "Bag", 7);
+        when(cartProductRepository.findMostSold("men", 3)).thenReturn(Flux.just(bag));
+
+        // Act & Assert
+        StepVerifier.create(controller.getMostSold("men", 3))
+                .expectNext(bag)
+                .verifyComplete();
+    }
+
+    @Test
+    void getMostSoldShouldRejectNonPositiveTopN() {
+        // Act & Assert
+        StepVerifier.create(controller.getMostSold(null, 0))
+                .expectError(InvalidQueryException.class)
+                .verify();
+        verify(cartProductRepository, never()).findMostSold(any(), anyInt());
+    }
+}
@@ -0,0 +1,108 @@
+package com.github.souzafcharles.api.endpoint.reactive.repository;
+
+import com.github.souzafcharles.api.endpoint.cart.model.dto.CartResponseDTO;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import reactor.test.StepVerifier;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ReactiveCartRepositoryTest {
+
+    private Connection keepAlive;
+    private ReactiveDatabase database;
+    private ReactiveCartRepository cartRepository;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        String url = "jdbc:h2:mem:reactive-" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1";
+        keepAlive = DriverManager.getConnection(url, "sa", "");
+        try (Statement statement = keepAlive.createStatement()) {
+            statement.execute("CREATE TABLE tb_product (id VARCHAR PRIMARY KEY, title VARCHAR, price DOUBLE, "
+                    + "description VARCHAR, category VARCHAR, image VARCHAR)");
+            statement.execute("CREATE TABLE tb_cart (id VARCHAR PRIMARY KEY, user_id VARCHAR, created_at TIMESTAMP)");
+            statement.execute("CREATE TABLE tb_cart_product (cart_id VARCHAR, product_id VARCHAR, quantity INT)");
+            statement.execute("INSERT INTO tb_product VALUES ('p1', 'Bag', 10.0, 'd', 'men', 'i'), "
+                    + "('p2', 'Ring', 5.0, 'd', 'jewelery', 'i')");
+            statement.execute("INSERT INTO tb_cart VALUES ('c1', 'u1', NOW()), ('c2', 'u2', NOW()), ('c3', 'u1', NOW())");
+            statement.execute("INSERT INTO tb_cart_product VALUES ('c1', 'p1', 2), ('c1', 'p2', 1), ('c3', 'p2', 4)");
+        }
+
+        DataSourceProperties properties = new DataSourceProperties();
+        properties.setUrl(url);
+        properties.setUsername("sa");
+        database = new ReactiveDatabase(properties, "", 2, Duration.ofSeconds(5));
+        cartRepository = new ReactiveCartRepository(database);
+    }
+
+    @AfterEach
+    void tearDown() throws SQLException {
+        database.shutdown();
+        keepAlive.close();
+    }
+
+    @Test
+    void findAllShouldFoldJoinedRowsIntoOneCartEach() {
+        // Act & Assert
+        StepVerifier.create(cartRepository.findAll(null))
+                .assertNext(cart -> {
+                    assertEquals("c1", cart.id());
+                    assertEquals(2, cart.products().size());
+                })
+                .assertNext(cart -> {
+                    assertEquals("c2", cart.id());
+                    assertTrue(cart.products().isEmpty());
+                })
+                .assertNext(cart -> {
+                    assertEquals("c3", cart.id());
+                    assertEquals(4, cart.products().getFirst().quantity());
+                    assertEquals("Ring", cart.products().getFirst().productTitle());
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    void findAllShouldHonourDemand() {
+        // Act & Assert
+        StepVerifier.create(cartRepository.findAll("u1"), 1)
+                .assertNext(cart -> assertEquals("c1", cart.id()))
+                .expectNoEvent(Duration.ofMillis(100))
+                .thenRequest(1)
+                .assertNext(cart -> assertEquals("c3", cart.id()))
+                .verifyComplete();
+    }
+
+    @Test
+    void findByIdShouldReturnEmptyForUnknownCart() {
+        // Act & Assert
+        StepVerifier.create(cartRepository.findById("missing")).verifyComplete();
+        StepVerifier.create(cartRepository.findById("c1").map(CartResponseDTO::userId))
+                .expectNext("u1")
+                .verifyComplete();
+    }
+
+    @Test
+    void findAllShouldRunOffTheSubscribingThread() {
+        // Arrange
+        Thread caller = Thread.currentThread();
+
+        // Act & Assert: the first query gets a new connection, the second an idle pooled one
+        for (int run = 0; run < 2; run++) {
+            StepVerifier.create(cartRepository.findAll(null).map(cart -> Thread.currentThread()).take(1))
+                    .assertNext(thread -> {
+                        assertNotSame(caller, thread);
+                        assertTrue(thread.getName().startsWith("boundedElastic"), thread.getName());
+                    })
+                    .verifyComplete();
+        }
+    }
+}
@@ -1,8 +1,16 @@
 package com.github.souzafcharles.api.endpoint.user.controller;
 
+import com.github.souzafcharles.api.endpoint.user.model.dto.TopCustomerDTO;
+import com.github.souzafcharles.api.endpoint.user.model.dto.UserBulkImportResultDTO;
 import com.github.souzafcharles.api.endpoint.user.model.dto.UserRequestDTO;
 import com.github.souzafcharles.api.endpoint.user.model.dto.UserResponseDTO;
+import com.github.souzafcharles.api.endpoint.user.model.dto.UserSummaryDTO;
+import com.github.souzafcharles.api.endpoint.user.search.UserSearchField;
+import com.github.souzafcharles.api.endpoint.user.search.UserSearchMode;
+import com.github.souzafcharles.api.endpoint.user.service.TopCustomersService;
+import com.github.souzafcharles.api.endpoint.user.service.UserBulkImportService;
 import com.github.souzafcharles.api.endpoint.user.service.UserService;
+import com.github.souzafcharles.api.exceptions.custom.InvalidQueryException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.*;
@@ -13,8 +21,12 @@ import org.springframework.data.web.PagedResourcesAssembler;
 import org.springframework.hateoas.EntityModel;
 import org.springframework.hateoas.PagedModel;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
 import java.util.Collections;
 import java.util.List;
 
@@ -27,6 +39,12 @@ class UserControllerTest {
     @Mock
     private UserService userService;
 
+    @Mock
+    private UserBulkImportService bulkImportService;
+
+    @Mock
+    private TopCustomersService topCustomersService;
+
     @Mock
     private PagedResourcesAssembler<UserResponseDTO> assembler;
 
@@ -135,19 +153,95 @@ class UserControllerTest {
         verify(userService, times(1)).deleteUser("u1");
     }
 
+    @Test
+    void searchByUsernameShouldRejectUnknownMode() {
+        // Act & Assert
+        assertThrows(InvalidQueryException.class,
+                () -> userController.searchByUsername("Ali", "fuzzy", "username", 0, 50));
+    }
+
     @Test
     void searchByUsernameShouldReturnUsers() {
         // Arrange
-        when(userService.searchUsersByUsername("Ali")).thenReturn(List.of(userDTO));
+        when(userService.searchUsers("Ali", UserSearchField.USERNAME, UserSearchMode.PREFIX, 0, 50)).thenReturn(List.of(userDTO));
 
         // Act
-        ResponseEntity<List<UserResponseDTO>> response = userController.searchByUsername("Ali");
+        ResponseEntity<List<UserResponseDTO>> response = userController.searchByUsername("Ali", "prefix", "username", 0, 50);
 
         // Assert
         assertEquals(1, response.getBody().size());
         assertEquals("Alice", response.getBody().get(0).username());
     }
 
+    @Test
+    void getSummaryShouldReturnSummary() {
+        // Arrange
+        UserSummaryDTO summary = new UserSummaryDTO(userDTO, 1, 3, 30.0, List.of());
+        when(userService.getUserSummary("u1", 5)).thenReturn(summary);
+
+        // Act
+        ResponseEntity<UserSummaryDTO> response = userController.getSummary("u1", 5);
+
+        // Assert
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals(summary, response.getBody());
+    }
+
+    @Test
+    void getTopSpendersShouldReturnRanking() {
+        // Arrange
+        List<TopCustomerDTO> ranking = List.of(new TopCustomerDTO("u1", "Alice", 3, 99.5));
+        when(topCustomersService.getTopSpenders(10)).thenReturn(ranking);
+
+        // Act
+        ResponseEntity<List<TopCustomerDTO>> response = userController.getTopSpenders(10);
+
+        // Assert
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals(ranking, response.getBody());
+    }
+
+    @Test
+    void getTopBuyersShouldReturnRanking() {
+        // Arrange
+        List<TopCustomerDTO> ranking = List.of(new TopCustomerDTO("u1", "Alice", 3, 99.5));
+        when(topCustomersService.getTopBuyers(5)).thenReturn(ranking);
+
+        // Act
+        ResponseEntity<List<TopCustomerDTO>> response = userController.getTopBuyers(5);
+
+        // Assert
+        assertEquals(ranking, response.getBody());
+    }
+
+    @Test
+    void getByIdsShouldReturnUsers() {
+        // Arrange
+        when(userService.getUsersByIds(List.of("u1", "u2"))).thenReturn(List.of(userDTO));
+
+        // Act
+        ResponseEntity<List<UserResponseDTO>> response = userController.getByIds(List.of("u1", "u2"));
+
+        // Assert
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals(List.of(userDTO), response.getBody());
+    }
+
+    @Test
+    void bulkImportShouldReturnImportResult() throws IOException {
+        // Arrange
+        InputStream body = new ByteArrayInputStream(new byte[0]);
+        UserBulkImportResultDTO result = new UserBulkImportResultDTO(1, 1, 0, List.of());
+        when(bulkImportService.importUsers(body, MediaType.APPLICATION_NDJSON)).thenReturn(result);
+
+        // Act
+        ResponseEntity<UserBulkImportResultDTO> response = userController.bulkImport(body, MediaType.APPLICATION_NDJSON);
+
+        // Assert
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals(result, response.getBody());
+    }
+
     @Test
     void getByUsernameShouldReturnUser() {
         // Arrange
@@ -0,0 +1,58 @@
+package com.github.souzafcharles.api.endpoint.user.rollup;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SpendRollupTest {
+
+    @Test
+    void topBySpendShouldRankByValueHighestFirst() {
+        // Arrange
+        SpendRollup rollup = new SpendRollup();
+        rollup.add("u1", 10, 50.0);
+        rollup.add("u2", 1, 500.0);
+        rollup.add("u3", 3, 120.0);
+
+        // Act
+        List<SpendRollup.Entry> top = rollup.topBySpend(2);
+
+        // Assert
+        assertEquals(List.of("u2", "u3"), top.stream().map(SpendRollup.Entry::userId).toList());
+    }
+
+    @Test
+    void topByItemsShouldRankByItemCountHighestFirst() {
+        // Arrange
+        SpendRollup rollup = new SpendRollup();
+        rollup.add("u1", 10, 50.0);
+        rollup.add("u2", 1, 500.0);
+        rollup.add("u3", 3, 120.0);
+
+        // Act
+        List<SpendRollup.Entry> top = rollup.topByItems(3);
+
+        // Assert
+        assertEquals(List.of("u1", "u3", "u2"), top.stream().map(SpendRollup.Entry::userId).toList());
+    }
+
+    @Test
+    void addShouldAccumulateDeltasAndDropEmptiedUsers() {
+        // Arrange
+        SpendRollup rollup = new SpendRollup();
+        rollup.add("u1", 2, 20.0);
+        rollup.add("u1", 3, 30.0);
+        rollup.add("u2", 1, 5.0);
+
+        // Act
+        rollup.add("u2", -1, -5.0);
+
+        // Assert
+        assertEquals(1, rollup.size());
+        SpendRollup.Entry entry = rollup.topBySpend(1).get(0);
+        assertEquals(5, entry.totalItems());
+        assertEquals(50.0, entry.totalValue(), 1e-9);
+    }
+}
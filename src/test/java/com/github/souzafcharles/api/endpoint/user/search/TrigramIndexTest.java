@@ -0,0 +1,70 @@
+package com.github.souzafcharles.api.endpoint.user.search;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TrigramIndexTest {
+
+    private TrigramIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new TrigramIndex();
+        index.add("Alice");      // 0
+        index.add("malice");     // 1
+        index.add("Bob");        // 2
+        index.add("alicia");     // 3
+        index.add("Al");         // 4
+    }
+
+    @Test
+    void searchShouldFindSubstringsCaseInsensitively() {
+        // Act & Assert
+        assertArrayEquals(new int[]{0, 1, 3}, index.search("ALIC", false, 0, 10));
+        assertArrayEquals(new int[]{0, 1}, index.search("lice", false, 0, 10));
+        assertArrayEquals(new int[0], index.search("xyz", false, 0, 10));
+    }
+
+    @Test
+    void searchShouldAnchorPrefixQueries() {
+        // Act & Assert
+        assertArrayEquals(new int[]{0, 3}, index.search("ali", true, 0, 10));
+        assertArrayEquals(new int[]{0, 3, 4}, index.search("al", true, 0, 10));
+        assertArrayEquals(new int[]{0, 1, 3, 4}, index.search("l", false, 0, 10));
+    }
+
+    @Test
+    void searchShouldPageThroughMatches() {
+        // Act & Assert
+        assertArrayEquals(new int[]{0, 1}, index.search("li", false, 0, 2));
+        assertArrayEquals(new int[]{3}, index.search("li", false, 2, 2));
+        assertArrayEquals(new int[]{1}, index.search("lic", false, 1, 1));
+    }
+
+    @Test
+    void searchShouldSkipRemovedDocuments() {
+        // Arrange
+        index.remove(0);
+
+        // Act & Assert
+        assertArrayEquals(new int[]{1, 3}, index.search("alic", false, 0, 10));
+        assertEquals(4, index.size());
+        assertEquals(1, index.tombstones());
+    }
+
+    @Test
+    void searchShouldIntersectLongPostingLists() {
+        // Arrange
+        TrigramIndex large = new TrigramIndex();
+        for (int i = 0; i < 10_000; i++) large.add("user" + i);
+
+        // Act
+        int[] found = large.search("er99", false, 0, 200);
+
+        // Assert
+        assertEquals(111, found.length);
+        for (int doc : found) assertTrue(String.valueOf(doc).startsWith("99"));
+    }
+}
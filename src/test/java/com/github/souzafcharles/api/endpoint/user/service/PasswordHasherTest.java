@@ -0,0 +1,92 @@
+package com.github.souzafcharles.api.endpoint.user.service;
+
+import com.github.souzafcharles.api.exceptions.custom.InvalidQueryException;
+import com.github.souzafcharles.api.exceptions.custom.ServiceBusyException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PasswordHasherTest {
+
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private PasswordHasher passwordHasher;
+
+    @AfterEach
+    void tearDown() {
+        passwordHasher.shutdown();
+    }
+
+    @Test
+    void hashShouldProduceVerifiableBcryptHash() {
+        // Arrange
+        passwordHasher = new PasswordHasher(meterRegistry, 4, 2, 8, Duration.ofSeconds(5));
+
+        // Act
+        String hash = passwordHasher.hash("secret1");
+
+        // Assert
+        assertTrue(hash.startsWith("$2a$04$"));
+        assertTrue(passwordHasher.matches("secret1", hash));
+        assertFalse(passwordHasher.matches("secret2", hash));
+        assertEquals(1, meterRegistry.get("store.password.hash").timer().count());
+    }
+
+    @Test
+    void hashAllShouldKeepInputOrder() {
+        // Arrange
+        passwordHasher = new PasswordHasher(meterRegistry, 4, 3, 1, Duration.ofSeconds(5));
+        List<String> passwords = List.of("a", "b", "c", "d", "e", "f", "g");
+
+        // Act
+        List<String> hashes = passwordHasher.hashAll(passwords);
+
+        // Assert
+        assertEquals(passwords.size(), hashes.size());
+        for (int i = 0; i < passwords.size(); i++) {
+            assertTrue(passwordHasher.matches(passwords.get(i), hashes.get(i)));
+        }
+    }
+
+    @Test
+    void hashShouldReportPasswordsOverBcryptLimitAsInvalid() {
+        // Arrange
+        passwordHasher = new PasswordHasher(meterRegistry, 4, 1, 8, Duration.ofSeconds(5));
+        String tooLong = "a".repeat(PasswordHasher.MAX_PASSWORD_BYTES + 1);
+
+        // Act & Assert
+        assertThrows(InvalidQueryException.class, () -> passwordHasher.hash(tooLong));
+        assertThrows(InvalidQueryException.class, () -> passwordHasher.hashAll(List.of("secret1", tooLong)));
+    }
+
+    @Test
+    void hashShouldRejectWhenQueueIsFull() throws Exception {
+        // Arrange
+        passwordHasher = new PasswordHasher(meterRegistry, 15, 1, 1, Duration.ofSeconds(30));
+        CompletableFuture.runAsync(() -> passwordHasher.hash("running"));
+        CompletableFuture.runAsync(() -> passwordHasher.hash("queued"));
+        long deadline = System.currentTimeMillis() + 5_000;
+        while (meterRegistry.get("executor.queued").gauge().value() < 1 && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+
+        // Act & Assert
+        assertThrows(ServiceBusyException.class, () -> passwordHasher.hash("rejected"));
+        assertEquals(1.0, meterRegistry.get("store.password.rejected").counter().count());
+    }
+
+    @Test
+    void hashShouldGiveUpAfterTimeout() {
+        // Arrange
+        passwordHasher = new PasswordHasher(meterRegistry, 14, 1, 1, Duration.ofMillis(10));
+
+        // Act & Assert
+        assertThrows(ServiceBusyException.class, () -> passwordHasher.hash("slow"));
+    }
+}
@@ -0,0 +1,120 @@
+package com.github.souzafcharles.api.endpoint.user.service;
+
+import com.github.souzafcharles.api.endpoint.cart.event.CartChangedEvent;
+import com.github.souzafcharles.api.endpoint.cart.event.CartLineSnapshot;
+import com.github.souzafcharles.api.endpoint.cart.event.CartSnapshot;
+import com.github.souzafcharles.api.endpoint.cartproduct.model.projection.UserSpendView;
+import com.github.souzafcharles.api.endpoint.cartproduct.repository.CartProductRepository;
+import com.github.souzafcharles.api.endpoint.user.model.dto.TopCustomerDTO;
+import com.github.souzafcharles.api.endpoint.user.model.dto.UserResponseDTO;
+import com.github.souzafcharles.api.endpoint.user.repository.UserRepository;
+import com.github.souzafcharles.api.exceptions.custom.InvalidQueryException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class TopCustomersServiceTest {
+
+    private CartProductRepository cartProductRepository;
+    private UserRepository userRepository;
+    private TopCustomersService topCustomersService;
+
+    @BeforeEach
+    void setUp() {
+        cartProductRepository = mock(CartProductRepository.class);
+        userRepository = mock(UserRepository.class);
+        topCustomersService = new TopCustomersService(cartProductRepository, userRepository);
+        when(userRepository.findDtosByIdIn(anyCollection())).thenReturn(List.of(
+                new UserResponseDTO("u1", "alice", "alice@example.com"),
+                new UserResponseDTO("u2", "bob", "bob@example.com")));
+    }
+
+    @Test
+    void rebuildShouldSeedFromGroupedQuery() {
+        // Arrange
+        List<UserSpendView> rows = List.of(spend("u1", 10L, 40.0), spend("u2", 2L, 300.0));
+        when(cartProductRepository.findSpendPerUser()).thenReturn(rows);
+
+        // Act
+        topCustomersService.rebuild();
+
+        // Assert
+        List<TopCustomerDTO> spenders = topCustomersService.getTopSpenders(10);
+        List<TopCustomerDTO> buyers = topCustomersService.getTopBuyers(10);
+        assertEquals(List.of("bob", "alice"), spenders.stream().map(TopCustomerDTO::username).toList());
+        assertEquals(List.of("alice", "bob"), buyers.stream().map(TopCustomerDTO::username).toList());
+        verify(cartProductRepository, times(1)).findSpendPerUser();
+    }
+
+    @Test
+    void onCartChangedShouldApplyDeltas() {
+        // Arrange
+        when(cartProductRepository.findSpendPerUser()).thenReturn(List.of());
+        topCustomersService.rebuild();
+        CartSnapshot before = new CartSnapshot("c1", "u1", List.of(new CartLineSnapshot("p1", "men", 1, 10.0)));
+        CartSnapshot after = new CartSnapshot("c1", "u1", List.of(new CartLineSnapshot("p1", "men", 4, 10.0)));
+
+        // Act
+        topCustomersService.onCartChanged(CartChangedEvent.created(before));
+        topCustomersService.onCartChanged(new CartChangedEvent(before, after));
+        topCustomersService.onCartChanged(CartChangedEvent.created(
+                new CartSnapshot("c2", "u2", List.of(new CartLineSnapshot("p2", "men", 1, 5.0)))));
+
+        // Assert
+        List<TopCustomerDTO> spenders = topCustomersService.getTopSpenders(1);
+        assertEquals(1, spenders.size());
+        assertEquals("u1", spenders.get(0).userId());
+        assertEquals(4, spenders.get(0).totalItems());
+        assertEquals(40.0, spenders.get(0).totalValue());
+    }
+
+    @Test
+    void rebuildShouldReplayCartsChangedWhileSeedQueryRuns() {
+        // Arrange
+        List<UserSpendView> rows = List.of(spend("u1", 1L, 10.0));
+        CartSnapshot created = new CartSnapshot("c2", "u2", List.of(new CartLineSnapshot("p2", "men", 2, 50.0)));
+        when(cartProductRepository.findSpendPerUser()).thenAnswer(invocation -> {
+            topCustomersService.onCartChanged(CartChangedEvent.created(created));
+            return rows;
+        });
+
+        // Act
+        topCustomersService.rebuild();
+
+        // Assert
+        List<TopCustomerDTO> spenders = topCustomersService.getTopSpenders(10);
+        assertEquals(List.of("u2", "u1"), spenders.stream().map(TopCustomerDTO::userId).toList());
+        assertEquals(100.0, spenders.get(0).totalValue());
+    }
+
+    @Test
+    void getTopSpendersShouldRejectInvalidTopN() {
+        // Act & Assert
+        assertThrows(InvalidQueryException.class, () -> topCustomersService.getTopSpenders(0));
+        assertThrows(InvalidQueryException.class,
+                () -> topCustomersService.getTopBuyers(TopCustomersService.MAX_TOP_N + 1));
+    }
+
+    @Test
+    void getTopSpendersShouldNotQueryUsersWhenRollupIsEmpty() {
+        // Act
+        List<TopCustomerDTO> result = topCustomersService.getTopSpenders(5);
+
+        // Assert
+        assertTrue(result.isEmpty());
+        verifyNoInteractions(userRepository);
+    }
+
+    private static UserSpendView spend(String userId, Long items, Double value) {
+        UserSpendView view = mock(UserSpendView.class);
+        when(view.getUserId()).thenReturn(userId);
+        when(view.getTotalItems()).thenReturn(items);
+        when(view.getTotalValue()).thenReturn(value);
+        return view;
+    }
+}
@@ -0,0 +1,245 @@
+package com.github.souzafcharles.api.endpoint.user.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SequenceWriter;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
+import com.fasterxml.jackson.dataformat.smile.databind.SmileMapper;
+import com.github.souzafcharles.api.config.ContentNegotiationConfig;
+import com.github.souzafcharles.api.endpoint.user.event.UserChangedEvent;
+import com.github.souzafcharles.api.endpoint.user.model.dto.UserBulkImportErrorDTO;
+import com.github.souzafcharles.api.endpoint.user.model.dto.UserBulkImportResultDTO;
+import com.github.souzafcharles.api.endpoint.user.model.entity.User;
+import com.github.souzafcharles.api.endpoint.user.model.projection.UserIdentityView;
+import com.github.souzafcharles.api.endpoint.user.repository.UserRepository;
+import com.github.souzafcharles.api.utils.Messages;
+import jakarta.validation.Validation;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.http.MediaType;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class UserBulkImportServiceTest {
+
+    private UserRepository userRepository;
+    private UserIdentityFilter identityFilter;
+    private PasswordHasher passwordHasher;
+    private ApplicationEventPublisher eventPublisher;
+    private UserBulkImportService bulkImportService;
+
+    @BeforeEach
+    void setUp() {
+        userRepository = mock(UserRepository.class);
+        identityFilter = mock(UserIdentityFilter.class);
+        passwordHasher = mock(PasswordHasher.class);
+        eventPublisher = mock(ApplicationEventPublisher.class);
+        bulkImportService = new UserBulkImportService(userRepository, identityFilter, passwordHasher, eventPublisher,
+                Validation.buildDefaultValidatorFactory().getValidator(), new ObjectMapper(),
+                mock(PlatformTransactionManager.class), 2);
+
+        when(identityFilter.mightContainEmail(anyString())).thenReturn(true);
+        when(identityFilter.mightContainUsername(anyString())).thenReturn(true);
+        when(passwordHasher.hashAll(anyList())).thenAnswer(invocation ->
+                invocation.<List<String>>getArgument(0).stream().map(raw -> "hashed-" + raw).toList());
+        when(userRepository.saveAll(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
+    }
+
+    @Test
+    void importUsersShouldInsertValidLinesInBatches() throws IOException {
+        // Arrange
+        InputStream body = ndjson(
+                user("alice", "alice@example.com"),
+                user("bob", "bob@example.com"),
+                "",
+                user("carol", "carol@example.com"));
+
+        // Act
+        UserBulkImportResultDTO result = bulkImportService.importUsers(body);
+
+        // Assert
+        assertEquals(3, result.received());
+        assertEquals(3, result.created());
+        assertEquals(0, result.rejected());
+        verify(userRepository, times(2)).findIdentitiesByEmailInOrUsernameIn(anyCollection(), anyCollection());
+        verify(userRepository, times(2)).saveAll(anyList());
+        verify(userRepository).saveAll(argThat((List<User> users) -> users.size() == 2
+                && users.getFirst().getPassword().equals("hashed-secret1")));
+        verify(identityFilter).add("carol", "carol@example.com");
+        verify(eventPublisher, times(3)).publishEvent(any(UserChangedEvent.class));
+    }
+
+    @Test
+    void importUsersShouldReportMalformedAndInvalidLinesByNumber() throws IOException {
+        // Arrange
+        InputStream body = ndjson(
+                "not json",
+                "{\"username\":\"dave\",\"email\":\"not-an-email\",\"password\":\"secret1\"}",
+                user("erin", "erin@example.com"));
+
+        // Act
+        UserBulkImportResultDTO result = bulkImportService.importUsers(body);
+
+        // Assert
+        assertEquals(3, result.received());
+        assertEquals(1, result.created());
+        assertEquals(2, result.rejected());
+        assertEquals(1, result.errors().get(0).line());
+        assertEquals(2, result.errors().get(1).line());
+    }
+
+    @Test
+    void importUsersShouldRejectExistingAndRepeatedIdentitiesWithOneQueryPerBatch() throws IOException {
+        // Arrange
+        UserIdentityView existing = mock(UserIdentityView.class);
+        when(existing.getUsername()).thenReturn("alice");
+        when(existing.getEmail()).thenReturn("alice@example.com");
+        when(userRepository.findIdentitiesByEmailInOrUsernameIn(anyCollection(), anyCollection()))
+                .thenReturn(List.of())
+                .thenReturn(List.of(existing));
+        InputStream body = ndjson(
+                user("bob", "bob@example.com"),
+                user("bobby", "bob@example.com"),
+                user("alice", "other@example.com"));
+
+        // Act
+        UserBulkImportResultDTO result = bulkImportService.importUsers(body);
+
+        // Assert
+        assertEquals(1, result.created());
+        assertEquals(2, result.rejected());
+        assertTrue(result.errors().get(0).reason().contains("bob@example.com"));
+        assertTrue(result.errors().get(1).reason().contains("alice"));
+        verify(userRepository, times(2)).findIdentitiesByEmailInOrUsernameIn(anyCollection(), anyCollection());
+    }
+
+    @Test
+    void importUsersShouldSkipDuplicateQueryWhenFilterRulesOutBatch() throws IOException {
+        // Arrange
+        when(identityFilter.mightContainEmail(anyString())).thenReturn(false);
+        when(identityFilter.mightContainUsername(anyString())).thenReturn(false);
+
+        // Act
+        UserBulkImportResultDTO result = bulkImportService.importUsers(ndjson(user("frank", "frank@example.com")));
+
+        // Assert
+        assertEquals(1, result.created());
+        verify(userRepository, never()).findIdentitiesByEmailInOrUsernameIn(anyCollection(), anyCollection());
+    }
+
+    @Test
+    void importUsersShouldRejectWholeBatchOnConcurrentConflict() throws IOException {
+        // Arrange
+        when(userRepository.saveAll(anyList())).thenThrow(new DataIntegrityViolationException("unique violation"));
+
+        // Act
+        UserBulkImportResultDTO result = bulkImportService.importUsers(ndjson(
+                user("gina", "gina@example.com"),
+                user("hank", "hank@example.com")));
+
+        // Assert
+        assertEquals(0, result.created());
+        assertEquals(2, result.rejected());
+        verify(eventPublisher, never()).publishEvent(any());
+    }
+
+    @Test
+    void importUsersShouldReadCborValueSequenceAndSkipMismatchedValues() throws IOException {
+        // Arrange
+        InputStream body = binary(new CBORMapper(),
+                userValue("ivan", "ivan@example.com"),
+                Map.of("username", Map.of("nested", 1), "email", "judy@example.com", "password", "secret1"),
+                userValue("kate", "not-an-email"),
+                userValue("leo", "leo@example.com"));
+
+        // Act
+        UserBulkImportResultDTO result = bulkImportService.importUsers(body, MediaType.APPLICATION_CBOR);
+
+        // Assert
+        assertEquals(4, result.received());
+        assertEquals(2, result.created());
+        assertEquals(List.of(2L, 3L), result.errors().stream().map(UserBulkImportErrorDTO::line).toList());
+        verify(userRepository, times(1)).saveAll(anyList());
+    }
+
+    @Test
+    void importUsersShouldReadSmileArray() throws IOException {
+        // Arrange
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        new SmileMapper().writeValue(out, List.of(userValue("mia", "mia@example.com"), userValue("ned", "ned@example.com")));
+
+        // Act
+        UserBulkImportResultDTO result = bulkImportService.importUsers(
+                new ByteArrayInputStream(out.toByteArray()), ContentNegotiationConfig.APPLICATION_SMILE);
+
+        // Assert
+        assertEquals(2, result.received());
+        assertEquals(2, result.created());
+        assertEquals(0, result.rejected());
+    }
+
+    @Test
+    void importUsersShouldReadJsonArray() throws IOException {
+        // Arrange
+        InputStream body = new ByteArrayInputStream(
+                new ObjectMapper().writeValueAsBytes(List.of(userValue("olga", "olga@example.com"), userValue("pete", "pete@example.com"))));
+
+        // Act
+        UserBulkImportResultDTO result = bulkImportService.importUsers(body, MediaType.APPLICATION_JSON);
+
+        // Assert
+        assertEquals(2, result.received());
+        assertEquals(2, result.created());
+        assertEquals(0, result.rejected());
+    }
+
+    @Test
+    void importUsersShouldRejectOnlyTheLineWithAPasswordOverBcryptLimit() throws IOException {
+        // Arrange
+        InputStream body = ndjson(
+                user("quinn", "quinn@example.com"),
+                "{\"username\":\"rita\",\"email\":\"rita@example.com\",\"password\":\"" + "é".repeat(40) + "\"}",
+                user("sam", "sam@example.com"));
+
+        // Act
+        UserBulkImportResultDTO result = bulkImportService.importUsers(body);
+
+        // Assert
+        assertEquals(3, result.received());
+        assertEquals(2, result.created());
+        assertEquals(List.of(new UserBulkImportErrorDTO(2, Messages.PASSWORD_MAX_BYTES)), result.errors());
+        verify(passwordHasher, never()).hashAll(argThat(passwords -> passwords.stream().anyMatch(p -> p.startsWith("é"))));
+    }
+
+    private static String user(String username, String email) {
+        return "{\"username\":\"" + username + "\",\"email\":\"" + email + "\",\"password\":\"secret1\"}";
+    }
+
+    private static InputStream ndjson(String... lines) {
+        return new ByteArrayInputStream(String.join("\n", lines).getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static Map<String, String> userValue(String username, String email) {
+        return Map.of("username", username, "email", email, "password", "secret1");
+    }
+
+    private static InputStream binary(ObjectMapper mapper, Object... values) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (SequenceWriter writer = mapper.writer().writeValues(out)) {
+            writer.writeAll(values);
+        }
+        return new ByteArrayInputStream(out.toByteArray());
+    }
+}
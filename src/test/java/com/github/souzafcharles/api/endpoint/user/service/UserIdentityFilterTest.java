@@ -0,0 +1,86 @@
+package com.github.souzafcharles.api.endpoint.user.service;
+
+import com.github.souzafcharles.api.endpoint.user.model.dto.UserResponseDTO;
+import com.github.souzafcharles.api.endpoint.user.repository.UserRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class UserIdentityFilterTest {
+
+    private UserRepository userRepository;
+    private MeterRegistry meterRegistry;
+    private UserIdentityFilter identityFilter;
+
+    @BeforeEach
+    void setUp() {
+        userRepository = mock(UserRepository.class);
+        meterRegistry = new SimpleMeterRegistry();
+        identityFilter = new UserIdentityFilter(userRepository, mock(PlatformTransactionManager.class), meterRegistry, 100, 0.01);
+    }
+
+    @AfterEach
+    void tearDown() {
+        identityFilter.shutdown();
+    }
+
+    @Test
+    void mightContainShouldReportPossibleHitBeforeFirstBuild() {
+        // Act & Assert
+        assertTrue(identityFilter.mightContainEmail("anyone@example.com"));
+        assertTrue(identityFilter.mightContainUsername("anyone"));
+    }
+
+    @Test
+    void rebuildShouldLoadExistingUsers() {
+        // Arrange
+        when(userRepository.count()).thenReturn(1L);
+        when(userRepository.streamAllAsDto()).thenReturn(Stream.of(new UserResponseDTO("u1", "alice", "alice@example.com")));
+
+        // Act
+        identityFilter.rebuild();
+
+        // Assert
+        assertTrue(identityFilter.mightContainEmail("alice@example.com"));
+        assertTrue(identityFilter.mightContainUsername("alice"));
+        assertFalse(identityFilter.mightContainEmail("bob@example.com"));
+        assertEquals(1.0, meterRegistry.get("store.bloom.negatives").tag("filter", "email").counter().count());
+    }
+
+    @Test
+    void addShouldMakeNewUserVisible() {
+        // Arrange
+        when(userRepository.streamAllAsDto()).thenReturn(Stream.empty());
+        identityFilter.rebuild();
+
+        // Act
+        identityFilter.add("bob", "bob@example.com");
+
+        // Assert
+        assertTrue(identityFilter.mightContainEmail("bob@example.com"));
+        assertTrue(identityFilter.mightContainUsername("bob"));
+    }
+
+    @Test
+    void addShouldBeReplayedWhenItRacesTheRebuildScan() {
+        // Arrange
+        when(userRepository.streamAllAsDto()).thenAnswer(invocation -> {
+            identityFilter.add("carol", "carol@example.com");
+            return Stream.empty();
+        });
+
+        // Act
+        identityFilter.rebuild();
+
+        // Assert
+        assertTrue(identityFilter.mightContainEmail("carol@example.com"));
+    }
+}
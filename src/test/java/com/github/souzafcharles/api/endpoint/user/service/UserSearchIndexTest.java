@@ -0,0 +1,90 @@
+package com.github.souzafcharles.api.endpoint.user.service;
+
+import com.github.souzafcharles.api.endpoint.user.event.UserChangedEvent;
+import com.github.souzafcharles.api.endpoint.user.event.UserSnapshot;
+import com.github.souzafcharles.api.endpoint.user.model.dto.UserResponseDTO;
+import com.github.souzafcharles.api.endpoint.user.repository.UserRepository;
+import com.github.souzafcharles.api.endpoint.user.search.UserSearchField;
+import com.github.souzafcharles.api.endpoint.user.search.UserSearchMode;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class UserSearchIndexTest {
+
+    private static final UserResponseDTO ALICE = new UserResponseDTO("u1", "Alice", "alice@example.com");
+    private static final UserResponseDTO BOB = new UserResponseDTO("u2", "Bob", "bob@shop.com");
+
+    private UserRepository userRepository;
+    private UserSearchIndex searchIndex;
+
+    @BeforeEach
+    void setUp() {
+        userRepository = mock(UserRepository.class);
+        when(userRepository.streamAllAsDto()).thenAnswer(invocation -> Stream.of(ALICE, BOB));
+        searchIndex = new UserSearchIndex(userRepository, mock(PlatformTransactionManager.class));
+    }
+
+    @Test
+    void searchShouldBuildIndexOnFirstUse() {
+        // Act
+        List<UserResponseDTO> result = searchIndex.search("lic", UserSearchField.USERNAME, UserSearchMode.SUBSTRING, 0, 10);
+
+        // Assert
+        assertEquals(List.of(ALICE), result);
+        verify(userRepository, times(1)).streamAllAsDto();
+    }
+
+    @Test
+    void searchShouldQueryEmails() {
+        // Act
+        List<UserResponseDTO> result = searchIndex.search("shop.com", UserSearchField.EMAIL, UserSearchMode.SUBSTRING, 0, 10);
+
+        // Assert
+        assertEquals(List.of(BOB), result);
+    }
+
+    @Test
+    void onUserChangedShouldReindexRenamedAndDeletedUsers() {
+        // Arrange
+        searchIndex.rebuild();
+        UserSnapshot before = new UserSnapshot("u1", "Alice", "alice@example.com");
+        UserSnapshot after = new UserSnapshot("u1", "Alicia", "alice@example.com");
+
+        // Act
+        searchIndex.onUserChanged(new UserChangedEvent(before, after));
+        searchIndex.onUserChanged(UserChangedEvent.deleted(new UserSnapshot("u2", "Bob", "bob@shop.com")));
+
+        // Assert
+        assertEquals("Alicia", searchIndex.search("alici", UserSearchField.USERNAME, UserSearchMode.PREFIX, 0, 10).get(0).username());
+        assertTrue(searchIndex.search("alice", UserSearchField.USERNAME, UserSearchMode.PREFIX, 0, 10).isEmpty());
+        assertTrue(searchIndex.search("bob", UserSearchField.USERNAME, UserSearchMode.SUBSTRING, 0, 10).isEmpty());
+    }
+
+    @Test
+    void onUserChangedShouldCompactOnceTombstonesOutnumberLiveUsers() {
+        // Arrange
+        searchIndex.rebuild();
+        UserSnapshot current = new UserSnapshot("u1", "Alice", "alice@example.com");
+
+        // Act
+        for (int i = 0; i < UserSearchIndex.COMPACTION_MIN_TOMBSTONES; i++) {
+            UserSnapshot renamed = new UserSnapshot("u1", "Alice" + i, "alice@example.com");
+            searchIndex.onUserChanged(new UserChangedEvent(current, renamed));
+            current = renamed;
+        }
+
+        // Assert
+        assertEquals(0, searchIndex.tombstones());
+        assertEquals(List.of(BOB, new UserResponseDTO("u1", current.username(), current.email())),
+                searchIndex.search("", UserSearchField.USERNAME, UserSearchMode.SUBSTRING, 0, 10));
+        assertEquals(BOB, searchIndex.search("bob", UserSearchField.USERNAME, UserSearchMode.PREFIX, 0, 10).get(0));
+        verify(userRepository, times(1)).streamAllAsDto();
+    }
+}
@@ -1,19 +1,37 @@
 package com.github.souzafcharles.api.endpoint.user.service;
 
+import com.github.souzafcharles.api.endpoint.cart.event.CartChangedEvent;
+import com.github.souzafcharles.api.endpoint.cart.model.entity.Cart;
+import com.github.souzafcharles.api.endpoint.cart.model.projection.CartSummaryView;
+import com.github.souzafcharles.api.endpoint.cart.repository.CartRepository;
+import com.github.souzafcharles.api.endpoint.user.event.UserChangedEvent;
+import com.github.souzafcharles.api.endpoint.user.event.UserSnapshot;
 import com.github.souzafcharles.api.endpoint.user.model.dto.UserRequestDTO;
+import com.github.souzafcharles.api.endpoint.user.model.dto.UserResponseDTO;
+import com.github.souzafcharles.api.endpoint.user.model.dto.UserSummaryDTO;
+import com.github.souzafcharles.api.endpoint.user.model.projection.UserSummaryView;
+import com.github.souzafcharles.api.endpoint.user.search.UserSearchField;
+import com.github.souzafcharles.api.endpoint.user.search.UserSearchMode;
 import com.github.souzafcharles.api.endpoint.user.model.entity.User;
 import com.github.souzafcharles.api.endpoint.user.repository.UserRepository;
 import com.github.souzafcharles.api.exceptions.custom.DatabaseException;
 import com.github.souzafcharles.api.exceptions.custom.DuplicateEmailException;
+import com.github.souzafcharles.api.exceptions.custom.DuplicateUsernameException;
+import com.github.souzafcharles.api.exceptions.custom.InvalidQueryException;
 import com.github.souzafcharles.api.exceptions.custom.ResourceNotFoundException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
 
+import java.time.Instant;
+import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
 
@@ -25,6 +43,27 @@ class UserServiceTest {
     @Mock
     private UserRepository userRepository;
 
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private UserCounter userCounter;
+
+    @Mock
+    private UserIdentityFilter identityFilter;
+
+    @Mock
+    private UserSearchIndex searchIndex;
+
+    @Mock
+    private PasswordHasher passwordHasher;
+
+    @Mock
+    private CartRepository cartRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
     @InjectMocks
     private UserService userService;
 
@@ -34,6 +73,8 @@ class UserServiceTest {
     @BeforeEach
     void setUp() {
         MockitoAnnotations.openMocks(this);
+        when(identityFilter.mightContainEmail(anyString())).thenReturn(true);
+        when(identityFilter.mightContainUsername(anyString())).thenReturn(true);
 
         user = new User();
         user.setId("u1");
@@ -101,6 +142,38 @@ class UserServiceTest {
         // Assert
         assertEquals("Charlie", response.username());
         assertEquals("u3", response.id());
+        verify(eventPublisher).publishEvent(UserChangedEvent.created(new UserSnapshot(savedUser)));
+    }
+
+    @Test
+    void createUserShouldStoreHashedPassword() {
+        // Arrange
+        UserRequestDTO dto = new UserRequestDTO("Charlie", "charlie@example.com", "secret1");
+        when(passwordHasher.hash("secret1")).thenReturn("$2a$10$hash");
+        when(userRepository.save(any(User.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        // Act
+        userService.createUser(dto);
+
+        // Assert
+        verify(userRepository).save(argThat(saved -> saved.getPassword().equals("$2a$10$hash")));
+    }
+
+    @Test
+    void createUserShouldHashBeforeOpeningTheTransaction() {
+        // Arrange
+        UserRequestDTO dto = new UserRequestDTO("Charlie", "charlie@example.com", "secret1");
+        when(passwordHasher.hash("secret1")).thenReturn("$2a$10$hash");
+        when(userRepository.save(any(User.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        // Act
+        userService.createUser(dto);
+
+        // Assert
+        var order = inOrder(passwordHasher, transactionManager, userRepository);
+        order.verify(passwordHasher).hash("secret1");
+        order.verify(transactionManager).getTransaction(any(TransactionDefinition.class));
+        order.verify(userRepository).save(any(User.class));
     }
 
     @Test
@@ -113,6 +186,49 @@ class UserServiceTest {
         assertThrows(DuplicateEmailException.class, () -> userService.createUser(dto));
     }
 
+    @Test
+    void createUserShouldThrowDuplicateUsernameException() {
+        // Arrange
+        UserRequestDTO dto = new UserRequestDTO("Alice", "alice2@example.com", "pass");
+        when(userRepository.findByUsername(dto.username())).thenReturn(Optional.of(user));
+
+        // Act & Assert
+        assertThrows(DuplicateUsernameException.class, () -> userService.createUser(dto));
+        verify(userRepository, never()).save(any(User.class));
+    }
+
+    @Test
+    void createUserShouldSkipLookupsWhenFilterRulesOutDuplicates() {
+        // Arrange
+        UserRequestDTO dto = new UserRequestDTO("Charlie", "charlie@example.com", "pass");
+        when(identityFilter.mightContainEmail(dto.email())).thenReturn(false);
+        when(identityFilter.mightContainUsername(dto.username())).thenReturn(false);
+        when(userRepository.save(any(User.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        // Act
+        userService.createUser(dto);
+
+        // Assert
+        verify(userRepository, never()).findByEmail(anyString());
+        verify(userRepository, never()).findByUsername(anyString());
+        verify(identityFilter).add("Charlie", "charlie@example.com");
+    }
+
+    @Test
+    void createUserShouldRecordFalsePositiveWhenPossibleHitIsFree() {
+        // Arrange
+        UserRequestDTO dto = new UserRequestDTO("Charlie", "charlie@example.com", "pass");
+        when(userRepository.findByEmail(dto.email())).thenReturn(Optional.empty());
+        when(userRepository.save(any(User.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        // Act
+        userService.createUser(dto);
+
+        // Assert
+        verify(identityFilter).recordFalsePositive(UserIdentityFilter.Kind.EMAIL);
+        verify(identityFilter).recordFalsePositive(UserIdentityFilter.Kind.USERNAME);
+    }
+
     @Test
     void createUserShouldThrowDatabaseException() {
         // Arrange
@@ -185,6 +301,24 @@ class UserServiceTest {
         verify(userRepository, times(1)).delete(user);
     }
 
+    @Test
+    void deleteUserShouldPublishDeletedEventForEachCascadedCart() {
+        // Arrange
+        Cart cart = new Cart();
+        cart.setId("c1");
+        cart.setUser(user);
+        user.getCarts().add(cart);
+        when(userRepository.findById("u1")).thenReturn(Optional.of(user));
+
+        // Act
+        userService.deleteUser("u1");
+
+        // Assert
+        verify(eventPublisher).publishEvent(argThat((Object event) -> event instanceof CartChangedEvent cartEvent
+                && cartEvent.after() == null && cartEvent.cartId().equals("c1") && cartEvent.before().userId().equals("u1")));
+        verify(eventPublisher).publishEvent(UserChangedEvent.deleted(new UserSnapshot(user)));
+    }
+
     @Test
     void deleteUserShouldThrowResourceNotFoundException() {
         // Arrange
@@ -247,27 +381,130 @@ class UserServiceTest {
     }
 
     @Test
-    void searchUsersByUsernameShouldReturnMatchingUsers() {
+    void getUserSummaryShouldCombineAggregateAndRecentCarts() {
+        // Arrange
+        UserSummaryView summary = summaryView(2L);
+        CartSummaryView cart = mock(CartSummaryView.class);
+        when(cart.getId()).thenReturn("c2");
+        when(cart.getCreatedAt()).thenReturn(Instant.parse("2025-01-02T00:00:00Z"));
+        when(cart.getTotalItems()).thenReturn(3L);
+        when(cart.getTotalValue()).thenReturn(30.0);
+        when(userRepository.findSummaryById("u1")).thenReturn(Optional.of(summary));
+        when(cartRepository.findRecentSummariesByUserId("u1", PageRequest.of(0, 1))).thenReturn(List.of(cart));
+
+        // Act
+        UserSummaryDTO result = userService.getUserSummary("u1", 1);
+
+        // Assert
+        assertEquals("Alice", result.user().username());
+        assertEquals(2, result.cartCount());
+        assertEquals(7, result.totalItems());
+        assertEquals(70.0, result.totalValue());
+        assertEquals(1, result.recentCarts().size());
+        assertEquals("c2", result.recentCarts().get(0).id());
+        verify(cartRepository, never()).findByUserId(any());
+    }
+
+    @Test
+    void getUserSummaryShouldSkipCartQueryWhenUserHasNoCarts() {
         // Arrange
-        when(userRepository.findByUsernameContainingIgnoreCase("Ali")).thenReturn(List.of(user));
+        UserSummaryView summary = summaryView(0L);
+        when(userRepository.findSummaryById("u1")).thenReturn(Optional.of(summary));
 
         // Act
-        var results = userService.searchUsersByUsername("Ali");
+        UserSummaryDTO result = userService.getUserSummary("u1", 5);
+
+        // Assert
+        assertTrue(result.recentCarts().isEmpty());
+        verifyNoInteractions(cartRepository);
+    }
+
+    @Test
+    void getUserSummaryShouldThrowWhenUserNotFound() {
+        // Arrange
+        when(userRepository.findSummaryById("missing")).thenReturn(Optional.empty());
+
+        // Act & Assert
+        assertThrows(ResourceNotFoundException.class, () -> userService.getUserSummary("missing", 5));
+    }
+
+    @Test
+    void getUserSummaryShouldRejectInvalidRecentCarts() {
+        // Act & Assert
+        assertThrows(InvalidQueryException.class,
+                () -> userService.getUserSummary("u1", UserService.MAX_SUMMARY_RECENT_CARTS + 1));
+        verifyNoInteractions(userRepository);
+    }
+
+    @Test
+    void getUsersByIdsShouldReturnUsersInRequestOrder() {
+        // Arrange
+        UserResponseDTO bob = new UserResponseDTO("u2", "Bob", "bob@example.com");
+        when(userRepository.findDtosByIdIn(anyCollection())).thenReturn(List.of(new UserResponseDTO(user), bob));
+
+        // Act
+        List<UserResponseDTO> result = userService.getUsersByIds(List.of("u2", "missing", "u1"));
+
+        // Assert
+        assertEquals(List.of("u2", "u1"), result.stream().map(UserResponseDTO::id).toList());
+        verify(userRepository, times(1)).findDtosByIdIn(anyCollection());
+    }
+
+    @Test
+    void getUsersByIdsShouldRejectTooManyIds() {
+        // Arrange
+        List<String> ids = Collections.nCopies(UserService.MAX_IDS_PER_REQUEST + 1, "u1");
+
+        // Act & Assert
+        assertThrows(InvalidQueryException.class, () -> userService.getUsersByIds(ids));
+        verify(userRepository, never()).findDtosByIdIn(anyCollection());
+    }
+
+    @Test
+    void searchUsersShouldTranslatePageToOffset() {
+        // Arrange
+        when(searchIndex.search("Ali", UserSearchField.USERNAME, UserSearchMode.SUBSTRING, 20, 10))
+                .thenReturn(List.of(new UserResponseDTO(user)));
+
+        // Act
+        var results = userService.searchUsers("Ali", UserSearchField.USERNAME, UserSearchMode.SUBSTRING, 2, 10);
 
         // Assert
         assertEquals(1, results.size());
         assertEquals("Alice", results.get(0).username());
+        verify(userRepository, never()).findByUsernameContainingIgnoreCase(anyString());
     }
 
     @Test
-    void countUsersShouldReturnTotal() {
+    void searchUsersShouldRejectInvalidPaging() {
+        // Act & Assert
+        assertThrows(InvalidQueryException.class,
+                () -> userService.searchUsers("Ali", UserSearchField.USERNAME, UserSearchMode.PREFIX, -1, 10));
+        assertThrows(InvalidQueryException.class,
+                () -> userService.searchUsers("Ali", UserSearchField.USERNAME, UserSearchMode.PREFIX, 0, 0));
+    }
+
+    @Test
+    void countUsersShouldReturnCounterWithoutQuerying() {
         // Arrange
-        when(userRepository.countByUsernameIsNotNull()).thenReturn(5L);
+        when(userCounter.get()).thenReturn(5L);
 
         // Act
         long count = userService.countUsers();
 
         // Assert
         assertEquals(5L, count);
+        verify(userRepository, never()).countByUsernameIsNotNull();
+    }
+
+    private static UserSummaryView summaryView(long cartCount) {
+        UserSummaryView summary = mock(UserSummaryView.class);
+        when(summary.getId()).thenReturn("u1");
+        when(summary.getUsername()).thenReturn("Alice");
+        when(summary.getEmail()).thenReturn("alice@example.com");
+        when(summary.getCartCount()).thenReturn(cartCount);
+        when(summary.getTotalItems()).thenReturn(cartCount == 0 ? 0L : 7L);
+        when(summary.getTotalValue()).thenReturn(cartCount == 0 ? 0.0 : 70.0);
+        return summary;
     }
 }
@@ -2,16 +2,27 @@ package com.github.souzafcharles.api.exceptions.handler;
 
 import com.github.souzafcharles.api.exceptions.custom.DatabaseException;
 import com.github.souzafcharles.api.exceptions.custom.DuplicateEmailException;
+import com.github.souzafcharles.api.exceptions.custom.DuplicateUsernameException;
+import com.github.souzafcharles.api.exceptions.custom.InvalidQueryException;
 import com.github.souzafcharles.api.exceptions.custom.ResourceNotFoundException;
+import com.github.souzafcharles.api.exceptions.custom.SeedingInProgressException;
+import com.github.souzafcharles.api.exceptions.custom.ServiceBusyException;
 import com.github.souzafcharles.api.exceptions.model.StandardError;
+import com.github.souzafcharles.api.initializer.SeedProgress;
 import com.github.souzafcharles.api.utils.Messages;
 import jakarta.servlet.http.HttpServletRequest;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.validation.BeanPropertyBindingResult;
+import org.springframework.validation.FieldError;
+import org.springframework.web.bind.MethodArgumentNotValidException;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
@@ -66,6 +77,22 @@ class ResourceExceptionHandlerTest {
         assertEquals("/users", response.getBody().getPath());
     }
 
+    @Test
+    void handleDuplicateUsernameShouldReturnStandardErrorWithBadRequest() {
+        // Arrange
+        when(request.getRequestURI()).thenReturn("/users");
+        DuplicateUsernameException exception = new DuplicateUsernameException("alice");
+
+        // Act
+        ResponseEntity<StandardError> response = handler.handleDuplicateUsername(exception, request);
+
+        // Assert
+        assertEquals(HttpStatus.BAD_REQUEST, response.getStatusCode());
+        assertNotNull(response.getBody());
+        assertEquals(Messages.ERROR_DUPLICATE_USERNAME, response.getBody().getError());
+        assertTrue(response.getBody().getMessage().contains("alice"));
+    }
+
     @Test
     void handleDatabaseExceptionShouldReturnStandardErrorWithBadRequest() {
         // Arrange
@@ -83,6 +110,40 @@ class ResourceExceptionHandlerTest {
         assertEquals("/database", response.getBody().getPath());
     }
 
+    @Test
+    void handleInvalidQueryShouldReturnStandardErrorWithBadRequest() {
+        // Arrange
+        when(request.getRequestURI()).thenReturn("/exports/users");
+        InvalidQueryException exception = new InvalidQueryException("unsupported export format 'xml'");
+
+        // Act
+        ResponseEntity<StandardError> response = handler.handleInvalidQuery(exception, request);
+
+        // Assert
+        assertEquals(HttpStatus.BAD_REQUEST, response.getStatusCode());
+        assertNotNull(response.getBody());
+        assertEquals(Messages.ERROR_INVALID_QUERY, response.getBody().getError());
+        assertTrue(response.getBody().getMessage().contains("xml"));
+        assertEquals("/exports/users", response.getBody().getPath());
+    }
+
+    @Test
+    void handleServiceBusyShouldReturnStandardErrorWithServiceUnavailable() {
+        // Arrange
+        when(request.getRequestURI()).thenReturn("/users");
+        ServiceBusyException exception = new ServiceBusyException(Messages.PASSWORD_HASHER_RESOURCE);
+
+        // Act
+        ResponseEntity<StandardError> response = handler.handleServiceBusy(exception, request);
+
+        // Assert
+        assertEquals(HttpStatus.SERVICE_UNAVAILABLE, response.getStatusCode());
+        assertNotNull(response.getBody());
+        assertEquals(Messages.ERROR_SERVICE_BUSY, response.getBody().getError());
+        assertTrue(response.getBody().getMessage().contains(Messages.PASSWORD_HASHER_RESOURCE));
+        assertEquals("/users", response.getBody().getPath());
+    }
+
     @Test
     void handleGenericExceptionShouldReturnStandardErrorWithInternalServerError() {
         // Arrange
@@ -99,4 +160,90 @@ class ResourceExceptionHandlerTest {
         assertTrue(response.getBody().getMessage().contains("Unexpected error"));
         assertEquals("/any-endpoint", response.getBody().getPath());
     }
-}
\ No newline at end of file
+
+    @Test
+    void handleInvalidQueryShouldPresetJsonForNdjsonClients() {
+        // Arrange
+        when(request.getRequestURI()).thenReturn("/carts/user/u1");
+        when(request.getHeader(HttpHeaders.ACCEPT)).thenReturn("application/x-ndjson");
+
+        // Act
+        ResponseEntity<StandardError> response = handler.handleInvalidQuery(new InvalidQueryException("bad"), request);
+
+        // Assert
+        assertEquals(HttpStatus.BAD_REQUEST, response.getStatusCode());
+        assertEquals(MediaType.APPLICATION_JSON, response.getHeaders().getContentType());
+    }
+
+    @Test
+    void handleInvalidQueryShouldLeaveContentTypeToNegotiationOtherwise() {
+        // Arrange
+        when(request.getRequestURI()).thenReturn("/carts/user/u1");
+        when(request.getHeader(HttpHeaders.ACCEPT)).thenReturn("application/cbor");
+
+        // Act
+        ResponseEntity<StandardError> response = handler.handleInvalidQuery(new InvalidQueryException("bad"), request);
+
+        // Assert
+        assertNull(response.getHeaders().getContentType());
+    }
+
+    @Test
+    void handleNotFoundShouldPresetJsonForProtobufOnlyClients() {
+        // Arrange
+        when(request.getRequestURI()).thenReturn("/products/99");
+        when(request.getHeader(HttpHeaders.ACCEPT)).thenReturn("application/x-protobuf");
+
+        // Act
+        ResponseEntity<StandardError> response = handler.handleNotFound(new ResourceNotFoundException("99"), request);
+
+        // Assert
+        assertEquals(HttpStatus.NOT_FOUND, response.getStatusCode());
+        assertEquals(MediaType.APPLICATION_JSON, response.getHeaders().getContentType());
+    }
+
+    @Test
+    void handleNotFoundShouldNegotiateWhenProtobufClientAlsoAcceptsJson() {
+        // Arrange
+        when(request.getRequestURI()).thenReturn("/products/99");
+        when(request.getHeader(HttpHeaders.ACCEPT)).thenReturn("application/x-protobuf, application/json;q=0.5");
+
+        // Act
+        ResponseEntity<StandardError> response = handler.handleNotFound(new ResourceNotFoundException("99"), request);
+
+        // Assert
+        assertNull(response.getHeaders().getContentType());
+    }
+
+    @Test
+    void handleSeedingInProgressShouldReturnServiceUnavailable() {
+        // Arrange
+        when(request.getRequestURI()).thenReturn("/users");
+
+        // Act
+        ResponseEntity<StandardError> response = handler.handleSeedingInProgress(
+                new SeedingInProgressException(SeedProgress.Status.RUNNING), request);
+
+        // Assert
+        assertEquals(HttpStatus.SERVICE_UNAVAILABLE, response.getStatusCode());
+        assertEquals(Messages.ERROR_SEEDING_IN_PROGRESS, response.getBody().getError());
+    }
+
+    @Test
+    void handleValidationShouldReturnBadRequestWithFieldMessages() throws Exception {
+        // Arrange
+        when(request.getRequestURI()).thenReturn("/users");
+        BeanPropertyBindingResult bindingResult = new BeanPropertyBindingResult(new Object(), "userRequestDTO");
+        bindingResult.addError(new FieldError("userRequestDTO", "password", Messages.PASSWORD_MAX_BYTES));
+        MethodArgumentNotValidException exception = new MethodArgumentNotValidException(
+                new MethodParameter(Object.class.getMethod("equals", Object.class), 0), bindingResult);
+
+        // Act
+        ResponseEntity<StandardError> response = handler.handleValidation(exception, request);
+
+        // Assert
+        assertEquals(HttpStatus.BAD_REQUEST, response.getStatusCode());
+        assertEquals(Messages.ERROR_VALIDATION, response.getBody().getError());
+        assertEquals(Messages.PASSWORD_MAX_BYTES, response.getBody().getMessage());
+    }
+}
@@ -0,0 +1,84 @@
+package com.github.souzafcharles.api.initializer;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.souzafcharles.api.endpoint.cart.model.dto.CartResponseDTO;
+import com.github.souzafcharles.api.endpoint.product.model.dto.ProductResponseDTO;
+import com.github.souzafcharles.api.endpoint.user.model.dto.UserResponseDTO;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.ClassPathResource;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.List;
+import java.util.zip.GZIPOutputStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SeedSnapshotTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    void writeAndReadShouldRoundTrip() throws IOException {
+        // Arrange
+        SeedSnapshot snapshot = new SeedSnapshot(Instant.parse("2026-01-01T00:00:00Z"),
+                new UserResponseDTO[]{new UserResponseDTO("u1", "alice", "alice@example.com")},
+                new ProductResponseDTO[]{new ProductResponseDTO("p1", "Laptop", 10.0, "d", "electronics", null)},
+                new CartResponseDTO[]{new CartResponseDTO("c1", "u1", List.of())});
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        // Act
+        snapshot.write(out, objectMapper);
+        SeedSnapshot read = SeedSnapshot.read(new ByteArrayInputStream(out.toByteArray()), objectMapper);
+
+        // Assert
+        assertEquals(snapshot.fetchedAt(), read.fetchedAt());
+        assertArrayEquals(snapshot.users(), read.users());
+        assertArrayEquals(snapshot.products(), read.products());
+        assertArrayEquals(snapshot.carts(), read.carts());
+    }
+
+    @Test
+    void readShouldLoadBundledSnapshot() throws IOException {
+        // Arrange
+        ClassPathResource bundled = new ClassPathResource("seed/fakestore-snapshot.json.gz");
+
+        // Act
+        SeedSnapshot snapshot;
+        try (InputStream in = bundled.getInputStream()) {
+            snapshot = SeedSnapshot.read(in, objectMapper);
+        }
+
+        // Assert
+        assertEquals(10, snapshot.users().length);
+        assertEquals(20, snapshot.products().length);
+        assertEquals(7, snapshot.carts().length);
+    }
+
+    @Test
+    void readShouldSkipUnknownFieldsAndRejectNonObjects() throws IOException {
+        // Arrange
+        InputStream withExtras = gzip("{\"version\":{\"major\":1},\"users\":[],\"notes\":[1,2]}");
+        InputStream notAnObject = gzip("[]");
+
+        // Act
+        SeedSnapshot snapshot = SeedSnapshot.read(withExtras, objectMapper);
+
+        // Assert
+        assertEquals(0, snapshot.users().length);
+        assertNull(snapshot.fetchedAt());
+        assertThrows(IOException.class, () -> SeedSnapshot.read(notAnObject, objectMapper));
+    }
+
+    private static InputStream gzip(String json) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (GZIPOutputStream compressed = new GZIPOutputStream(out)) {
+            compressed.write(json.getBytes(StandardCharsets.UTF_8));
+        }
+        return new ByteArrayInputStream(out.toByteArray());
+    }
+}
@@ -0,0 +1,87 @@
+package com.github.souzafcharles.api.initializer;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.Status;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+class SeedingHealthIndicatorTest {
+
+    private ApplicationEventPublisher eventPublisher;
+    private SeedProgress progress;
+    private SeedingHealthIndicator indicator;
+
+    @BeforeEach
+    void setUp() {
+        eventPublisher = mock(ApplicationEventPublisher.class);
+        progress = new SeedProgress(eventPublisher);
+        indicator = new SeedingHealthIndicator(progress);
+    }
+
+    @Test
+    void healthShouldBeOutOfServiceWhileSeedingRuns() {
+        // Arrange
+        progress.started();
+        progress.recorded("users", 10);
+
+        // Act
+        Health health = indicator.health();
+
+        // Assert
+        assertEquals(Status.OUT_OF_SERVICE, health.getStatus());
+        assertEquals(Map.of("users", 10L), health.getDetails().get("rows"));
+        verifyNoInteractions(eventPublisher);
+    }
+
+    @Test
+    void healthShouldBeUpAndPublishEventWhenSeedingCompletes() {
+        // Arrange
+        progress.started();
+
+        // Act
+        progress.completed();
+        Health health = indicator.health();
+
+        // Assert
+        assertEquals(Status.UP, health.getStatus());
+        verify(eventPublisher).publishEvent(new SeedingFinishedEvent(true));
+    }
+
+    @Test
+    void healthShouldBeDownWithErrorWhenSeedingFails() {
+        // Arrange
+        progress.started();
+
+        // Act
+        progress.failed(new IllegalStateException("snapshot unreadable"));
+        Health health = indicator.health();
+
+        // Assert
+        assertEquals(Status.DOWN, health.getStatus());
+        assertTrue(health.getDetails().get("error").toString().contains("snapshot unreadable"));
+        verify(eventPublisher).publishEvent(new SeedingFinishedEvent(false));
+    }
+
+    @Test
+    void healthShouldBeDownWhenAListenerFailsToRebuild() {
+        // Arrange
+        doThrow(new IllegalStateException("rebuild failed")).when(eventPublisher).publishEvent(any(SeedingFinishedEvent.class));
+        progress.started();
+
+        // Act
+        progress.completed();
+        Health health = indicator.health();
+
+        // Assert
+        assertEquals(Status.DOWN, health.getStatus());
+        assertEquals(SeedProgress.Status.FAILED, progress.status());
+        assertTrue(health.getDetails().get("error").toString().contains("rebuild failed"));
+    }
+}
@@ -0,0 +1,55 @@
+package com.github.souzafcharles.api.initializer;
+
+import com.github.souzafcharles.api.exceptions.custom.SeedingInProgressException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+
+class SeedingWriteGuardTest {
+
+    private SeedProgress progress;
+    private SeedingWriteGuard guard;
+    private final MockHttpServletResponse response = new MockHttpServletResponse();
+
+    @BeforeEach
+    void setUp() {
+        progress = new SeedProgress(mock(ApplicationEventPublisher.class));
+        guard = new SeedingWriteGuard(progress);
+    }
+
+    @Test
+    void preHandleShouldRejectWritesWhileSeedingRuns() {
+        // Arrange
+        progress.started();
+
+        // Act & Assert
+        assertThrows(SeedingInProgressException.class,
+                () -> guard.preHandle(new MockHttpServletRequest("POST", "/users"), response, new Object()));
+        assertThrows(SeedingInProgressException.class,
+                () -> guard.preHandle(new MockHttpServletRequest("DELETE", "/carts/c1"), response, new Object()));
+    }
+
+    @Test
+    void preHandleShouldLetReadsThroughWhileSeedingRuns() {
+        // Arrange
+        progress.started();
+
+        // Act & Assert
+        assertTrue(guard.preHandle(new MockHttpServletRequest("GET", "/users"), response, new Object()));
+    }
+
+    @Test
+    void preHandleShouldLetWritesThroughOnceSeedingFinished() {
+        // Arrange
+        progress.started();
+        progress.completed();
+
+        // Act & Assert
+        assertTrue(guard.preHandle(new MockHttpServletRequest("POST", "/users"), response, new Object()));
+    }
+}
@@ -0,0 +1,233 @@
+package com.github.souzafcharles.api.initializer;
+
+import com.github.souzafcharles.api.client.FakeStoreClient;
+import com.github.souzafcharles.api.endpoint.cart.initializer.CartDataInitializer;
+import com.github.souzafcharles.api.endpoint.cart.model.dto.CartResponseDTO;
+import com.github.souzafcharles.api.endpoint.product.initializer.ProductDataInitializer;
+import com.github.souzafcharles.api.endpoint.product.model.dto.ProductResponseDTO;
+import com.github.souzafcharles.api.endpoint.user.initializer.UserDataInitializer;
+import com.github.souzafcharles.api.endpoint.user.model.dto.UserResponseDTO;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Sinks;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+class StartupSeederTest {
+
+    private FakeStoreClient fakeStoreClient;
+    private UserDataInitializer userDataInitializer;
+    private ProductDataInitializer productDataInitializer;
+    private CartDataInitializer cartDataInitializer;
+    private SeedSnapshotLoader snapshotLoader;
+    private SeedProgress progress;
+    private MeterRegistry meterRegistry;
+    private StartupSeeder seeder;
+
+    private final UserResponseDTO user = new UserResponseDTO("u1", "alice", "alice@example.com");
+    private final ProductResponseDTO product = new ProductResponseDTO("p1", "Laptop", 10.0, "d", "electronics", null);
+    private final CartResponseDTO cart = new CartResponseDTO("c1", "u1", List.of());
+
+    @BeforeEach
+    void setUp() {
+        fakeStoreClient = mock(FakeStoreClient.class);
+        userDataInitializer = mock(UserDataInitializer.class);
+        productDataInitializer = mock(ProductDataInitializer.class);
+        cartDataInitializer = mock(CartDataInitializer.class);
+        snapshotLoader = mock(SeedSnapshotLoader.class);
+        progress = mock(SeedProgress.class);
+        meterRegistry = new SimpleMeterRegistry();
+        seeder = seeder(true, Duration.ofSeconds(5), 2);
+        when(userDataInitializer.save(anyList())).thenAnswer(invocation -> invocation.<List<?>>getArgument(0).size());
+    }
+
+    @Test
+    void seedShouldStreamUsersAndProductsTogetherAndCartsAfterBoth() throws Exception {
+        // Arrange
+        Sinks.Many<UserResponseDTO> userSink = Sinks.many().unicast().onBackpressureBuffer();
+        Sinks.Many<ProductResponseDTO> productSink = Sinks.many().unicast().onBackpressureBuffer();
+        when(fakeStoreClient.streamUsers()).thenReturn(userSink.asFlux());
+        when(fakeStoreClient.streamProducts()).thenReturn(productSink.asFlux());
+        when(fakeStoreClient.streamCarts()).thenReturn(Flux.just(cart));
+
+        // Act
+        CompletableFuture<Void> seeding = CompletableFuture.runAsync(seeder::seed);
+        long deadline = System.currentTimeMillis() + 5_000;
+        while ((userSink.currentSubscriberCount() == 0 || productSink.currentSubscriberCount() == 0)
+                && System.currentTimeMillis() < deadline) {
+            Thread.sleep(5);
+        }
+        boolean bothInFlight = userSink.currentSubscriberCount() > 0 && productSink.currentSubscriberCount() > 0;
+        verify(fakeStoreClient, never()).streamCarts();
+        userSink.tryEmitNext(user);
+        userSink.tryEmitComplete();
+        productSink.tryEmitNext(product);
+        productSink.tryEmitComplete();
+        seeding.get(5, TimeUnit.SECONDS);
+
+        // Assert
+        assertTrue(bothInFlight);
+        InOrder afterUsers = inOrder(userDataInitializer, cartDataInitializer);
+        afterUsers.verify(userDataInitializer).save(List.of(user));
+        afterUsers.verify(cartDataInitializer).save(List.of(cart));
+        InOrder afterProducts = inOrder(productDataInitializer, cartDataInitializer);
+        afterProducts.verify(productDataInitializer).save(List.of(product));
+        afterProducts.verify(cartDataInitializer).save(List.of(cart));
+        assertEquals(1, meterRegistry.get("store.startup.phase").tag("phase", "persist-carts").timer().count());
+        assertEquals(1, meterRegistry.get("store.startup.phase").tag("phase", "total").timer().count());
+        verify(progress).completed();
+    }
+
+    @Test
+    void seedShouldPersistStreamInChunksAsTheyFill() {
+        // Arrange
+        UserResponseDTO[] users = {user, new UserResponseDTO("u2", "bob", "bob@example.com"),
+                new UserResponseDTO("u3", "carol", "carol@example.com")};
+        when(fakeStoreClient.streamUsers()).thenReturn(Flux.fromArray(users));
+        when(fakeStoreClient.streamProducts()).thenReturn(Flux.just(product));
+        when(fakeStoreClient.streamCarts()).thenReturn(Flux.just(cart));
+
+        // Act
+        seeder.seed();
+
+        // Assert
+        InOrder chunks = inOrder(userDataInitializer);
+        chunks.verify(userDataInitializer).save(List.of(users[0], users[1]));
+        chunks.verify(userDataInitializer).save(List.of(users[2]));
+        verify(progress).recorded("users", 2);
+        verify(progress).recorded("users", 3);
+    }
+
+    @Test
+    void seedShouldSkipInitializedTables() {
+        // Arrange
+        when(userDataInitializer.isInitialized()).thenReturn(true);
+        when(productDataInitializer.isInitialized()).thenReturn(true);
+        when(fakeStoreClient.streamCarts()).thenReturn(Flux.just(cart));
+
+        // Act
+        seeder.seed();
+
+        // Assert
+        verify(fakeStoreClient, never()).streamUsers();
+        verify(fakeStoreClient, never()).streamProducts();
+        verify(userDataInitializer, never()).save(any());
+        verify(productDataInitializer, never()).save(any());
+        verify(cartDataInitializer).save(List.of(cart));
+    }
+
+    @Test
+    void seedShouldFallBackToSnapshotWhenStreamFailsOrSendsNothingInTime() {
+        // Arrange
+        UserResponseDTO snapshotUser = new UserResponseDTO("u9", "zoe", "zoe@example.com");
+        CartResponseDTO snapshotCart = new CartResponseDTO("c9", "u9", List.of());
+        when(snapshotLoader.get()).thenReturn(new SeedSnapshot(Instant.EPOCH, new UserResponseDTO[]{snapshotUser},
+                new ProductResponseDTO[0], new CartResponseDTO[]{snapshotCart}));
+        when(fakeStoreClient.streamUsers()).thenReturn(Flux.error(new IllegalStateException("upstream down")));
+        when(fakeStoreClient.streamProducts()).thenReturn(Flux.just(product));
+        when(fakeStoreClient.streamCarts()).thenReturn(Flux.never());
+        seeder = seeder(true, Duration.ofMillis(50), 2);
+
+        // Act
+        seeder.seed();
+
+        // Assert
+        verify(userDataInitializer).save(List.of(snapshotUser));
+        verify(productDataInitializer).save(List.of(product));
+        verify(cartDataInitializer).save(List.of(snapshotCart));
+        assertEquals(1, meterRegistry.get("store.startup.phase").tag("phase", "load-users").timer().count());
+        assertEquals(1, meterRegistry.get("store.startup.phase").tag("phase", "load-carts").timer().count());
+    }
+
+    @Test
+    void seedShouldFailWhenStreamBreaksAfterRowsWerePersisted() {
+        // Arrange
+        when(fakeStoreClient.streamUsers()).thenReturn(Flux.concat(
+                Flux.just(user, new UserResponseDTO("u2", "bob", "bob@example.com")),
+                Flux.error(new IllegalStateException("connection reset"))));
+        when(fakeStoreClient.streamProducts()).thenReturn(Flux.just(product));
+
+        // Act & Assert
+        IllegalStateException error = assertThrows(IllegalStateException.class, seeder::seed);
+        assertEquals("connection reset", error.getMessage());
+        verifyNoInteractions(snapshotLoader);
+        verify(cartDataInitializer, never()).save(any());
+        verify(progress).failed(error);
+    }
+
+    @Test
+    void seedShouldClearPartiallySeededTableButKeepCompletedOnes() {
+        // Arrange
+        Sinks.Many<ProductResponseDTO> productSink = Sinks.many().unicast().onBackpressureBuffer();
+        when(fakeStoreClient.streamUsers()).thenReturn(Flux.concat(
+                Flux.just(user, new UserResponseDTO("u2", "bob", "bob@example.com")),
+                Flux.error(new IllegalStateException("connection reset"))));
+        when(fakeStoreClient.streamProducts()).thenReturn(productSink.asFlux());
+        when(userDataInitializer.save(anyList())).thenAnswer(invocation -> {
+            // Products are still streaming when users fail; they must finish rather than be cut off.
+            productSink.tryEmitNext(product);
+            productSink.tryEmitComplete();
+            return invocation.<List<?>>getArgument(0).size();
+        });
+
+        // Act
+        assertThrows(IllegalStateException.class, seeder::seed);
+
+        // Assert
+        verify(userDataInitializer).clear();
+        verify(progress).recorded("users", 0);
+        verify(productDataInitializer).save(List.of(product));
+        verify(productDataInitializer, never()).clear();
+        verify(cartDataInitializer, never()).clear();
+    }
+
+    @Test
+    void seedShouldNotCallUpstreamWhenDisabled() {
+        // Arrange
+        when(snapshotLoader.get()).thenReturn(new SeedSnapshot(Instant.EPOCH, new UserResponseDTO[]{user},
+                new ProductResponseDTO[]{product}, new CartResponseDTO[]{cart}));
+        seeder = seeder(false, Duration.ofSeconds(5), 2);
+
+        // Act
+        seeder.seed();
+
+        // Assert
+        verifyNoInteractions(fakeStoreClient);
+        verify(userDataInitializer).save(List.of(user));
+        verify(productDataInitializer).save(List.of(product));
+        verify(cartDataInitializer).save(List.of(cart));
+    }
+
+    @Test
+    void seedShouldPropagateSnapshotFailure() {
+        // Arrange
+        when(snapshotLoader.get()).thenThrow(new IllegalStateException("snapshot unreadable"));
+        when(fakeStoreClient.streamUsers()).thenReturn(Flux.error(new IllegalStateException("upstream down")));
+        when(fakeStoreClient.streamProducts()).thenReturn(Flux.just(product));
+
+        // Act & Assert
+        IllegalStateException error = assertThrows(IllegalStateException.class, seeder::seed);
+        assertEquals("snapshot unreadable", error.getMessage());
+        verify(cartDataInitializer, never()).save(any());
+        verify(progress).failed(error);
+        verify(progress, never()).completed();
+    }
+
+    private StartupSeeder seeder(boolean upstreamEnabled, Duration upstreamTimeout, int chunkSize) {
+        return new StartupSeeder(fakeStoreClient, userDataInitializer, productDataInitializer,
+                cartDataInitializer, snapshotLoader, progress, meterRegistry, upstreamEnabled, upstreamTimeout, chunkSize);
+    }
+}
@@ -0,0 +1,146 @@
+package com.github.souzafcharles.api.initializer.synthetic;
+
+import com.github.souzafcharles.api.endpoint.user.repository.UserRepository;
+import com.github.souzafcharles.api.endpoint.user.service.PasswordHasher;
+import com.github.souzafcharles.api.initializer.SeedProgress;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class SyntheticDataGeneratorTest {
+
+    private UserRepository userRepository;
+    private PasswordHasher passwordHasher;
+
+    @BeforeEach
+    void setUp() {
+        userRepository = mock(UserRepository.class);
+        passwordHasher = mock(PasswordHasher.class);
+        when(passwordHasher.hash("123456")).thenReturn("hashed");
+    }
+
+    @Test
+    void generateShouldInsertConfiguredCountsInBatches() {
+        // Arrange
+        Recorder recorder = new Recorder();
+
+        // Act
+        generator(recorder.jdbcTemplate, 42).generate();
+
+        // Assert
+        assertEquals(25, recorder.rows("tb_user").size());
+        assertEquals(30, recorder.rows("tb_product").size());
+        assertEquals(40, recorder.rows("tb_cart").size());
+        assertEquals(3, recorder.batches("tb_user"));
+        assertEquals(4, recorder.batches("tb_cart"));
+        verify(passwordHasher, times(1)).hash(anyString());
+        recorder.rows("tb_product").forEach(row ->
+                assertTrue(Arrays.asList(SyntheticDataGenerator.CATEGORIES).contains((String) row[4])));
+    }
+
+    @Test
+    void generateShouldNotRepeatProductWithinCart() {
+        // Arrange
+        Recorder recorder = new Recorder();
+
+        // Act
+        generator(recorder.jdbcTemplate, 42).generate();
+
+        // Assert
+        Set<String> keys = new HashSet<>();
+        for (Object[] line : recorder.rows("tb_cart_product")) {
+            assertTrue(keys.add(line[0] + "/" + line[1]));
+            int product = Integer.parseInt((String) line[1]);
+            assertTrue(product >= 1 && product <= 30);
+        }
+    }
+
+    @Test
+    void generateShouldBeDeterministicForSameSeed() {
+        // Arrange
+        Recorder first = new Recorder();
+        Recorder second = new Recorder();
+        Recorder other = new Recorder();
+
+        // Act
+        generator(first.jdbcTemplate, 7).generate();
+        generator(second.jdbcTemplate, 7).generate();
+        generator(other.jdbcTemplate, 8).generate();
+
+        // Assert
+        assertTrue(Arrays.deepEquals(first.rows("tb_cart_product").toArray(), second.rows("tb_cart_product").toArray()));
+        assertTrue(Arrays.deepEquals(first.rows("tb_product").toArray(), second.rows("tb_product").toArray()));
+        assertFalse(Arrays.deepEquals(first.rows("tb_cart_product").toArray(), other.rows("tb_cart_product").toArray()));
+    }
+
+    @Test
+    void generateShouldSkipPopulatedDatabase() {
+        // Arrange
+        JdbcTemplate jdbcTemplate = mock(JdbcTemplate.class);
+        when(userRepository.count()).thenReturn(1L);
+
+        // Act
+        generator(jdbcTemplate, 42).generate();
+
+        // Assert
+        verifyNoInteractions(jdbcTemplate);
+    }
+
+    @Test
+    void generateShouldEmptyTablesWhenRunFailsPartWay() {
+        // Arrange
+        JdbcTemplate jdbcTemplate = mock(JdbcTemplate.class);
+        when(jdbcTemplate.batchUpdate(startsWith("INSERT INTO tb_cart "), anyList()))
+                .thenThrow(new IllegalStateException("disk full"));
+
+        // Act & Assert
+        assertThrows(IllegalStateException.class, () -> generator(jdbcTemplate, 42).generate());
+        var order = inOrder(jdbcTemplate);
+        order.verify(jdbcTemplate).update("DELETE FROM tb_cart_product");
+        order.verify(jdbcTemplate).update("DELETE FROM tb_cart");
+        order.verify(jdbcTemplate).update("DELETE FROM tb_product");
+        order.verify(jdbcTemplate).update("DELETE FROM tb_user");
+    }
+
+    private SyntheticDataGenerator generator(JdbcTemplate jdbcTemplate, long seed) {
+        return new SyntheticDataGenerator(jdbcTemplate, userRepository, passwordHasher, mock(SeedProgress.class),
+                25, 30, 40, 4, 1.1, seed, 10);
+    }
+
+    /** Captures batch inserts per table; batch lists are reused, so rows are copied on each call. */
+    private static final class Recorder {
+        private final JdbcTemplate jdbcTemplate = mock(JdbcTemplate.class);
+        private final List<String> statements = new ArrayList<>();
+        private final List<List<Object[]>> batches = new ArrayList<>();
+
+        private Recorder() {
+            when(jdbcTemplate.batchUpdate(anyString(), anyList())).thenAnswer(invocation -> {
+                statements.add(invocation.getArgument(0));
+                batches.add(new ArrayList<>(invocation.<List<Object[]>>getArgument(1)));
+                return new int[0];
+            });
+        }
+
+        private List<Object[]> rows(String table) {
+            List<Object[]> rows = new ArrayList<>();
+            for (int i = 0; i < statements.size(); i++) {
+                if (statements.get(i).startsWith("INSERT INTO " + table + " ")) rows.addAll(batches.get(i));
+            }
+            return rows;
+        }
+
+        private long batches(String table) {
+            return statements.stream().filter(sql -> sql.startsWith("INSERT INTO " + table + " ")).count();
+        }
+    }
+}
@@ -0,0 +1,47 @@
+package com.github.souzafcharles.api.initializer.synthetic;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ZipfDistributionTest {
+
+    @Test
+    void sampleShouldFavourLowRanksAndStayInRange() {
+        // Arrange
+        ZipfDistribution distribution = new ZipfDistribution(100, 1.0);
+        SplittableRandom random = new SplittableRandom(7);
+        int[] counts = new int[100];
+
+        // Act
+        for (int i = 0; i < 100_000; i++) {
+            counts[distribution.sample(random)]++;
+        }
+
+        // Assert
+        assertTrue(counts[0] > counts[1] && counts[1] > counts[9] && counts[9] > counts[99]);
+        // Rank 0 carries 1 / H(100) ≈ 19% of the mass.
+        assertEquals(0.19, counts[0] / 100_000.0, 0.01);
+    }
+
+    @Test
+    void sampleShouldBeDeterministicForSameSeed() {
+        // Arrange
+        ZipfDistribution distribution = new ZipfDistribution(1000, 1.2);
+        SplittableRandom first = new SplittableRandom(42);
+        SplittableRandom second = new SplittableRandom(42);
+
+        // Act & Assert
+        for (int i = 0; i < 1000; i++) {
+            assertEquals(distribution.sample(first), distribution.sample(second));
+        }
+    }
+
+    @Test
+    void constructorShouldRejectEmptyDistribution() {
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class, () -> new ZipfDistribution(0, 1.0));
+    }
+}
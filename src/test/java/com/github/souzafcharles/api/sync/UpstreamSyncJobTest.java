@@ -0,0 +1,154 @@
+package com.github.souzafcharles.api.sync;
+
+import com.github.souzafcharles.api.client.FakeStoreClient;
+import com.github.souzafcharles.api.endpoint.product.model.dto.ProductResponseDTO;
+import com.github.souzafcharles.api.endpoint.product.model.entity.Product;
+import com.github.souzafcharles.api.endpoint.product.repository.ProductRepository;
+import com.github.souzafcharles.api.initializer.SeedProgress;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.transaction.PlatformTransactionManager;
+import reactor.core.publisher.Flux;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class UpstreamSyncJobTest {
+
+    private FakeStoreClient fakeStoreClient;
+    private ProductRepository productRepository;
+    private UpstreamRowRepository upstreamRowRepository;
+    private EntityManager entityManager;
+    private SeedProgress seedProgress;
+    private SimpleMeterRegistry meterRegistry;
+    private UpstreamSyncJob job;
+
+    private final ProductResponseDTO bag = product("p1", "Bag", 10.0);
+    private final ProductResponseDTO ring = product("p2", "Ring", 5.0);
+    private final ProductResponseDTO tv = product("p3", "TV", 100.0);
+
+    @BeforeEach
+    void setUp() {
+        fakeStoreClient = mock(FakeStoreClient.class);
+        productRepository = mock(ProductRepository.class);
+        upstreamRowRepository = mock(UpstreamRowRepository.class);
+        entityManager = mock(EntityManager.class);
+        seedProgress = mock(SeedProgress.class);
+        meterRegistry = new SimpleMeterRegistry();
+
+        ProductSyncApplier products = new ProductSyncApplier(fakeStoreClient, productRepository, entityManager,
+                mock(ApplicationEventPublisher.class));
+        job = new UpstreamSyncJob(products, idle(UserSyncApplier.class, "users"), idle(CartSyncApplier.class, "carts"),
+                upstreamRowRepository, entityManager, seedProgress, meterRegistry,
+                mock(PlatformTransactionManager.class), true, 2);
+    }
+
+    @Test
+    void syncShouldWriteOnlyNewAndChangedRows() {
+        // Arrange
+        Product stored = entity(ring);
+        ProductResponseDTO renamed = product("p2", "Gold ring", 5.0);
+        when(productRepository.streamAllAsDto()).thenReturn(Stream.of(bag, ring));
+        when(fakeStoreClient.streamProducts()).thenReturn(Flux.just(bag, renamed, tv));
+        when(productRepository.findAllById(argThat(ids -> ids.iterator().next().equals("p2"))))
+                .thenReturn(List.of(stored));
+
+        // Act
+        SyncReport report = job.sync().getFirst();
+
+        // Assert
+        assertEquals(1, report.inserted());
+        assertEquals(1, report.updated());
+        assertEquals(1, report.unchanged());
+        assertEquals(0, report.deleted());
+        assertTrue(report.complete());
+        assertEquals("Gold ring", stored.getTitle());
+        verify(entityManager).persist(argThat((Object row) -> row instanceof Product p && p.getId().equals("p3")));
+        verify(entityManager, times(3)).persist(any(UpstreamRow.class));
+        assertEquals(1.0, meterRegistry.get("store.sync.rows")
+                .tags("kind", "products", "action", "inserted").counter().count());
+    }
+
+    @Test
+    void syncShouldDeleteOnlyRowsPreviouslyRecordedAsUpstream() {
+        // Arrange
+        Product stale = entity(ring);
+        ProductResponseDTO local = product("p9", "Created through the API", 1.0);
+        when(productRepository.streamAllAsDto()).thenReturn(Stream.of(bag, ring, local));
+        when(upstreamRowRepository.findRowIdsByKind("products")).thenReturn(List.of("p1", "p2"));
+        when(fakeStoreClient.streamProducts()).thenReturn(Flux.just(bag));
+        when(productRepository.findAllById(List.of("p2"))).thenReturn(List.of(stale));
+
+        // Act
+        SyncReport report = job.sync().getFirst();
+
+        // Assert
+        assertEquals(1, report.deleted());
+        assertEquals(1, report.unchanged());
+        verify(productRepository).delete(stale);
+        verify(productRepository, never()).findAllById(argThat((List<String> ids) -> ids.contains("p9")));
+        verify(upstreamRowRepository).deleteAllByIdInBatch(List.of("products:p2"));
+        verify(entityManager, never()).persist(any());
+    }
+
+    @Test
+    void syncShouldApplyReceivedRowsButSkipDeletesWhenUpstreamFailsPartWay() {
+        // Arrange
+        when(productRepository.streamAllAsDto()).thenReturn(Stream.of(bag, ring));
+        when(upstreamRowRepository.findRowIdsByKind("products")).thenReturn(List.of("p1", "p2"));
+        when(fakeStoreClient.streamProducts()).thenReturn(
+                Flux.concat(Flux.just(bag, tv), Flux.error(new IOException("connection reset"))));
+
+        // Act
+        SyncReport report = job.sync().getFirst();
+
+        // Assert
+        assertFalse(report.complete());
+        assertEquals(1, report.inserted());
+        assertEquals(0, report.deleted());
+        verify(productRepository, never()).delete(any());
+        verify(upstreamRowRepository, never()).deleteAllByIdInBatch(any());
+    }
+
+    @Test
+    void scheduledSyncShouldWaitUntilSeedingCompletes() {
+        // Arrange
+        when(seedProgress.status()).thenReturn(SeedProgress.Status.RUNNING);
+
+        // Act
+        job.scheduledSync();
+
+        // Assert
+        verifyNoInteractions(fakeStoreClient, productRepository);
+        assertTrue(job.lastRun().isEmpty());
+    }
+
+    private static <T extends SyncApplier<?>> T idle(Class<T> type, String kind) {
+        T applier = mock(type);
+        when(applier.kind()).thenReturn(kind);
+        when(applier.upstream()).thenReturn(Flux.empty());
+        when(applier.localHashes()).thenReturn(Map.of());
+        return applier;
+    }
+
+    private static ProductResponseDTO product(String id, String title, double price) {
+        return new ProductResponseDTO(id, title, price, "description", "category", "image");
+    }
+
+    private static Product entity(ProductResponseDTO dto) {
+        Product product = new Product();
+        product.setId(dto.id());
+        product.setTitle(dto.title());
+        product.setPrice(dto.price());
+        return product;
+    }
+}
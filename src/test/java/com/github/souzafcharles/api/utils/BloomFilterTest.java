@@ -0,0 +1,59 @@
+package com.github.souzafcharles.api.utils;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BloomFilterTest {
+
+    @Test
+    void mightContainShouldNeverMissAnInsertedValue() {
+        // Arrange
+        BloomFilter filter = BloomFilter.create(1_000, 0.01);
+
+        // Act
+        for (int i = 0; i < 1_000; i++) filter.put("user" + i + "@example.com");
+
+        // Assert
+        for (int i = 0; i < 1_000; i++) assertTrue(filter.mightContain("user" + i + "@example.com"));
+        assertEquals(1_000, filter.insertions());
+        assertFalse(filter.isSaturated());
+    }
+
+    @Test
+    void falsePositiveRateShouldStayNearTargetAtCapacity() {
+        // Arrange
+        BloomFilter filter = BloomFilter.create(10_000, 0.01);
+        for (int i = 0; i < 10_000; i++) filter.put("member-" + i);
+
+        // Act
+        int falsePositives = 0;
+        for (int i = 0; i < 10_000; i++) {
+            if (filter.mightContain("stranger-" + i)) falsePositives++;
+        }
+
+        // Assert
+        assertTrue(falsePositives < 300, "observed " + falsePositives + " false positives");
+        assertEquals(0.01, filter.expectedFalsePositiveRate(), 0.01);
+    }
+
+    @Test
+    void isSaturatedShouldTurnTrueBeyondCapacity() {
+        // Arrange
+        BloomFilter filter = BloomFilter.create(2, 0.01);
+
+        // Act
+        filter.put("a");
+        filter.put("b");
+        filter.put("c");
+
+        // Assert
+        assertTrue(filter.isSaturated());
+    }
+
+    @Test
+    void createShouldRejectInvalidRate() {
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class, () -> BloomFilter.create(10, 1.0));
+    }
+}
@@ -0,0 +1,41 @@
+package com.github.souzafcharles.api.utils;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ContentHashTest {
+
+    @Test
+    void getShouldBeStableForEqualFields() {
+        // Arrange
+        ContentHash first = ContentHash.of().add("Bag").add(10.5).add(3);
+        ContentHash second = ContentHash.of().add("Bag").add(10.5).add(3);
+
+        // Act & Assert
+        assertEquals(first.get(), second.get());
+    }
+
+    @Test
+    void getShouldSeparateFieldBoundariesAndNulls() {
+        // Arrange
+        long split = ContentHash.of().add("ab").add("c").get();
+        long shifted = ContentHash.of().add("a").add("bc").get();
+        long withNull = ContentHash.of().add((String) null).add("c").get();
+        long withEmpty = ContentHash.of().add("").add("c").get();
+
+        // Act & Assert
+        assertNotEquals(split, shifted);
+        assertNotEquals(withNull, withEmpty);
+    }
+
+    @Test
+    void getShouldChangeWithAnyField() {
+        // Arrange
+        long original = ContentHash.of().add("Bag").add(10.0).get();
+
+        // Act & Assert
+        assertNotEquals(original, ContentHash.of().add("Bag").add(10.01).get());
+        assertNotEquals(original, ContentHash.of().add("bag").add(10.0).get());
+    }
+}
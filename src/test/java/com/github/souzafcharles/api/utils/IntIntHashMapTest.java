@@ -0,0 +1,57 @@
+package com.github.souzafcharles.api.utils;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class IntIntHashMapTest {
+
+    @Test
+    void addToShouldAccumulateAndRemoveEntriesThatReachZero() {
+        // Arrange
+        IntIntHashMap map = new IntIntHashMap();
+
+        // Act
+        map.addTo(7, 2);
+        map.addTo(7, 3);
+        map.addTo(9, 1);
+        map.addTo(9, -1);
+
+        // Assert
+        assertEquals(5, map.get(7));
+        assertEquals(0, map.get(9));
+        assertEquals(1, map.size());
+    }
+
+    @Test
+    void shouldMatchHashMapUnderRandomUpdatesAndRemovals() {
+        // Arrange
+        IntIntHashMap map = new IntIntHashMap(2);
+        Map<Integer, Integer> expected = new HashMap<>();
+        Random random = new Random(42);
+
+        // Act
+        for (int i = 0; i < 50_000; i++) {
+            int key = random.nextInt(2_000);
+            int delta = random.nextInt(5) - 2;
+            map.addTo(key, delta);
+            expected.merge(key, delta, Integer::sum);
+            expected.remove(key, 0);
+        }
+
+        // Assert
+        assertEquals(expected.size(), map.size());
+        expected.forEach((key, value) -> assertEquals(value, map.get(key)));
+        map.forEach((key, value) -> assertEquals(expected.get(key), value));
+    }
+
+    @Test
+    void addToShouldRejectNegativeKeys() {
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class, () -> new IntIntHashMap().addTo(-1, 1));
+    }
+}
@@ -0,0 +1,149 @@
+package com.github.souzafcharles.api.utils;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionSynchronizationUtils;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ReconciledCounterTest {
+
+    private MeterRegistry registry;
+    private ReconciledCounter counter;
+
+    @BeforeEach
+    void setUp() {
+        registry = new SimpleMeterRegistry();
+        counter = new ReconciledCounter("items", registry);
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void addShouldAccumulateOnTopOfSeed() {
+        // Arrange
+        counter.reset(10);
+
+        // Act
+        counter.add(5);
+        counter.add(-3);
+
+        // Assert
+        assertEquals(12, counter.get());
+        assertEquals(12.0, registry.get("store.counter.value").tag("counter", "items").gauge().value());
+    }
+
+    @Test
+    void reconcileShouldCorrectDriftAndReportIt() {
+        // Arrange
+        counter.reset(10);
+
+        // Act
+        long drift = counter.reconcile(() -> 7);
+
+        // Assert
+        assertEquals(-3, drift);
+        assertEquals(7, counter.get());
+        assertEquals(1.0, registry.get("store.counter.corrections").counter().count());
+        assertEquals(3.0, registry.get("store.counter.drift").summary().totalAmount());
+    }
+
+    @Test
+    void reconcileShouldNotReportWhenInSync() {
+        // Arrange
+        counter.reset(10);
+
+        // Act
+        long drift = counter.reconcile(() -> 10);
+
+        // Assert
+        assertEquals(0, drift);
+        assertEquals(0.0, registry.get("store.counter.corrections").counter().count());
+    }
+
+    @Test
+    void reconcileShouldSkipRoundWhenWritersRaceTheQuery() {
+        // Arrange
+        counter.reset(10);
+
+        // Act
+        long drift = counter.reconcile(() -> {
+            counter.add(1);
+            return 11;
+        });
+
+        // Assert
+        assertEquals(0, drift);
+        assertEquals(11, counter.get());
+        assertEquals(0.0, registry.get("store.counter.corrections").counter().count());
+    }
+
+    @Test
+    void addAfterCommitShouldApplyOnCommitAndDropOnRollback() {
+        // Arrange
+        counter.reset(10);
+
+        // Act
+        TransactionSynchronizationManager.initSynchronization();
+        counter.addAfterCommit(3);
+        long duringTransaction = counter.get();
+        complete(TransactionSynchronization.STATUS_COMMITTED);
+        TransactionSynchronizationManager.initSynchronization();
+        counter.addAfterCommit(5);
+        complete(TransactionSynchronization.STATUS_ROLLED_BACK);
+
+        // Assert
+        assertEquals(10, duringTransaction);
+        assertEquals(13, counter.get());
+    }
+
+    @Test
+    void reconcileShouldSkipRoundWhileACommitIsInFlight() {
+        // Arrange: the row is already visible to the query, the after-commit delta not yet applied
+        counter.reset(10);
+        TransactionSynchronizationManager.initSynchronization();
+        counter.addAfterCommit(1);
+
+        // Act
+        long drift = counter.reconcile(() -> 11);
+        complete(TransactionSynchronization.STATUS_COMMITTED);
+
+        // Assert
+        assertEquals(0, drift);
+        assertEquals(11, counter.get());
+        assertEquals(0.0, registry.get("store.counter.corrections").counter().count());
+    }
+
+    @Test
+    void reconcileShouldSkipRoundWhenACommitLandsDuringTheQuery() {
+        // Arrange
+        counter.reset(10);
+        TransactionSynchronizationManager.initSynchronization();
+
+        // Act
+        long drift = counter.reconcile(() -> {
+            counter.addAfterCommit(1);
+            complete(TransactionSynchronization.STATUS_COMMITTED);
+            return 11;
+        });
+
+        // Assert
+        assertEquals(0, drift);
+        assertEquals(11, counter.get());
+    }
+
+    private static void complete(int status) {
+        TransactionSynchronizationUtils.invokeAfterCompletion(TransactionSynchronizationManager.getSynchronizations(), status);
+        TransactionSynchronizationManager.clearSynchronization();
+    }
+}
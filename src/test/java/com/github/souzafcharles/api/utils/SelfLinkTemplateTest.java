@@ -0,0 +1,78 @@
+package com.github.souzafcharles.api.utils;
+
+import com.github.souzafcharles.api.endpoint.product.controller.ProductController;
+import com.github.souzafcharles.api.endpoint.product.model.dto.ProductResponseDTO;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.hateoas.EntityModel;
+import org.springframework.hateoas.Link;
+import org.springframework.hateoas.server.mvc.WebMvcLinkBuilder;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SelfLinkTemplateTest {
+
+    private final SelfLinkTemplate template =
+            SelfLinkTemplate.of(id -> WebMvcLinkBuilder.methodOn(ProductController.class).getById(id));
+
+    @AfterEach
+    void tearDown() {
+        RequestContextHolder.resetRequestAttributes();
+    }
+
+    @Test
+    void linkShouldMatchLinkToForPlainAndEncodedIds() {
+        // Arrange
+        bindRequest("api.example.com", 8443, "/store");
+
+        // Act & Assert
+        for (String id : List.of("1", "a b", "ç/é?x")) {
+            assertSameLink(linkTo(id), template.link(id));
+        }
+    }
+
+    @Test
+    void forPageShouldFollowTheBaseOfEachRequest() {
+        // Arrange
+        ProductResponseDTO product = new ProductResponseDTO("42", "Bag", 10.0, "desc", "bags", "img");
+        bindRequest("first.example.com", 80, "");
+        template.forPage(ProductResponseDTO::id).toModel(product);
+        bindRequest("second.example.com", 8080, "/api");
+
+        // Act
+        EntityModel<ProductResponseDTO> model = template.forPage(ProductResponseDTO::id).toModel(product);
+
+        // Assert
+        assertSame(product, model.getContent());
+        assertSameLink(linkTo("42"), model.getRequiredLink("self"));
+        assertEquals("http://second.example.com:8080/api/products/42", model.getRequiredLink("self").getHref());
+    }
+
+    @Test
+    void linkShouldBeRelativeOutsideARequest() {
+        // Act & Assert
+        assertSameLink(linkTo("7"), template.link("7"));
+    }
+
+    private static Link linkTo(String id) {
+        return WebMvcLinkBuilder.linkTo(WebMvcLinkBuilder.methodOn(ProductController.class).getById(id)).withSelfRel();
+    }
+
+    private static void assertSameLink(Link expected, Link actual) {
+        assertEquals(expected.getHref(), actual.getHref());
+        assertEquals(expected.getRel(), actual.getRel());
+    }
+
+    private static void bindRequest(String host, int port, String contextPath) {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.setServerName(host);
+        request.setServerPort(port);
+        request.setContextPath(contextPath);
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request));
+    }
+}
@@ -0,0 +1,55 @@
+package com.github.souzafcharles.api.utils.validation;
+
+import com.github.souzafcharles.api.endpoint.user.model.dto.UserRequestDTO;
+import com.github.souzafcharles.api.utils.Messages;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+import org.junit.jupiter.api.Test;
+
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MaxUtf8BytesValidatorTest {
+
+    private final Validator validator = Validation.buildDefaultValidatorFactory().getValidator();
+
+    @Test
+    void passwordOfExactly72BytesShouldBeValid() {
+        // Arrange
+        UserRequestDTO dto = new UserRequestDTO("alice", "alice@example.com", "a".repeat(72));
+
+        // Act
+        Set<ConstraintViolation<UserRequestDTO>> violations = validator.validate(dto);
+
+        // Assert
+        assertTrue(violations.isEmpty());
+    }
+
+    @Test
+    void passwordOver72AsciiBytesShouldBeRejected() {
+        // Arrange
+        UserRequestDTO dto = new UserRequestDTO("alice", "alice@example.com", "a".repeat(73));
+
+        // Act
+        Set<ConstraintViolation<UserRequestDTO>> violations = validator.validate(dto);
+
+        // Assert
+        assertEquals(1, violations.size());
+        assertEquals(Messages.PASSWORD_MAX_BYTES, violations.iterator().next().getMessage());
+    }
+
+    @Test
+    void passwordUnder72CharsButOver72BytesShouldBeRejected() {
+        // Arrange: 30 chars, 90 bytes in UTF-8
+        UserRequestDTO dto = new UserRequestDTO("alice", "alice@example.com", "日".repeat(30));
+
+        // Act
+        Set<ConstraintViolation<UserRequestDTO>> violations = validator.validate(dto);
+
+        // Assert
+        assertEquals(1, violations.size());
+        assertEquals(Messages.PASSWORD_MAX_BYTES, violations.iterator().next().getMessage());
+    }
+}